@@ -170,6 +170,16 @@ public class CoreOptions implements Serializable {
                             "To avoid frequent manifest merges, this parameter specifies the minimum number "
                                     + "of ManifestFileMeta to merge.");
 
+    public static final ConfigOption<Boolean> MANIFEST_KEY_STATS_ENABLED =
+            key("manifest.key-stats-enabled")
+                    .booleanType()
+                    .defaultValue(true)
+                    .withDescription(
+                            "Whether to record the min and max primary keys of all entries in each"
+                                    + " manifest file into the manifest list, so that manifest files"
+                                    + " can be skipped by key filters without being read. Only works"
+                                    + " for tables with primary keys.");
+
     public static final ConfigOption<String> PARTITION_DEFAULT_NAME =
             key("partition.default-name")
                     .stringType()
@@ -301,6 +311,25 @@ public class CoreOptions implements Serializable {
                     .withDescription(
                             "Whether the write buffer can be spillable. Enabled by default when using object storage.");
 
+    public static final ConfigOption<Boolean> WRITE_BUFFER_OFF_HEAP =
+            key("write-buffer-off-heap")
+                    .booleanType()
+                    .defaultValue(false)
+                    .withDescription(
+                            "Whether to allocate the write buffer from direct memory instead of JVM heap. "
+                                    + "The direct memory of the JVM should be large enough to hold the write buffers. "
+                                    + "It doesn't take effect when the write buffer is provided by the engine, "
+                                    + "for example with Flink managed memory.");
+
+    public static final ConfigOption<Boolean> WRITE_BUFFER_ASYNC_FLUSH =
+            key("write-buffer-async-flush")
+                    .booleanType()
+                    .defaultValue(false)
+                    .withDescription(
+                            "Whether to flush the full write buffer of primary key tables in a background thread. "
+                                    + "The write buffer is split into two halves, records are written into one half "
+                                    + "while the other half is being flushed, so writing only blocks when both halves are full.");
+
     public static final ConfigOption<Boolean> WRITE_BUFFER_FOR_APPEND =
             key("write-buffer-for-append")
                     .booleanType()
@@ -308,6 +337,17 @@ public class CoreOptions implements Serializable {
                     .withDescription(
                             "This option only works for append-only table. Whether the write use write buffer to avoid out-of-memory error.");
 
+    public static final ConfigOption<Integer> WRITE_ASYNC_CLOSE_FILES =
+            key("write-async-close-files")
+                    .intType()
+                    .defaultValue(0)
+                    .withDescription(
+                            "This option only works for append-only table. The maximum number of rolled data files "
+                                    + "which are closed (flushed and uploaded) in background while the next file is being written, "
+                                    + "0 means files are closed synchronously. It helps the write throughput on object stores "
+                                    + "where closing a file uploads it. The files are closed by a pool of as many threads "
+                                    + "shared by the writers of a write task.");
+
     public static final ConfigOption<MemorySize> WRITE_MANIFEST_CACHE =
             key("write-manifest-cache")
                     .memoryType()
@@ -315,6 +355,26 @@ public class CoreOptions implements Serializable {
                     .withDescription(
                             "Cache size for reading manifest files for write initialization.");
 
+    public static final ConfigOption<String> SPILL_COMPRESSION =
+            key("spill-compression")
+                    .stringType()
+                    .defaultValue("lz4")
+                    .withDescription(
+                            "Compression of the runs spilled to disk by the write buffer, 'none', 'lz4' and"
+                                    + " 'adaptive' are supported. 'adaptive' chooses between 'none' and 'lz4'"
+                                    + " for each spilled run, it compresses a run only if the measured compression"
+                                    + " time is less than the disk write time it saves, see '"
+                                    + "spill-compression.disk-bandwidth'.");
+
+    public static final ConfigOption<MemorySize> SPILL_COMPRESSION_DISK_BANDWIDTH =
+            key("spill-compression.disk-bandwidth")
+                    .memoryType()
+                    .defaultValue(MemorySize.ofMebiBytes(100))
+                    .withDescription(
+                            "The write bandwidth per second of the local disk used to spill, the"
+                                    + " 'adaptive' spill compression uses it to estimate the disk"
+                                    + " write time saved by compressing.");
+
     public static final ConfigOption<Integer> LOCAL_SORT_MAX_NUM_FILE_HANDLES =
             key("local-sort.max-num-file-handles")
                     .intType()
@@ -402,6 +462,54 @@ public class CoreOptions implements Serializable {
                                     + "for append-only table, even if sum(size(f_i)) < targetFileSize. This value "
                                     + "avoids pending too much small files, which slows down the performance.");
 
+    public static final ConfigOption<CompactionStyle> COMPACTION_STYLE =
+            key("compaction.style")
+                    .enumType(CompactionStyle.class)
+                    .defaultValue(CompactionStyle.UNIVERSAL)
+                    .withDescription("Specify the compaction style for table with primary key.");
+
+    public static final ConfigOption<MemorySize> COMPACTION_LEVELED_LEVEL_BASE_SIZE =
+            key("compaction.leveled.level-base-size")
+                    .memoryType()
+                    .defaultValue(MemorySize.parse("256 mb"))
+                    .withDescription(
+                            "The size target of level 1 for leveled compaction style, the target of "
+                                    + "level n is level-base-size * level-size-multiplier^(n-1). "
+                                    + "The max level has no size target.");
+
+    public static final ConfigOption<Integer> COMPACTION_LEVELED_LEVEL_SIZE_MULTIPLIER =
+            key("compaction.leveled.level-size-multiplier")
+                    .intType()
+                    .defaultValue(10)
+                    .withDescription(
+                            "The ratio between the size targets of adjacent levels for leveled compaction style.");
+
+    public static final ConfigOption<Integer> COMPACTION_EXECUTOR_THREADS =
+            key("compaction.executor.threads")
+                    .intType()
+                    .defaultValue(1)
+                    .withDescription(
+                            "The number of threads to run compaction tasks of a writer, or of all "
+                                    + "writers in the process if 'compaction.executor.shared' is true. "
+                                    + "Pending tasks are ordered by how close their buckets are to stalling writes.");
+
+    public static final ConfigOption<Boolean> COMPACTION_EXECUTOR_SHARED =
+            key("compaction.executor.shared")
+                    .booleanType()
+                    .defaultValue(false)
+                    .withDescription(
+                            "Whether to share one compaction thread pool among all writers in the "
+                                    + "process which have the same 'compaction.executor.threads'.");
+
+    public static final ConfigOption<Integer> COMPACTION_REWRITE_PARALLELISM =
+            key("compaction.rewrite-parallelism")
+                    .intType()
+                    .defaultValue(1)
+                    .withDescription(
+                            "The maximum number of non-overlapping key ranges of a compaction which are "
+                                    + "rewritten concurrently for primary key table. Each range should be at "
+                                    + "least one target file size. Compactions producing changelog are not split.");
+
     public static final ConfigOption<ChangelogProducer> CHANGELOG_PRODUCER =
             key("changelog-producer")
                     .enumType(ChangelogProducer.class)
@@ -503,6 +611,18 @@ public class CoreOptions implements Serializable {
                                     + "Note: Scale-up this parameter will increase memory usage while scanning manifest files. "
                                     + "We can consider downsize it when we encounter an out of memory exception while scanning");
 
+    public static final ConfigOption<Boolean> SCAN_PLAN_CACHE_ENABLED =
+            key("scan.plan-cache.enabled")
+                    .booleanType()
+                    .defaultValue(false)
+                    .withDescription(
+                            "Whether to cache all data files of the latest planned snapshot of the"
+                                    + " table in memory. Later plans of newer snapshots update the"
+                                    + " cached files from the delta manifests of the new snapshots"
+                                    + " instead of reading all manifests again, which is useful for"
+                                    + " repeated planning in long-running services. Note: the cache"
+                                    + " holds the metadata of all data files of the table.");
+
     @ExcludeFromDocumentation("Confused without log system")
     public static final ConfigOption<LogConsistency> LOG_CONSISTENCY =
             key("log.consistency")
@@ -642,6 +762,30 @@ public class CoreOptions implements Serializable {
                     .withDescription(
                             "Define partition by table options, cannot define partition on DDL and table options at the same time.");
 
+    public static final ConfigOption<LookupLocalFileType> LOOKUP_LOCAL_FILE_TYPE =
+            key("lookup.local-file-type")
+                    .enumType(LookupLocalFileType.class)
+                    .defaultValue(LookupLocalFileType.HASH)
+                    .withDescription("The local file type for lookup.");
+
+    public static final ConfigOption<MemorySize> LOOKUP_SORT_BLOCK_SIZE =
+            key("lookup.sort.block-size")
+                    .memoryType()
+                    .defaultValue(MemorySize.parse("16 kb"))
+                    .withDescription(
+                            "The uncompressed size of the data blocks in sort lookup files, only"
+                                    + " works when '"
+                                    + LOOKUP_LOCAL_FILE_TYPE.key()
+                                    + "' is 'sort'.");
+
+    public static final ConfigOption<String> LOOKUP_SORT_COMPRESSION =
+            key("lookup.sort.compression")
+                    .stringType()
+                    .defaultValue("lz4")
+                    .withDescription(
+                            "The compression of the data blocks in sort lookup files, 'lz4' and"
+                                    + " 'none' are supported.");
+
     public static final ConfigOption<Float> LOOKUP_HASH_LOAD_FACTOR =
             key("lookup.hash-load-factor")
                     .floatType()
@@ -657,6 +801,15 @@ public class CoreOptions implements Serializable {
                                     + " if there is a need for access, it will be re-read from the DFS to build"
                                     + " an index on the local disk.");
 
+    public static final ConfigOption<Boolean> LOOKUP_CACHE_FILE_ASYNC_PREBUILD =
+            key("lookup.cache-file-async-prebuild")
+                    .booleanType()
+                    .defaultValue(false)
+                    .withDescription(
+                            "Whether to build the lookup files of new upper level files"
+                                    + " asynchronously after compaction, so that the first lookup"
+                                    + " against a new file does not need to wait for the building.");
+
     public static final ConfigOption<MemorySize> LOOKUP_CACHE_MAX_DISK_SIZE =
             key("lookup.cache-max-disk-size")
                     .memoryType()
@@ -664,12 +817,47 @@ public class CoreOptions implements Serializable {
                     .withDescription(
                             "Max disk size for lookup cache, you can use this option to limit the use of local disks.");
 
+    public static final ConfigOption<String> LOOKUP_CACHE_PERSISTENT_DIR =
+            key("lookup.cache-persistent-dir")
+                    .stringType()
+                    .noDefaultValue()
+                    .withDescription(
+                            "The local directory to persist the lookup files of changelog-producer"
+                                    + " 'lookup', restarted writers adopt the persisted files instead"
+                                    + " of rebuilding them. The total size of the directory is limited"
+                                    + " by 'lookup.cache-max-disk-size'. Processes sharing the"
+                                    + " directory use separate locked sub-directories. If not set,"
+                                    + " lookup files are built in the temp directories and deleted"
+                                    + " when the writer is closed.");
+
     public static final ConfigOption<MemorySize> LOOKUP_CACHE_MAX_MEMORY_SIZE =
             key("lookup.cache-max-memory-size")
                     .memoryType()
                     .defaultValue(MemorySize.parse("256 mb"))
                     .withDescription("Max memory size for lookup cache.");
 
+    public static final ConfigOption<LookupCacheMemoryType> LOOKUP_CACHE_MEMORY_TYPE =
+            key("lookup.cache-memory-type")
+                    .enumType(LookupCacheMemoryType.class)
+                    .defaultValue(LookupCacheMemoryType.HEAP)
+                    .withDescription("The memory type of the cached pages of lookup files.");
+
+    public static final ConfigOption<Boolean> LOOKUP_CACHE_BLOOM_FILTER_ENABLED =
+            key("lookup.cache.bloom.filter.enabled")
+                    .booleanType()
+                    .defaultValue(true)
+                    .withDescription(
+                            "Whether to build a bloom filter for each local lookup file, lookups"
+                                    + " are checked against the bloom filter in memory before"
+                                    + " reading the file.");
+
+    public static final ConfigOption<Double> LOOKUP_CACHE_BLOOM_FILTER_FPP =
+            key("lookup.cache.bloom.filter.fpp")
+                    .doubleType()
+                    .defaultValue(0.05)
+                    .withDescription(
+                            "Define the default false positive probability for lookup cache bloom filters.");
+
     public static final ConfigOption<Integer> READ_BATCH_SIZE =
             key("read.batch-size")
                     .intType()
@@ -967,6 +1155,16 @@ public class CoreOptions implements Serializable {
                     .withDescription(
                             "The bytes of types (CHAR, VARCHAR, BINARY, VARBINARY) devote to the zorder sort.");
 
+    public static final ConfigOption<String> COMPACTION_CLUSTER_COLUMNS =
+            key("compaction.cluster-columns")
+                    .stringType()
+                    .noDefaultValue()
+                    .withDescription(
+                            "Columns, separated by comma, to cluster the records of append-only table without bucket "
+                                    + "by z-order in compaction. Compaction packs the files which are close to each other "
+                                    + "in z-order together and sorts their records by z-order, so that the statistics of "
+                                    + "the rewritten files stay narrow for data skipping.");
+
     public static final ConfigOption<MemorySize> FILE_READER_ASYNC_THRESHOLD =
             key("file-reader-async-threshold")
                     .memoryType()
@@ -1031,6 +1229,10 @@ public class CoreOptions implements Serializable {
         return options.get(MANIFEST_FULL_COMPACTION_FILE_SIZE);
     }
 
+    public boolean manifestKeyStatsEnabled() {
+        return options.get(MANIFEST_KEY_STATS_ENABLED);
+    }
+
     public MemorySize writeManifestCache() {
         return options.get(WRITE_MANIFEST_CACHE);
     }
@@ -1138,10 +1340,22 @@ public class CoreOptions implements Serializable {
         return options.getOptional(WRITE_BUFFER_SPILLABLE).orElse(usingObjectStore || !isStreaming);
     }
 
+    public boolean writeBufferOffHeap() {
+        return options.get(WRITE_BUFFER_OFF_HEAP);
+    }
+
+    public boolean writeBufferAsyncFlush() {
+        return options.get(WRITE_BUFFER_ASYNC_FLUSH);
+    }
+
     public boolean useWriteBufferForAppend() {
         return options.get(WRITE_BUFFER_FOR_APPEND);
     }
 
+    public int writeAsyncCloseFiles() {
+        return options.get(WRITE_ASYNC_CLOSE_FILES);
+    }
+
     public long sortSpillBufferSize() {
         return options.get(SORT_SPILL_BUFFER_SIZE).getBytes();
     }
@@ -1158,6 +1372,14 @@ public class CoreOptions implements Serializable {
         return options.get(LOCAL_SORT_MAX_NUM_FILE_HANDLES);
     }
 
+    public String spillCompression() {
+        return options.get(SPILL_COMPRESSION);
+    }
+
+    public MemorySize spillCompressionDiskBandwidth() {
+        return options.get(SPILL_COMPRESSION_DISK_BANDWIDTH);
+    }
+
     public int pageSize() {
         return (int) options.get(PAGE_SIZE).getBytes();
     }
@@ -1213,6 +1435,30 @@ public class CoreOptions implements Serializable {
         return options.get(COMPACTION_MAX_FILE_NUM);
     }
 
+    public CompactionStyle compactionStyle() {
+        return options.get(COMPACTION_STYLE);
+    }
+
+    public long leveledCompactionLevelBaseSize() {
+        return options.get(COMPACTION_LEVELED_LEVEL_BASE_SIZE).getBytes();
+    }
+
+    public int leveledCompactionLevelSizeMultiplier() {
+        return options.get(COMPACTION_LEVELED_LEVEL_SIZE_MULTIPLIER);
+    }
+
+    public int compactionExecutorThreads() {
+        return options.get(COMPACTION_EXECUTOR_THREADS);
+    }
+
+    public boolean compactionExecutorShared() {
+        return options.get(COMPACTION_EXECUTOR_SHARED);
+    }
+
+    public int compactionRewriteParallelism() {
+        return options.get(COMPACTION_REWRITE_PARALLELISM);
+    }
+
     public long dynamicBucketTargetRowNum() {
         return options.get(DYNAMIC_BUCKET_TARGET_ROW_NUM);
     }
@@ -1303,6 +1549,10 @@ public class CoreOptions implements Serializable {
         return options.get(SCAN_MANIFEST_PARALLELISM);
     }
 
+    public boolean scanPlanCacheEnabled() {
+        return options.get(SCAN_PLAN_CACHE_ENABLED);
+    }
+
     public Integer dynamicBucketAssignerParallelism() {
         return options.get(DYNAMIC_BUCKET_ASSIGNER_PARALLELISM);
     }
@@ -1461,6 +1711,17 @@ public class CoreOptions implements Serializable {
         return options.get(ZORDER_VAR_LENGTH_CONTRIBUTION);
     }
 
+    public List<String> compactionClusterColumns() {
+        String columns = options.get(COMPACTION_CLUSTER_COLUMNS);
+        if (columns == null) {
+            return Collections.emptyList();
+        }
+        return Arrays.stream(columns.split(","))
+                .map(String::trim)
+                .filter(column -> !column.isEmpty())
+                .collect(Collectors.toList());
+    }
+
     /** Specifies the merge engine for table with primary key. */
     public enum MergeEngine implements DescribedEnum {
         DEDUPLICATE("deduplicate", "De-duplicate and keep the last row."),
@@ -1904,6 +2165,34 @@ public class CoreOptions implements Serializable {
         }
     }
 
+    /** Specifies the compaction style of merge tree. */
+    public enum CompactionStyle implements DescribedEnum {
+        UNIVERSAL(
+                "universal",
+                "Compact whole sorted runs picked by size amplification and size ratio."),
+        LEVELED(
+                "leveled",
+                "Keep a size target for each level, and compact one file with its overlapping files of the next level instead of whole sorted runs.");
+
+        private final String value;
+        private final String description;
+
+        CompactionStyle(String value, String description) {
+            this.value = value;
+            this.description = description;
+        }
+
+        @Override
+        public String toString() {
+            return value;
+        }
+
+        @Override
+        public InlineElement getDescription() {
+            return text(description);
+        }
+    }
+
     /** Specifies the way of making up time precision for sequence field. */
     public enum SequenceAutoPadding implements DescribedEnum {
         ROW_KIND_FLAG(
@@ -2049,4 +2338,64 @@ public class CoreOptions implements Serializable {
             return text(description);
         }
     }
+
+    /** Specifies the local file type for lookup. */
+    public enum LookupLocalFileType implements DescribedEnum {
+        HASH("hash", "Construct a hash file for lookup, the file is larger but a lookup is fast."),
+
+        SORT(
+                "sort",
+                "Construct a sorted file with prefix compressed and optionally compressed blocks"
+                        + " for lookup, the file is smaller than the hash file.");
+
+        private final String value;
+        private final String description;
+
+        LookupLocalFileType(String value, String description) {
+            this.value = value;
+            this.description = description;
+        }
+
+        @Override
+        public String toString() {
+            return value;
+        }
+
+        @Override
+        public InlineElement getDescription() {
+            return text(description);
+        }
+    }
+
+    /** Specifies the memory type of the cached pages for lookup. */
+    public enum LookupCacheMemoryType implements DescribedEnum {
+        HEAP("heap", "Read the pages into heap memory."),
+
+        OFF_HEAP(
+                "off-heap",
+                "Read the pages into off-heap memory, the cached pages do not take up heap memory."),
+
+        MMAP(
+                "mmap",
+                "Memory map the pages of the local files, the pages are served by the operating"
+                        + " system page cache without copying.");
+
+        private final String value;
+        private final String description;
+
+        LookupCacheMemoryType(String value, String description) {
+            this.value = value;
+            this.description = description;
+        }
+
+        @Override
+        public String toString() {
+            return value;
+        }
+
+        @Override
+        public InlineElement getDescription() {
+            return text(description);
+        }
+    }
 }
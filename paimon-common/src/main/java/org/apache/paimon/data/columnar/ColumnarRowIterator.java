@@ -20,15 +20,19 @@ package org.apache.paimon.data.columnar;
 
 import org.apache.paimon.data.InternalRow;
 import org.apache.paimon.data.PartitionInfo;
+import org.apache.paimon.predicate.VectorizedPredicate;
 import org.apache.paimon.reader.RecordReader;
 import org.apache.paimon.utils.RecyclableIterator;
 import org.apache.paimon.utils.VectorMappingUtils;
 
 import javax.annotation.Nullable;
 
+import java.util.Arrays;
+
 /**
  * A {@link RecordReader.RecordIterator} that returns {@link InternalRow}s. The next row is set by
- * {@link ColumnarRow#setRowId}.
+ * {@link ColumnarRow#setRowId}. If a selection of row ids has been computed by {@link
+ * #filter(VectorizedPredicate)}, only the selected rows are returned.
  */
 public class ColumnarRowIterator extends RecyclableIterator<InternalRow> {
 
@@ -38,6 +42,11 @@ public class ColumnarRowIterator extends RecyclableIterator<InternalRow> {
     private int num;
     private int pos;
 
+    // selected row ids of current batch, only valid when selected is true
+    private int[] selection;
+    private int numSelected;
+    private boolean selected;
+
     public ColumnarRowIterator(ColumnarRow rowData, @Nullable Runnable recycler) {
         super(recycler);
         this.rowData = rowData;
@@ -47,12 +56,20 @@ public class ColumnarRowIterator extends RecyclableIterator<InternalRow> {
     public void set(int num) {
         this.num = num;
         this.pos = 0;
+        this.selected = false;
     }
 
     @Nullable
     @Override
     public InternalRow next() {
-        if (pos < num) {
+        if (selected) {
+            if (pos < numSelected) {
+                rowData.setRowId(selection[pos++]);
+                return rowData;
+            } else {
+                return null;
+            }
+        } else if (pos < num) {
             rowData.setRowId(pos++);
             return rowData;
         } else {
@@ -60,6 +77,30 @@ public class ColumnarRowIterator extends RecyclableIterator<InternalRow> {
         }
     }
 
+    /**
+     * Evaluates the predicate on the column vectors of the remaining rows in current batch, rows
+     * not satisfying the predicate will be skipped by {@link #next()}.
+     */
+    public ColumnarRowIterator filter(VectorizedPredicate predicate) {
+        int size;
+        if (selected) {
+            size = numSelected - pos;
+            System.arraycopy(selection, pos, selection, 0, size);
+        } else {
+            size = num - pos;
+            if (selection == null || selection.length < size) {
+                selection = new int[Math.max(size, VectorizedColumnBatch.DEFAULT_SIZE)];
+            }
+            for (int i = 0; i < size; i++) {
+                selection[i] = pos + i;
+            }
+        }
+        numSelected = predicate.select(rowData.vectorizedColumnBatch().columns, selection, size);
+        selected = true;
+        pos = 0;
+        return this;
+    }
+
     public ColumnarRowIterator mapping(
             @Nullable PartitionInfo partitionInfo, @Nullable int[] indexMapping) {
         if (partitionInfo != null || indexMapping != null) {
@@ -73,6 +114,12 @@ public class ColumnarRowIterator extends RecyclableIterator<InternalRow> {
             }
             ColumnarRowIterator iterator = new ColumnarRowIterator(rowData.copy(vectors), recycler);
             iterator.set(num);
+            iterator.pos = pos;
+            if (selected) {
+                iterator.selection = Arrays.copyOf(selection, numSelected);
+                iterator.numSelected = numSelected;
+                iterator.selected = true;
+            }
             return iterator;
         }
         return this;
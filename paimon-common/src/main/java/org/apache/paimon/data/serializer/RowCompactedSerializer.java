@@ -35,6 +35,7 @@ import org.apache.paimon.memory.MemorySegment;
 import org.apache.paimon.types.DataType;
 import org.apache.paimon.types.RowKind;
 import org.apache.paimon.types.RowType;
+import org.apache.paimon.utils.SortUtil;
 import org.apache.paimon.utils.VarLengthIntUtils;
 
 import javax.annotation.Nullable;
@@ -42,6 +43,7 @@ import javax.annotation.Nullable;
 import java.io.IOException;
 import java.io.Serializable;
 import java.util.Arrays;
+import java.util.Comparator;
 import java.util.Objects;
 
 import static org.apache.paimon.data.BinaryRow.HEADER_SIZE_IN_BITS;
@@ -99,9 +101,16 @@ public class RowCompactedSerializer implements Serializer<InternalRow> {
 
     @Override
     public void serialize(InternalRow record, DataOutputView target) throws IOException {
-        byte[] bytes = serializeToBytes(record);
-        VarLengthIntUtils.encodeInt(target, bytes.length);
-        target.write(bytes);
+        writeRecord(record);
+        VarLengthIntUtils.encodeInt(target, rowWriter.position);
+        target.write(rowWriter.buffer, 0, rowWriter.position);
+    }
+
+    /** Serialize the record to the target without the length and without a bytes copy. */
+    public void serializeWithoutLength(InternalRow record, DataOutputView target)
+            throws IOException {
+        writeRecord(record);
+        target.write(rowWriter.buffer, 0, rowWriter.position);
     }
 
     @Override
@@ -130,6 +139,11 @@ public class RowCompactedSerializer implements Serializer<InternalRow> {
     }
 
     public byte[] serializeToBytes(InternalRow record) {
+        writeRecord(record);
+        return rowWriter.copyBuffer();
+    }
+
+    private void writeRecord(InternalRow record) {
         if (rowWriter == null) {
             rowWriter = new RowWriter(calculateBitSetInBytes(getters.length));
         }
@@ -143,7 +157,6 @@ public class RowCompactedSerializer implements Serializer<InternalRow> {
                 writers[i].writeField(rowWriter, i, field);
             }
         }
-        return rowWriter.copyBuffer();
     }
 
     public InternalRow deserialize(byte[] bytes) {
@@ -244,6 +257,77 @@ public class RowCompactedSerializer implements Serializer<InternalRow> {
         };
     }
 
+    /**
+     * Creates a comparator of the serialized bytes of two rows, which compares the fields in
+     * ascending order with nulls first, the same as the generated record comparator, without
+     * deserializing the rows. Returns null if a field type can not be compared in bytes.
+     */
+    @Nullable
+    public Comparator<byte[]> createSliceComparator() {
+        FieldComparator[] comparators = new FieldComparator[rowType.getFieldCount()];
+        for (int i = 0; i < comparators.length; i++) {
+            comparators[i] = createFieldComparator(rowType.getTypeAt(i));
+            if (comparators[i] == null) {
+                return null;
+            }
+        }
+        return new SliceComparator(calculateBitSetInBytes(comparators.length), comparators);
+    }
+
+    @Nullable
+    private static FieldComparator createFieldComparator(DataType fieldType) {
+        // ordered by type root definition
+        switch (fieldType.getTypeRoot()) {
+            case CHAR:
+            case VARCHAR:
+            case BINARY:
+            case VARBINARY:
+                return RowReader::compareBinary;
+            case BOOLEAN:
+                return (r1, r2) -> Boolean.compare(r1.readBoolean(), r2.readBoolean());
+            case DECIMAL:
+                final int decimalPrecision = getPrecision(fieldType);
+                final int decimalScale = getScale(fieldType);
+                if (Decimal.isCompact(decimalPrecision)) {
+                    // same scale, compare the unscaled values
+                    return (r1, r2) -> Long.compare(r1.readLong(), r2.readLong());
+                }
+                return (r1, r2) ->
+                        r1.readDecimal(decimalPrecision, decimalScale)
+                                .compareTo(r2.readDecimal(decimalPrecision, decimalScale));
+            case TINYINT:
+                return (r1, r2) -> Byte.compare(r1.readByte(), r2.readByte());
+            case SMALLINT:
+                return (r1, r2) -> Short.compare(r1.readShort(), r2.readShort());
+            case INTEGER:
+            case DATE:
+            case TIME_WITHOUT_TIME_ZONE:
+                return (r1, r2) -> Integer.compare(r1.readInt(), r2.readInt());
+            case BIGINT:
+                return (r1, r2) -> Long.compare(r1.readLong(), r2.readLong());
+            case FLOAT:
+                return (r1, r2) -> {
+                    float f1 = r1.readFloat();
+                    float f2 = r2.readFloat();
+                    return f1 > f2 ? 1 : f1 < f2 ? -1 : 0;
+                };
+            case DOUBLE:
+                return (r1, r2) -> {
+                    double d1 = r1.readDouble();
+                    double d2 = r2.readDouble();
+                    return d1 > d2 ? 1 : d1 < d2 ? -1 : 0;
+                };
+            case TIMESTAMP_WITHOUT_TIME_ZONE:
+            case TIMESTAMP_WITH_LOCAL_TIME_ZONE:
+                final int timestampPrecision = getPrecision(fieldType);
+                return (r1, r2) ->
+                        r1.readTimestamp(timestampPrecision)
+                                .compareTo(r2.readTimestamp(timestampPrecision));
+            default:
+                return null;
+        }
+    }
+
     private static FieldReader createFieldReader(DataType fieldType) {
         final FieldReader fieldReader;
         // ordered by type root definition
@@ -322,6 +406,47 @@ public class RowCompactedSerializer implements Serializer<InternalRow> {
         Object readField(RowReader reader, int pos);
     }
 
+    private interface FieldComparator extends Serializable {
+        int compareField(RowReader reader1, RowReader reader2);
+    }
+
+    /** Comparator of the serialized bytes of rows, see {@link #createSliceComparator()}. */
+    private static class SliceComparator implements Comparator<byte[]> {
+
+        private final RowReader reader1;
+        private final RowReader reader2;
+        private final FieldComparator[] comparators;
+
+        private SliceComparator(int headerSizeInBytes, FieldComparator[] comparators) {
+            this.reader1 = new RowReader(headerSizeInBytes);
+            this.reader2 = new RowReader(headerSizeInBytes);
+            this.comparators = comparators;
+        }
+
+        @Override
+        public int compare(byte[] o1, byte[] o2) {
+            reader1.pointTo(o1);
+            reader2.pointTo(o2);
+            for (int i = 0; i < comparators.length; i++) {
+                boolean isNull1 = reader1.isNullAt(i);
+                boolean isNull2 = reader2.isNullAt(i);
+                if (isNull1 || isNull2) {
+                    if (isNull1 && isNull2) {
+                        continue;
+                    }
+                    // nulls first
+                    return isNull1 ? -1 : 1;
+                }
+
+                int result = comparators[i].compareField(reader1, reader2);
+                if (result != 0) {
+                    return result;
+                }
+            }
+            return 0;
+        }
+    }
+
     private static class RowWriter {
 
         // Including RowKind and null bits.
@@ -502,6 +627,7 @@ public class RowCompactedSerializer implements Serializer<InternalRow> {
         // Including RowKind and null bits.
         private final int headerSizeInBytes;
 
+        private byte[] bytes;
         private MemorySegment segment;
         private MemorySegment[] segments;
         private int position;
@@ -511,6 +637,7 @@ public class RowCompactedSerializer implements Serializer<InternalRow> {
         }
 
         private void pointTo(byte[] bytes) {
+            this.bytes = bytes;
             this.segment = MemorySegment.wrap(bytes);
             this.segments = new MemorySegment[] {segment};
             this.position = headerSizeInBytes;
@@ -569,6 +696,18 @@ public class RowCompactedSerializer implements Serializer<InternalRow> {
             return string;
         }
 
+        /** Compares the string or binary fields unsigned byte by byte without copying them. */
+        private int compareBinary(RowReader other) {
+            int length = readUnsignedInt();
+            int otherLength = other.readUnsignedInt();
+            int result =
+                    SortUtil.compareBinary(
+                            bytes, position, length, other.bytes, other.position, otherLength);
+            position += length;
+            other.position += otherLength;
+            return result;
+        }
+
         private int readUnsignedInt() {
             for (int offset = 0, result = 0; offset < 32; offset += 7) {
                 int b = readByte();
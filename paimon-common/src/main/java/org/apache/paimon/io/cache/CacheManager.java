@@ -18,6 +18,7 @@
 
 package org.apache.paimon.io.cache;
 
+import org.apache.paimon.CoreOptions.LookupCacheMemoryType;
 import org.apache.paimon.annotation.VisibleForTesting;
 import org.apache.paimon.memory.MemorySegment;
 import org.apache.paimon.options.MemorySize;
@@ -27,19 +28,41 @@ import org.apache.paimon.shade.caffeine2.com.github.benmanes.caffeine.cache.Caff
 import org.apache.paimon.shade.caffeine2.com.github.benmanes.caffeine.cache.RemovalCause;
 import org.apache.paimon.shade.guava30.com.google.common.util.concurrent.MoreExecutors;
 
+import java.io.EOFException;
 import java.io.IOException;
 import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
 import java.util.Objects;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.function.Consumer;
 
-/** Cache manager to cache bytes to paged {@link MemorySegment}s. */
+/**
+ * Cache manager to cache bytes to paged {@link MemorySegment}s. The pages can be heap memory,
+ * off-heap memory or memory mapped regions of the files, see {@link LookupCacheMemoryType}.
+ *
+ * <p>The pages are reference counted. The cache holds one reference of each cached page, and every
+ * reader holds one reference from {@link #getPage} until it calls {@link CachedPage#release}. An
+ * evicted page is freed or unmapped only after all its readers have released it.
+ */
 public class CacheManager {
 
     private final int pageSize;
-    private final Cache<CacheKey, CacheValue> cache;
+    private final LookupCacheMemoryType memoryType;
+    private final Cache<CacheKey, CachedPage> cache;
+
+    private final LongAdder hitCount;
+    private final LongAdder missCount;
+    private final LongAdder evictionCount;
 
     public CacheManager(int pageSize, MemorySize maxMemorySize) {
+        this(pageSize, maxMemorySize, LookupCacheMemoryType.HEAP);
+    }
+
+    public CacheManager(int pageSize, MemorySize maxMemorySize, LookupCacheMemoryType memoryType) {
         this.pageSize = pageSize;
+        this.memoryType = memoryType;
         this.cache =
                 Caffeine.newBuilder()
                         .weigher(this::weigh)
@@ -47,10 +70,13 @@ public class CacheManager {
                         .removalListener(this::onRemoval)
                         .executor(MoreExecutors.directExecutor())
                         .build();
+        this.hitCount = new LongAdder();
+        this.missCount = new LongAdder();
+        this.evictionCount = new LongAdder();
     }
 
     @VisibleForTesting
-    Cache<CacheKey, CacheValue> cache() {
+    Cache<CacheKey, CachedPage> cache() {
         return cache;
     }
 
@@ -58,37 +84,84 @@ public class CacheManager {
         return pageSize;
     }
 
-    public MemorySegment getPage(
+    /** Number of page reads served by cached pages, including the pages held by the readers. */
+    public long hitCount() {
+        return hitCount.sum();
+    }
+
+    /** Number of page reads which load the page from the file. */
+    public long missCount() {
+        return missCount.sum();
+    }
+
+    /** Number of pages evicted because of the size limit. */
+    public long evictionCount() {
+        return evictionCount.sum();
+    }
+
+    void recordHit() {
+        hitCount.increment();
+    }
+
+    /** Total bytes of the cached pages. */
+    public long usedMemorySize() {
+        return cache.policy().eviction().map(e -> e.weightedSize().orElse(0)).orElse(0L);
+    }
+
+    /**
+     * Get the page of the file, the returned page is retained for the caller and must be released
+     * by it. The clean callback is called when the page is removed from the cache.
+     */
+    public CachedPage getPage(
             RandomAccessFile file, int pageNumber, Consumer<Integer> cleanCallback) {
         CacheKey key = new CacheKey(file, pageNumber);
-        CacheValue value = cache.getIfPresent(key);
-        while (value == null || value.isClosed) {
+        CachedPage page = cache.getIfPresent(key);
+        if (page != null && page.tryRetain()) {
+            hitCount.increment();
+            return page;
+        }
+
+        missCount.increment();
+        while (true) {
             try {
-                value = createValue(key, cleanCallback);
+                page = createPage(key, cleanCallback);
             } catch (IOException e) {
                 throw new RuntimeException(e);
             }
-            cache.put(key, value);
+            page.retain();
+            cache.put(key, page);
+            if (!page.isClosed) {
+                return page;
+            }
+            // evicted right away, release it and try again
+            page.release();
         }
-        return value.segment;
     }
 
     public void invalidPage(RandomAccessFile file, int pageNumber) {
         cache.invalidate(new CacheKey(file, pageNumber));
     }
 
-    private int weigh(CacheKey cacheKey, CacheValue cacheValue) {
-        return cacheValue.segment.size();
+    private int weigh(CacheKey cacheKey, CachedPage page) {
+        return page.segment.size();
     }
 
-    private void onRemoval(CacheKey key, CacheValue value, RemovalCause cause) {
-        value.isClosed = true;
-        value.cleanCallback.accept(key.pageNumber);
+    private void onRemoval(CacheKey key, CachedPage page, RemovalCause cause) {
+        if (cause.wasEvicted()) {
+            evictionCount.increment();
+        }
+        page.isClosed = true;
+        page.cleanCallback.accept(key.pageNumber);
+        // the page is freed once the readers have released it as well
+        page.release();
     }
 
-    private CacheValue createValue(CacheKey key, Consumer<Integer> cleanCallback)
+    private CachedPage createPage(CacheKey key, Consumer<Integer> cleanCallback)
             throws IOException {
-        return new CacheValue(key.read(pageSize), cleanCallback);
+        return new CachedPage(
+                key.read(pageSize, memoryType),
+                memoryType != LookupCacheMemoryType.HEAP,
+                cleanCallback);
     }
 
     private static class CacheKey {
@@ -101,14 +174,34 @@ public class CacheManager {
             this.pageNumber = pageNumber;
         }
 
-        private MemorySegment read(int pageSize) throws IOException {
+        private MemorySegment read(int pageSize, LookupCacheMemoryType memoryType)
+                throws IOException {
             long length = file.length();
             long pageAddress = (long) pageNumber * pageSize;
             int len = (int) Math.min(pageSize, length - pageAddress);
-            byte[] bytes = new byte[len];
-            file.seek(pageAddress);
-            file.readFully(bytes);
-            return MemorySegment.wrap(bytes);
+            switch (memoryType) {
+                case HEAP:
+                    byte[] bytes = new byte[len];
+                    file.seek(pageAddress);
+                    file.readFully(bytes);
+                    return MemorySegment.wrap(bytes);
+                case OFF_HEAP:
+                    ByteBuffer buffer = ByteBuffer.allocateDirect(len);
+                    FileChannel channel = file.getChannel();
+                    while (buffer.hasRemaining()) {
+                        if (channel.read(buffer, pageAddress + buffer.position()) < 0) {
+                            throw new EOFException();
+                        }
+                    }
+                    return MemorySegment.wrapOffHeapMemory(buffer);
+                case MMAP:
+                    // zero-copy, the mapping is still valid after the file is closed
+                    return MemorySegment.wrapOffHeapMemory(
+                            file.getChannel().map(FileChannel.MapMode.READ_ONLY, pageAddress, len));
+                default:
+                    throw new UnsupportedOperationException(
+                            "Unsupported memory type: " + memoryType);
+            }
         }
 
         @Override
@@ -129,16 +222,61 @@ public class CacheManager {
         }
     }
 
-    private static class CacheValue {
+    /** A reference counted page of {@link CacheManager}. */
+    public static class CachedPage {
 
         private final MemorySegment segment;
+        private final boolean ownsDirectMemory;
         private final Consumer<Integer> cleanCallback;
+        // one reference of the cache, the others of the readers
+        private final AtomicInteger refCount;
 
-        private boolean isClosed = false;
+        private volatile boolean isClosed = false;
 
-        private CacheValue(MemorySegment segment, Consumer<Integer> cleanCallback) {
+        private CachedPage(
+                MemorySegment segment, boolean ownsDirectMemory, Consumer<Integer> cleanCallback) {
             this.segment = segment;
+            this.ownsDirectMemory = ownsDirectMemory;
             this.cleanCallback = cleanCallback;
+            this.refCount = new AtomicInteger(1);
+        }
+
+        public MemorySegment segment() {
+            return segment;
+        }
+
+        /** Retain the page for one more reader, the caller must already hold a reference. */
+        public void retain() {
+            refCount.incrementAndGet();
+        }
+
+        private boolean tryRetain() {
+            while (true) {
+                int count = refCount.get();
+                if (count == 0 || isClosed) {
+                    return false;
+                }
+                if (refCount.compareAndSet(count, count + 1)) {
+                    return true;
+                }
+            }
+        }
+
+        /** Release one reference, the memory is freed when the last reference is released. */
+        public void release() {
+            int count = refCount.decrementAndGet();
+            if (count == 0) {
+                if (ownsDirectMemory) {
+                    segment.free();
+                }
+            } else if (count < 0) {
+                throw new IllegalStateException("The cached page is released more than retained.");
+            }
+        }
+
+        @VisibleForTesting
+        boolean isFreed() {
+            return refCount.get() == 0;
         }
     }
 }
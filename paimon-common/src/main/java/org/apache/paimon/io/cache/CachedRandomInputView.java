@@ -20,6 +20,7 @@ package org.apache.paimon.io.cache;
 
 import org.apache.paimon.data.AbstractPagedInputView;
 import org.apache.paimon.io.SeekableDataInputView;
+import org.apache.paimon.io.cache.CacheManager.CachedPage;
 import org.apache.paimon.memory.MemorySegment;
 import org.apache.paimon.utils.MathUtils;
 
@@ -37,6 +38,10 @@ import java.util.Map;
 /**
  * A {@link SeekableDataInputView} to read bytes from {@link RandomAccessFile}, the bytes can be
  * cached to {@link MemorySegment}s in {@link CacheManager}.
+ *
+ * <p>The view holds a reference of every page in {@link #pages}, which is released when the page is
+ * evicted from the cache, and another one of the page it is currently reading, so that the current
+ * page is not freed while it is being read.
  */
 public class CachedRandomInputView extends AbstractPagedInputView
         implements SeekableDataInputView, Closeable {
@@ -44,18 +49,19 @@ public class CachedRandomInputView extends AbstractPagedInputView
     private final RandomAccessFile file;
     private final long fileLength;
     private final CacheManager cacheManager;
-    private final Map<Integer, MemorySegment> segments;
+    private final Map<Integer, CachedPage> pages;
     private final int segmentSizeBits;
     private final int segmentSizeMask;
 
     private int currentSegmentIndex;
+    private CachedPage currentPage;
 
     public CachedRandomInputView(File file, CacheManager cacheManager)
             throws FileNotFoundException {
         this.file = new RandomAccessFile(file, "r");
         this.fileLength = file.length();
         this.cacheManager = cacheManager;
-        this.segments = new HashMap<>();
+        this.pages = new HashMap<>();
         int segmentSize = cacheManager.pageSize();
         this.segmentSizeBits = MathUtils.log2strict(segmentSize);
         this.segmentSizeMask = segmentSize - 1;
@@ -73,12 +79,27 @@ public class CachedRandomInputView extends AbstractPagedInputView
     }
 
     private MemorySegment getCurrentPage() {
-        MemorySegment segment = segments.get(currentSegmentIndex);
-        if (segment == null) {
-            segment = cacheManager.getPage(file, currentSegmentIndex, this::invalidPage);
-            segments.put(currentSegmentIndex, segment);
+        CachedPage page = pages.get(currentSegmentIndex);
+        if (page == null) {
+            page = cacheManager.getPage(file, currentSegmentIndex, this::invalidPage);
+            pages.put(currentSegmentIndex, page);
+        } else {
+            cacheManager.recordHit();
+        }
+        setCurrentPage(page);
+        return page.segment();
+    }
+
+    private void setCurrentPage(CachedPage page) {
+        if (page != currentPage) {
+            if (page != null) {
+                page.retain();
+            }
+            if (currentPage != null) {
+                currentPage.release();
+            }
+            currentPage = page;
         }
-        return segment;
     }
 
     @Override
@@ -97,14 +118,22 @@ public class CachedRandomInputView extends AbstractPagedInputView
     }
 
     private void invalidPage(int pageNumber) {
-        segments.remove(pageNumber);
+        CachedPage page = pages.remove(pageNumber);
+        if (page != null) {
+            page.release();
+        }
     }
 
     @Override
     public void close() throws IOException {
         // copy out to avoid ConcurrentModificationException
-        List<Integer> pages = new ArrayList<>(segments.keySet());
-        pages.forEach(page -> cacheManager.invalidPage(file, page));
+        List<Integer> pageNumbers = new ArrayList<>(pages.keySet());
+        for (int pageNumber : pageNumbers) {
+            cacheManager.invalidPage(file, pageNumber);
+            // in case the page has already been removed from the cache
+            invalidPage(pageNumber);
+        }
+        setCurrentPage(null);
 
         file.close();
     }
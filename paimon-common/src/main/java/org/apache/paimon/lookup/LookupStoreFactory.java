@@ -18,8 +18,15 @@
 
 package org.apache.paimon.lookup;
 
+import org.apache.paimon.CoreOptions;
+import org.apache.paimon.options.Options;
+import org.apache.paimon.utils.BloomFilter;
+
+import javax.annotation.Nullable;
+
 import java.io.File;
 import java.io.IOException;
+import java.util.function.Function;
 
 /**
  * A key-value store for lookup, key-value store should be single binary file written once and ready
@@ -32,7 +39,21 @@ import java.io.IOException;
  */
 public interface LookupStoreFactory {
 
-    LookupStoreWriter createWriter(File file) throws IOException;
+    LookupStoreWriter createWriter(File file, @Nullable BloomFilter.Builder bloomFilter)
+            throws IOException;
 
     LookupStoreReader createReader(File file) throws IOException;
+
+    /** Statistics of all readers created by this factory. */
+    LookupStoreStats stats();
+
+    /** Create a bloom filter builder generator from row count, returns null if it is disabled. */
+    static Function<Long, BloomFilter.Builder> bfGenerator(Options options) {
+        if (!options.get(CoreOptions.LOOKUP_CACHE_BLOOM_FILTER_ENABLED)) {
+            return rowCount -> null;
+        }
+
+        double fpp = options.get(CoreOptions.LOOKUP_CACHE_BLOOM_FILTER_FPP);
+        return rowCount -> rowCount > 0 ? BloomFilter.builder(rowCount, fpp) : null;
+    }
 }
@@ -0,0 +1,57 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.lookup;
+
+/**
+ * Statistics of {@link LookupStoreReader}s. The counters are not thread safe, they are updated by
+ * the lookup thread and only read for reporting.
+ */
+public class LookupStoreStats {
+
+    private long bloomFilterSkipped;
+    private long bloomFilterPassed;
+    private long bloomFilterFalsePositive;
+
+    /** The bloom filter proves the key does not exist, no disk read is needed. */
+    public void incBloomFilterSkipped() {
+        bloomFilterSkipped++;
+    }
+
+    /** The bloom filter can not exclude the key, the store has to be read. */
+    public void incBloomFilterPassed() {
+        bloomFilterPassed++;
+    }
+
+    /** The bloom filter can not exclude the key, but the key is not in the store. */
+    public void incBloomFilterFalsePositive() {
+        bloomFilterFalsePositive++;
+    }
+
+    public long bloomFilterSkipped() {
+        return bloomFilterSkipped;
+    }
+
+    public long bloomFilterPassed() {
+        return bloomFilterPassed;
+    }
+
+    public long bloomFilterFalsePositive() {
+        return bloomFilterFalsePositive;
+    }
+}
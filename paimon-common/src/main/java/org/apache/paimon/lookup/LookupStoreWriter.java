@@ -20,10 +20,19 @@ package org.apache.paimon.lookup;
 
 import java.io.Closeable;
 import java.io.IOException;
+import java.util.Arrays;
 
 /** Writer to prepare binary file. */
 public interface LookupStoreWriter extends Closeable {
 
     /** Put key value to store. */
     void put(byte[] key, byte[] value) throws IOException;
+
+    /**
+     * Put key value in the first bytes of the buffers to store, the buffers can be reused by the
+     * caller after this method returns.
+     */
+    default void put(byte[] key, int keyLength, byte[] value, int valueLength) throws IOException {
+        put(Arrays.copyOf(key, keyLength), Arrays.copyOf(value, valueLength));
+    }
 }
@@ -20,6 +20,10 @@ package org.apache.paimon.lookup.hash;
 
 import org.apache.paimon.io.cache.CacheManager;
 import org.apache.paimon.lookup.LookupStoreFactory;
+import org.apache.paimon.lookup.LookupStoreStats;
+import org.apache.paimon.utils.BloomFilter;
+
+import javax.annotation.Nullable;
 
 import java.io.File;
 import java.io.IOException;
@@ -29,19 +33,27 @@ public class HashLookupStoreFactory implements LookupStoreFactory {
 
     private final CacheManager cacheManager;
     private final double loadFactor;
+    private final LookupStoreStats stats;
 
     public HashLookupStoreFactory(CacheManager cacheManager, double loadFactor) {
         this.cacheManager = cacheManager;
         this.loadFactor = loadFactor;
+        this.stats = new LookupStoreStats();
     }
 
     @Override
-    public HashLookupStoreWriter createWriter(File file) throws IOException {
-        return new HashLookupStoreWriter(loadFactor, file);
+    public HashLookupStoreWriter createWriter(File file, @Nullable BloomFilter.Builder bloomFilter)
+            throws IOException {
+        return new HashLookupStoreWriter(loadFactor, file, bloomFilter);
     }
 
     @Override
     public HashLookupStoreReader createReader(File file) throws IOException {
-        return new HashLookupStoreReader(cacheManager, file);
+        return new HashLookupStoreReader(cacheManager, file, stats);
+    }
+
+    @Override
+    public LookupStoreStats stats() {
+        return stats;
     }
 }
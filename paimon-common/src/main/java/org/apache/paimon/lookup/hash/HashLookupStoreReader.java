@@ -21,12 +21,17 @@ package org.apache.paimon.lookup.hash;
 import org.apache.paimon.io.cache.CacheManager;
 import org.apache.paimon.io.cache.CachedRandomInputView;
 import org.apache.paimon.lookup.LookupStoreReader;
+import org.apache.paimon.lookup.LookupStoreStats;
+import org.apache.paimon.memory.MemorySegment;
+import org.apache.paimon.utils.BloomFilter;
 import org.apache.paimon.utils.MurmurHashUtils;
 import org.apache.paimon.utils.VarLengthIntUtils;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import javax.annotation.Nullable;
+
 import java.io.BufferedInputStream;
 import java.io.DataInputStream;
 import java.io.File;
@@ -61,8 +66,13 @@ public class HashLookupStoreReader
     private CachedRandomInputView inputView;
     // Buffers
     private final byte[] slotBuffer;
+    // Bloom filter of keys, kept in memory
+    @Nullable private final BloomFilter bloomFilter;
+    private final LookupStoreStats stats;
 
-    HashLookupStoreReader(CacheManager cacheManager, File file) throws IOException {
+    HashLookupStoreReader(CacheManager cacheManager, File file, LookupStoreStats stats)
+            throws IOException {
+        this.stats = stats;
         // File path
         if (!file.exists()) {
             throw new FileNotFoundException("File " + file.getAbsolutePath() + " not found");
@@ -110,6 +120,10 @@ public class HashLookupStoreReader
 
             slotBuffer = new byte[maxSlotSize];
 
+            // Bloom filter metadata
+            long bloomFilterExpectedEntries = dataInputStream.readLong();
+            int bloomFilterLength = dataInputStream.readInt();
+
             // Read index offset to resign indexOffsets
             indexOffset = dataInputStream.readInt();
             for (int i = 0; i < indexOffsets.length; i++) {
@@ -120,6 +134,20 @@ public class HashLookupStoreReader
             for (int i = 0; i < dataOffsets.length; i++) {
                 dataOffsets[i] = dataOffset + dataOffsets[i];
             }
+
+            // Read bloom filter
+            if (bloomFilterLength > 0) {
+                byte[] bloomFilterBytes = new byte[bloomFilterLength];
+                dataInputStream.readFully(bloomFilterBytes);
+                bloomFilter =
+                        new BloomFilter(
+                                bloomFilterExpectedEntries,
+                                MemorySegment.wrap(bloomFilterBytes),
+                                0,
+                                bloomFilterLength);
+            } else {
+                bloomFilter = null;
+            }
         } finally {
             // Close metadata
             dataInputStream.close();
@@ -143,6 +171,11 @@ public class HashLookupStoreReader
                         .append("\n");
             }
         }
+        if (bloomFilter != null) {
+            statMsg.append("  Bloom filter hash functions: ")
+                    .append(bloomFilter.numHashFunctions())
+                    .append("\n");
+        }
         statMsg.append("  Index size: ")
                 .append(integerFormat.format((dataOffset - indexOffset) / (1024.0 * 1024.0)))
                 .append(" Mb\n");
@@ -158,7 +191,26 @@ public class HashLookupStoreReader
         if (keyLength >= slots.length || keyCounts[keyLength] == 0) {
             return null;
         }
-        long hash = MurmurHashUtils.hashBytesPositive(key);
+        int hash32 = MurmurHashUtils.hashBytes(key);
+        if (bloomFilter == null) {
+            return lookup(key, hash32);
+        }
+
+        if (!bloomFilter.testHash(hash32)) {
+            stats.incBloomFilterSkipped();
+            return null;
+        }
+        stats.incBloomFilterPassed();
+        byte[] value = lookup(key, hash32);
+        if (value == null) {
+            stats.incBloomFilterFalsePositive();
+        }
+        return value;
+    }
+
+    private byte[] lookup(byte[] key, int hash32) throws IOException {
+        int keyLength = key.length;
+        long hash = hash32 & 0x7fffffff;
         int numSlots = slots[keyLength];
         int slotSize = slotSizes[keyLength];
         int indexOffset = indexOffsets[keyLength];
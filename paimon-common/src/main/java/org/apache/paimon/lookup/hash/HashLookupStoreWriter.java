@@ -19,12 +19,16 @@
 package org.apache.paimon.lookup.hash;
 
 import org.apache.paimon.lookup.LookupStoreWriter;
+import org.apache.paimon.memory.MemorySegment;
+import org.apache.paimon.utils.BloomFilter;
 import org.apache.paimon.utils.MurmurHashUtils;
 import org.apache.paimon.utils.VarLengthIntUtils;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import javax.annotation.Nullable;
+
 import java.io.BufferedInputStream;
 import java.io.BufferedOutputStream;
 import java.io.DataInputStream;
@@ -62,6 +66,7 @@ public class HashLookupStoreWriter implements LookupStoreWriter {
     private DataOutputStream[] dataStreams;
     // Cache last value
     private byte[][] lastValues;
+    private int[] lastValueSizes;
     private int[] lastValuesLength;
     // Data length
     private long[] dataLengths;
@@ -76,9 +81,13 @@ public class HashLookupStoreWriter implements LookupStoreWriter {
     private int valueCount;
     // Number of collisions
     private int collisions;
+    // Bloom filter of keys
+    @Nullable private final BloomFilter.Builder bloomFilter;
 
-    HashLookupStoreWriter(double loadFactor, File file) throws IOException {
+    HashLookupStoreWriter(double loadFactor, File file, @Nullable BloomFilter.Builder bloomFilter)
+            throws IOException {
         this.loadFactor = loadFactor;
+        this.bloomFilter = bloomFilter;
         if (loadFactor <= 0.0 || loadFactor >= 1.0) {
             throw new IllegalArgumentException(
                     "Illegal load factor = " + loadFactor + ", should be between 0.0 and 1.0.");
@@ -94,6 +103,7 @@ public class HashLookupStoreWriter implements LookupStoreWriter {
         indexFiles = new File[0];
         dataFiles = new File[0];
         lastValues = new byte[0][];
+        lastValueSizes = new int[0];
         lastValuesLength = new int[0];
         dataLengths = new long[0];
         maxOffsetLengths = new int[0];
@@ -102,17 +112,27 @@ public class HashLookupStoreWriter implements LookupStoreWriter {
 
     @Override
     public void put(byte[] key, byte[] value) throws IOException {
-        int keyLength = key.length;
+        put(key, key.length, value, value.length);
+    }
 
+    @Override
+    public void put(byte[] key, int keyLength, byte[] value, int valueLength) throws IOException {
         // Get the Output stream for that keyLength, each key length has its own file
         DataOutputStream indexStream = getIndexStream(keyLength);
 
         // Write key
-        indexStream.write(key);
+        indexStream.write(key, 0, keyLength);
+
+        if (bloomFilter != null) {
+            bloomFilter.addHash(MurmurHashUtils.hashBytes(key, 0, keyLength));
+        }
 
         // Check if the value is identical to the last inserted
         byte[] lastValue = lastValues[keyLength];
-        boolean sameValue = lastValue != null && Arrays.equals(value, lastValue);
+        boolean sameValue =
+                lastValue != null
+                        && lastValueSizes[keyLength] == valueLength
+                        && equals(lastValue, value, valueLength);
 
         // Get data stream and length
         long dataLength = dataLengths[keyLength];
@@ -130,15 +150,20 @@ public class HashLookupStoreWriter implements LookupStoreWriter {
             DataOutputStream dataStream = getDataStream(keyLength);
 
             // Write size and value
-            int valueSize = VarLengthIntUtils.encodeInt(dataStream, value.length);
-            dataStream.write(value);
+            int valueSize = VarLengthIntUtils.encodeInt(dataStream, valueLength);
+            dataStream.write(value, 0, valueLength);
 
             // Update data length
-            dataLengths[keyLength] += valueSize + value.length;
+            dataLengths[keyLength] += valueSize + valueLength;
 
-            // Update last value
-            lastValues[keyLength] = value;
-            lastValuesLength[keyLength] = valueSize + value.length;
+            // Update last value, copy it because the value buffer may be reused by the caller
+            if (lastValue == null || lastValue.length < valueLength) {
+                lastValue = new byte[Math.max(valueLength, 32)];
+                lastValues[keyLength] = lastValue;
+            }
+            System.arraycopy(value, 0, lastValue, 0, valueLength);
+            lastValueSizes[keyLength] = valueLength;
+            lastValuesLength[keyLength] = valueSize + valueLength;
 
             valueCount++;
         }
@@ -147,6 +172,15 @@ public class HashLookupStoreWriter implements LookupStoreWriter {
         keyCounts[keyLength]++;
     }
 
+    private static boolean equals(byte[] b1, byte[] b2, int length) {
+        for (int i = 0; i < length; i++) {
+            if (b1[i] != b2[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     @Override
     public void close() throws IOException {
         // Close the data and index streams
@@ -255,11 +289,24 @@ public class HashLookupStoreWriter implements LookupStoreWriter {
             }
         }
 
+        // Write the bloom filter, the bits are placed between the metadata and the index
+        MemorySegment bloomFilterBuffer = bloomFilter == null ? null : bloomFilter.getBuffer();
+        int bloomFilterLength = bloomFilterBuffer == null ? 0 : bloomFilterBuffer.size();
+        dataOutputStream.writeLong(bloomFilter == null ? 0 : bloomFilter.expectedEntries());
+        dataOutputStream.writeInt(bloomFilterLength);
+
         // Write the position of the index and the data
         int indexOffset =
-                dataOutputStream.size() + (Integer.SIZE / Byte.SIZE) + (Long.SIZE / Byte.SIZE);
+                dataOutputStream.size()
+                        + (Integer.SIZE / Byte.SIZE)
+                        + (Long.SIZE / Byte.SIZE)
+                        + bloomFilterLength;
         dataOutputStream.writeInt(indexOffset);
         dataOutputStream.writeLong(indexOffset + indexesLength);
+
+        if (bloomFilterBuffer != null) {
+            dataOutputStream.write(bloomFilterBuffer.getArray(), 0, bloomFilterLength);
+        }
     }
 
     private File buildIndex(int keyLength) throws IOException {
@@ -451,6 +498,7 @@ public class HashLookupStoreWriter implements LookupStoreWriter {
             keyCounts = Arrays.copyOf(keyCounts, keyLength + 1);
             maxOffsetLengths = Arrays.copyOf(maxOffsetLengths, keyLength + 1);
             lastValues = Arrays.copyOf(lastValues, keyLength + 1);
+            lastValueSizes = Arrays.copyOf(lastValueSizes, keyLength + 1);
             lastValuesLength = Arrays.copyOf(lastValuesLength, keyLength + 1);
             dataLengths = Arrays.copyOf(dataLengths, keyLength + 1);
         }
@@ -18,6 +18,7 @@
 
 package org.apache.paimon.memory;
 
+import java.util.ArrayList;
 import java.util.LinkedList;
 import java.util.List;
 
@@ -60,6 +61,13 @@ public abstract class AbstractMemorySegmentPool implements MemorySegmentPool {
         segments.addAll(memory);
     }
 
+    /** Remove the pages which were returned to this pool, they will not be handed out again. */
+    protected List<MemorySegment> removeReturnedSegments() {
+        List<MemorySegment> returned = new ArrayList<>(segments);
+        segments.clear();
+        return returned;
+    }
+
     @Override
     public int freePages() {
         return segments.size() + maxPages - numPage;
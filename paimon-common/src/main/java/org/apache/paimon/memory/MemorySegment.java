@@ -92,6 +92,19 @@ public final class MemorySegment {
         return size;
     }
 
+    /**
+     * Release the direct memory owned by this segment, for example one created by {@link
+     * #allocateOffHeapMemory} or wrapping a mapped buffer. The segment must not be accessed
+     * afterwards.
+     */
+    public void free() {
+        if (offHeapBuffer == null) {
+            throw new IllegalStateException("Memory segment does not own direct memory");
+        }
+        MemoryUtils.releaseDirectBuffer(offHeapBuffer);
+        offHeapBuffer = null;
+    }
+
     public boolean isOffHeap() {
         return heapMemory == null;
     }
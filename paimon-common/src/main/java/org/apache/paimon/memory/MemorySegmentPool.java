@@ -53,4 +53,10 @@ public interface MemorySegmentPool extends MemorySegmentSource {
     static MemorySegmentPool createHeapPool(MemorySize maxMemory, MemorySize pageSize) {
         return new HeapMemorySegmentPool(maxMemory.getBytes(), (int) pageSize.getBytes());
     }
+
+    static MemorySegmentPool createPool(long maxMemory, int pageSize, boolean offHeap) {
+        return offHeap
+                ? new OffHeapMemorySegmentPool(maxMemory, pageSize)
+                : new HeapMemorySegmentPool(maxMemory, pageSize);
+    }
 }
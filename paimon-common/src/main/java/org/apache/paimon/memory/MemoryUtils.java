@@ -21,9 +21,11 @@ package org.apache.paimon.memory;
 import org.apache.paimon.utils.Preconditions;
 
 import java.lang.reflect.Field;
+import java.lang.reflect.Method;
 import java.nio.Buffer;
 import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
+import java.util.function.Consumer;
 
 /** Utility class for memory operations. */
 public class MemoryUtils {
@@ -38,6 +40,8 @@ public class MemoryUtils {
     private static final long BUFFER_ADDRESS_FIELD_OFFSET =
             getClassFieldOffset(Buffer.class, "address");
 
+    private static final Consumer<ByteBuffer> DIRECT_BUFFER_RELEASER = createDirectBufferReleaser();
+
     @SuppressWarnings("restriction")
     private static sun.misc.Unsafe getUnsafe() {
         try {
@@ -94,6 +98,49 @@ public class MemoryUtils {
         }
     }
 
+    private static Consumer<ByteBuffer> createDirectBufferReleaser() {
+        try {
+            // Java 9+
+            Method invokeCleaner = UNSAFE.getClass().getMethod("invokeCleaner", ByteBuffer.class);
+            return buffer -> invoke(invokeCleaner, UNSAFE, buffer);
+        } catch (NoSuchMethodException e) {
+            // Java 8
+            try {
+                Method cleaner = getClassByName("sun.nio.ch.DirectBuffer").getMethod("cleaner");
+                Method clean = getClassByName("sun.misc.Cleaner").getMethod("clean");
+                return buffer -> {
+                    Object bufferCleaner = invoke(cleaner, buffer);
+                    if (bufferCleaner != null) {
+                        invoke(clean, bufferCleaner);
+                    }
+                };
+            } catch (NoSuchMethodException t) {
+                throw new Error("Could not find the cleaner of direct byte buffers.", t);
+            }
+        }
+    }
+
+    private static Object invoke(Method method, Object target, Object... args) {
+        try {
+            return method.invoke(target, args);
+        } catch (Throwable t) {
+            throw new Error("Could not release the memory of a direct byte buffer.", t);
+        }
+    }
+
+    /**
+     * Release the native memory of the given direct or mapped {@link ByteBuffer} immediately,
+     * instead of waiting for the buffer to be garbage collected. The buffer must not be a slice or
+     * a duplicate, and must not be accessed afterwards.
+     *
+     * @param buffer {@link ByteBuffer} which owns the native memory to release
+     */
+    public static void releaseDirectBuffer(ByteBuffer buffer) {
+        Preconditions.checkNotNull(buffer, "buffer is null");
+        Preconditions.checkArgument(buffer.isDirect(), "Can't release a non-direct ByteBuffer.");
+        DIRECT_BUFFER_RELEASER.accept(buffer);
+    }
+
     /**
      * Get native memory address wrapped by the given {@link ByteBuffer}.
      *
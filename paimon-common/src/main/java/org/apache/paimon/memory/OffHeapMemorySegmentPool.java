@@ -0,0 +1,68 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.memory;
+
+import java.io.Closeable;
+import java.util.List;
+
+/**
+ * MemorySegment pool from direct memory, the pages don't add to the JVM heap and are not scanned by
+ * the garbage collector. Pages are reused once returned, and the direct memory is released when the
+ * pool is closed.
+ */
+public class OffHeapMemorySegmentPool extends AbstractMemorySegmentPool implements Closeable {
+
+    private boolean closed;
+
+    public OffHeapMemorySegmentPool(long maxMemory, int pageSize) {
+        super(maxMemory, pageSize);
+    }
+
+    @Override
+    public MemorySegment nextSegment() {
+        if (closed) {
+            throw new IllegalStateException("The off-heap memory segment pool is closed.");
+        }
+        return super.nextSegment();
+    }
+
+    @Override
+    protected MemorySegment allocateMemory() {
+        return MemorySegment.allocateOffHeapMemory(pageSize);
+    }
+
+    @Override
+    public void returnAll(List<MemorySegment> memory) {
+        if (closed) {
+            memory.forEach(MemorySegment::free);
+        } else {
+            super.returnAll(memory);
+        }
+    }
+
+    /**
+     * Release the direct memory of the returned pages. Pages which are still in use are released
+     * when they are returned.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        removeReturnedSegments().forEach(MemorySegment::free);
+    }
+}
@@ -0,0 +1,361 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.predicate;
+
+import org.apache.paimon.data.columnar.ColumnVector;
+import org.apache.paimon.data.columnar.ColumnarRow;
+import org.apache.paimon.data.columnar.IntColumnVector;
+import org.apache.paimon.data.columnar.LongColumnVector;
+import org.apache.paimon.data.columnar.VectorizedColumnBatch;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * A {@link Predicate} compiled to be evaluated on the {@link ColumnVector}s of a batch. Instead of
+ * testing rows one by one, it narrows a selection of row ids, so that comparisons on integral
+ * columns run in tight loops over the vectors without materializing rows or boxing values. Leaves
+ * on other types and unknown compound functions fall back to {@link Predicate#test} on a {@link
+ * ColumnarRow}, so every predicate can be compiled.
+ */
+public abstract class VectorizedPredicate {
+
+    private static final VectorizedPredicate NONE =
+            new VectorizedPredicate() {
+                @Override
+                public int select(ColumnVector[] columns, int[] selection, int size) {
+                    return 0;
+                }
+            };
+
+    /**
+     * Keeps the row ids of {@code selection[0, size)} which satisfy this predicate at the head of
+     * {@code selection}. Row ids in the selection must be in ascending order, and the order is
+     * preserved.
+     *
+     * @return the number of selected row ids
+     */
+    public abstract int select(ColumnVector[] columns, int[] selection, int size);
+
+    public static VectorizedPredicate create(Predicate predicate) {
+        return predicate.visit(
+                new PredicateVisitor<VectorizedPredicate>() {
+                    @Override
+                    public VectorizedPredicate visit(LeafPredicate predicate) {
+                        return createLeaf(predicate);
+                    }
+
+                    @Override
+                    public VectorizedPredicate visit(CompoundPredicate predicate) {
+                        CompoundPredicate.Function function = predicate.function();
+                        if (function instanceof And || function instanceof Or) {
+                            VectorizedPredicate[] children =
+                                    predicate.children().stream()
+                                            .map(VectorizedPredicate::create)
+                                            .toArray(VectorizedPredicate[]::new);
+                            return function instanceof And
+                                    ? new AndPredicate(children)
+                                    : new OrPredicate(children);
+                        }
+                        return new RowPredicate(predicate);
+                    }
+                });
+    }
+
+    private static VectorizedPredicate createLeaf(LeafPredicate predicate) {
+        LeafFunction function = predicate.function();
+        int index = predicate.index();
+        if (function instanceof IsNull) {
+            return new NullPredicate(index, true);
+        } else if (function instanceof IsNotNull) {
+            return new NullPredicate(index, false);
+        }
+
+        List<Object> literals = predicate.literals();
+        if (function instanceof NullFalseLeafBinaryFunction && literals.get(0) == null) {
+            return NONE;
+        }
+
+        switch (predicate.type().getTypeRoot()) {
+            case INTEGER:
+            case DATE:
+            case TIME_WITHOUT_TIME_ZONE:
+            case BIGINT:
+                return createIntegral(predicate, function, literals);
+            default:
+                return new RowPredicate(predicate);
+        }
+    }
+
+    private static VectorizedPredicate createIntegral(
+            LeafPredicate predicate, LeafFunction function, List<Object> literals) {
+        int index = predicate.index();
+        if (function instanceof In || function instanceof NotIn) {
+            boolean negated = function instanceof NotIn;
+            long[] values = new long[literals.size()];
+            int size = 0;
+            for (Object literal : literals) {
+                if (literal == null) {
+                    if (negated) {
+                        // x NOT IN (..., NULL) is never true
+                        return NONE;
+                    }
+                } else {
+                    values[size++] = ((Number) literal).longValue();
+                }
+            }
+            if (size == 0 && !negated) {
+                return NONE;
+            }
+            values = Arrays.copyOf(values, size);
+            Arrays.sort(values);
+            return new SetPredicate(predicate, index, values, negated);
+        }
+
+        long value = ((Number) literals.get(0)).longValue();
+        if (function instanceof Equal) {
+            return new RangePredicate(predicate, index, value, value, false);
+        } else if (function instanceof NotEqual) {
+            return new RangePredicate(predicate, index, value, value, true);
+        } else if (function instanceof LessThan) {
+            return new RangePredicate(predicate, index, value, Long.MAX_VALUE, true);
+        } else if (function instanceof LessOrEqual) {
+            return new RangePredicate(predicate, index, Long.MIN_VALUE, value, false);
+        } else if (function instanceof GreaterThan) {
+            return new RangePredicate(predicate, index, Long.MIN_VALUE, value, true);
+        } else if (function instanceof GreaterOrEqual) {
+            return new RangePredicate(predicate, index, value, Long.MAX_VALUE, false);
+        }
+        return new RowPredicate(predicate);
+    }
+
+    /** Narrows the selection child by child. */
+    private static class AndPredicate extends VectorizedPredicate {
+
+        private final VectorizedPredicate[] children;
+
+        private AndPredicate(VectorizedPredicate[] children) {
+            this.children = children;
+        }
+
+        @Override
+        public int select(ColumnVector[] columns, int[] selection, int size) {
+            for (VectorizedPredicate child : children) {
+                if (size == 0) {
+                    break;
+                }
+                size = child.select(columns, selection, size);
+            }
+            return size;
+        }
+    }
+
+    /** Evaluates each child only on the rows not yet selected by the previous children. */
+    private static class OrPredicate extends VectorizedPredicate {
+
+        private final VectorizedPredicate[] children;
+
+        private OrPredicate(VectorizedPredicate[] children) {
+            this.children = children;
+        }
+
+        @Override
+        public int select(ColumnVector[] columns, int[] selection, int size) {
+            int[] pending = Arrays.copyOf(selection, size);
+            int[] candidates = new int[size];
+            int pendingSize = size;
+            int selected = 0;
+            for (VectorizedPredicate child : children) {
+                System.arraycopy(pending, 0, candidates, 0, pendingSize);
+                int hits = child.select(columns, candidates, pendingSize);
+                if (hits == 0) {
+                    continue;
+                }
+
+                int h = 0;
+                int rest = 0;
+                for (int i = 0; i < pendingSize; i++) {
+                    int row = pending[i];
+                    if (h < hits && candidates[h] == row) {
+                        selection[selected++] = row;
+                        h++;
+                    } else {
+                        pending[rest++] = row;
+                    }
+                }
+                pendingSize = rest;
+                if (pendingSize == 0) {
+                    break;
+                }
+            }
+            Arrays.sort(selection, 0, selected);
+            return selected;
+        }
+    }
+
+    /** Selects null or non-null values, only the null flags are read. */
+    private static class NullPredicate extends VectorizedPredicate {
+
+        private final int index;
+        private final boolean selectNull;
+
+        private NullPredicate(int index, boolean selectNull) {
+            this.index = index;
+            this.selectNull = selectNull;
+        }
+
+        @Override
+        public int select(ColumnVector[] columns, int[] selection, int size) {
+            ColumnVector vector = columns[index];
+            int selected = 0;
+            for (int i = 0; i < size; i++) {
+                int row = selection[i];
+                if (vector.isNullAt(row) == selectNull) {
+                    selection[selected++] = row;
+                }
+            }
+            return selected;
+        }
+    }
+
+    /**
+     * Selects non-null integral values in (or, if negated, out of) the closed range {@code [lower,
+     * upper]}, all comparison functions are mapped to such a range.
+     */
+    private static class RangePredicate extends VectorizedPredicate {
+
+        private final RowPredicate fallback;
+        private final int index;
+        private final long lower;
+        private final long upper;
+        private final boolean negated;
+
+        private RangePredicate(
+                LeafPredicate predicate, int index, long lower, long upper, boolean negated) {
+            this.fallback = new RowPredicate(predicate);
+            this.index = index;
+            this.lower = lower;
+            this.upper = upper;
+            this.negated = negated;
+        }
+
+        @Override
+        public int select(ColumnVector[] columns, int[] selection, int size) {
+            ColumnVector column = columns[index];
+            int selected = 0;
+            if (column instanceof IntColumnVector) {
+                IntColumnVector vector = (IntColumnVector) column;
+                for (int i = 0; i < size; i++) {
+                    int row = selection[i];
+                    if (!vector.isNullAt(row)) {
+                        long value = vector.getInt(row);
+                        if ((value >= lower && value <= upper) != negated) {
+                            selection[selected++] = row;
+                        }
+                    }
+                }
+            } else if (column instanceof LongColumnVector) {
+                LongColumnVector vector = (LongColumnVector) column;
+                for (int i = 0; i < size; i++) {
+                    int row = selection[i];
+                    if (!vector.isNullAt(row)) {
+                        long value = vector.getLong(row);
+                        if ((value >= lower && value <= upper) != negated) {
+                            selection[selected++] = row;
+                        }
+                    }
+                }
+            } else {
+                return fallback.select(columns, selection, size);
+            }
+            return selected;
+        }
+    }
+
+    /** Selects non-null integral values contained (or, if negated, not contained) in a set. */
+    private static class SetPredicate extends VectorizedPredicate {
+
+        private final RowPredicate fallback;
+        private final int index;
+        private final long[] sortedValues;
+        private final boolean negated;
+
+        private SetPredicate(
+                LeafPredicate predicate, int index, long[] sortedValues, boolean negated) {
+            this.fallback = new RowPredicate(predicate);
+            this.index = index;
+            this.sortedValues = sortedValues;
+            this.negated = negated;
+        }
+
+        @Override
+        public int select(ColumnVector[] columns, int[] selection, int size) {
+            ColumnVector column = columns[index];
+            int selected = 0;
+            if (column instanceof IntColumnVector) {
+                IntColumnVector vector = (IntColumnVector) column;
+                for (int i = 0; i < size; i++) {
+                    int row = selection[i];
+                    if (!vector.isNullAt(row)
+                            && (Arrays.binarySearch(sortedValues, vector.getInt(row)) >= 0)
+                                    != negated) {
+                        selection[selected++] = row;
+                    }
+                }
+            } else if (column instanceof LongColumnVector) {
+                LongColumnVector vector = (LongColumnVector) column;
+                for (int i = 0; i < size; i++) {
+                    int row = selection[i];
+                    if (!vector.isNullAt(row)
+                            && (Arrays.binarySearch(sortedValues, vector.getLong(row)) >= 0)
+                                    != negated) {
+                        selection[selected++] = row;
+                    }
+                }
+            } else {
+                return fallback.select(columns, selection, size);
+            }
+            return selected;
+        }
+    }
+
+    /** Tests the predicate row by row on a {@link ColumnarRow} over the vectors. */
+    private static class RowPredicate extends VectorizedPredicate {
+
+        private final Predicate predicate;
+
+        private RowPredicate(Predicate predicate) {
+            this.predicate = predicate;
+        }
+
+        @Override
+        public int select(ColumnVector[] columns, int[] selection, int size) {
+            ColumnarRow row = new ColumnarRow(new VectorizedColumnBatch(columns));
+            int selected = 0;
+            for (int i = 0; i < size; i++) {
+                int rowId = selection[i];
+                row.setRowId(rowId);
+                if (predicate.test(row)) {
+                    selection[selected++] = rowId;
+                }
+            }
+            return selected;
+        }
+    }
+}
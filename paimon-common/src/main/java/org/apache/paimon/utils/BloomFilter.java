@@ -0,0 +1,137 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.utils;
+
+import org.apache.paimon.memory.MemorySegment;
+
+import static org.apache.paimon.utils.Preconditions.checkArgument;
+
+/**
+ * Bloom filter based on one memory segment, the bits are stored in the segment so that it can be
+ * written to and restored from files without copying.
+ *
+ * <p>Like Guava's bloom filter, it uses the double hashing technique to generate the hash values
+ * from a single 32-bit hash code, see "Less Hashing, Same Performance: Building a Better Bloom
+ * Filter".
+ */
+public class BloomFilter {
+
+    private final MemorySegment segment;
+    private final int offset;
+    private final int bitSize;
+    private final int numHashFunctions;
+
+    public BloomFilter(long expectedEntries, MemorySegment segment, int offset, int byteSize) {
+        checkArgument(expectedEntries > 0, "expectedEntries should be > 0");
+        checkArgument(byteSize > 0, "byteSize should be > 0");
+        this.segment = segment;
+        this.offset = offset;
+        this.bitSize = byteSize << 3;
+        this.numHashFunctions = optimalNumOfHashFunctions(expectedEntries, bitSize);
+    }
+
+    public void addHash(int hash32) {
+        int hash2 = hash32 >>> 16;
+        for (int i = 1; i <= numHashFunctions; i++) {
+            setBit(position(hash32 + (i * hash2)));
+        }
+    }
+
+    public boolean testHash(int hash32) {
+        int hash2 = hash32 >>> 16;
+        for (int i = 1; i <= numHashFunctions; i++) {
+            if (!getBit(position(hash32 + (i * hash2)))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public int numHashFunctions() {
+        return numHashFunctions;
+    }
+
+    private int position(int combinedHash) {
+        // flip all the bits if it's negative (guaranteed positive number)
+        if (combinedHash < 0) {
+            combinedHash = ~combinedHash;
+        }
+        return combinedHash % bitSize;
+    }
+
+    private void setBit(int index) {
+        int byteIndex = offset + (index >>> 3);
+        byte current = segment.get(byteIndex);
+        segment.put(byteIndex, (byte) (current | (1 << (index & 7))));
+    }
+
+    private boolean getBit(int index) {
+        return (segment.get(offset + (index >>> 3)) & (1 << (index & 7))) != 0;
+    }
+
+    /**
+     * Compute optimal bits number with given input entries and expected false positive probability.
+     */
+    public static int optimalNumOfBits(long inputEntries, double fpp) {
+        checkArgument(fpp > 0 && fpp < 1, "fpp should be in (0, 1), but is %s.", fpp);
+        long numBits = (long) (-inputEntries * Math.log(fpp) / (Math.log(2) * Math.log(2)));
+        // keep the byte size in the range of int
+        return (int) Math.min(numBits, Integer.MAX_VALUE - 7L);
+    }
+
+    /** Compute the optimal hash function number with given input entries and bits size. */
+    static int optimalNumOfHashFunctions(long expectEntries, long bitSize) {
+        return Math.max(1, (int) Math.round((double) bitSize / expectEntries * Math.log(2)));
+    }
+
+    public static Builder builder(long expectedEntries, double fpp) {
+        int numBytes = Math.max(1, (int) Math.ceil(optimalNumOfBits(expectedEntries, fpp) / 8D));
+        return new Builder(MemorySegment.wrap(new byte[numBytes]), expectedEntries);
+    }
+
+    /** Builder of {@link BloomFilter}, the bits are held by a heap memory segment. */
+    public static class Builder {
+
+        private final MemorySegment buffer;
+        private final long expectedEntries;
+        private final BloomFilter filter;
+
+        private Builder(MemorySegment buffer, long expectedEntries) {
+            this.buffer = buffer;
+            this.expectedEntries = expectedEntries;
+            this.filter = new BloomFilter(expectedEntries, buffer, 0, buffer.size());
+        }
+
+        public void addHash(int hash32) {
+            filter.addHash(hash32);
+        }
+
+        public boolean testHash(int hash32) {
+            return filter.testHash(hash32);
+        }
+
+        public MemorySegment getBuffer() {
+            return buffer;
+        }
+
+        public long expectedEntries() {
+            return expectedEntries;
+        }
+    }
+}
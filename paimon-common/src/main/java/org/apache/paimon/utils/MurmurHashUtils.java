@@ -56,6 +56,11 @@ public final class MurmurHashUtils {
         return hashUnsafeBytes(bytes, BYTE_ARRAY_BASE_OFFSET, bytes.length, DEFAULT_SEED);
     }
 
+    /** Hash the first {@code length} bytes, same as {@link #hashBytes(byte[])} on a copy. */
+    public static int hashBytes(byte[] bytes, int offset, int length) {
+        return hashUnsafeBytes(bytes, BYTE_ARRAY_BASE_OFFSET + offset, length, DEFAULT_SEED);
+    }
+
     /**
      * Hash unsafe bytes.
      *
@@ -0,0 +1,132 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.data.serializer;
+
+import org.apache.paimon.data.BinaryString;
+import org.apache.paimon.data.Decimal;
+import org.apache.paimon.data.GenericRow;
+import org.apache.paimon.data.InternalRow;
+import org.apache.paimon.data.Timestamp;
+import org.apache.paimon.types.DataTypes;
+import org.apache.paimon.types.RowType;
+import org.apache.paimon.utils.SortUtil;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/** Test for {@link RowCompactedSerializer#createSliceComparator()}. */
+public class RowCompactedSerializerSliceComparatorTest {
+
+    private static final RowType ROW_TYPE =
+            RowType.of(
+                    DataTypes.BOOLEAN(),
+                    DataTypes.INT(),
+                    DataTypes.BIGINT(),
+                    DataTypes.DOUBLE(),
+                    DataTypes.STRING(),
+                    DataTypes.BYTES(),
+                    DataTypes.DECIMAL(10, 2),
+                    DataTypes.DECIMAL(30, 2),
+                    DataTypes.TIMESTAMP(3),
+                    DataTypes.TIMESTAMP(9));
+
+    @Test
+    public void testCompare() {
+        RowCompactedSerializer serializer = new RowCompactedSerializer(ROW_TYPE);
+        Comparator<byte[]> comparator = serializer.createSliceComparator();
+        assertThat(comparator).isNotNull();
+
+        Random random = new Random();
+        List<InternalRow> rows = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            rows.add(randomRow(random));
+        }
+        for (InternalRow row1 : rows) {
+            byte[] bytes1 = serializer.serializeToBytes(row1);
+            for (InternalRow row2 : rows) {
+                byte[] bytes2 = serializer.serializeToBytes(row2);
+                assertThat(Integer.signum(comparator.compare(bytes1, bytes2)))
+                        .isEqualTo(Integer.signum(compare(row1, row2)));
+            }
+        }
+    }
+
+    @Test
+    public void testUnsupportedType() {
+        assertThat(
+                        new RowCompactedSerializer(
+                                        RowType.of(
+                                                DataTypes.INT(), DataTypes.ARRAY(DataTypes.INT())))
+                                .createSliceComparator())
+                .isNull();
+    }
+
+    private static InternalRow randomRow(Random random) {
+        // few distinct values, so that the following fields are compared too
+        Object[] fields =
+                new Object[] {
+                    random.nextBoolean(),
+                    random.nextInt(3) - 1,
+                    (long) random.nextInt(3) - 1,
+                    (double) random.nextInt(3) - 1,
+                    BinaryString.fromString(
+                            new String(new char[random.nextInt(3)]).replace('\0', 'a')),
+                    new byte[] {(byte) (random.nextInt(3) - 1)},
+                    Decimal.fromBigDecimal(BigDecimal.valueOf(random.nextInt(3) - 1, 2), 10, 2),
+                    Decimal.fromBigDecimal(BigDecimal.valueOf(random.nextInt(3) - 1, 2), 30, 2),
+                    Timestamp.fromEpochMillis(random.nextInt(3)),
+                    Timestamp.fromEpochMillis(1, random.nextInt(3))
+                };
+        for (int i = 0; i < fields.length; i++) {
+            if (random.nextInt(5) == 0) {
+                fields[i] = null;
+            }
+        }
+        return GenericRow.of(fields);
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static int compare(InternalRow row1, InternalRow row2) {
+        for (int i = 0; i < ROW_TYPE.getFieldCount(); i++) {
+            InternalRow.FieldGetter getter =
+                    InternalRow.createFieldGetter(ROW_TYPE.getTypeAt(i), i);
+            Object o1 = getter.getFieldOrNull(row1);
+            Object o2 = getter.getFieldOrNull(row2);
+            int result;
+            if (o1 == null || o2 == null) {
+                result = o1 == null ? (o2 == null ? 0 : -1) : 1;
+            } else if (o1 instanceof byte[]) {
+                result = SortUtil.compareBinary((byte[]) o1, (byte[]) o2);
+            } else {
+                result = ((Comparable) o1).compareTo(o2);
+            }
+            if (result != 0) {
+                return result;
+            }
+        }
+        return 0;
+    }
+}
@@ -0,0 +1,116 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.io.cache;
+
+import org.apache.paimon.CoreOptions.LookupCacheMemoryType;
+import org.apache.paimon.io.cache.CacheManager.CachedPage;
+import org.apache.paimon.options.MemorySize;
+
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/** Test for {@link CacheManager}. */
+public class CacheManagerTest {
+
+    private static final int PAGE_SIZE = 1024;
+    private static final int NUM_PAGES = 8;
+
+    @TempDir Path tempDir;
+
+    @ParameterizedTest
+    @EnumSource(LookupCacheMemoryType.class)
+    public void testEvictedPagesAreReleased(LookupCacheMemoryType memoryType) throws IOException {
+        CacheManager cacheManager =
+                new CacheManager(PAGE_SIZE, MemorySize.ofKibiBytes(4), memoryType);
+        Set<Integer> evicted = new HashSet<>();
+        List<CachedPage> pages = new ArrayList<>();
+        try (RandomAccessFile file = new RandomAccessFile(writeFile(), "r")) {
+            for (int i = 0; i < NUM_PAGES; i++) {
+                CachedPage page = cacheManager.getPage(file, i, evicted::add);
+                assertThat(page.segment().get(0)).isEqualTo((byte) i);
+                page.release();
+                pages.add(page);
+            }
+
+            assertThat(evicted).isNotEmpty();
+            for (int i = 0; i < NUM_PAGES; i++) {
+                // cached pages are held by the cache, evicted pages are released
+                assertThat(pages.get(i).isFreed()).isEqualTo(evicted.contains(i));
+            }
+
+            for (int i = 0; i < NUM_PAGES; i++) {
+                cacheManager.invalidPage(file, i);
+            }
+            assertThat(pages).allMatch(CachedPage::isFreed);
+        }
+    }
+
+    @ParameterizedTest
+    @EnumSource(LookupCacheMemoryType.class)
+    public void testPageInUseIsNotFreed(LookupCacheMemoryType memoryType) throws IOException {
+        CacheManager cacheManager =
+                new CacheManager(PAGE_SIZE, MemorySize.ofKibiBytes(4), memoryType);
+        Set<Integer> evicted = new HashSet<>();
+        try (RandomAccessFile file = new RandomAccessFile(writeFile(), "r")) {
+            CachedPage inUse = cacheManager.getPage(file, 0, evicted::add);
+            for (int i = 1; i < NUM_PAGES; i++) {
+                cacheManager.getPage(file, i, evicted::add).release();
+            }
+
+            // evicted, but still readable by its reader
+            assertThat(evicted).contains(0);
+            assertThat(inUse.isFreed()).isFalse();
+            for (int i = 0; i < PAGE_SIZE; i++) {
+                assertThat(inUse.segment().get(i)).isEqualTo((byte) 0);
+            }
+
+            // not served to new readers
+            CachedPage reloaded = cacheManager.getPage(file, 0, evicted::add);
+            assertThat(reloaded).isNotSameAs(inUse);
+            reloaded.release();
+
+            inUse.release();
+            assertThat(inUse.isFreed()).isTrue();
+        }
+    }
+
+    private File writeFile() throws IOException {
+        byte[] bytes = new byte[PAGE_SIZE * NUM_PAGES];
+        for (int i = 0; i < bytes.length; i++) {
+            // every byte of a page is its page number
+            bytes[i] = (byte) (i / PAGE_SIZE);
+        }
+        File file = tempDir.resolve("pages").toFile();
+        Files.write(file.toPath(), bytes);
+        return file;
+    }
+}
@@ -18,11 +18,14 @@
 
 package org.apache.paimon.io.cache;
 
+import org.apache.paimon.CoreOptions.LookupCacheMemoryType;
 import org.apache.paimon.memory.MemorySegment;
 import org.apache.paimon.options.MemorySize;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
 
 import java.io.File;
 import java.io.IOException;
@@ -42,22 +45,86 @@ public class CachedRandomInputViewTest {
 
     private final ThreadLocalRandom rnd = ThreadLocalRandom.current();
 
-    @Test
-    public void testMatched() throws IOException {
-        innerTest(1024 * 512);
+    @ParameterizedTest
+    @EnumSource(LookupCacheMemoryType.class)
+    public void testMatched(LookupCacheMemoryType memoryType) throws IOException {
+        innerTest(1024 * 512, memoryType);
     }
 
-    @Test
-    public void testNotMatched() throws IOException {
-        innerTest(131092);
+    @ParameterizedTest
+    @EnumSource(LookupCacheMemoryType.class)
+    public void testNotMatched(LookupCacheMemoryType memoryType) throws IOException {
+        innerTest(131092, memoryType);
+    }
+
+    @ParameterizedTest
+    @EnumSource(LookupCacheMemoryType.class)
+    public void testRandom(LookupCacheMemoryType memoryType) throws IOException {
+        innerTest(rnd.nextInt(5000, 100000), memoryType);
     }
 
     @Test
-    public void testRandom() throws IOException {
-        innerTest(rnd.nextInt(5000, 100000));
+    public void testStats() throws IOException {
+        byte[] bytes = new byte[1024 * 8];
+        File file = writeFile(bytes);
+        CacheManager cacheManager = new CacheManager(1024, MemorySize.ofKibiBytes(4));
+        CachedRandomInputView view = new CachedRandomInputView(file, cacheManager);
+
+        view.setReadPosition(0);
+        view.readLong();
+        assertThat(cacheManager.missCount()).isEqualTo(1);
+        assertThat(cacheManager.usedMemorySize()).isEqualTo(1024);
+
+        // the page is held by the view
+        view.setReadPosition(8);
+        view.readLong();
+        assertThat(cacheManager.hitCount()).isEqualTo(1);
+        assertThat(cacheManager.missCount()).isEqualTo(1);
+
+        // read all pages, some pages are evicted
+        for (int i = 0; i < 8; i++) {
+            view.setReadPosition(i * 1024);
+            view.readLong();
+        }
+        assertThat(cacheManager.evictionCount()).isGreaterThan(0);
+        assertThat(cacheManager.usedMemorySize()).isLessThanOrEqualTo(4 * 1024);
+        view.close();
+    }
+
+    @ParameterizedTest
+    @EnumSource(LookupCacheMemoryType.class)
+    public void testReadEvictedPage(LookupCacheMemoryType memoryType) throws IOException {
+        byte[] bytes = new byte[1024 * 8];
+        for (int i = 0; i < bytes.length; i++) {
+            bytes[i] = (byte) rnd.nextInt();
+        }
+        MemorySegment segment = MemorySegment.wrap(bytes);
+        CacheManager cacheManager = new CacheManager(1024, MemorySize.ofKibiBytes(4), memoryType);
+        CachedRandomInputView view = new CachedRandomInputView(writeFile(bytes), cacheManager);
+        CachedRandomInputView other = new CachedRandomInputView(writeFile(bytes), cacheManager);
+
+        view.setReadPosition(0);
+        assertThat(view.readLong()).isEqualTo(segment.getLongBigEndian(0));
+
+        // the other view evicts the page which is being read
+        for (int i = 0; i < 8; i++) {
+            other.setReadPosition(i * 1024);
+            other.readLong();
+        }
+        assertThat(cacheManager.evictionCount()).isGreaterThan(0);
+
+        // the current page is not freed, continue reading it
+        for (int position = 8; position < 1024; position += 8) {
+            assertThat(view.readLong()).isEqualTo(segment.getLongBigEndian(position));
+        }
+        assertThat(view.readLong()).isEqualTo(segment.getLongBigEndian(1024));
+
+        view.close();
+        other.close();
+        assertThat(cacheManager.cache().asMap()).isEmpty();
     }
 
-    private void innerTest(int len) throws IOException {
+    private void innerTest(int len, LookupCacheMemoryType memoryType) throws IOException {
         byte[] bytes = new byte[len];
         MemorySegment segment = MemorySegment.wrap(bytes);
         for (int i = 0; i < bytes.length; i++) {
@@ -65,7 +132,7 @@ public class CachedRandomInputViewTest {
         }
 
         File file = writeFile(bytes);
-        CacheManager cacheManager = new CacheManager(1024, MemorySize.ofKibiBytes(128));
+        CacheManager cacheManager = new CacheManager(1024, MemorySize.ofKibiBytes(128), memoryType);
         CachedRandomInputView view = new CachedRandomInputView(file, cacheManager);
 
         // read first one
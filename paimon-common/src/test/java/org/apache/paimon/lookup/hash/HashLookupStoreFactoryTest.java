@@ -24,7 +24,9 @@ package org.apache.paimon.lookup.hash;
 
 import org.apache.paimon.io.DataOutputSerializer;
 import org.apache.paimon.io.cache.CacheManager;
+import org.apache.paimon.lookup.LookupStoreStats;
 import org.apache.paimon.options.MemorySize;
+import org.apache.paimon.utils.BloomFilter;
 import org.apache.paimon.utils.MathUtils;
 import org.apache.paimon.utils.VarLengthIntUtils;
 
@@ -79,7 +81,7 @@ public class HashLookupStoreFactoryTest {
 
     @Test
     public void testEmpty() throws IOException {
-        HashLookupStoreWriter writer = factory.createWriter(file);
+        HashLookupStoreWriter writer = factory.createWriter(file, null);
         writer.close();
 
         assertThat(file.exists()).isTrue();
@@ -93,7 +95,7 @@ public class HashLookupStoreFactoryTest {
 
     @Test
     public void testOneKey() throws IOException {
-        HashLookupStoreWriter writer = factory.createWriter(file);
+        HashLookupStoreWriter writer = factory.createWriter(file, null);
         writer.put(toBytes(1), toBytes("foo"));
         writer.close();
 
@@ -102,6 +104,56 @@ public class HashLookupStoreFactoryTest {
         reader.close();
     }
 
+    @Test
+    public void testReusedBuffers() throws IOException {
+        HashLookupStoreWriter writer = factory.createWriter(file, null);
+        byte[] keyBuffer = new byte[16];
+        byte[] valueBuffer = new byte[16];
+        for (int i = 0; i < 100; i++) {
+            byte[] key = toBytes(i);
+            // the same value is written for consecutive keys
+            byte[] value = toBytes("value" + (i / 3));
+            System.arraycopy(key, 0, keyBuffer, 0, key.length);
+            System.arraycopy(value, 0, valueBuffer, 0, value.length);
+            writer.put(keyBuffer, key.length, valueBuffer, value.length);
+        }
+        writer.close();
+
+        HashLookupStoreReader reader = factory.createReader(file);
+        for (int i = 0; i < 100; i++) {
+            assertThat(reader.lookup(toBytes(i))).isEqualTo(toBytes("value" + (i / 3)));
+        }
+        reader.close();
+    }
+
+    @Test
+    public void testBloomFilter() throws IOException {
+        int len = 1000;
+        HashLookupStoreWriter writer = factory.createWriter(file, BloomFilter.builder(len, 0.05));
+        // keys have the same length, so that misses can not be filtered by key length
+        for (int i = 10000; i < 10000 + len; i++) {
+            writer.put(toBytes(i), toBytes("value" + i));
+        }
+        writer.close();
+
+        HashLookupStoreReader reader = factory.createReader(file);
+        for (int i = 10000; i < 10000 + len; i++) {
+            assertThat(reader.lookup(toBytes(i))).isEqualTo(toBytes("value" + i));
+        }
+        LookupStoreStats stats = factory.stats();
+        assertThat(stats.bloomFilterPassed()).isEqualTo(len);
+        assertThat(stats.bloomFilterSkipped()).isEqualTo(0);
+        assertThat(stats.bloomFilterFalsePositive()).isEqualTo(0);
+
+        for (int i = 20000; i < 20000 + len; i++) {
+            assertThat(reader.lookup(toBytes(i))).isNull();
+        }
+        assertThat(stats.bloomFilterSkipped() + stats.bloomFilterFalsePositive()).isEqualTo(len);
+        // most misses should be answered by the bloom filter without reading the file
+        assertThat(stats.bloomFilterSkipped()).isGreaterThan(len / 2);
+        reader.close();
+    }
+
     @Test
     public void testTwoFirstKeyLength() throws IOException {
         int key1 = 1;
@@ -350,7 +402,7 @@ public class HashLookupStoreFactoryTest {
     }
 
     private void writeStore(File location, Object[] keys, Object[] values) throws IOException {
-        HashLookupStoreWriter writer = factory.createWriter(location);
+        HashLookupStoreWriter writer = factory.createWriter(location, null);
         for (int i = 0; i < keys.length; i++) {
             writer.put(toBytes(keys[i]), toBytes(values[i]));
         }
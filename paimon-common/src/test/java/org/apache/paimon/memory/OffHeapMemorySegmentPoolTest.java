@@ -0,0 +1,98 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.memory;
+
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.BufferPoolMXBean;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/** Tests for {@link OffHeapMemorySegmentPool}. */
+public class OffHeapMemorySegmentPoolTest {
+
+    private static final int PAGE_SIZE = 1024 * 1024;
+    private static final int NUM_PAGES = 16;
+
+    @Test
+    public void testCloseReleasesMemory() {
+        long before = directMemoryUsed();
+        OffHeapMemorySegmentPool pool =
+                new OffHeapMemorySegmentPool((long) PAGE_SIZE * NUM_PAGES, PAGE_SIZE);
+        List<MemorySegment> pages = nextSegments(pool, NUM_PAGES);
+        long allocated = directMemoryUsed();
+        assertThat(allocated - before).isGreaterThanOrEqualTo((long) PAGE_SIZE * NUM_PAGES);
+
+        // returned pages are reused, not released
+        pool.returnAll(pages);
+        assertThat(directMemoryUsed()).isEqualTo(allocated);
+        assertThat(nextSegments(pool, NUM_PAGES)).containsExactlyInAnyOrderElementsOf(pages);
+        pool.returnAll(pages);
+
+        pool.close();
+        assertThat(allocated - directMemoryUsed())
+                .isGreaterThanOrEqualTo((long) PAGE_SIZE * NUM_PAGES);
+        assertThatThrownBy(pool::nextSegment).isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    public void testPagesInUseAreReleasedWhenReturned() {
+        OffHeapMemorySegmentPool pool =
+                new OffHeapMemorySegmentPool((long) PAGE_SIZE * NUM_PAGES, PAGE_SIZE);
+        List<MemorySegment> pages = nextSegments(pool, NUM_PAGES);
+        MemorySegment inUse = pages.remove(0);
+        pool.returnAll(pages);
+        long allocated = directMemoryUsed();
+
+        pool.close();
+        long closed = directMemoryUsed();
+        assertThat(allocated - closed).isGreaterThanOrEqualTo((long) PAGE_SIZE * (NUM_PAGES - 1));
+
+        // the page in use is still readable after the pool is closed
+        inUse.putLong(PAGE_SIZE - 8, 42L);
+        assertThat(inUse.getLong(PAGE_SIZE - 8)).isEqualTo(42L);
+
+        pool.returnAll(Collections.singletonList(inUse));
+        assertThat(closed - directMemoryUsed()).isGreaterThanOrEqualTo(PAGE_SIZE);
+    }
+
+    private static List<MemorySegment> nextSegments(MemorySegmentPool pool, int numPages) {
+        List<MemorySegment> pages = new ArrayList<>();
+        for (int i = 0; i < numPages; i++) {
+            MemorySegment page = pool.nextSegment();
+            assertThat(page).isNotNull();
+            pages.add(page);
+        }
+        return pages;
+    }
+
+    private static long directMemoryUsed() {
+        for (BufferPoolMXBean bean : ManagementFactory.getPlatformMXBeans(BufferPoolMXBean.class)) {
+            if (bean.getName().equals("direct")) {
+                return bean.getMemoryUsed();
+            }
+        }
+        throw new IllegalStateException("Direct buffer pool is not found.");
+    }
+}
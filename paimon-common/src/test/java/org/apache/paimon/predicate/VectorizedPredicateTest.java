@@ -0,0 +1,196 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.predicate;
+
+import org.apache.paimon.data.BinaryString;
+import org.apache.paimon.data.InternalRow;
+import org.apache.paimon.data.columnar.ColumnVector;
+import org.apache.paimon.data.columnar.ColumnarRow;
+import org.apache.paimon.data.columnar.ColumnarRowIterator;
+import org.apache.paimon.data.columnar.VectorizedColumnBatch;
+import org.apache.paimon.data.columnar.heap.HeapBytesVector;
+import org.apache.paimon.data.columnar.heap.HeapIntVector;
+import org.apache.paimon.data.columnar.heap.HeapLongVector;
+import org.apache.paimon.types.BigIntType;
+import org.apache.paimon.types.IntType;
+import org.apache.paimon.types.RowType;
+import org.apache.paimon.types.VarCharType;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/** Test for {@link VectorizedPredicate}. */
+public class VectorizedPredicateTest {
+
+    private static final int NUM_ROWS = 1000;
+
+    private static final RowType ROW_TYPE =
+            RowType.of(new IntType(), new BigIntType(), new VarCharType(VarCharType.MAX_LENGTH));
+
+    private static final PredicateBuilder BUILDER = new PredicateBuilder(ROW_TYPE);
+
+    @Test
+    public void testAllPredicates() {
+        ColumnVector[] columns = randomColumns(new Random());
+        List<Predicate> predicates = new ArrayList<>();
+        for (int i = 0; i < 2; i++) {
+            Object literal = i == 0 ? (Object) 50 : (Object) 50L;
+            predicates.add(BUILDER.equal(i, literal));
+            predicates.add(BUILDER.notEqual(i, literal));
+            predicates.add(BUILDER.lessThan(i, literal));
+            predicates.add(BUILDER.lessOrEqual(i, literal));
+            predicates.add(BUILDER.greaterThan(i, literal));
+            predicates.add(BUILDER.greaterOrEqual(i, literal));
+            predicates.add(BUILDER.equal(i, null));
+            predicates.add(BUILDER.isNull(i));
+            predicates.add(BUILDER.isNotNull(i));
+            List<Object> literals =
+                    i == 0 ? Arrays.asList(3, 50, 77, null) : Arrays.asList(3L, 50L, 77L, null);
+            predicates.add(BUILDER.in(i, literals));
+            predicates.add(BUILDER.notIn(i, literals));
+            predicates.add(BUILDER.notIn(i, literals.subList(0, 3)));
+        }
+        predicates.add(BUILDER.lessThan(1, Long.MIN_VALUE));
+        predicates.add(BUILDER.greaterThan(1, Long.MAX_VALUE));
+        predicates.add(BUILDER.equal(2, BinaryString.fromString("7")));
+        predicates.add(BUILDER.startsWith(2, BinaryString.fromString("1")));
+        predicates.add(BUILDER.isNull(2));
+        predicates.add(
+                BUILDER.in(
+                        2, Arrays.asList(BinaryString.fromString("1"), BinaryString.EMPTY_UTF8)));
+
+        List<Predicate> compounds = new ArrayList<>();
+        for (int i = 0; i + 2 < predicates.size(); i++) {
+            compounds.add(PredicateBuilder.and(predicates.get(i), predicates.get(i + 2)));
+            compounds.add(PredicateBuilder.or(predicates.get(i), predicates.get(i + 2)));
+            compounds.add(
+                    PredicateBuilder.or(
+                            PredicateBuilder.and(predicates.get(i), predicates.get(i + 1)),
+                            predicates.get(i + 2)));
+        }
+        predicates.addAll(compounds);
+
+        for (Predicate predicate : predicates) {
+            assertThat(selectVectorized(predicate, columns))
+                    .as(predicate.toString())
+                    .containsExactly(selectByRow(predicate, columns));
+        }
+    }
+
+    @Test
+    public void testColumnarRowIterator() {
+        ColumnVector[] columns = randomColumns(new Random());
+        ColumnarRowIterator iterator =
+                new ColumnarRowIterator(
+                        new ColumnarRow(new VectorizedColumnBatch(columns)), () -> {});
+        iterator.set(NUM_ROWS);
+
+        // consume some rows before filtering
+        for (int i = 0; i < 10; i++) {
+            assertThat(iterator.next()).isNotNull();
+        }
+
+        Predicate first = BUILDER.greaterThan(0, 20);
+        Predicate second = BUILDER.isNotNull(2);
+        iterator.filter(VectorizedPredicate.create(first));
+        assertThat(iterator.next()).isNotNull();
+        iterator.filter(VectorizedPredicate.create(second));
+
+        List<Integer> expected = new ArrayList<>();
+        for (int row : selectByRow(PredicateBuilder.and(first, second), columns)) {
+            if (row >= 10) {
+                expected.add(row);
+            }
+        }
+        // the first selected row has been consumed
+        expected.remove(0);
+
+        List<Integer> actual = new ArrayList<>();
+        InternalRow row;
+        while ((row = iterator.next()) != null) {
+            assertThat(first.test(row) && second.test(row)).isTrue();
+            actual.add(row.getInt(3));
+        }
+        assertThat(actual).isEqualTo(expected);
+
+        // a new batch resets the selection
+        iterator.set(5);
+        for (int i = 0; i < 5; i++) {
+            assertThat(iterator.next().getInt(3)).isEqualTo(i);
+        }
+        assertThat(iterator.next()).isNull();
+    }
+
+    private static int[] selectVectorized(Predicate predicate, ColumnVector[] columns) {
+        int[] selection = new int[NUM_ROWS];
+        for (int i = 0; i < NUM_ROWS; i++) {
+            selection[i] = i;
+        }
+        int size = VectorizedPredicate.create(predicate).select(columns, selection, NUM_ROWS);
+        return Arrays.copyOf(selection, size);
+    }
+
+    private static int[] selectByRow(Predicate predicate, ColumnVector[] columns) {
+        ColumnarRow row = new ColumnarRow(new VectorizedColumnBatch(columns));
+        return IntStream.range(0, NUM_ROWS)
+                .filter(
+                        i -> {
+                            row.setRowId(i);
+                            return predicate.test(row);
+                        })
+                .toArray();
+    }
+
+    private static ColumnVector[] randomColumns(Random random) {
+        HeapIntVector ints = new HeapIntVector(NUM_ROWS);
+        HeapLongVector longs = new HeapLongVector(NUM_ROWS);
+        HeapBytesVector strings = new HeapBytesVector(NUM_ROWS);
+        // the last column holds row ids, it is not referenced by predicates
+        HeapIntVector ids = new HeapIntVector(NUM_ROWS);
+        for (int i = 0; i < NUM_ROWS; i++) {
+            ids.setInt(i, i);
+            if (random.nextInt(10) == 0) {
+                ints.setNullAt(i);
+            } else {
+                ints.setInt(i, random.nextInt(100));
+            }
+            if (random.nextInt(10) == 0) {
+                longs.setNullAt(i);
+            } else {
+                longs.setLong(i, random.nextInt(100));
+            }
+            if (random.nextInt(10) == 0) {
+                strings.setNullAt(i);
+                strings.appendBytes(i, new byte[0], 0, 0);
+            } else {
+                byte[] bytes = String.valueOf(random.nextInt(100)).getBytes(StandardCharsets.UTF_8);
+                strings.appendBytes(i, bytes, 0, bytes.length);
+            }
+        }
+        return new ColumnVector[] {ints, longs, strings, ids};
+    }
+}
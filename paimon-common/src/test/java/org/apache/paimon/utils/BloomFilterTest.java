@@ -0,0 +1,84 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.utils;
+
+import org.apache.paimon.memory.MemorySegment;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/** Test for {@link BloomFilter}. */
+public class BloomFilterTest {
+
+    @Test
+    public void testFalsePositiveProbability() {
+        int num = 100_000;
+        double fpp = 0.05;
+        BloomFilter.Builder builder = BloomFilter.builder(num, fpp);
+
+        Random random = new Random();
+        Set<Integer> hashes = new HashSet<>();
+        while (hashes.size() < num) {
+            hashes.add(random.nextInt());
+        }
+        hashes.forEach(builder::addHash);
+
+        // no false negative
+        for (int hash : hashes) {
+            assertThat(builder.testHash(hash)).isTrue();
+        }
+
+        int falsePositives = 0;
+        int tests = 0;
+        while (tests < num) {
+            int hash = random.nextInt();
+            if (!hashes.contains(hash)) {
+                tests++;
+                if (builder.testHash(hash)) {
+                    falsePositives++;
+                }
+            }
+        }
+        assertThat((double) falsePositives / tests).isLessThan(fpp * 1.5);
+    }
+
+    @Test
+    public void testRestoreFromBytes() {
+        BloomFilter.Builder builder = BloomFilter.builder(100, 0.01);
+        for (int i = 0; i < 100; i++) {
+            builder.addHash(MurmurHashUtils.fmix(i));
+        }
+
+        // restore bloom filter from an offset of another segment
+        MemorySegment buffer = builder.getBuffer();
+        byte[] bytes = new byte[buffer.size() + 10];
+        buffer.get(0, bytes, 10, buffer.size());
+        BloomFilter filter =
+                new BloomFilter(
+                        builder.expectedEntries(), MemorySegment.wrap(bytes), 10, buffer.size());
+        for (int i = 0; i < 100; i++) {
+            assertThat(filter.testHash(MurmurHashUtils.fmix(i))).isTrue();
+        }
+    }
+}
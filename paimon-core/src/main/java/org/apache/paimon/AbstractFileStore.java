@@ -31,6 +31,7 @@ import org.apache.paimon.operation.PartitionExpire;
 import org.apache.paimon.operation.SnapshotDeletion;
 import org.apache.paimon.operation.TagDeletion;
 import org.apache.paimon.options.MemorySize;
+import org.apache.paimon.schema.KeyValueFieldsExtractor;
 import org.apache.paimon.schema.SchemaManager;
 import org.apache.paimon.tag.TagAutoCreation;
 import org.apache.paimon.types.RowType;
@@ -101,12 +102,22 @@ public abstract class AbstractFileStore<T> implements FileStore<T> {
                 fileIO,
                 schemaManager,
                 partitionType,
+                manifestKeyFieldsExtractor(),
                 options.manifestFormat(),
                 pathFactory(),
                 options.manifestTargetSize().getBytes(),
                 forWrite ? writeManifestCache : null);
     }
 
+    /**
+     * Extractor of key fields to collect key stats of manifest files, null if the store has no
+     * keys.
+     */
+    @Nullable
+    protected KeyValueFieldsExtractor manifestKeyFieldsExtractor() {
+        return null;
+    }
+
     @Override
     public ManifestList.Factory manifestListFactory() {
         return manifestListFactory(false);
@@ -26,6 +26,7 @@ import org.apache.paimon.operation.AppendOnlyFileStoreRead;
 import org.apache.paimon.operation.AppendOnlyFileStoreScan;
 import org.apache.paimon.operation.AppendOnlyFileStoreWrite;
 import org.apache.paimon.operation.ScanBucketFilter;
+import org.apache.paimon.operation.SnapshotFilesCache;
 import org.apache.paimon.predicate.Predicate;
 import org.apache.paimon.schema.SchemaManager;
 import org.apache.paimon.table.BucketMode;
@@ -136,7 +137,10 @@ public class AppendOnlyFileStore extends AbstractFileStore<InternalRow> {
                 manifestListFactory(forWrite),
                 options.bucket(),
                 forWrite,
-                options.scanManifestParallelism());
+                options.scanManifestParallelism(),
+                forWrite || !options.scanPlanCacheEnabled()
+                        ? null
+                        : SnapshotFilesCache.of(options.path()));
     }
 
     @Override
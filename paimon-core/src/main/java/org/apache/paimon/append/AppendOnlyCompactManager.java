@@ -98,7 +98,9 @@ public class AppendOnlyCompactManager extends CompactFutureManager {
         }
 
         taskFuture =
-                executor.submit(new FullCompactTask(toCompact, targetFileSize, rewriter, metrics));
+                executor.submit(
+                        new FullCompactTask(toCompact, targetFileSize, rewriter, metrics)
+                                .withPriority(priority()));
         compacting = new ArrayList<>(toCompact);
         toCompact.clear();
     }
@@ -110,10 +112,22 @@ public class AppendOnlyCompactManager extends CompactFutureManager {
         Optional<List<DataFileMeta>> picked = pickCompactBefore();
         if (picked.isPresent()) {
             compacting = picked.get();
-            taskFuture = executor.submit(new AutoCompactTask(compacting, rewriter, metrics));
+            taskFuture =
+                    executor.submit(
+                            new AutoCompactTask(compacting, rewriter, metrics)
+                                    .withPriority(priority()));
         }
     }
 
+    /**
+     * Append-only writers never stall on compaction, the priority only grows with the number of
+     * small files to compact, relative to {@code compaction.max.file-num}.
+     */
+    private double priority() {
+        return (double) (toCompact.size() + (compacting == null ? 0 : compacting.size()))
+                / maxFileNum;
+    }
+
     @Override
     public boolean shouldWaitForLatestCompaction() {
         return false;
@@ -61,7 +61,7 @@ public class AppendOnlyCompactionTask {
     }
 
     public CommitMessage doCompact(AppendOnlyFileStoreWrite write) throws Exception {
-        compactAfter.addAll(write.compactRewriter(partition, 0).rewrite(compactBefore));
+        compactAfter.addAll(write.unawareBucketCompactRewriter(partition).rewrite(compactBefore));
         CompactIncrement compactIncrement =
                 new CompactIncrement(compactBefore, compactAfter, Collections.emptyList());
         return new CommitMessageImpl(
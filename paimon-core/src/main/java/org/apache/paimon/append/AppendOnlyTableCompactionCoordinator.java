@@ -23,11 +23,13 @@ import org.apache.paimon.annotation.VisibleForTesting;
 import org.apache.paimon.data.BinaryRow;
 import org.apache.paimon.io.DataFileMeta;
 import org.apache.paimon.predicate.Predicate;
+import org.apache.paimon.sort.zorder.ZIndexer;
 import org.apache.paimon.table.AppendOnlyFileStoreTable;
 import org.apache.paimon.table.FileStoreTable;
 import org.apache.paimon.table.source.DataSplit;
 import org.apache.paimon.table.source.InnerTableScan;
 import org.apache.paimon.table.source.Split;
+import org.apache.paimon.utils.SortUtil;
 
 import javax.annotation.Nullable;
 
@@ -66,6 +68,9 @@ public class AppendOnlyTableCompactionCoordinator {
     private final int minFileNum;
     private final int maxFileNum;
     private final boolean streamingMode;
+    private final long schemaId;
+    private final int fieldCount;
+    @Nullable private final ZIndexer clusterIndexer;
 
     final Map<BinaryRow, PartitionCompactCoordinator> partitionCompactCoordinators =
             new HashMap<>();
@@ -97,6 +102,16 @@ public class AppendOnlyTableCompactionCoordinator {
         this.compactionFileSize = coreOptions.compactionFileSize();
         this.minFileNum = coreOptions.compactionMinFileNum();
         this.maxFileNum = coreOptions.compactionMaxFileNum();
+        this.schemaId = table.schema().id();
+        this.fieldCount = table.rowType().getFieldCount();
+        List<String> clusterColumns = coreOptions.compactionClusterColumns();
+        if (clusterColumns.isEmpty()) {
+            this.clusterIndexer = null;
+        } else {
+            this.clusterIndexer =
+                    new ZIndexer(table.rowType(), clusterColumns, coreOptions.varTypeSize());
+            clusterIndexer.open();
+        }
     }
 
     public List<AppendOnlyCompactionTask> run() {
@@ -231,10 +246,18 @@ public class AppendOnlyTableCompactionCoordinator {
         }
 
         private List<List<DataFileMeta>> pack() {
-            // we compact smaller files first
-            // step 1, sort files by file size, pick the smaller first
             ArrayList<DataFileMeta> files = new ArrayList<>(toCompact);
-            files.sort(Comparator.comparingLong(DataFileMeta::fileSize));
+            if (clusterIndexer == null) {
+                // we compact smaller files first
+                // step 1, sort files by file size, pick the smaller first
+                files.sort(Comparator.comparingLong(DataFileMeta::fileSize));
+            } else {
+                // step 1, sort files by the z-index of their minimum values, so that files close
+                // to each other are clustered together
+                Map<DataFileMeta, byte[]> indexes = new HashMap<>();
+                files.forEach(file -> indexes.put(file, minIndex(file)));
+                files.sort((f1, f2) -> SortUtil.compareBinary(indexes.get(f1), indexes.get(f2)));
+            }
 
             // step 2, when files picked size greater than targetFileSize(meanwhile file num greater
             // than minFileNum) or file numbers bigger than maxFileNum, we pack it to a compaction
@@ -252,6 +275,15 @@ public class AppendOnlyTableCompactionCoordinator {
             return result;
         }
 
+        private byte[] minIndex(DataFileMeta file) {
+            // statistics of files of older schemas are in different field positions
+            BinaryRow min = file.valueStats().min();
+            if (file.schemaId() != schemaId || min.getFieldCount() != fieldCount) {
+                return new byte[0];
+            }
+            return clusterIndexer.index(min).clone();
+        }
+
         /**
          * A file bin for {@link PartitionCompactCoordinator} determine whether ready to compact.
          */
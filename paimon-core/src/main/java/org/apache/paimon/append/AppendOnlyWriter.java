@@ -51,6 +51,7 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
 
 /**
  * A {@link RecordWriter} implementation that only accepts records which are always insert
@@ -73,6 +74,8 @@ public class AppendOnlyWriter implements RecordWriter<InternalRow>, MemoryOwner
     private final String fileCompression;
     private final SinkWriter sinkWriter;
     private final FieldStatsCollector.Factory[] statsCollectors;
+    private final int asyncCloseFiles;
+    @Nullable private final ExecutorService closeExecutor;
     private final IOManager ioManager;
 
     private WriterMetrics writerMetrics;
@@ -93,6 +96,8 @@ public class AppendOnlyWriter implements RecordWriter<InternalRow>, MemoryOwner
             boolean spillable,
             String fileCompression,
             FieldStatsCollector.Factory[] statsCollectors,
+            int asyncCloseFiles,
+            @Nullable ExecutorService closeExecutor,
             WriterMetrics writerMetrics) {
         this.fileIO = fileIO;
         this.schemaId = schemaId;
@@ -109,6 +114,8 @@ public class AppendOnlyWriter implements RecordWriter<InternalRow>, MemoryOwner
         this.fileCompression = fileCompression;
         this.ioManager = ioManager;
         this.statsCollectors = statsCollectors;
+        this.asyncCloseFiles = asyncCloseFiles;
+        this.closeExecutor = closeExecutor;
 
         this.sinkWriter =
                 useWriteBuffer ? new BufferedSinkWriter(spillable) : new DirectSinkWriter();
@@ -220,7 +227,9 @@ public class AppendOnlyWriter implements RecordWriter<InternalRow>, MemoryOwner
                 pathFactory,
                 seqNumCounter,
                 fileCompression,
-                statsCollectors);
+                statsCollectors,
+                asyncCloseFiles,
+                closeExecutor);
     }
 
     private void trySyncLatestCompaction(boolean blocking)
@@ -0,0 +1,177 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.compact;
+
+import org.apache.paimon.annotation.VisibleForTesting;
+import org.apache.paimon.utils.ExecutorThreadFactory;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.PriorityBlockingQueue;
+import java.util.concurrent.RunnableFuture;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A thread pool to run the {@link CompactTask}s of many buckets, and optionally of all writers in
+ * the process. Pending tasks are ordered by {@link CompactTask#priority()}, so that a bucket which
+ * is about to stall its writer does not wait behind large compactions of other buckets. Tasks of
+ * the same priority run in submission order.
+ *
+ * <p>Running tasks are never preempted, a half-written compaction can not be resumed. Instead, a
+ * pending task can be re-prioritized by {@link #updatePriority} when its bucket gets more urgent,
+ * and a cancelled pending task is removed from the queue immediately.
+ */
+public class CompactExecutor extends ThreadPoolExecutor {
+
+    private static final Map<Integer, CompactExecutor> SHARED_EXECUTORS = new HashMap<>();
+
+    private final AtomicLong sequence = new AtomicLong();
+    private final boolean shared;
+
+    private int references;
+
+    public CompactExecutor(int numThreads, String threadName) {
+        this(numThreads, threadName, false);
+    }
+
+    private CompactExecutor(int numThreads, String threadName, boolean shared) {
+        super(
+                numThreads,
+                numThreads,
+                0L,
+                TimeUnit.MILLISECONDS,
+                new PriorityBlockingQueue<>(),
+                new ExecutorThreadFactory(threadName));
+        this.shared = shared;
+    }
+
+    /**
+     * Returns the executor shared by all writers of the process with the same number of threads.
+     * Each call must be paired with a {@link #release()}.
+     */
+    public static CompactExecutor shared(int numThreads) {
+        synchronized (SHARED_EXECUTORS) {
+            CompactExecutor executor =
+                    SHARED_EXECUTORS.computeIfAbsent(
+                            numThreads,
+                            n -> new CompactExecutor(n, "shared-compaction-" + n, true));
+            executor.references++;
+            return executor;
+        }
+    }
+
+    /**
+     * Releases this executor by a writer. A non-shared executor is shut down immediately, while a
+     * shared executor is shut down when it has been released by all its writers.
+     */
+    public void release() {
+        if (!shared) {
+            shutdownNow();
+            return;
+        }
+
+        synchronized (SHARED_EXECUTORS) {
+            if (--references == 0) {
+                SHARED_EXECUTORS.remove(getCorePoolSize());
+                shutdownNow();
+            }
+        }
+    }
+
+    /** Number of tasks waiting for a free thread. */
+    public int queueDepth() {
+        return getQueue().size();
+    }
+
+    /**
+     * Updates the priority of a pending task.
+     *
+     * @return false if the task is not pending in this executor, for example it is already running
+     */
+    public boolean updatePriority(Future<?> future, double priority) {
+        if (future instanceof PrioritizedTask && getQueue().remove(future)) {
+            PrioritizedTask<?> task = (PrioritizedTask<?>) future;
+            task.priority = priority;
+            getQueue().offer(task);
+            return true;
+        }
+        return false;
+    }
+
+    @VisibleForTesting
+    static int numSharedExecutors() {
+        synchronized (SHARED_EXECUTORS) {
+            return SHARED_EXECUTORS.size();
+        }
+    }
+
+    @Override
+    public void execute(Runnable command) {
+        super.execute(
+                command instanceof PrioritizedTask ? command : newTaskFor(command, (Void) null));
+    }
+
+    @Override
+    protected <T> RunnableFuture<T> newTaskFor(Callable<T> callable) {
+        double priority = callable instanceof CompactTask ? ((CompactTask) callable).priority() : 0;
+        return new PrioritizedTask<>(callable, priority, sequence.getAndIncrement());
+    }
+
+    @Override
+    protected <T> RunnableFuture<T> newTaskFor(Runnable runnable, T value) {
+        return new PrioritizedTask<>(
+                Executors.callable(runnable, value), 0, sequence.getAndIncrement());
+    }
+
+    /** A {@link FutureTask} ordered by priority, and then by submission order. */
+    private class PrioritizedTask<T> extends FutureTask<T>
+            implements Comparable<PrioritizedTask<?>> {
+
+        private final long sequence;
+
+        private volatile double priority;
+
+        private PrioritizedTask(Callable<T> callable, double priority, long sequence) {
+            super(callable);
+            this.priority = priority;
+            this.sequence = sequence;
+        }
+
+        @Override
+        public boolean cancel(boolean mayInterruptIfRunning) {
+            boolean cancelled = super.cancel(mayInterruptIfRunning);
+            if (cancelled) {
+                remove(this);
+            }
+            return cancelled;
+        }
+
+        @Override
+        public int compareTo(PrioritizedTask<?> o) {
+            int cmp = Double.compare(o.priority, priority);
+            return cmp != 0 ? cmp : Long.compare(sequence, o.sequence);
+        }
+    }
+}
@@ -36,14 +36,34 @@ public abstract class CompactTask implements Callable<CompactResult> {
 
     private static final Logger LOG = LoggerFactory.getLogger(CompactTask.class);
     @Nullable private final CompactionMetrics metrics;
+    private final long createMillis;
+
+    private double priority;
 
     public CompactTask(@Nullable CompactionMetrics metrics) {
         this.metrics = metrics;
+        this.createMillis = System.currentTimeMillis();
+    }
+
+    /**
+     * Sets the priority of this task when it is pending in a {@link CompactExecutor}, tasks with
+     * higher priority run first.
+     */
+    public CompactTask withPriority(double priority) {
+        this.priority = priority;
+        return this;
+    }
+
+    public double priority() {
+        return priority;
     }
 
     @Override
     public CompactResult call() throws Exception {
         long startMillis = System.currentTimeMillis();
+        if (metrics != null) {
+            metrics.reportQueueWaitTime(startMillis - createMillis);
+        }
         CompactResult result = null;
         try {
             result = doCompact();
@@ -18,6 +18,8 @@
 
 package org.apache.paimon.compression;
 
+import javax.annotation.Nullable;
+
 /**
  * Each compression codec has an implementation of {@link BlockCompressionFactory} to create
  * compressors and decompressors.
@@ -27,4 +29,17 @@ public interface BlockCompressionFactory {
     BlockCompressor getCompressor();
 
     BlockDecompressor getDecompressor();
+
+    /** Creates {@link BlockCompressionFactory} by compression name, returns null for 'none'. */
+    @Nullable
+    static BlockCompressionFactory create(String compression) {
+        switch (compression.toLowerCase()) {
+            case "none":
+                return null;
+            case "lz4":
+                return new Lz4BlockCompressionFactory();
+            default:
+                throw new IllegalArgumentException("Unsupported block compression: " + compression);
+        }
+    }
 }
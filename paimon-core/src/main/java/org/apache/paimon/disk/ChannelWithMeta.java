@@ -18,6 +18,10 @@
 
 package org.apache.paimon.disk;
 
+import org.apache.paimon.compression.BlockCompressionFactory;
+
+import javax.annotation.Nullable;
+
 /** Channel with block count and numBytesInLastBlock of file. */
 public class ChannelWithMeta {
 
@@ -25,10 +29,22 @@ public class ChannelWithMeta {
     private final int blockCount;
     private final int numBytesInLastBlock;
 
+    // compression of the channel if it differs from the default compression of its reader
+    @Nullable private final BlockCompressionFactory compression;
+
     public ChannelWithMeta(FileIOChannel.ID channel, int blockCount, int numBytesInLastBlock) {
+        this(channel, blockCount, numBytesInLastBlock, null);
+    }
+
+    public ChannelWithMeta(
+            FileIOChannel.ID channel,
+            int blockCount,
+            int numBytesInLastBlock,
+            @Nullable BlockCompressionFactory compression) {
         this.channel = channel;
         this.blockCount = blockCount;
         this.numBytesInLastBlock = numBytesInLastBlock;
+        this.compression = compression;
     }
 
     public FileIOChannel.ID getChannel() {
@@ -42,4 +58,9 @@ public class ChannelWithMeta {
     public int getNumBytesInLastBlock() {
         return numBytesInLastBlock;
     }
+
+    @Nullable
+    public BlockCompressionFactory getCompression() {
+        return compression;
+    }
 }
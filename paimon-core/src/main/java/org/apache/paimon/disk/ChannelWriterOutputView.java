@@ -42,6 +42,7 @@ public final class ChannelWriterOutputView extends AbstractPagedOutputView {
 
     private long numBytes;
     private long numCompressedBytes;
+    private long compressNanos;
 
     public ChannelWriterOutputView(
             BufferFileWriter writer,
@@ -77,8 +78,10 @@ public final class ChannelWriterOutputView extends AbstractPagedOutputView {
     }
 
     private void writeCompressed(MemorySegment current, int size) throws IOException {
+        long start = System.nanoTime();
         int compressedLen =
                 compressor.compress(current.getArray(), 0, size, compressedBuffer.getArray(), 0);
+        compressNanos += System.nanoTime() - start;
         writer.writeBlock(Buffer.create(compressedBuffer, compressedLen));
         blockCount++;
         numBytes += size;
@@ -93,6 +96,11 @@ public final class ChannelWriterOutputView extends AbstractPagedOutputView {
         return numCompressedBytes;
     }
 
+    /** Time spent on compressing the blocks. */
+    public long getCompressNanos() {
+        return compressNanos;
+    }
+
     public int getBlockCount() {
         return blockCount;
     }
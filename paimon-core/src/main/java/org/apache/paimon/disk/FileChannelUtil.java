@@ -37,7 +37,9 @@ public class FileChannelUtil {
                 new ChannelReaderInputView(
                         channel.getChannel(),
                         ioManager,
-                        compressionCodecFactory,
+                        channel.getCompression() == null
+                                ? compressionCodecFactory
+                                : channel.getCompression(),
                         compressionBlockSize,
                         channel.getBlockCount());
         channels.add(in.getChannel());
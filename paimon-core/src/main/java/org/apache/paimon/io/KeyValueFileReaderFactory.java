@@ -39,9 +39,9 @@ import javax.annotation.Nullable;
 
 import java.io.IOException;
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Supplier;
 
 /** Factory to create {@link RecordReader}s for reading {@link KeyValue} files. */
@@ -79,7 +79,7 @@ public class KeyValueFileReaderFactory {
         this.pathFactory = pathFactory;
         this.asyncThreshold = asyncThreshold;
         this.partition = partition;
-        this.bulkFormatMappings = new HashMap<>();
+        this.bulkFormatMappings = new ConcurrentHashMap<>();
     }
 
     public RecordReader<KeyValue> createRecordReader(
@@ -218,6 +218,10 @@ public class KeyValueFileReaderFactory {
             return this;
         }
 
+        public RowType keyType() {
+            return keyType;
+        }
+
         public RowType projectedValueType() {
             return projectedValueType;
         }
@@ -76,6 +76,10 @@ public class KeyValueFileWriterFactory {
         return valueType;
     }
 
+    public long suggestedFileSize() {
+        return suggestedFileSize;
+    }
+
     @VisibleForTesting
     public DataFilePathFactory pathFactory(int level) {
         return formatContext.pathFactory(level);
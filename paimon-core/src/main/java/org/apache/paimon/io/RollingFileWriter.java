@@ -26,9 +26,16 @@ import org.apache.paimon.utils.Preconditions;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import javax.annotation.Nullable;
+
 import java.io.IOException;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Deque;
 import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 import java.util.function.Supplier;
 
 /**
@@ -45,19 +52,44 @@ public class RollingFileWriter<T, R> implements FileWriter<T, List<R>> {
 
     private final Supplier<? extends SingleFileWriter<T, R>> writerFactory;
     private final long targetFileSize;
+    private final int maxClosingFiles;
+    @Nullable private final ExecutorService closeExecutor;
     private final List<AbortExecutor> closedWriters;
     private final List<R> results;
 
+    // rolled files being closed in background, in the order of rolling
+    private final Deque<ClosingFile> closingFiles;
+
     private SingleFileWriter<T, R> currentWriter = null;
     private long recordCount = 0;
     private boolean closed = false;
 
     public RollingFileWriter(
             Supplier<? extends SingleFileWriter<T, R>> writerFactory, long targetFileSize) {
+        this(writerFactory, targetFileSize, 0, null);
+    }
+
+    /**
+     * @param maxClosingFiles the maximum number of rolled files which are closed (flushed and
+     *     uploaded) in background while the next file is being written, 0 to close them
+     *     synchronously. The result of a file must not depend on the files written after it.
+     * @param closeExecutor the executor to close files in background, owned by the caller.
+     */
+    public RollingFileWriter(
+            Supplier<? extends SingleFileWriter<T, R>> writerFactory,
+            long targetFileSize,
+            int maxClosingFiles,
+            @Nullable ExecutorService closeExecutor) {
+        Preconditions.checkArgument(
+                maxClosingFiles == 0 || closeExecutor != null,
+                "Closing files in background requires an executor.");
         this.writerFactory = writerFactory;
         this.targetFileSize = targetFileSize;
+        this.maxClosingFiles = maxClosingFiles;
+        this.closeExecutor = closeExecutor;
         this.results = new ArrayList<>();
         this.closedWriters = new ArrayList<>();
+        this.closingFiles = new ArrayDeque<>();
     }
 
     @VisibleForTesting
@@ -83,7 +115,11 @@ public class RollingFileWriter<T, R> implements FileWriter<T, List<R>> {
             recordCount += 1;
 
             if (rollingFile()) {
-                closeCurrentWriter();
+                if (maxClosingFiles > 0) {
+                    closeCurrentWriterAsync();
+                } else {
+                    closeCurrentWriter();
+                }
             }
         } catch (Throwable e) {
             LOG.warn(
@@ -114,6 +150,42 @@ public class RollingFileWriter<T, R> implements FileWriter<T, List<R>> {
         currentWriter = null;
     }
 
+    private void closeCurrentWriterAsync() throws IOException {
+        // bound the memory held by the files being closed
+        while (closingFiles.size() >= maxClosingFiles) {
+            waitForClosingFile();
+        }
+
+        SingleFileWriter<T, R> writer = currentWriter;
+        closingFiles.add(
+                new ClosingFile(
+                        writer,
+                        closeExecutor.submit(
+                                () -> {
+                                    writer.close();
+                                    return writer.result();
+                                })));
+        currentWriter = null;
+    }
+
+    private void waitForClosingFile() throws IOException {
+        ClosingFile file = closingFiles.poll();
+        R result;
+        try {
+            result = file.future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            file.writer.abort();
+            throw new IOException(e);
+        } catch (ExecutionException e) {
+            file.writer.abort();
+            Throwable cause = e.getCause();
+            throw cause instanceof IOException ? (IOException) cause : new IOException(cause);
+        }
+        closedWriters.add(file.writer.abortExecutor());
+        results.add(result);
+    }
+
     @Override
     public long recordCount() {
         return recordCount;
@@ -124,6 +196,15 @@ public class RollingFileWriter<T, R> implements FileWriter<T, List<R>> {
         if (currentWriter != null) {
             currentWriter.abort();
         }
+        for (ClosingFile file : closingFiles) {
+            try {
+                file.future.get();
+            } catch (Exception ignored) {
+                // the file has been cleaned up by itself if its closing failed
+            }
+            file.writer.abort();
+        }
+        closingFiles.clear();
         for (AbortExecutor abortExecutor : closedWriters) {
             abortExecutor.abort();
         }
@@ -142,10 +223,15 @@ public class RollingFileWriter<T, R> implements FileWriter<T, List<R>> {
         }
 
         try {
+            while (!closingFiles.isEmpty()) {
+                waitForClosingFile();
+            }
             closeCurrentWriter();
         } catch (IOException e) {
             LOG.warn(
-                    "Exception occurs when writing file " + currentWriter.path() + ". Cleaning up.",
+                    "Exception occurs when writing file "
+                            + (currentWriter == null ? null : currentWriter.path())
+                            + ". Cleaning up.",
                     e);
             abort();
             throw e;
@@ -153,4 +239,16 @@ public class RollingFileWriter<T, R> implements FileWriter<T, List<R>> {
             closed = true;
         }
     }
+
+    /** A rolled file being closed in background. */
+    private class ClosingFile {
+
+        private final SingleFileWriter<T, R> writer;
+        private final Future<R> future;
+
+        private ClosingFile(SingleFileWriter<T, R> writer, Future<R> future) {
+            this.writer = writer;
+            this.future = future;
+        }
+    }
 }
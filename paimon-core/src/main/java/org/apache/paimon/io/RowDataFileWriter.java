@@ -45,6 +45,9 @@ public class RowDataFileWriter extends StatsCollectingSingleFileWriter<InternalR
     private final LongCounter seqNumCounter;
     private final FieldStatsArraySerializer statsArraySerializer;
 
+    // captured when writing, the result may be created after the next file starts writing
+    private long maxSequenceNumber;
+
     public RowDataFileWriter(
             FileIO fileIO,
             FormatWriterFactory factory,
@@ -67,12 +70,14 @@ public class RowDataFileWriter extends StatsCollectingSingleFileWriter<InternalR
         this.schemaId = schemaId;
         this.seqNumCounter = seqNumCounter;
         this.statsArraySerializer = new FieldStatsArraySerializer(writeSchema);
+        this.maxSequenceNumber = seqNumCounter.getValue() - 1;
     }
 
     @Override
     public void write(InternalRow row) throws IOException {
         super.write(row);
         seqNumCounter.add(1L);
+        maxSequenceNumber = seqNumCounter.getValue() - 1;
     }
 
     @Override
@@ -83,8 +88,8 @@ public class RowDataFileWriter extends StatsCollectingSingleFileWriter<InternalR
                 fileIO.getFileSize(path),
                 recordCount(),
                 stats,
-                seqNumCounter.getValue() - super.recordCount(),
-                seqNumCounter.getValue() - 1,
+                maxSequenceNumber - super.recordCount() + 1,
+                maxSequenceNumber,
                 schemaId);
     }
 }
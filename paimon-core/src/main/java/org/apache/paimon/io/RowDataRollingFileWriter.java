@@ -26,6 +26,10 @@ import org.apache.paimon.statistics.FieldStatsCollector;
 import org.apache.paimon.types.RowType;
 import org.apache.paimon.utils.LongCounter;
 
+import javax.annotation.Nullable;
+
+import java.util.concurrent.ExecutorService;
+
 /** {@link RollingFileWriter} for data files containing {@link InternalRow}. */
 public class RowDataRollingFileWriter extends RollingFileWriter<InternalRow, DataFileMeta> {
 
@@ -39,6 +43,32 @@ public class RowDataRollingFileWriter extends RollingFileWriter<InternalRow, Dat
             LongCounter seqNumCounter,
             String fileCompression,
             FieldStatsCollector.Factory[] statsCollectors) {
+        this(
+                fileIO,
+                schemaId,
+                fileFormat,
+                targetFileSize,
+                writeSchema,
+                pathFactory,
+                seqNumCounter,
+                fileCompression,
+                statsCollectors,
+                0,
+                null);
+    }
+
+    public RowDataRollingFileWriter(
+            FileIO fileIO,
+            long schemaId,
+            FileFormat fileFormat,
+            long targetFileSize,
+            RowType writeSchema,
+            DataFilePathFactory pathFactory,
+            LongCounter seqNumCounter,
+            String fileCompression,
+            FieldStatsCollector.Factory[] statsCollectors,
+            int maxClosingFiles,
+            @Nullable ExecutorService closeExecutor) {
         super(
                 () ->
                         new RowDataFileWriter(
@@ -53,6 +83,8 @@ public class RowDataRollingFileWriter extends RollingFileWriter<InternalRow, Dat
                                 seqNumCounter,
                                 fileCompression,
                                 statsCollectors),
-                targetFileSize);
+                targetFileSize,
+                maxClosingFiles,
+                closeExecutor);
     }
 }
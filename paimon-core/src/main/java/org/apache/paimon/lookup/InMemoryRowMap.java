@@ -0,0 +1,313 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.lookup;
+
+import org.apache.paimon.data.BinaryRow;
+import org.apache.paimon.data.InternalRow;
+import org.apache.paimon.data.serializer.InternalRowSerializer;
+import org.apache.paimon.types.DataTypeRoot;
+import org.apache.paimon.types.RowKind;
+import org.apache.paimon.types.RowType;
+
+import javax.annotation.Nullable;
+
+import static org.apache.paimon.utils.Preconditions.checkArgument;
+
+/**
+ * An in-memory map from key rows to value rows for small lookup tables, which avoids the
+ * serialization and the JNI calls of {@link RocksDBValueState}. The values are held as {@link
+ * BinaryRow}s in an open addressing hash table with linear probing, keys of a single INT or BIGINT
+ * field are held in a primitive array, other keys are held as {@link BinaryRow}s.
+ *
+ * <p>This class is not thread-safe.
+ */
+public abstract class InMemoryRowMap {
+
+    private static final int INITIAL_CAPACITY = 64;
+
+    protected final InternalRowSerializer valueSerializer;
+
+    protected BinaryRow[] values;
+    protected int mask;
+    protected int size;
+
+    private InMemoryRowMap(RowType valueType) {
+        this.valueSerializer = new InternalRowSerializer(valueType);
+        this.values = new BinaryRow[INITIAL_CAPACITY];
+        this.mask = INITIAL_CAPACITY - 1;
+    }
+
+    public static InMemoryRowMap create(RowType keyType, RowType valueType) {
+        if (keyType.getFieldCount() == 1) {
+            DataTypeRoot root = keyType.getTypeAt(0).getTypeRoot();
+            if (root == DataTypeRoot.INTEGER || root == DataTypeRoot.BIGINT) {
+                return new LongKeyRowMap(root == DataTypeRoot.INTEGER, valueType);
+            }
+        }
+        return new BinaryKeyRowMap(keyType, valueType);
+    }
+
+    /** Returns the value of the key, the returned row is shared and should not be modified. */
+    @Nullable
+    public abstract BinaryRow get(InternalRow key);
+
+    public abstract void put(InternalRow key, InternalRow value);
+
+    public abstract void delete(InternalRow key);
+
+    public int size() {
+        return size;
+    }
+
+    protected BinaryRow copyValue(InternalRow value) {
+        return valueSerializer.toBinaryRow(value).copy();
+    }
+
+    /** Keep the load factor no more than 0.5, so that the probe sequences stay short. */
+    protected boolean needGrow() {
+        return (size + 1) * 2 > values.length;
+    }
+
+    protected static int mix(long key) {
+        long h = key * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32));
+    }
+
+    // ------------------------------------------------------------------------------------------
+
+    /** A {@link InMemoryRowMap} whose key is a single INT or BIGINT field. */
+    private static class LongKeyRowMap extends InMemoryRowMap {
+
+        private final boolean intKey;
+
+        private long[] keys;
+
+        private LongKeyRowMap(boolean intKey, RowType valueType) {
+            super(valueType);
+            this.intKey = intKey;
+            this.keys = new long[values.length];
+        }
+
+        @Nullable
+        @Override
+        public BinaryRow get(InternalRow key) {
+            if (key.isNullAt(0)) {
+                return null;
+            }
+            int slot = find(toLong(key));
+            return slot < 0 ? null : values[slot];
+        }
+
+        @Override
+        public void put(InternalRow key, InternalRow value) {
+            checkArgument(!key.isNullAt(0), "Key should not be null.");
+            long k = toLong(key);
+            int slot = find(k);
+            if (slot >= 0) {
+                values[slot] = copyValue(value);
+                return;
+            }
+
+            if (needGrow()) {
+                grow();
+            }
+            insert(k, copyValue(value));
+            size++;
+        }
+
+        @Override
+        public void delete(InternalRow key) {
+            if (key.isNullAt(0)) {
+                return;
+            }
+            int hole = find(toLong(key));
+            if (hole < 0) {
+                return;
+            }
+
+            // shift the following entries back, so that no tombstone is needed
+            values[hole] = null;
+            size--;
+            int next = (hole + 1) & mask;
+            while (values[next] != null) {
+                int ideal = mix(keys[next]) & mask;
+                if (((next - ideal) & mask) >= ((next - hole) & mask)) {
+                    keys[hole] = keys[next];
+                    values[hole] = values[next];
+                    values[next] = null;
+                    hole = next;
+                }
+                next = (next + 1) & mask;
+            }
+        }
+
+        private long toLong(InternalRow key) {
+            return intKey ? key.getInt(0) : key.getLong(0);
+        }
+
+        private int find(long key) {
+            int slot = mix(key) & mask;
+            while (values[slot] != null) {
+                if (keys[slot] == key) {
+                    return slot;
+                }
+                slot = (slot + 1) & mask;
+            }
+            return -1;
+        }
+
+        private void insert(long key, BinaryRow value) {
+            int slot = mix(key) & mask;
+            while (values[slot] != null) {
+                slot = (slot + 1) & mask;
+            }
+            keys[slot] = key;
+            values[slot] = value;
+        }
+
+        private void grow() {
+            long[] oldKeys = keys;
+            BinaryRow[] oldValues = values;
+            int capacity = oldValues.length * 2;
+            this.keys = new long[capacity];
+            this.values = new BinaryRow[capacity];
+            this.mask = capacity - 1;
+            for (int i = 0; i < oldValues.length; i++) {
+                if (oldValues[i] != null) {
+                    insert(oldKeys[i], oldValues[i]);
+                }
+            }
+        }
+    }
+
+    /** A {@link InMemoryRowMap} whose key is compared by the bytes of {@link BinaryRow}. */
+    private static class BinaryKeyRowMap extends InMemoryRowMap {
+
+        private final InternalRowSerializer keySerializer;
+
+        private BinaryRow[] keys;
+        private int[] hashes;
+
+        private BinaryKeyRowMap(RowType keyType, RowType valueType) {
+            super(valueType);
+            this.keySerializer = new InternalRowSerializer(keyType);
+            this.keys = new BinaryRow[values.length];
+            this.hashes = new int[values.length];
+        }
+
+        @Nullable
+        @Override
+        public BinaryRow get(InternalRow key) {
+            int slot = find(toBinaryKey(key));
+            return slot < 0 ? null : values[slot];
+        }
+
+        @Override
+        public void put(InternalRow key, InternalRow value) {
+            BinaryRow binaryKey = toBinaryKey(key);
+            int slot = find(binaryKey);
+            if (slot >= 0) {
+                values[slot] = copyValue(value);
+                return;
+            }
+
+            if (needGrow()) {
+                grow();
+            }
+            insert(binaryKey.copy(), binaryKey.hashCode(), copyValue(value));
+            size++;
+        }
+
+        @Override
+        public void delete(InternalRow key) {
+            int hole = find(toBinaryKey(key));
+            if (hole < 0) {
+                return;
+            }
+
+            // shift the following entries back, so that no tombstone is needed
+            keys[hole] = null;
+            values[hole] = null;
+            size--;
+            int next = (hole + 1) & mask;
+            while (values[next] != null) {
+                int ideal = mix(hashes[next]) & mask;
+                if (((next - ideal) & mask) >= ((next - hole) & mask)) {
+                    keys[hole] = keys[next];
+                    hashes[hole] = hashes[next];
+                    values[hole] = values[next];
+                    keys[next] = null;
+                    values[next] = null;
+                    hole = next;
+                }
+                next = (next + 1) & mask;
+            }
+        }
+
+        /** The row kind is a part of the bytes, keys are always compared as INSERT. */
+        private BinaryRow toBinaryKey(InternalRow key) {
+            BinaryRow binaryKey = keySerializer.toBinaryRow(key);
+            if (binaryKey.getRowKind() != RowKind.INSERT) {
+                if (binaryKey == key) {
+                    binaryKey = binaryKey.copy();
+                }
+                binaryKey.setRowKind(RowKind.INSERT);
+            }
+            return binaryKey;
+        }
+
+        private int find(BinaryRow key) {
+            int hash = key.hashCode();
+            int slot = mix(hash) & mask;
+            while (values[slot] != null) {
+                if (hashes[slot] == hash && keys[slot].equals(key)) {
+                    return slot;
+                }
+                slot = (slot + 1) & mask;
+            }
+            return -1;
+        }
+
+        private void insert(BinaryRow key, int hash, BinaryRow value) {
+            int slot = mix(hash) & mask;
+            while (values[slot] != null) {
+                slot = (slot + 1) & mask;
+            }
+            keys[slot] = key;
+            hashes[slot] = hash;
+            values[slot] = value;
+        }
+
+        private void grow() {
+            BinaryRow[] oldKeys = keys;
+            int[] oldHashes = hashes;
+            BinaryRow[] oldValues = values;
+            int capacity = oldValues.length * 2;
+            this.keys = new BinaryRow[capacity];
+            this.hashes = new int[capacity];
+            this.values = new BinaryRow[capacity];
+            this.mask = capacity - 1;
+            for (int i = 0; i < oldValues.length; i++) {
+                if (oldValues[i] != null) {
+                    insert(oldKeys[i], oldHashes[i], oldValues[i]);
+                }
+            }
+        }
+    }
+}
@@ -63,6 +63,37 @@ public class RocksDBOptions {
                     .withDescription(
                             "The discovery interval of lookup continuous reading. This is used as an SQL hint. If it's not configured, the lookup function will fallback to 'continuous.discovery-interval'.");
 
+    public static final ConfigOption<Boolean> LOOKUP_REMOTE_FILE_ENABLED =
+            key("lookup.remote-file.enabled")
+                    .booleanType()
+                    .defaultValue(false)
+                    .withDescription(
+                            "Whether to look up the keys directly from the data files of the buckets level by level "
+                                    + "instead of loading the whole table into local RocksDB. The data files are built into "
+                                    + "local lookup files on demand, bounded by 'lookup.cache-max-disk-size'. This only works "
+                                    + "for fixed bucket primary key tables with deduplicate merge engine when the join key "
+                                    + "is the primary key, otherwise the whole table is loaded.");
+
+    public static final ConfigOption<Long> LOOKUP_IN_MEMORY_MAX_ROWS =
+            key("lookup.in-memory.max-rows")
+                    .longType()
+                    .defaultValue(100_000L)
+                    .withDescription(
+                            "When the join key is the primary key and the latest snapshot of the lookup table has "
+                                    + "no more rows than this, the lookup table is held in memory instead of RocksDB. "
+                                    + "It falls back to RocksDB once the table grows over this. Set it to 0 to always "
+                                    + "use RocksDB.");
+
+    public static final ConfigOption<Boolean> LOOKUP_REFRESH_ASYNC =
+            key("lookup.refresh.async")
+                    .booleanType()
+                    .defaultValue(false)
+                    .withDescription(
+                            "Whether to refresh the lookup table in a background thread. The changes are read and "
+                                    + "serialized in background and applied in small batches, so that lookups are not "
+                                    + "blocked while reading the changes, but a lookup may see part of the changes of "
+                                    + "a snapshot being applied.");
+
     // --------------------------------------------------------------------------
     // Provided configurable DBOptions within Flink
     // --------------------------------------------------------------------------
@@ -26,6 +26,10 @@ import org.rocksdb.RocksDB;
 import javax.annotation.Nullable;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
 
 import static org.apache.paimon.utils.Preconditions.checkArgument;
 
@@ -51,6 +55,46 @@ public class RocksDBValueState<K, V> extends RocksDBState<K, V, RocksDBState.Ref
         }
     }
 
+    /**
+     * Returns the values of the keys in the same order, null if a key does not exist. The keys
+     * missing in the cache are read from RocksDB with one multi-get.
+     */
+    public List<V> getAll(List<K> keys) throws IOException {
+        try {
+            List<V> values = new ArrayList<>(keys.size());
+            List<ByteArray> missedKeys = new ArrayList<>();
+            List<Integer> missedIndexes = new ArrayList<>();
+            for (int i = 0; i < keys.size(); i++) {
+                ByteArray keyBytes = wrap(serializeKey(keys.get(i)));
+                Reference valueRef = cache.getIfPresent(keyBytes);
+                if (valueRef == null) {
+                    missedKeys.add(keyBytes);
+                    missedIndexes.add(i);
+                    values.add(null);
+                } else {
+                    values.add(valueRef.isPresent() ? deserializeValue(valueRef.bytes) : null);
+                }
+            }
+
+            if (!missedKeys.isEmpty()) {
+                List<byte[]> missedValues =
+                        db.multiGetAsList(
+                                Collections.nCopies(missedKeys.size(), columnFamily),
+                                missedKeys.stream().map(k -> k.bytes).collect(Collectors.toList()));
+                for (int i = 0; i < missedKeys.size(); i++) {
+                    Reference valueRef = ref(missedValues.get(i));
+                    cache.put(missedKeys.get(i), valueRef);
+                    if (valueRef.isPresent()) {
+                        values.set(missedIndexes.get(i), deserializeValue(valueRef.bytes));
+                    }
+                }
+            }
+            return values;
+        } catch (Exception e) {
+            throw new IOException(e);
+        }
+    }
+
     private Reference get(ByteArray keyBytes) throws Exception {
         Reference valueRef = cache.getIfPresent(keyBytes);
         if (valueRef == null) {
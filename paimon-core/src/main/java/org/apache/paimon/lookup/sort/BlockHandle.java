@@ -0,0 +1,70 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.lookup.sort;
+
+import org.apache.paimon.io.DataInputDeserializer;
+import org.apache.paimon.io.DataOutputSerializer;
+import org.apache.paimon.utils.VarLengthIntUtils;
+
+import java.io.IOException;
+
+/**
+ * Handle to a block in a sort lookup file, the {@code size} is the size on disk including the
+ * trailing compression flag byte.
+ */
+class BlockHandle {
+
+    private final long offset;
+    private final int size;
+    private final int uncompressedSize;
+
+    BlockHandle(long offset, int size, int uncompressedSize) {
+        this.offset = offset;
+        this.size = size;
+        this.uncompressedSize = uncompressedSize;
+    }
+
+    long offset() {
+        return offset;
+    }
+
+    int size() {
+        return size;
+    }
+
+    int uncompressedSize() {
+        return uncompressedSize;
+    }
+
+    byte[] toBytes() throws IOException {
+        DataOutputSerializer out = new DataOutputSerializer(16);
+        VarLengthIntUtils.encodeLong(out, offset);
+        VarLengthIntUtils.encodeInt(out, size);
+        VarLengthIntUtils.encodeInt(out, uncompressedSize);
+        return out.getCopyOfBuffer();
+    }
+
+    static BlockHandle fromBytes(byte[] bytes) throws IOException {
+        DataInputDeserializer in = new DataInputDeserializer(bytes);
+        return new BlockHandle(
+                VarLengthIntUtils.decodeLong(in),
+                VarLengthIntUtils.decodeInt(in),
+                VarLengthIntUtils.decodeInt(in));
+    }
+}
@@ -0,0 +1,118 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.lookup.sort;
+
+import org.apache.paimon.io.DataInputDeserializer;
+import org.apache.paimon.utils.VarLengthIntUtils;
+
+import java.io.IOException;
+import java.util.Comparator;
+
+/** Reader of a block written by {@link BlockWriter}, it can seek to a key by binary search. */
+class BlockReader {
+
+    private final byte[] data;
+    private final int restartsOffset;
+    private final int restartCount;
+    private final Comparator<byte[]> comparator;
+    private final DataInputDeserializer input;
+
+    private byte[] key;
+    private int valueOffset;
+    private int valueLength;
+
+    BlockReader(byte[] data, int length, Comparator<byte[]> comparator) {
+        this.data = data;
+        this.comparator = comparator;
+        this.input = new DataInputDeserializer();
+        input.setBuffer(data, length - Integer.BYTES, Integer.BYTES);
+        try {
+            this.restartCount = input.readInt();
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+        this.restartsOffset = length - (restartCount + 1) * Integer.BYTES;
+    }
+
+    /**
+     * Seek to the first entry whose key is greater than or equal to the target key.
+     *
+     * @return false if all keys in this block are smaller than the target key.
+     */
+    boolean seekTo(byte[] target) throws IOException {
+        // binary search for the last restart point whose key is smaller than the target
+        int low = 0;
+        int high = restartCount - 1;
+        while (low < high) {
+            int mid = (low + high + 1) >>> 1;
+            seekToRestartPoint(mid);
+            readEntry();
+            if (comparator.compare(key, target) < 0) {
+                low = mid;
+            } else {
+                high = mid - 1;
+            }
+        }
+
+        // linear scan in the restart interval, may continue to the next intervals
+        seekToRestartPoint(low);
+        while (input.getPosition() < restartsOffset) {
+            readEntry();
+            if (comparator.compare(key, target) >= 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /** Key of the entry positioned by {@link #seekTo}. */
+    byte[] key() {
+        return key;
+    }
+
+    /** Value of the entry positioned by {@link #seekTo}. */
+    byte[] value() {
+        byte[] value = new byte[valueLength];
+        System.arraycopy(data, valueOffset, value, 0, valueLength);
+        return value;
+    }
+
+    private void seekToRestartPoint(int index) throws IOException {
+        input.setBuffer(data, restartsOffset + index * Integer.BYTES, Integer.BYTES);
+        int position = input.readInt();
+        input.setBuffer(data, position, restartsOffset - position);
+        key = null;
+    }
+
+    private void readEntry() throws IOException {
+        int shared = VarLengthIntUtils.decodeInt(input);
+        int nonShared = VarLengthIntUtils.decodeInt(input);
+        valueLength = VarLengthIntUtils.decodeInt(input);
+
+        byte[] newKey = new byte[shared + nonShared];
+        if (shared > 0) {
+            System.arraycopy(key, 0, newKey, 0, shared);
+        }
+        input.readFully(newKey, shared, nonShared);
+        key = newKey;
+
+        valueOffset = input.getPosition();
+        input.skipBytesToRead(valueLength);
+    }
+}
@@ -0,0 +1,118 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.lookup.sort;
+
+import org.apache.paimon.io.DataOutputSerializer;
+import org.apache.paimon.utils.VarLengthIntUtils;
+
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * Writer to build a block of sorted entries, the keys are prefix compressed against the previous
+ * key in the block, and a full key is stored every {@code restartInterval} entries (a restart
+ * point) so that the block can be binary searched.
+ *
+ * <p>Entry layout: shared key length (var int), non-shared key length (var int), value length (var
+ * int), non-shared key bytes, value bytes. The block ends with the offsets of all restart points
+ * and the number of restart points.
+ */
+class BlockWriter {
+
+    private final int restartInterval;
+    private final DataOutputSerializer block;
+
+    private int[] restartPositions;
+    private int restartCount;
+    private int entryCount;
+    private byte[] lastKey;
+    private int lastKeyLength;
+
+    BlockWriter(int blockSize, int restartInterval) {
+        this.restartInterval = restartInterval;
+        this.block = new DataOutputSerializer(blockSize);
+        this.restartPositions = new int[32];
+        this.lastKey = new byte[32];
+        reset();
+    }
+
+    void add(byte[] key, int keyLength, byte[] value, int valueLength) throws IOException {
+        int shared = 0;
+        if (entryCount % restartInterval == 0) {
+            if (restartCount == restartPositions.length) {
+                restartPositions = Arrays.copyOf(restartPositions, restartCount * 2);
+            }
+            restartPositions[restartCount++] = block.length();
+        } else {
+            int limit = Math.min(lastKeyLength, keyLength);
+            while (shared < limit && lastKey[shared] == key[shared]) {
+                shared++;
+            }
+        }
+
+        int nonShared = keyLength - shared;
+        VarLengthIntUtils.encodeInt(block, shared);
+        VarLengthIntUtils.encodeInt(block, nonShared);
+        VarLengthIntUtils.encodeInt(block, valueLength);
+        block.write(key, shared, nonShared);
+        block.write(value, 0, valueLength);
+
+        // copy the key, the key buffer may be reused by the caller
+        if (lastKey.length < keyLength) {
+            lastKey = Arrays.copyOf(lastKey, Math.max(keyLength, lastKey.length * 2));
+        }
+        System.arraycopy(key, shared, lastKey, shared, nonShared);
+        lastKeyLength = keyLength;
+        entryCount++;
+    }
+
+    boolean isEmpty() {
+        return entryCount == 0;
+    }
+
+    byte[] lastKey() {
+        return Arrays.copyOf(lastKey, lastKeyLength);
+    }
+
+    /** Current size of the block, including the restart points. */
+    int memory() {
+        return block.length() + (restartCount + 1) * Integer.BYTES;
+    }
+
+    /** Finish the block, the returned bytes are only valid until the next {@link #add}. */
+    byte[] finish() throws IOException {
+        for (int i = 0; i < restartCount; i++) {
+            block.writeInt(restartPositions[i]);
+        }
+        block.writeInt(restartCount);
+        return block.getSharedBuffer();
+    }
+
+    /** Length of the finished block in {@link #finish()} bytes. */
+    int length() {
+        return block.length();
+    }
+
+    void reset() {
+        block.clear();
+        restartCount = 0;
+        entryCount = 0;
+        lastKeyLength = 0;
+    }
+}
@@ -0,0 +1,195 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.lookup.sort;
+
+import org.apache.paimon.compression.BlockCompressionFactory;
+import org.apache.paimon.compression.BlockDecompressor;
+import org.apache.paimon.io.cache.CacheManager;
+import org.apache.paimon.io.cache.CachedRandomInputView;
+import org.apache.paimon.lookup.LookupStoreReader;
+import org.apache.paimon.lookup.LookupStoreStats;
+import org.apache.paimon.memory.MemorySegment;
+import org.apache.paimon.utils.BloomFilter;
+import org.apache.paimon.utils.MurmurHashUtils;
+
+import javax.annotation.Nullable;
+
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.util.Comparator;
+
+import static org.apache.paimon.lookup.sort.SortLookupStoreWriter.COMPRESSED;
+import static org.apache.paimon.lookup.sort.SortLookupStoreWriter.FOOTER_LENGTH;
+import static org.apache.paimon.lookup.sort.SortLookupStoreWriter.MAGIC_NUMBER;
+
+/**
+ * Reader of the sort lookup file written by {@link SortLookupStoreWriter}. The index block and the
+ * bloom filter are kept in memory, data blocks are read through the {@link CacheManager}.
+ */
+public class SortLookupStoreReader implements LookupStoreReader {
+
+    private final Comparator<byte[]> comparator;
+    private final LookupStoreStats stats;
+    @Nullable private final BlockDecompressor decompressor;
+
+    private final int recordCount;
+    private final BlockReader indexBlock;
+    @Nullable private final BloomFilter bloomFilter;
+
+    private CachedRandomInputView inputView;
+    private byte[] readBuffer;
+    private byte[] uncompressedBuffer;
+
+    SortLookupStoreReader(
+            Comparator<byte[]> comparator,
+            CacheManager cacheManager,
+            File file,
+            @Nullable BlockCompressionFactory compressionFactory,
+            LookupStoreStats stats)
+            throws IOException {
+        if (!file.exists()) {
+            throw new FileNotFoundException("File " + file.getAbsolutePath() + " not found");
+        }
+        this.comparator = comparator;
+        this.stats = stats;
+        this.decompressor =
+                compressionFactory == null ? null : compressionFactory.getDecompressor();
+        this.readBuffer = new byte[0];
+        this.uncompressedBuffer = new byte[0];
+
+        try (RandomAccessFile accessFile = new RandomAccessFile(file, "r")) {
+            long fileLength = accessFile.length();
+            if (fileLength < FOOTER_LENGTH) {
+                throw new IOException("File " + file + " is too small to be a sort lookup file.");
+            }
+            accessFile.seek(fileLength - FOOTER_LENGTH);
+            long bloomFilterExpectedEntries = accessFile.readLong();
+            long bloomFilterOffset = accessFile.readLong();
+            int bloomFilterLength = accessFile.readInt();
+            BlockHandle indexHandle =
+                    new BlockHandle(
+                            accessFile.readLong(), accessFile.readInt(), accessFile.readInt());
+            this.recordCount = accessFile.readInt();
+            int magic = accessFile.readInt();
+            if (magic != MAGIC_NUMBER) {
+                throw new IOException("File " + file + " is not a sort lookup file.");
+            }
+
+            byte[] indexBytes = new byte[indexHandle.size()];
+            accessFile.seek(indexHandle.offset());
+            accessFile.readFully(indexBytes);
+            if (isCompressed(indexBytes, indexHandle)) {
+                byte[] compressed = indexBytes;
+                indexBytes = new byte[indexHandle.uncompressedSize()];
+                decompress(compressed, indexHandle, indexBytes);
+            }
+            this.indexBlock =
+                    new BlockReader(indexBytes, indexHandle.uncompressedSize(), comparator);
+
+            if (bloomFilterLength > 0) {
+                byte[] bloomFilterBytes = new byte[bloomFilterLength];
+                accessFile.seek(bloomFilterOffset);
+                accessFile.readFully(bloomFilterBytes);
+                this.bloomFilter =
+                        new BloomFilter(
+                                bloomFilterExpectedEntries,
+                                MemorySegment.wrap(bloomFilterBytes),
+                                0,
+                                bloomFilterLength);
+            } else {
+                this.bloomFilter = null;
+            }
+        }
+
+        this.inputView = new CachedRandomInputView(file, cacheManager);
+    }
+
+    @Nullable
+    @Override
+    public byte[] lookup(byte[] key) throws IOException {
+        if (recordCount == 0) {
+            return null;
+        }
+
+        if (bloomFilter == null) {
+            return lookupBlocks(key);
+        }
+
+        if (!bloomFilter.testHash(MurmurHashUtils.hashBytes(key))) {
+            stats.incBloomFilterSkipped();
+            return null;
+        }
+        stats.incBloomFilterPassed();
+        byte[] value = lookupBlocks(key);
+        if (value == null) {
+            stats.incBloomFilterFalsePositive();
+        }
+        return value;
+    }
+
+    @Nullable
+    private byte[] lookupBlocks(byte[] key) throws IOException {
+        if (!indexBlock.seekTo(key)) {
+            return null;
+        }
+
+        BlockReader dataBlock = readDataBlock(BlockHandle.fromBytes(indexBlock.value()));
+        if (dataBlock.seekTo(key) && comparator.compare(dataBlock.key(), key) == 0) {
+            return dataBlock.value();
+        }
+        return null;
+    }
+
+    private BlockReader readDataBlock(BlockHandle handle) throws IOException {
+        if (readBuffer.length < handle.size()) {
+            readBuffer = new byte[handle.size()];
+        }
+        inputView.setReadPosition(handle.offset());
+        inputView.readFully(readBuffer, 0, handle.size());
+
+        byte[] block = readBuffer;
+        if (isCompressed(readBuffer, handle)) {
+            if (uncompressedBuffer.length < handle.uncompressedSize()) {
+                uncompressedBuffer = new byte[handle.uncompressedSize()];
+            }
+            decompress(readBuffer, handle, uncompressedBuffer);
+            block = uncompressedBuffer;
+        }
+        return new BlockReader(block, handle.uncompressedSize(), comparator);
+    }
+
+    private static boolean isCompressed(byte[] bytes, BlockHandle handle) {
+        return bytes[handle.size() - 1] == COMPRESSED;
+    }
+
+    private void decompress(byte[] bytes, BlockHandle handle, byte[] target) throws IOException {
+        if (decompressor == null) {
+            throw new IOException("Block is compressed, but no decompressor is configured.");
+        }
+        decompressor.decompress(bytes, 0, handle.size() - 1, target, 0);
+    }
+
+    @Override
+    public void close() throws IOException {
+        inputView.close();
+        inputView = null;
+    }
+}
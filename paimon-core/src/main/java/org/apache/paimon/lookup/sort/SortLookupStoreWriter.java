@@ -0,0 +1,186 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.lookup.sort;
+
+import org.apache.paimon.compression.BlockCompressionFactory;
+import org.apache.paimon.compression.BlockCompressor;
+import org.apache.paimon.lookup.LookupStoreWriter;
+import org.apache.paimon.memory.MemorySegment;
+import org.apache.paimon.utils.BloomFilter;
+import org.apache.paimon.utils.MurmurHashUtils;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.annotation.Nullable;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+
+/**
+ * Writer of the sort lookup file, the records must be put in the order of the comparator used to
+ * read the file.
+ *
+ * <p>File layout: data blocks, index block (last key of each data block to its {@link
+ * BlockHandle}), bloom filter bytes and a fixed size footer. Each block is followed by one byte to
+ * indicate whether it is compressed.
+ */
+public class SortLookupStoreWriter implements LookupStoreWriter {
+
+    private static final Logger LOG = LoggerFactory.getLogger(SortLookupStoreWriter.class);
+
+    static final int MAGIC_NUMBER = 0x50534C46;
+    static final int FOOTER_LENGTH = 44;
+    static final byte UNCOMPRESSED = 0;
+    static final byte COMPRESSED = 1;
+    static final int RESTART_INTERVAL = 16;
+
+    private final File file;
+    private final DataOutputStream output;
+    private final int blockSize;
+    @Nullable private final BlockCompressor compressor;
+    @Nullable private final BloomFilter.Builder bloomFilter;
+
+    private final BlockWriter dataBlockWriter;
+    private final BlockWriter indexBlockWriter;
+
+    private byte[] compressedBuffer;
+    private long position;
+    private int recordCount;
+    private int blockCount;
+
+    SortLookupStoreWriter(
+            File file,
+            int blockSize,
+            @Nullable BlockCompressionFactory compressionFactory,
+            @Nullable BloomFilter.Builder bloomFilter)
+            throws IOException {
+        this.file = file;
+        this.output = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(file)));
+        this.blockSize = blockSize;
+        this.compressor = compressionFactory == null ? null : compressionFactory.getCompressor();
+        this.bloomFilter = bloomFilter;
+        this.dataBlockWriter = new BlockWriter(blockSize, RESTART_INTERVAL);
+        this.indexBlockWriter = new BlockWriter(blockSize, 1);
+        this.compressedBuffer = new byte[0];
+    }
+
+    @Override
+    public void put(byte[] key, byte[] value) throws IOException {
+        put(key, key.length, value, value.length);
+    }
+
+    @Override
+    public void put(byte[] key, int keyLength, byte[] value, int valueLength) throws IOException {
+        if (bloomFilter != null) {
+            bloomFilter.addHash(MurmurHashUtils.hashBytes(key, 0, keyLength));
+        }
+
+        dataBlockWriter.add(key, keyLength, value, valueLength);
+        recordCount++;
+        if (dataBlockWriter.memory() >= blockSize) {
+            flushDataBlock();
+        }
+    }
+
+    private void flushDataBlock() throws IOException {
+        if (dataBlockWriter.isEmpty()) {
+            return;
+        }
+
+        byte[] lastKey = dataBlockWriter.lastKey();
+        BlockHandle handle = writeBlock(dataBlockWriter);
+        byte[] handleBytes = handle.toBytes();
+        indexBlockWriter.add(lastKey, lastKey.length, handleBytes, handleBytes.length);
+        blockCount++;
+    }
+
+    private BlockHandle writeBlock(BlockWriter writer) throws IOException {
+        byte[] block = writer.finish();
+        int length = writer.length();
+        long offset = position;
+
+        int compressedSize = compressor == null ? -1 : compressBlock(block, length);
+        int size =
+                compressedSize > 0
+                        ? writeBytes(compressedBuffer, compressedSize, COMPRESSED)
+                        : writeBytes(block, length, UNCOMPRESSED);
+
+        writer.reset();
+        return new BlockHandle(offset, size, length);
+    }
+
+    /** Compress the block, returns -1 if the compression ratio is not worth it. */
+    private int compressBlock(byte[] block, int length) throws IOException {
+        int maxSize = compressor.getMaxCompressedSize(length);
+        if (compressedBuffer.length < maxSize) {
+            compressedBuffer = new byte[maxSize];
+        }
+        int compressedSize = compressor.compress(block, 0, length, compressedBuffer, 0);
+        // same as leveldb, keep the block uncompressed if less than 12.5% is saved
+        return compressedSize < length - (length >>> 3) ? compressedSize : -1;
+    }
+
+    private int writeBytes(byte[] bytes, int length, byte compressionFlag) throws IOException {
+        output.write(bytes, 0, length);
+        output.writeByte(compressionFlag);
+        position += length + 1;
+        return length + 1;
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            flushDataBlock();
+
+            BlockHandle indexHandle = writeBlock(indexBlockWriter);
+
+            long bloomFilterOffset = position;
+            MemorySegment bloomFilterBuffer = bloomFilter == null ? null : bloomFilter.getBuffer();
+            int bloomFilterLength = bloomFilterBuffer == null ? 0 : bloomFilterBuffer.size();
+            if (bloomFilterBuffer != null) {
+                output.write(bloomFilterBuffer.getArray(), 0, bloomFilterLength);
+                position += bloomFilterLength;
+            }
+
+            // footer
+            output.writeLong(bloomFilter == null ? 0 : bloomFilter.expectedEntries());
+            output.writeLong(bloomFilterOffset);
+            output.writeInt(bloomFilterLength);
+            output.writeLong(indexHandle.offset());
+            output.writeInt(indexHandle.size());
+            output.writeInt(indexHandle.uncompressedSize());
+            output.writeInt(recordCount);
+            output.writeInt(MAGIC_NUMBER);
+            position += FOOTER_LENGTH;
+        } finally {
+            output.close();
+        }
+
+        LOG.info(
+                "Built sort lookup file {} with {} records, {} data blocks, {} bytes.",
+                file.getName(),
+                recordCount,
+                blockCount,
+                position);
+    }
+}
@@ -28,8 +28,10 @@ import org.apache.paimon.fs.FileIO;
 import org.apache.paimon.fs.Path;
 import org.apache.paimon.io.RollingFileWriter;
 import org.apache.paimon.io.SingleFileWriter;
+import org.apache.paimon.schema.KeyValueFieldsExtractor;
 import org.apache.paimon.schema.SchemaManager;
 import org.apache.paimon.stats.FieldStatsArraySerializer;
+import org.apache.paimon.stats.FieldStatsMerger;
 import org.apache.paimon.types.RowType;
 import org.apache.paimon.utils.FileStorePathFactory;
 import org.apache.paimon.utils.ObjectsFile;
@@ -50,6 +52,7 @@ public class ManifestFile extends ObjectsFile<ManifestEntry> {
 
     private final SchemaManager schemaManager;
     private final RowType partitionType;
+    @Nullable private final KeyValueFieldsExtractor keyValueFieldsExtractor;
     private final FormatWriterFactory writerFactory;
     private final long suggestedFileSize;
 
@@ -57,6 +60,7 @@ public class ManifestFile extends ObjectsFile<ManifestEntry> {
             FileIO fileIO,
             SchemaManager schemaManager,
             RowType partitionType,
+            @Nullable KeyValueFieldsExtractor keyValueFieldsExtractor,
             ManifestEntrySerializer serializer,
             FormatReaderFactory readerFactory,
             FormatWriterFactory writerFactory,
@@ -66,6 +70,7 @@ public class ManifestFile extends ObjectsFile<ManifestEntry> {
         super(fileIO, serializer, readerFactory, writerFactory, pathFactory, cache);
         this.schemaManager = schemaManager;
         this.partitionType = partitionType;
+        this.keyValueFieldsExtractor = keyValueFieldsExtractor;
         this.writerFactory = writerFactory;
         this.suggestedFileSize = suggestedFileSize;
     }
@@ -107,11 +112,17 @@ public class ManifestFile extends ObjectsFile<ManifestEntry> {
         private long numDeletedFiles = 0;
         private long schemaId = Long.MIN_VALUE;
 
+        // key stats are only collected if all entries are written with the same schema
+        private boolean collectKeyStats;
+        @Nullable private FieldStatsArraySerializer keyStatsSerializer;
+        @Nullable private FieldStatsMerger keyStatsMerger;
+
         ManifestEntryWriter(FormatWriterFactory factory, Path path, String fileCompression) {
             super(ManifestFile.this.fileIO, factory, path, serializer::toRow, fileCompression);
 
             this.partitionStatsCollector = new TableStatsCollector(partitionType);
             this.partitionStatsSerializer = new FieldStatsArraySerializer(partitionType);
+            this.collectKeyStats = keyValueFieldsExtractor != null;
         }
 
         @Override
@@ -128,11 +139,39 @@ public class ManifestFile extends ObjectsFile<ManifestEntry> {
                 default:
                     throw new UnsupportedOperationException("Unknown entry kind: " + entry.kind());
             }
+            if (collectKeyStats) {
+                collectKeyStats(entry);
+            }
             schemaId = Math.max(schemaId, entry.file().schemaId());
 
             partitionStatsCollector.collect(entry.partition());
         }
 
+        private void collectKeyStats(ManifestEntry entry) {
+            long entrySchemaId = entry.file().schemaId();
+            if (keyStatsMerger == null) {
+                RowType keyType =
+                        new RowType(
+                                keyValueFieldsExtractor.keyFields(
+                                        schemaManager.schema(entrySchemaId)));
+                keyStatsSerializer = new FieldStatsArraySerializer(keyType);
+                keyStatsMerger = new FieldStatsMerger(keyType);
+            }
+
+            if (entrySchemaId != schemaId && schemaId != Long.MIN_VALUE
+                    || entry.file().keyStats().min().getFieldCount()
+                            != keyStatsSerializer.fieldCount()) {
+                collectKeyStats = false;
+                keyStatsSerializer = null;
+                keyStatsMerger = null;
+                return;
+            }
+
+            long rowCount = entry.file().rowCount();
+            keyStatsMerger.merge(
+                    keyStatsSerializer.fromBinary(entry.file().keyStats(), rowCount), rowCount);
+        }
+
         @Override
         public ManifestFileMeta result() throws IOException {
             return new ManifestFileMeta(
@@ -143,7 +182,10 @@ public class ManifestFile extends ObjectsFile<ManifestEntry> {
                     partitionStatsSerializer.toBinary(partitionStatsCollector.extract()),
                     numAddedFiles + numDeletedFiles > 0
                             ? schemaId
-                            : schemaManager.latest().get().id());
+                            : schemaManager.latest().get().id(),
+                    collectKeyStats && keyStatsMerger != null
+                            ? keyStatsSerializer.toBinary(keyStatsMerger.result())
+                            : null);
         }
     }
 
@@ -153,6 +195,7 @@ public class ManifestFile extends ObjectsFile<ManifestEntry> {
         private final FileIO fileIO;
         private final SchemaManager schemaManager;
         private final RowType partitionType;
+        @Nullable private final KeyValueFieldsExtractor keyValueFieldsExtractor;
         private final FileFormat fileFormat;
         private final FileStorePathFactory pathFactory;
         private final long suggestedFileSize;
@@ -166,9 +209,34 @@ public class ManifestFile extends ObjectsFile<ManifestEntry> {
                 FileStorePathFactory pathFactory,
                 long suggestedFileSize,
                 @Nullable SegmentsCache<String> cache) {
+            this(
+                    fileIO,
+                    schemaManager,
+                    partitionType,
+                    null,
+                    fileFormat,
+                    pathFactory,
+                    suggestedFileSize,
+                    cache);
+        }
+
+        /**
+         * Create a factory of manifest files which also collect key stats of the entries, the key
+         * fields of each schema are extracted by the keyValueFieldsExtractor.
+         */
+        public Factory(
+                FileIO fileIO,
+                SchemaManager schemaManager,
+                RowType partitionType,
+                @Nullable KeyValueFieldsExtractor keyValueFieldsExtractor,
+                FileFormat fileFormat,
+                FileStorePathFactory pathFactory,
+                long suggestedFileSize,
+                @Nullable SegmentsCache<String> cache) {
             this.fileIO = fileIO;
             this.schemaManager = schemaManager;
             this.partitionType = partitionType;
+            this.keyValueFieldsExtractor = keyValueFieldsExtractor;
             this.fileFormat = fileFormat;
             this.pathFactory = pathFactory;
             this.suggestedFileSize = suggestedFileSize;
@@ -181,6 +249,7 @@ public class ManifestFile extends ObjectsFile<ManifestEntry> {
                     fileIO,
                     schemaManager,
                     partitionType,
+                    keyValueFieldsExtractor,
                     new ManifestEntrySerializer(),
                     fileFormat.createReaderFactory(entryType),
                     fileFormat.createWriterFactory(entryType),
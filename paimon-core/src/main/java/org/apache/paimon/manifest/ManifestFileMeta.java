@@ -33,6 +33,8 @@ import org.apache.paimon.utils.RowDataToObjectArrayConverter;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import javax.annotation.Nullable;
+
 import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.LinkedHashMap;
@@ -54,6 +56,7 @@ public class ManifestFileMeta {
     private final long numDeletedFiles;
     private final BinaryTableStats partitionStats;
     private final long schemaId;
+    @Nullable private final BinaryTableStats keyStats;
 
     public ManifestFileMeta(
             String fileName,
@@ -62,12 +65,24 @@ public class ManifestFileMeta {
             long numDeletedFiles,
             BinaryTableStats partitionStats,
             long schemaId) {
+        this(fileName, fileSize, numAddedFiles, numDeletedFiles, partitionStats, schemaId, null);
+    }
+
+    public ManifestFileMeta(
+            String fileName,
+            long fileSize,
+            long numAddedFiles,
+            long numDeletedFiles,
+            BinaryTableStats partitionStats,
+            long schemaId,
+            @Nullable BinaryTableStats keyStats) {
         this.fileName = fileName;
         this.fileSize = fileSize;
         this.numAddedFiles = numAddedFiles;
         this.numDeletedFiles = numDeletedFiles;
         this.partitionStats = partitionStats;
         this.schemaId = schemaId;
+        this.keyStats = keyStats;
     }
 
     public String fileName() {
@@ -94,6 +109,16 @@ public class ManifestFileMeta {
         return schemaId;
     }
 
+    /**
+     * Key stats of all entries in this manifest file, the key fields are of the schema {@link
+     * #schemaId()}. Null if the table has no primary keys, the entries are written with different
+     * schemas, or the manifest file is written by an old version.
+     */
+    @Nullable
+    public BinaryTableStats keyStats() {
+        return keyStats;
+    }
+
     public static RowType schema() {
         List<DataField> fields = new ArrayList<>();
         fields.add(new DataField(0, "_FILE_NAME", new VarCharType(false, Integer.MAX_VALUE)));
@@ -102,6 +127,7 @@ public class ManifestFileMeta {
         fields.add(new DataField(3, "_NUM_DELETED_FILES", new BigIntType(false)));
         fields.add(new DataField(4, "_PARTITION_STATS", FieldStatsArraySerializer.schema()));
         fields.add(new DataField(5, "_SCHEMA_ID", new BigIntType(false)));
+        fields.add(new DataField(6, "_KEY_STATS", FieldStatsArraySerializer.schema().copy(true)));
         return new RowType(fields);
     }
 
@@ -116,20 +142,33 @@ public class ManifestFileMeta {
                 && numAddedFiles == that.numAddedFiles
                 && numDeletedFiles == that.numDeletedFiles
                 && Objects.equals(partitionStats, that.partitionStats)
-                && schemaId == that.schemaId;
+                && schemaId == that.schemaId
+                && Objects.equals(keyStats, that.keyStats);
     }
 
     @Override
     public int hashCode() {
         return Objects.hash(
-                fileName, fileSize, numAddedFiles, numDeletedFiles, partitionStats, schemaId);
+                fileName,
+                fileSize,
+                numAddedFiles,
+                numDeletedFiles,
+                partitionStats,
+                schemaId,
+                keyStats);
     }
 
     @Override
     public String toString() {
         return String.format(
-                "{%s, %d, %d, %d, %s, %d}",
-                fileName, fileSize, numAddedFiles, numDeletedFiles, partitionStats, schemaId);
+                "{%s, %d, %d, %d, %s, %d, %s}",
+                fileName,
+                fileSize,
+                numAddedFiles,
+                numDeletedFiles,
+                partitionStats,
+                schemaId,
+                keyStats);
     }
 
     /**
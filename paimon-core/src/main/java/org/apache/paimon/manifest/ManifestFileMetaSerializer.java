@@ -46,7 +46,8 @@ public class ManifestFileMetaSerializer extends VersionedObjectSerializer<Manife
                 meta.numAddedFiles(),
                 meta.numDeletedFiles(),
                 meta.partitionStats().toRowData(),
-                meta.schemaId());
+                meta.schemaId(),
+                meta.keyStats() == null ? null : meta.keyStats().toRowData());
     }
 
     @Override
@@ -66,6 +67,10 @@ public class ManifestFileMetaSerializer extends VersionedObjectSerializer<Manife
                 row.getLong(2),
                 row.getLong(3),
                 BinaryTableStats.fromRowData(row.getRow(4, 3)),
-                row.getLong(5));
+                row.getLong(5),
+                // key stats are not written by old versions
+                row.getFieldCount() <= 6 || row.isNullAt(6)
+                        ? null
+                        : BinaryTableStats.fromRowData(row.getRow(6, 3)));
     }
 }
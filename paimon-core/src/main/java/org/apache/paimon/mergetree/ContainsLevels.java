@@ -23,12 +23,15 @@ import org.apache.paimon.annotation.VisibleForTesting;
 import org.apache.paimon.data.InternalRow;
 import org.apache.paimon.data.serializer.RowCompactedSerializer;
 import org.apache.paimon.io.DataFileMeta;
+import org.apache.paimon.io.DataOutputSerializer;
 import org.apache.paimon.lookup.LookupStoreFactory;
 import org.apache.paimon.lookup.LookupStoreReader;
 import org.apache.paimon.lookup.LookupStoreWriter;
+import org.apache.paimon.operation.metrics.LookupMetrics;
 import org.apache.paimon.options.MemorySize;
 import org.apache.paimon.reader.RecordReader;
 import org.apache.paimon.types.RowType;
+import org.apache.paimon.utils.BloomFilter;
 import org.apache.paimon.utils.FileIOUtils;
 import org.apache.paimon.utils.IOFunction;
 
@@ -45,6 +48,7 @@ import java.io.IOException;
 import java.io.UncheckedIOException;
 import java.time.Duration;
 import java.util.Comparator;
+import java.util.function.Function;
 import java.util.function.Supplier;
 
 import static org.apache.paimon.mergetree.LookupUtils.fileKibiBytes;
@@ -61,6 +65,8 @@ public class ContainsLevels implements Levels.DropFileCallback, Closeable {
     private final IOFunction<DataFileMeta, RecordReader<KeyValue>> fileReaderFactory;
     private final Supplier<File> localFileFactory;
     private final LookupStoreFactory lookupStoreFactory;
+    private final Function<Long, BloomFilter.Builder> bfGenerator;
+    @Nullable private final LookupMetrics metrics;
 
     private final Cache<String, ContainsFile> containsFiles;
 
@@ -72,13 +78,17 @@ public class ContainsLevels implements Levels.DropFileCallback, Closeable {
             Supplier<File> localFileFactory,
             LookupStoreFactory lookupStoreFactory,
             Duration fileRetention,
-            MemorySize maxDiskSize) {
+            MemorySize maxDiskSize,
+            Function<Long, BloomFilter.Builder> bfGenerator,
+            @Nullable LookupMetrics metrics) {
         this.levels = levels;
         this.keyComparator = keyComparator;
         this.keySerializer = new RowCompactedSerializer(keyType);
         this.fileReaderFactory = fileReaderFactory;
         this.localFileFactory = localFileFactory;
         this.lookupStoreFactory = lookupStoreFactory;
+        this.bfGenerator = bfGenerator;
+        this.metrics = metrics;
         this.containsFiles =
                 Caffeine.newBuilder()
                         .expireAfterAccess(fileRetention)
@@ -142,14 +152,19 @@ public class ContainsLevels implements Levels.DropFileCallback, Closeable {
         if (!localFile.createNewFile()) {
             throw new IOException("Can not create new file: " + localFile);
         }
-        try (LookupStoreWriter kvWriter = lookupStoreFactory.createWriter(localFile);
+        try (LookupStoreWriter kvWriter =
+                        lookupStoreFactory.createWriter(
+                                localFile, bfGenerator.apply(file.rowCount()));
                 RecordReader<KeyValue> reader = fileReaderFactory.apply(file)) {
+            // remote files are sorted by key, stream the keys to the writer with a reused buffer
+            DataOutputSerializer keyOut = new DataOutputSerializer(32);
             RecordReader.RecordIterator<KeyValue> batch;
             KeyValue kv;
             while ((batch = reader.readBatch()) != null) {
                 while ((kv = batch.next()) != null) {
-                    byte[] keyBytes = keySerializer.serializeToBytes(kv.key());
-                    kvWriter.put(keyBytes, EMPTY_VALUE);
+                    keyOut.clear();
+                    keySerializer.serializeWithoutLength(kv.key(), keyOut);
+                    kvWriter.put(keyOut.getSharedBuffer(), keyOut.length(), EMPTY_VALUE, 0);
                 }
                 batch.releaseBatch();
             }
@@ -164,6 +179,9 @@ public class ContainsLevels implements Levels.DropFileCallback, Closeable {
     @Override
     public void close() throws IOException {
         containsFiles.invalidateAll();
+        if (metrics != null) {
+            metrics.close();
+        }
     }
 
     private static class ContainsFile implements Closeable {
@@ -45,6 +45,8 @@ public class Levels {
 
     private final List<DropFileCallback> dropFileCallbacks = new ArrayList<>();
 
+    private final List<NewFileCallback> newFileCallbacks = new ArrayList<>();
+
     public Levels(
             Comparator<InternalRow> keyComparator, List<DataFileMeta> inputFiles, int numLevels) {
         this.keyComparator = keyComparator;
@@ -90,11 +92,19 @@ public class Levels {
         dropFileCallbacks.add(callback);
     }
 
+    public void addNewFileCallback(NewFileCallback callback) {
+        newFileCallbacks.add(callback);
+    }
+
     public void addLevel0File(DataFileMeta file) {
         checkArgument(file.level() == 0);
         level0.add(file);
     }
 
+    public TreeSet<DataFileMeta> level0() {
+        return level0;
+    }
+
     public SortedRun runOfLevel(int level) {
         checkArgument(level > 0, "Level0 does not have one single sorted run.");
         return levels.get(level - 1);
@@ -165,6 +175,19 @@ public class Levels {
                 droppedFiles.forEach(callback::notifyDropFile);
             }
         }
+
+        if (newFileCallbacks.size() > 0) {
+            Set<String> beforeFiles =
+                    before.stream().map(DataFileMeta::fileName).collect(Collectors.toSet());
+            // only upper level files, exclude upgrade files
+            for (DataFileMeta file : after) {
+                if (file.level() > 0 && !beforeFiles.contains(file.fileName())) {
+                    for (NewFileCallback callback : newFileCallbacks) {
+                        callback.notifyNewFile(file);
+                    }
+                }
+            }
+        }
     }
 
     private void updateLevel(int level, List<DataFileMeta> before, List<DataFileMeta> after) {
@@ -193,4 +216,10 @@ public class Levels {
 
         void notifyDropFile(String file);
     }
+
+    /** A callback to notify new upper level file. */
+    public interface NewFileCallback {
+
+        void notifyNewFile(DataFileMeta file);
+    }
 }
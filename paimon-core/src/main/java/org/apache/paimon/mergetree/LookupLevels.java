@@ -28,10 +28,12 @@ import org.apache.paimon.lookup.LookupStoreFactory;
 import org.apache.paimon.lookup.LookupStoreReader;
 import org.apache.paimon.lookup.LookupStoreWriter;
 import org.apache.paimon.memory.MemorySegment;
+import org.apache.paimon.operation.metrics.LookupMetrics;
 import org.apache.paimon.options.MemorySize;
 import org.apache.paimon.reader.RecordReader;
 import org.apache.paimon.types.RowKind;
 import org.apache.paimon.types.RowType;
+import org.apache.paimon.utils.BloomFilter;
 import org.apache.paimon.utils.FileIOUtils;
 import org.apache.paimon.utils.IOFunction;
 
@@ -40,6 +42,9 @@ import org.apache.paimon.shade.caffeine2.com.github.benmanes.caffeine.cache.Caff
 import org.apache.paimon.shade.caffeine2.com.github.benmanes.caffeine.cache.RemovalCause;
 import org.apache.paimon.shade.guava30.com.google.common.util.concurrent.MoreExecutors;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
 import javax.annotation.Nullable;
 
 import java.io.Closeable;
@@ -48,23 +53,43 @@ import java.io.IOException;
 import java.io.UncheckedIOException;
 import java.time.Duration;
 import java.util.Comparator;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.function.Function;
 import java.util.function.Supplier;
+import java.util.stream.Collectors;
 
 import static org.apache.paimon.mergetree.LookupUtils.fileKibiBytes;
 import static org.apache.paimon.utils.Preconditions.checkArgument;
 
 /** Provide lookup by key. */
-public class LookupLevels implements Levels.DropFileCallback, Closeable {
+public class LookupLevels implements Levels.DropFileCallback, Levels.NewFileCallback, Closeable {
+
+    private static final Logger LOG = LoggerFactory.getLogger(LookupLevels.class);
 
     private final Levels levels;
     private final Comparator<InternalRow> keyComparator;
+    private final RowType keyType;
+    private final RowType valueType;
     private final RowCompactedSerializer keySerializer;
     private final RowCompactedSerializer valueSerializer;
     private final IOFunction<DataFileMeta, RecordReader<KeyValue>> fileReaderFactory;
     private final Supplier<File> localFileFactory;
     private final LookupStoreFactory lookupStoreFactory;
+    private final Function<Long, BloomFilter.Builder> bfGenerator;
+    @Nullable private final LookupMetrics metrics;
+    @Nullable private final ExecutorService prebuildExecutor;
+    @Nullable private final PersistentLookupFiles persistentFiles;
 
     private final Cache<String, LookupFile> lookupFiles;
+    private final boolean sharedLookupFiles;
+    private final Map<String, CompletableFuture<LookupFile>> prebuildFiles;
+    private final Object fileReaderLock = new Object();
 
     public LookupLevels(
             Levels levels,
@@ -75,23 +100,111 @@ public class LookupLevels implements Levels.DropFileCallback, Closeable {
             Supplier<File> localFileFactory,
             LookupStoreFactory lookupStoreFactory,
             Duration fileRetention,
-            MemorySize maxDiskSize) {
+            MemorySize maxDiskSize,
+            Function<Long, BloomFilter.Builder> bfGenerator,
+            @Nullable LookupMetrics metrics,
+            @Nullable ExecutorService prebuildExecutor,
+            @Nullable PersistentLookupFiles persistentFiles) {
+        this(
+                levels,
+                keyComparator,
+                keyType,
+                valueType,
+                fileReaderFactory,
+                localFileFactory,
+                lookupStoreFactory,
+                createCache(fileRetention, maxDiskSize),
+                false,
+                bfGenerator,
+                metrics,
+                prebuildExecutor,
+                persistentFiles);
+    }
+
+    /**
+     * Create a {@link LookupLevels} whose local lookup files are kept in the given cache, which can
+     * be shared by the {@link LookupLevels} of multiple buckets to bound their total disk usage.
+     */
+    public LookupLevels(
+            Levels levels,
+            Comparator<InternalRow> keyComparator,
+            RowType keyType,
+            RowType valueType,
+            IOFunction<DataFileMeta, RecordReader<KeyValue>> fileReaderFactory,
+            Supplier<File> localFileFactory,
+            LookupStoreFactory lookupStoreFactory,
+            Cache<String, LookupFile> sharedLookupFiles,
+            Function<Long, BloomFilter.Builder> bfGenerator,
+            @Nullable LookupMetrics metrics) {
+        this(
+                levels,
+                keyComparator,
+                keyType,
+                valueType,
+                fileReaderFactory,
+                localFileFactory,
+                lookupStoreFactory,
+                sharedLookupFiles,
+                true,
+                bfGenerator,
+                metrics,
+                null,
+                null);
+    }
+
+    private LookupLevels(
+            Levels levels,
+            Comparator<InternalRow> keyComparator,
+            RowType keyType,
+            RowType valueType,
+            IOFunction<DataFileMeta, RecordReader<KeyValue>> fileReaderFactory,
+            Supplier<File> localFileFactory,
+            LookupStoreFactory lookupStoreFactory,
+            Cache<String, LookupFile> lookupFiles,
+            boolean sharedLookupFiles,
+            Function<Long, BloomFilter.Builder> bfGenerator,
+            @Nullable LookupMetrics metrics,
+            @Nullable ExecutorService prebuildExecutor,
+            @Nullable PersistentLookupFiles persistentFiles) {
         this.levels = levels;
         this.keyComparator = keyComparator;
+        this.keyType = keyType;
+        this.valueType = valueType;
         this.keySerializer = new RowCompactedSerializer(keyType);
         this.valueSerializer = new RowCompactedSerializer(valueType);
         this.fileReaderFactory = fileReaderFactory;
         this.localFileFactory = localFileFactory;
         this.lookupStoreFactory = lookupStoreFactory;
-        this.lookupFiles =
-                Caffeine.newBuilder()
-                        .expireAfterAccess(fileRetention)
-                        .maximumWeight(maxDiskSize.getKibiBytes())
-                        .weigher(this::fileWeigh)
-                        .removalListener(this::removalCallback)
-                        .executor(MoreExecutors.directExecutor())
-                        .build();
+        this.bfGenerator = bfGenerator;
+        this.metrics = metrics;
+        this.prebuildExecutor = prebuildExecutor;
+        this.persistentFiles = persistentFiles;
+        this.lookupFiles = lookupFiles;
+        this.sharedLookupFiles = sharedLookupFiles;
+        this.prebuildFiles = new ConcurrentHashMap<>();
+        if (persistentFiles != null) {
+            // delete persisted files of remote files dropped when this bucket was not written
+            persistentFiles.retain(
+                    levels.allFiles().stream()
+                            .map(DataFileMeta::fileName)
+                            .collect(Collectors.toList()));
+        }
         levels.addDropFileCallback(this);
+        if (prebuildExecutor != null) {
+            levels.addNewFileCallback(this);
+        }
+    }
+
+    /** Create a cache of local lookup files, the files are weighed by their disk size. */
+    public static Cache<String, LookupFile> createCache(
+            Duration fileRetention, MemorySize maxDiskSize) {
+        return Caffeine.newBuilder()
+                .expireAfterAccess(fileRetention)
+                .maximumWeight(maxDiskSize.getKibiBytes())
+                .weigher(LookupLevels::fileWeigh)
+                .removalListener(LookupLevels::removalCallback)
+                .executor(MoreExecutors.directExecutor())
+                .build();
     }
 
     @VisibleForTesting
@@ -99,14 +212,73 @@ public class LookupLevels implements Levels.DropFileCallback, Closeable {
         return lookupFiles;
     }
 
+    public Levels getLevels() {
+        return levels;
+    }
+
     @Override
     public void notifyDropFile(String file) {
+        CompletableFuture<LookupFile> prebuildFile = prebuildFiles.remove(file);
+        if (prebuildFile != null) {
+            discardPrebuildFile(prebuildFile);
+        }
         lookupFiles.invalidate(file);
+        if (persistentFiles != null) {
+            persistentFiles.remove(file);
+        }
+    }
+
+    @Override
+    public void notifyNewFile(DataFileMeta file) {
+        if (prebuildExecutor == null || lookupFiles.getIfPresent(file.fileName()) != null) {
+            return;
+        }
+
+        prebuildFiles.computeIfAbsent(
+                file.fileName(),
+                k -> {
+                    // the pre-building thread never touches the cache, its evictions close lookup
+                    // files, so the built file is put to the cache by the lookup thread
+                    CompletableFuture<LookupFile> result = new CompletableFuture<>();
+                    prebuildExecutor.execute(
+                            () -> {
+                                try {
+                                    LookupFile lookupFile = createLookupFile(file);
+                                    if (!result.complete(lookupFile)) {
+                                        // discarded because file is dropped or levels are closed
+                                        closeQuietly(lookupFile);
+                                    }
+                                } catch (Throwable t) {
+                                    result.completeExceptionally(t);
+                                }
+                            });
+                    return result;
+                });
+    }
+
+    private static void discardPrebuildFile(CompletableFuture<LookupFile> prebuildFile) {
+        // a running pre-building will close its file when it is done
+        prebuildFile.cancel(false);
+        prebuildFile.thenAccept(LookupLevels::closeQuietly);
+    }
+
+    private static void closeQuietly(LookupFile lookupFile) {
+        try {
+            lookupFile.close();
+        } catch (IOException e) {
+            LOG.warn("Failed to close lookup file {}.", lookupFile.localFile, e);
+        }
     }
 
     @Nullable
     public KeyValue lookup(InternalRow key, int startLevel) throws IOException {
-        return LookupUtils.lookup(levels, key, startLevel, this::lookup);
+        return LookupUtils.lookup(levels, key, startLevel, this::lookup, this::lookupLevel0);
+    }
+
+    @Nullable
+    private KeyValue lookupLevel0(InternalRow key, TreeSet<DataFileMeta> level0)
+            throws IOException {
+        return LookupUtils.lookupLevel0(keyComparator, key, level0, this::lookup);
     }
 
     @Nullable
@@ -117,6 +289,12 @@ public class LookupLevels implements Levels.DropFileCallback, Closeable {
     @Nullable
     private KeyValue lookup(InternalRow key, DataFileMeta file) throws IOException {
         LookupFile lookupFile = lookupFiles.getIfPresent(file.fileName());
+        if (lookupFile == null) {
+            lookupFile = waitPrebuildFile(file.fileName());
+            if (lookupFile != null) {
+                lookupFiles.put(file.fileName(), lookupFile);
+            }
+        }
         while (lookupFile == null || lookupFile.isClosed) {
             lookupFile = createLookupFile(file);
             lookupFiles.put(file.fileName(), lookupFile);
@@ -135,11 +313,33 @@ public class LookupLevels implements Levels.DropFileCallback, Closeable {
                 .setLevel(lookupFile.remoteFile().level());
     }
 
-    private int fileWeigh(String file, LookupFile lookupFile) {
+    @Nullable
+    private LookupFile waitPrebuildFile(String fileName) throws IOException {
+        CompletableFuture<LookupFile> future = prebuildFiles.get(fileName);
+        if (future == null) {
+            return null;
+        }
+
+        LookupFile lookupFile;
+        try {
+            lookupFile = future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException(e);
+        } catch (ExecutionException | CancellationException e) {
+            LOG.warn("Failed to pre-build lookup file {}, build it again.", fileName, e);
+            prebuildFiles.remove(fileName, future);
+            return null;
+        }
+        // the file may be dropped meanwhile, then it has been closed by the dropping
+        return prebuildFiles.remove(fileName, future) ? lookupFile : null;
+    }
+
+    private static int fileWeigh(String file, LookupFile lookupFile) {
         return fileKibiBytes(lookupFile.localFile);
     }
 
-    private void removalCallback(String key, LookupFile file, RemovalCause cause) {
+    private static void removalCallback(String key, LookupFile file, RemovalCause cause) {
         if (file != null) {
             try {
                 file.close();
@@ -150,24 +350,54 @@ public class LookupLevels implements Levels.DropFileCallback, Closeable {
     }
 
     private LookupFile createLookupFile(DataFileMeta file) throws IOException {
-        File localFile = localFileFactory.get();
+        if (persistentFiles != null) {
+            File persistedFile = persistentFiles.get(file.fileName());
+            if (persistedFile != null) {
+                try {
+                    return new LookupFile(
+                            persistedFile,
+                            file,
+                            lookupStoreFactory.createReader(persistedFile),
+                            true);
+                } catch (IOException e) {
+                    LOG.warn("Failed to adopt lookup file {}, build it again.", persistedFile, e);
+                    persistentFiles.remove(file.fileName());
+                }
+            }
+        }
+
+        File localFile =
+                persistentFiles == null
+                        ? localFileFactory.get()
+                        : persistentFiles.newBuildingFile();
         if (!localFile.createNewFile()) {
             throw new IOException("Can not create new file: " + localFile);
         }
-        try (LookupStoreWriter kvWriter = lookupStoreFactory.createWriter(localFile);
-                RecordReader<KeyValue> reader = fileReaderFactory.apply(file)) {
+        // serializers are not thread safe, lookup files may be pre-built in another thread
+        RowCompactedSerializer fileKeySerializer = new RowCompactedSerializer(keyType);
+        RowCompactedSerializer fileValueSerializer = new RowCompactedSerializer(valueType);
+        try (LookupStoreWriter kvWriter =
+                        lookupStoreFactory.createWriter(
+                                localFile, bfGenerator.apply(file.rowCount()));
+                RecordReader<KeyValue> reader = createFileReader(file)) {
+            // remote files are sorted by key, stream the records to the writer with reused buffers
+            DataOutputSerializer keyOut = new DataOutputSerializer(32);
             DataOutputSerializer valueOut = new DataOutputSerializer(32);
             RecordReader.RecordIterator<KeyValue> batch;
             KeyValue kv;
             while ((batch = reader.readBatch()) != null) {
                 while ((kv = batch.next()) != null) {
-                    byte[] keyBytes = keySerializer.serializeToBytes(kv.key());
+                    keyOut.clear();
+                    fileKeySerializer.serializeWithoutLength(kv.key(), keyOut);
                     valueOut.clear();
-                    valueOut.write(valueSerializer.serializeToBytes(kv.value()));
+                    fileValueSerializer.serializeWithoutLength(kv.value(), valueOut);
                     valueOut.writeLong(kv.sequenceNumber());
                     valueOut.writeByte(kv.valueKind().toByteValue());
-                    byte[] valueBytes = valueOut.getCopyOfBuffer();
-                    kvWriter.put(keyBytes, valueBytes);
+                    kvWriter.put(
+                            keyOut.getSharedBuffer(),
+                            keyOut.length(),
+                            valueOut.getSharedBuffer(),
+                            valueOut.length());
                 }
                 batch.releaseBatch();
             }
@@ -176,26 +406,59 @@ public class LookupLevels implements Levels.DropFileCallback, Closeable {
             throw e;
         }
 
-        return new LookupFile(localFile, file, lookupStoreFactory.createReader(localFile));
+        if (persistentFiles != null) {
+            localFile = persistentFiles.commit(file.fileName(), localFile);
+        }
+        return new LookupFile(
+                localFile,
+                file,
+                lookupStoreFactory.createReader(localFile),
+                persistentFiles != null);
+    }
+
+    private RecordReader<KeyValue> createFileReader(DataFileMeta file) throws IOException {
+        // the reader factory is not thread safe, it is shared by the lookup and pre-building thread
+        synchronized (fileReaderLock) {
+            return fileReaderFactory.apply(file);
+        }
     }
 
     @Override
     public void close() throws IOException {
-        lookupFiles.invalidateAll();
+        prebuildFiles.values().forEach(LookupLevels::discardPrebuildFile);
+        prebuildFiles.clear();
+        if (sharedLookupFiles) {
+            // only the files of this levels, other levels may still use the shared cache
+            for (DataFileMeta file : levels.allFiles()) {
+                lookupFiles.invalidate(file.fileName());
+            }
+        } else {
+            lookupFiles.invalidateAll();
+        }
+        if (metrics != null) {
+            metrics.close();
+        }
     }
 
-    private static class LookupFile implements Closeable {
+    /** A local lookup file built from a remote data file. */
+    public static class LookupFile implements Closeable {
 
         private final File localFile;
         private final DataFileMeta remoteFile;
         private final LookupStoreReader reader;
+        private final boolean persistent;
 
-        private boolean isClosed = false;
+        private volatile boolean isClosed = false;
 
-        public LookupFile(File localFile, DataFileMeta remoteFile, LookupStoreReader reader) {
+        public LookupFile(
+                File localFile,
+                DataFileMeta remoteFile,
+                LookupStoreReader reader,
+                boolean persistent) {
             this.localFile = localFile;
             this.remoteFile = remoteFile;
             this.reader = reader;
+            this.persistent = persistent;
         }
 
         @Nullable
@@ -212,7 +475,10 @@ public class LookupLevels implements Levels.DropFileCallback, Closeable {
         public void close() throws IOException {
             reader.close();
             isClosed = true;
-            FileIOUtils.deleteFileOrDirectory(localFile);
+            // persisted files are kept for restarted writers, they are deleted by persistent files
+            if (!persistent) {
+                FileIOUtils.deleteFileOrDirectory(localFile);
+            }
         }
     }
 }
@@ -18,15 +18,27 @@
 
 package org.apache.paimon.mergetree;
 
+import org.apache.paimon.CoreOptions;
+import org.apache.paimon.compression.BlockCompressionFactory;
 import org.apache.paimon.data.InternalRow;
+import org.apache.paimon.data.serializer.RowCompactedSerializer;
 import org.apache.paimon.io.DataFileMeta;
+import org.apache.paimon.io.cache.CacheManager;
+import org.apache.paimon.lookup.LookupStoreFactory;
+import org.apache.paimon.lookup.hash.HashLookupStoreFactory;
+import org.apache.paimon.lookup.sort.SortLookupStoreFactory;
 import org.apache.paimon.options.MemorySize;
+import org.apache.paimon.options.Options;
+import org.apache.paimon.types.RowType;
 import org.apache.paimon.utils.BiFunctionWithIOE;
 
+import javax.annotation.Nullable;
+
 import java.io.File;
 import java.io.IOException;
 import java.util.Comparator;
 import java.util.List;
+import java.util.TreeSet;
 
 /** Utils for lookup. */
 public class LookupUtils {
@@ -37,11 +49,32 @@ public class LookupUtils {
             int startLevel,
             BiFunctionWithIOE<InternalRow, SortedRun, T> lookup)
             throws IOException {
+        return lookup(levels, key, startLevel, lookup, null);
+    }
+
+    /**
+     * Lookup the key from the levels starting at the given level, level 0 is probed by {@code
+     * level0Lookup} file by file from the newest to the oldest.
+     */
+    public static <T> T lookup(
+            Levels levels,
+            InternalRow key,
+            int startLevel,
+            BiFunctionWithIOE<InternalRow, SortedRun, T> lookup,
+            @Nullable BiFunctionWithIOE<InternalRow, TreeSet<DataFileMeta>, T> level0Lookup)
+            throws IOException {
+        T result = null;
         if (startLevel == 0) {
-            throw new IllegalArgumentException("Start level can not be zero.");
+            if (level0Lookup == null) {
+                throw new IllegalArgumentException("Start level can not be zero.");
+            }
+            result = level0Lookup.apply(key, levels.level0());
+            if (result != null) {
+                return result;
+            }
+            startLevel = 1;
         }
 
-        T result = null;
         for (int i = startLevel; i < levels.numberOfLevels(); i++) {
             SortedRun level = levels.runOfLevel(i);
             result = lookup.apply(key, level);
@@ -60,6 +93,10 @@ public class LookupUtils {
             BiFunctionWithIOE<InternalRow, DataFileMeta, T> lookup)
             throws IOException {
         List<DataFileMeta> files = level.files();
+        if (files.isEmpty()) {
+            return null;
+        }
+
         int left = 0;
         int right = files.size() - 1;
 
@@ -88,8 +125,65 @@ public class LookupUtils {
             index++;
         }
 
-        // if files does not have a next, it means the key does not exist in this level
-        return index < files.size() ? lookup.apply(target, files.get(index)) : null;
+        // if files does not have a next, or the found file starts after the target, it means the
+        // key does not exist in this level
+        if (index >= files.size() || keyComparator.compare(files.get(index).minKey(), target) > 0) {
+            return null;
+        }
+        return lookup.apply(target, files.get(index));
+    }
+
+    public static <T> T lookupLevel0(
+            Comparator<InternalRow> keyComparator,
+            InternalRow target,
+            TreeSet<DataFileMeta> level0,
+            BiFunctionWithIOE<InternalRow, DataFileMeta, T> lookup)
+            throws IOException {
+        // level 0 files are ordered from the newest to the oldest, only probe the overlapped ones
+        for (DataFileMeta file : level0) {
+            if (keyComparator.compare(file.minKey(), target) <= 0
+                    && keyComparator.compare(file.maxKey(), target) >= 0) {
+                T result = lookup.apply(target, file);
+                if (result != null) {
+                    return result;
+                }
+            }
+        }
+        return null;
+    }
+
+    public static LookupStoreFactory createLookupStoreFactory(
+            Options options,
+            CacheManager cacheManager,
+            RowType keyType,
+            Comparator<InternalRow> keyComparator) {
+        switch (options.get(CoreOptions.LOOKUP_LOCAL_FILE_TYPE)) {
+            case HASH:
+                return new HashLookupStoreFactory(
+                        cacheManager, options.get(CoreOptions.LOOKUP_HASH_LOAD_FACTOR));
+            case SORT:
+                // keys are written in the order of the key comparator, compare them in bytes if
+                // possible, otherwise compare the deserialized rows
+                RowCompactedSerializer keySerializer = new RowCompactedSerializer(keyType);
+                Comparator<byte[]> comparator = keySerializer.createSliceComparator();
+                if (comparator == null) {
+                    comparator =
+                            (k1, k2) ->
+                                    keyComparator.compare(
+                                            keySerializer.deserialize(k1),
+                                            keySerializer.deserialize(k2));
+                }
+                return new SortLookupStoreFactory(
+                        comparator,
+                        cacheManager,
+                        (int) options.get(CoreOptions.LOOKUP_SORT_BLOCK_SIZE).getBytes(),
+                        BlockCompressionFactory.create(
+                                options.get(CoreOptions.LOOKUP_SORT_COMPRESSION)));
+            default:
+                throw new UnsupportedOperationException(
+                        "Unsupported lookup local file type: "
+                                + options.get(CoreOptions.LOOKUP_LOCAL_FILE_TYPE));
+        }
     }
 
     public static int fileKibiBytes(File file) {
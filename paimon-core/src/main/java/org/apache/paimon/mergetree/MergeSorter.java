@@ -98,12 +98,20 @@ public class MergeSorter {
         this.valueType = projectedType;
     }
 
+    /**
+     * Whether merging the given number of readers spills to disk, spilling uses the memory pool of
+     * this sorter.
+     */
+    public boolean requireSpill(int numReaders) {
+        return ioManager != null && numReaders > spillThreshold;
+    }
+
     public <T> RecordReader<T> mergeSort(
             List<ReaderSupplier<KeyValue>> lazyReaders,
             Comparator<InternalRow> keyComparator,
             MergeFunctionWrapper<T> mergeFunction)
             throws IOException {
-        if (ioManager != null && lazyReaders.size() > spillThreshold) {
+        if (requireSpill(lazyReaders.size())) {
             return spillMergeSort(lazyReaders, keyComparator, mergeFunction);
         }
 
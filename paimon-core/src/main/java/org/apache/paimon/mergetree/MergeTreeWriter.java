@@ -31,28 +31,41 @@ import org.apache.paimon.io.KeyValueFileWriterFactory;
 import org.apache.paimon.io.NewFilesIncrement;
 import org.apache.paimon.io.RollingFileWriter;
 import org.apache.paimon.memory.MemoryOwner;
+import org.apache.paimon.memory.MemorySegment;
 import org.apache.paimon.memory.MemorySegmentPool;
 import org.apache.paimon.mergetree.compact.MergeFunction;
 import org.apache.paimon.operation.metrics.WriterMetrics;
+import org.apache.paimon.sort.SpillCompression;
 import org.apache.paimon.types.RowType;
 import org.apache.paimon.utils.CommitIncrement;
+import org.apache.paimon.utils.ExecutorThreadFactory;
 import org.apache.paimon.utils.RecordWriter;
 
 import javax.annotation.Nullable;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.Comparator;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.ToLongFunction;
 import java.util.stream.Collectors;
 
 /** A {@link RecordWriter} to write records and generate {@link CompactIncrement}. */
 public class MergeTreeWriter implements RecordWriter<KeyValue>, MemoryOwner {
 
+    // each half of the write buffer needs at least 3 pages, see SortBufferWriteBuffer
+    private static final int MIN_ASYNC_FLUSH_PAGES = 6;
+
     private final boolean writeBufferSpillable;
     private final int sortMaxFan;
     private final IOManager ioManager;
@@ -65,6 +78,8 @@ public class MergeTreeWriter implements RecordWriter<KeyValue>, MemoryOwner {
     private final KeyValueFileWriterFactory writerFactory;
     private final boolean commitForceCompact;
     private final ChangelogProducer changelogProducer;
+    private final boolean asyncFlush;
+    private final SpillCompression spillCompression;
 
     private final LinkedHashSet<DataFileMeta> newFiles;
     private final LinkedHashSet<DataFileMeta> newFilesChangelog;
@@ -75,6 +90,12 @@ public class MergeTreeWriter implements RecordWriter<KeyValue>, MemoryOwner {
     private long newSequenceNumber;
     private WriteBuffer writeBuffer;
 
+    // only used by async flush, the half of the write buffer which is being flushed or idle
+    @Nullable private WriteBuffer flushingBuffer;
+    @Nullable private Future<FlushResult> flushing;
+    @Nullable private ThreadPoolExecutor flushExecutor;
+    private final List<HalfMemoryPool> halfMemoryPools = new ArrayList<>();
+
     private WriterMetrics writerMetrics;
 
     public MergeTreeWriter(
@@ -88,6 +109,8 @@ public class MergeTreeWriter implements RecordWriter<KeyValue>, MemoryOwner {
             KeyValueFileWriterFactory writerFactory,
             boolean commitForceCompact,
             ChangelogProducer changelogProducer,
+            boolean asyncFlush,
+            SpillCompression spillCompression,
             @Nullable CommitIncrement increment,
             WriterMetrics writerMetrics) {
         this.writeBufferSpillable = writeBufferSpillable;
@@ -102,6 +125,8 @@ public class MergeTreeWriter implements RecordWriter<KeyValue>, MemoryOwner {
         this.writerFactory = writerFactory;
         this.commitForceCompact = commitForceCompact;
         this.changelogProducer = changelogProducer;
+        this.asyncFlush = asyncFlush;
+        this.spillCompression = spillCompression;
 
         this.newFiles = new LinkedHashSet<>();
         this.newFilesChangelog = new LinkedHashSet<>();
@@ -132,14 +157,53 @@ public class MergeTreeWriter implements RecordWriter<KeyValue>, MemoryOwner {
 
     @Override
     public void setMemoryPool(MemorySegmentPool memoryPool) {
-        this.writeBuffer =
-                new SortBufferWriteBuffer(
-                        keyType,
-                        valueType,
-                        memoryPool,
-                        writeBufferSpillable,
-                        sortMaxFan,
-                        ioManager);
+        int totalPages = memoryPool.freePages();
+        if (asyncFlush && totalPages >= MIN_ASYNC_FLUSH_PAGES) {
+            int halfPages = totalPages / 2;
+            halfMemoryPools.add(new HalfMemoryPool(memoryPool, halfPages));
+            halfMemoryPools.add(new HalfMemoryPool(memoryPool, totalPages - halfPages));
+            this.writeBuffer = createWriteBuffer(halfMemoryPools.get(0));
+            this.flushingBuffer = createWriteBuffer(halfMemoryPools.get(1));
+            if (flushExecutor == null) {
+                // one flush at a time, the idle thread is released
+                flushExecutor =
+                        new ThreadPoolExecutor(
+                                1,
+                                1,
+                                60L,
+                                TimeUnit.SECONDS,
+                                new LinkedBlockingQueue<>(),
+                                new ExecutorThreadFactory("paimon-write-buffer-flush"));
+                flushExecutor.allowCoreThreadTimeOut(true);
+            }
+        } else {
+            this.writeBuffer = createWriteBuffer(memoryPool);
+        }
+        if (writerMetrics != null) {
+            writerMetrics.registerSpillMetrics(
+                    () -> sumOfBuffers(WriteBuffer::spilledBytes),
+                    () -> sumOfBuffers(WriteBuffer::spillCostMillis));
+        }
+    }
+
+    private long sumOfBuffers(ToLongFunction<WriteBuffer> function) {
+        long sum = function.applyAsLong(writeBuffer);
+        if (flushingBuffer != null) {
+            sum += function.applyAsLong(flushingBuffer);
+        }
+        return sum;
+    }
+
+    private WriteBuffer createWriteBuffer(MemorySegmentPool memoryPool) {
+        // with async flush both halves spill concurrently, SpillCompression is thread-safe
+        return new SortBufferWriteBuffer(
+                keyType,
+                valueType,
+                memoryPool,
+                writeBufferSpillable,
+                sortMaxFan,
+                ioManager,
+                spillCompression);
     }
 
     @Override
@@ -150,7 +214,11 @@ public class MergeTreeWriter implements RecordWriter<KeyValue>, MemoryOwner {
                         : kv.sequenceNumber();
         boolean success = writeBuffer.put(sequenceNumber, kv.valueKind(), kv.key(), kv.value());
         if (!success) {
-            flushWriteBuffer(false, false);
+            if (flushingBuffer != null) {
+                flushWriteBufferAsync();
+            } else {
+                flushWriteBuffer(false, false);
+            }
             success = writeBuffer.put(sequenceNumber, kv.valueKind(), kv.key(), kv.value());
             if (!success) {
                 throw new RuntimeException("Mem table is too small to hold a single element.");
@@ -179,12 +247,19 @@ public class MergeTreeWriter implements RecordWriter<KeyValue>, MemoryOwner {
 
     @Override
     public long memoryOccupancy() {
-        return writeBuffer.memoryOccupancy();
+        long occupancy = writeBuffer.memoryOccupancy();
+        if (flushingBuffer != null) {
+            occupancy += flushingBuffer.memoryOccupancy();
+        }
+        return occupancy;
     }
 
     @Override
     public void flushMemory() throws Exception {
+        // release the memory of the finished async flush first
+        waitForAsyncFlush();
         boolean success = writeBuffer.flushMemory();
+        releaseMemory();
         if (!success) {
             flushWriteBuffer(false, false);
         }
@@ -193,50 +268,150 @@ public class MergeTreeWriter implements RecordWriter<KeyValue>, MemoryOwner {
     private void flushWriteBuffer(boolean waitForLatestCompaction, boolean forcedFullCompaction)
             throws Exception {
         long start = System.currentTimeMillis();
+        waitForAsyncFlush();
         if (writeBuffer.size() > 0) {
             if (compactManager.shouldWaitForLatestCompaction()) {
                 waitForLatestCompaction = true;
             }
 
-            final RollingFileWriter<KeyValue, DataFileMeta> changelogWriter =
-                    changelogProducer == ChangelogProducer.INPUT
-                            ? writerFactory.createRollingChangelogFileWriter(0)
-                            : null;
-            final RollingFileWriter<KeyValue, DataFileMeta> dataWriter =
-                    writerFactory.createRollingMergeTreeFileWriter(0);
+            addNewFiles(writeFiles(writeBuffer));
+            writeBuffer.clear();
+            releaseMemory();
+        }
 
+        trySyncLatestCompaction(waitForLatestCompaction);
+        compactManager.triggerCompaction(forcedFullCompaction);
+        if (writerMetrics != null) {
+            writerMetrics.updateBufferFlushCostMillis(System.currentTimeMillis() - start);
+        }
+    }
+
+    /**
+     * Hands the full write buffer over to the background flusher and continues writing into the
+     * other half. Blocks only if the previous flush has not finished yet.
+     */
+    private void flushWriteBufferAsync() throws Exception {
+        waitForAsyncFlush();
+        trySyncLatestCompaction(compactManager.shouldWaitForLatestCompaction());
+        compactManager.triggerCompaction(false);
+
+        WriteBuffer full = writeBuffer;
+        writeBuffer = flushingBuffer;
+        flushingBuffer = full;
+        flushing =
+                flushExecutor.submit(
+                        () -> {
+                            long start = System.currentTimeMillis();
+                            NewFilesIncrement files = writeFiles(full);
+                            return new FlushResult(files, System.currentTimeMillis() - start);
+                        });
+    }
+
+    /** Waits for the in-flight async flush and collects its files in the writer thread. */
+    private void waitForAsyncFlush() throws Exception {
+        if (flushing == null) {
+            return;
+        }
+
+        FlushResult result;
+        try {
+            // if interrupted, the flushing thread may still read the buffer, keep it until the
+            // flush is done
+            result = flushing.get();
+        } catch (ExecutionException e) {
+            releaseFlushingBuffer();
+            Throwable cause = e.getCause();
+            throw cause instanceof Exception ? (Exception) cause : new RuntimeException(cause);
+        }
+
+        releaseFlushingBuffer();
+        addNewFiles(result.files);
+        if (writerMetrics != null) {
+            writerMetrics.updateBufferFlushCostMillis(result.costMillis);
+        }
+    }
+
+    private void releaseFlushingBuffer() {
+        flushing = null;
+        flushingBuffer.clear();
+        releaseMemory();
+    }
+
+    /** Stops the async flush, waits until the flushing thread stops reading the buffer. */
+    private void stopAsyncFlush() {
+        if (flushExecutor == null) {
+            return;
+        }
+
+        flushExecutor.shutdownNow();
+        boolean interrupted = false;
+        while (true) {
             try {
-                writeBuffer.forEach(
-                        keyComparator,
-                        mergeFunction,
-                        changelogWriter == null ? null : changelogWriter::write,
-                        dataWriter::write);
-            } finally {
-                if (changelogWriter != null) {
-                    changelogWriter.close();
+                if (flushExecutor.awaitTermination(1, TimeUnit.MINUTES)) {
+                    break;
                 }
-                dataWriter.close();
+            } catch (InterruptedException e) {
+                interrupted = true;
             }
+        }
 
-            if (changelogWriter != null) {
-                newFilesChangelog.addAll(changelogWriter.result());
+        if (flushing != null) {
+            if (flushing.isDone()) {
+                // collect the files of a finished flush so that they are deleted, a failed flush
+                // has deleted its files
+                try {
+                    waitForAsyncFlush();
+                } catch (Exception ignored) {
+                }
+            } else {
+                // the flush has never started
+                releaseFlushingBuffer();
             }
+        }
 
-            for (DataFileMeta fileMeta : dataWriter.result()) {
-                newFiles.add(fileMeta);
-                compactManager.addNewFile(fileMeta);
-            }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
 
-            writeBuffer.clear();
+    private NewFilesIncrement writeFiles(WriteBuffer buffer) throws Exception {
+        final RollingFileWriter<KeyValue, DataFileMeta> changelogWriter =
+                changelogProducer == ChangelogProducer.INPUT
+                        ? writerFactory.createRollingChangelogFileWriter(0)
+                        : null;
+        final RollingFileWriter<KeyValue, DataFileMeta> dataWriter =
+                writerFactory.createRollingMergeTreeFileWriter(0);
+
+        try {
+            buffer.forEach(
+                    keyComparator,
+                    mergeFunction,
+                    changelogWriter == null ? null : changelogWriter::write,
+                    dataWriter::write);
+        } finally {
+            if (changelogWriter != null) {
+                changelogWriter.close();
+            }
+            dataWriter.close();
         }
 
-        trySyncLatestCompaction(waitForLatestCompaction);
-        compactManager.triggerCompaction(forcedFullCompaction);
-        if (writerMetrics != null) {
-            writerMetrics.updateBufferFlushCostMillis(System.currentTimeMillis() - start);
+        return new NewFilesIncrement(
+                dataWriter.result(),
+                changelogWriter == null ? Collections.emptyList() : changelogWriter.result());
+    }
+
+    private void addNewFiles(NewFilesIncrement files) {
+        newFilesChangelog.addAll(files.changelogFiles());
+        for (DataFileMeta fileMeta : files.newFiles()) {
+            newFiles.add(fileMeta);
+            compactManager.addNewFile(fileMeta);
         }
     }
 
+    private void releaseMemory() {
+        halfMemoryPools.forEach(HalfMemoryPool::release);
+    }
+
     @Override
     public CommitIncrement prepareCommit(boolean waitCompaction) throws Exception {
         long start = System.currentTimeMillis();
@@ -310,6 +485,8 @@ public class MergeTreeWriter implements RecordWriter<KeyValue>, MemoryOwner {
         if (writerMetrics != null) {
             writerMetrics.close();
         }
+        // the files of the async flush are deleted below
+        stopAsyncFlush();
         // cancel compaction so that it does not block job cancelling
         compactManager.cancelCompaction();
         sync();
@@ -343,4 +520,74 @@ public class MergeTreeWriter implements RecordWriter<KeyValue>, MemoryOwner {
             writerFactory.deleteFile(file.fileName(), file.level());
         }
     }
+
+    /** Result of an async flush. */
+    private static class FlushResult {
+
+        private final NewFilesIncrement files;
+        private final long costMillis;
+
+        private FlushResult(NewFilesIncrement files, long costMillis) {
+            this.files = files;
+            this.costMillis = costMillis;
+        }
+    }
+
+    /**
+     * A {@link MemorySegmentPool} which allocates at most a quota of pages from the writer's pool,
+     * so that each half of the write buffer is bounded. Pages may be returned by the flushing
+     * thread (e.g. after spilling), they are cached here and handed back to the writer's pool in
+     * the writer thread by {@link #release()} because the writer's pool is not thread safe.
+     */
+    private static class HalfMemoryPool implements MemorySegmentPool {
+
+        private final MemorySegmentPool pool;
+        private final int maxPages;
+        private final List<MemorySegment> returned = new ArrayList<>();
+
+        private int allocatedPages;
+
+        private HalfMemoryPool(MemorySegmentPool pool, int maxPages) {
+            this.pool = pool;
+            this.maxPages = maxPages;
+        }
+
+        @Override
+        public int pageSize() {
+            return pool.pageSize();
+        }
+
+        @Override
+        public synchronized MemorySegment nextSegment() {
+            if (!returned.isEmpty()) {
+                return returned.remove(returned.size() - 1);
+            }
+            if (allocatedPages >= maxPages) {
+                return null;
+            }
+            MemorySegment segment = pool.nextSegment();
+            if (segment != null) {
+                allocatedPages++;
+            }
+            return segment;
+        }
+
+        @Override
+        public synchronized void returnAll(List<MemorySegment> memory) {
+            returned.addAll(memory);
+        }
+
+        @Override
+        public synchronized int freePages() {
+            return maxPages - allocatedPages + returned.size();
+        }
+
+        private synchronized void release() {
+            if (!returned.isEmpty()) {
+                allocatedPages -= returned.size();
+                pool.returnAll(new ArrayList<>(returned));
+                returned.clear();
+            }
+        }
+    }
 }
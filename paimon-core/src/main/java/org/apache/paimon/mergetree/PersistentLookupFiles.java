@@ -0,0 +1,375 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.mergetree;
+
+import org.apache.paimon.annotation.VisibleForTesting;
+import org.apache.paimon.utils.FileIOUtils;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.annotation.Nullable;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.channels.OverlappingFileLockException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Local lookup files persisted in a directory, so that they can be adopted by restarted writers or
+ * other writers in the same process instead of being rebuilt.
+ *
+ * <p>Files are keyed by the remote file name and an identifier of the lookup file format, and are
+ * recorded with their owner, for example the bucket of the remote file. The completed files are
+ * recorded in a manifest, files not in the manifest (for example partially built files before a
+ * failure) are deleted when the directory is opened. Files are deleted when their remote files are
+ * dropped, and the least recently used files are deleted when the total size exceeds the max disk
+ * size.
+ *
+ * <p>Each process exclusively locks a slot sub-directory of the directory, so processes sharing the
+ * directory never touch the files of each other. The lock is released when the process exits, then
+ * the slot and its files can be adopted by a restarted process.
+ */
+public class PersistentLookupFiles {
+
+    private static final Map<File, Directory> DIRECTORIES = new HashMap<>();
+
+    private final Directory directory;
+    private final String identifier;
+    private final String owner;
+
+    private PersistentLookupFiles(Directory directory, String identifier, String owner) {
+        this.directory = directory;
+        this.identifier = identifier;
+        this.owner = owner;
+    }
+
+    /**
+     * Create {@link PersistentLookupFiles} in the directory, the directory is shared by all
+     * instances in this process.
+     *
+     * @param identifier identifier of the format of lookup files, files with different identifiers
+     *     are not shared.
+     * @param owner owner of the remote files, see {@link #retain}.
+     */
+    public static PersistentLookupFiles create(
+            File dir, long maxDiskSize, String identifier, String owner) throws IOException {
+        Directory directory;
+        synchronized (DIRECTORIES) {
+            File key = dir.getAbsoluteFile();
+            directory = DIRECTORIES.get(key);
+            if (directory == null) {
+                directory = Directory.open(key, maxDiskSize);
+                DIRECTORIES.put(key, directory);
+            }
+        }
+        return new PersistentLookupFiles(directory, identifier, owner);
+    }
+
+    /** Returns the persisted local file of the remote file, or null if it does not exist. */
+    @Nullable
+    public File get(String remoteFileName) {
+        return directory.get(key(remoteFileName));
+    }
+
+    /** Create a new file to build the lookup file, it should be committed after building. */
+    public File newBuildingFile() {
+        return directory.newBuildingFile();
+    }
+
+    /** Persist the built file, returns the persisted file. */
+    public File commit(String remoteFileName, File buildingFile) throws IOException {
+        return directory.commit(key(remoteFileName), owner, buildingFile);
+    }
+
+    /** Delete the persisted file of the remote file, for example the remote file is dropped. */
+    public void remove(String remoteFileName) {
+        directory.remove(key(remoteFileName));
+    }
+
+    /**
+     * Delete the persisted files of this owner whose remote files are not in the given files, for
+     * example the remote files are dropped when no writer of the owner is running.
+     */
+    public void retain(Collection<String> remoteFileNames) {
+        Set<String> keys = new HashSet<>();
+        for (String remoteFileName : remoteFileNames) {
+            keys.add(key(remoteFileName));
+        }
+        directory.retain(owner, keys);
+    }
+
+    private String key(String remoteFileName) {
+        return remoteFileName + "." + identifier;
+    }
+
+    @VisibleForTesting
+    static void clear() {
+        synchronized (DIRECTORIES) {
+            DIRECTORIES.values().forEach(Directory::close);
+            DIRECTORIES.clear();
+        }
+    }
+
+    /** A slot directory of persisted lookup files with a manifest. */
+    private static class Directory {
+
+        private static final Logger LOG = LoggerFactory.getLogger(Directory.class);
+
+        private static final String SLOT_PREFIX = "slot-";
+        private static final String LOCK = "LOCK";
+        private static final String MANIFEST = "MANIFEST";
+        private static final String BUILDING_PREFIX = "building-";
+
+        private final File dir;
+        private final FileChannel lockChannel;
+        private final long maxDiskSize;
+        private final LinkedHashMap<String, Entry> files;
+
+        private long totalSize;
+
+        private Directory(File dir, FileChannel lockChannel, long maxDiskSize) throws IOException {
+            this.dir = dir;
+            this.lockChannel = lockChannel;
+            this.maxDiskSize = maxDiskSize;
+            // access order, the first entry is the least recently used
+            this.files = new LinkedHashMap<>(16, 0.75f, true);
+            readManifest();
+        }
+
+        /** Open the first slot of the root directory which is not locked by other processes. */
+        private static Directory open(File root, long maxDiskSize) throws IOException {
+            for (int i = 0; ; i++) {
+                File dir = new File(root, SLOT_PREFIX + i);
+                if (!dir.exists() && !dir.mkdirs() && !dir.exists()) {
+                    throw new IOException("Can not create lookup directory: " + dir);
+                }
+
+                FileChannel channel =
+                        FileChannel.open(
+                                new File(dir, LOCK).toPath(),
+                                StandardOpenOption.CREATE,
+                                StandardOpenOption.WRITE);
+                FileLock lock;
+                try {
+                    lock = channel.tryLock();
+                } catch (OverlappingFileLockException e) {
+                    // locked by this process
+                    lock = null;
+                } catch (IOException e) {
+                    channel.close();
+                    throw e;
+                }
+
+                if (lock == null) {
+                    channel.close();
+                    continue;
+                }
+
+                try {
+                    return new Directory(dir, channel, maxDiskSize);
+                } catch (IOException e) {
+                    channel.close();
+                    throw e;
+                }
+            }
+        }
+
+        private void readManifest() throws IOException {
+            File manifest = new File(dir, MANIFEST);
+            if (manifest.exists()) {
+                try (BufferedReader reader =
+                        Files.newBufferedReader(manifest.toPath(), StandardCharsets.UTF_8)) {
+                    String line;
+                    while ((line = reader.readLine()) != null) {
+                        String[] fields = line.split("\t", 3);
+                        if (fields.length < 3) {
+                            continue;
+                        }
+                        String key = fields[0];
+                        long size = Long.parseLong(fields[1]);
+                        if (new File(dir, key).length() == size) {
+                            files.put(key, new Entry(size, fields[2]));
+                            totalSize += size;
+                        }
+                    }
+                }
+            }
+
+            // delete files which are not completed or not in the manifest
+            File[] localFiles = dir.listFiles();
+            if (localFiles != null) {
+                for (File file : localFiles) {
+                    String name = file.getName();
+                    if (!name.equals(LOCK) && !name.equals(MANIFEST) && !files.containsKey(name)) {
+                        FileIOUtils.deleteFileOrDirectory(file);
+                    }
+                }
+            }
+
+            LOG.info(
+                    "Adopted {} persisted lookup files with {} bytes in {}.",
+                    files.size(),
+                    totalSize,
+                    dir);
+            evict(null);
+        }
+
+        @Nullable
+        private synchronized File get(String key) {
+            return files.get(key) == null ? null : new File(dir, key);
+        }
+
+        private File newBuildingFile() {
+            return new File(dir, BUILDING_PREFIX + UUID.randomUUID());
+        }
+
+        private synchronized File commit(String key, String owner, File buildingFile)
+                throws IOException {
+            File file = new File(dir, key);
+            Files.move(
+                    buildingFile.toPath(),
+                    file.toPath(),
+                    StandardCopyOption.ATOMIC_MOVE,
+                    StandardCopyOption.REPLACE_EXISTING);
+            long size = file.length();
+            Entry previous = files.put(key, new Entry(size, owner));
+            totalSize += size - (previous == null ? 0 : previous.size);
+            evict(key);
+            writeManifest();
+            return file;
+        }
+
+        private synchronized void remove(String key) {
+            Entry entry = files.remove(key);
+            if (entry == null) {
+                return;
+            }
+
+            totalSize -= entry.size;
+            try {
+                writeManifest();
+                FileIOUtils.deleteFileOrDirectory(new File(dir, key));
+            } catch (IOException e) {
+                LOG.warn("Failed to remove lookup file {} in {}.", key, dir, e);
+            }
+        }
+
+        private synchronized void retain(String owner, Set<String> keys) {
+            boolean removed = false;
+            Iterator<Map.Entry<String, Entry>> iterator = files.entrySet().iterator();
+            try {
+                while (iterator.hasNext()) {
+                    Map.Entry<String, Entry> entry = iterator.next();
+                    if (entry.getValue().owner.equals(owner) && !keys.contains(entry.getKey())) {
+                        iterator.remove();
+                        totalSize -= entry.getValue().size;
+                        removed = true;
+                        FileIOUtils.deleteFileOrDirectory(new File(dir, entry.getKey()));
+                    }
+                }
+            } catch (IOException e) {
+                LOG.warn("Failed to remove lookup files of {} in {}.", owner, dir, e);
+            }
+
+            if (removed) {
+                try {
+                    writeManifest();
+                } catch (IOException e) {
+                    LOG.warn("Failed to write manifest of lookup files in {}.", dir, e);
+                }
+            }
+        }
+
+        /** Evict least recently used files, files in use are still readable after deleting. */
+        private void evict(@Nullable String excludeKey) throws IOException {
+            Iterator<Map.Entry<String, Entry>> iterator = files.entrySet().iterator();
+            boolean evicted = false;
+            while (totalSize > maxDiskSize && iterator.hasNext()) {
+                Map.Entry<String, Entry> entry = iterator.next();
+                if (entry.getKey().equals(excludeKey)) {
+                    continue;
+                }
+                iterator.remove();
+                totalSize -= entry.getValue().size;
+                FileIOUtils.deleteFileOrDirectory(new File(dir, entry.getKey()));
+                evicted = true;
+            }
+            if (evicted) {
+                writeManifest();
+            }
+        }
+
+        private void writeManifest() throws IOException {
+            File tmp = new File(dir, MANIFEST + ".tmp");
+            try (BufferedWriter writer =
+                    Files.newBufferedWriter(tmp.toPath(), StandardCharsets.UTF_8)) {
+                for (Map.Entry<String, Entry> entry : files.entrySet()) {
+                    writer.write(entry.getKey());
+                    writer.write('\t');
+                    writer.write(String.valueOf(entry.getValue().size));
+                    writer.write('\t');
+                    writer.write(entry.getValue().owner);
+                    writer.newLine();
+                }
+            }
+            Files.move(
+                    tmp.toPath(),
+                    new File(dir, MANIFEST).toPath(),
+                    StandardCopyOption.ATOMIC_MOVE,
+                    StandardCopyOption.REPLACE_EXISTING);
+        }
+
+        /** Release the lock of the slot. */
+        private void close() {
+            try {
+                lockChannel.close();
+            } catch (IOException e) {
+                LOG.warn("Failed to release lock of lookup directory {}.", dir, e);
+            }
+        }
+    }
+
+    /** A persisted lookup file. */
+    private static class Entry {
+
+        private final long size;
+        private final String owner;
+
+        private Entry(long size, String owner) {
+            this.size = size;
+            this.owner = owner;
+        }
+    }
+}
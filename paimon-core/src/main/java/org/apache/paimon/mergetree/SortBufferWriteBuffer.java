@@ -36,6 +36,7 @@ import org.apache.paimon.mergetree.compact.ReducerMergeFunctionWrapper;
 import org.apache.paimon.sort.BinaryExternalSortBuffer;
 import org.apache.paimon.sort.BinaryInMemorySortBuffer;
 import org.apache.paimon.sort.SortBuffer;
+import org.apache.paimon.sort.SpillCompression;
 import org.apache.paimon.types.BigIntType;
 import org.apache.paimon.types.DataType;
 import org.apache.paimon.types.RowKind;
@@ -64,6 +65,24 @@ public class SortBufferWriteBuffer implements WriteBuffer {
             boolean spillable,
             int sortMaxFan,
             IOManager ioManager) {
+        this(
+                keyType,
+                valueType,
+                memoryPool,
+                spillable,
+                sortMaxFan,
+                ioManager,
+                SpillCompression.create("lz4"));
+    }
+
+    public SortBufferWriteBuffer(
+            RowType keyType,
+            RowType valueType,
+            MemorySegmentPool memoryPool,
+            boolean spillable,
+            int sortMaxFan,
+            IOManager ioManager,
+            SpillCompression spillCompression) {
         this.keyType = keyType;
         this.valueType = valueType;
         this.serializer = new KeyValueSerializer(keyType, valueType);
@@ -95,7 +114,8 @@ public class SortBufferWriteBuffer implements WriteBuffer {
                                 memoryPool.pageSize(),
                                 inMemorySortBuffer,
                                 ioManager,
-                                sortMaxFan)
+                                sortMaxFan,
+                                spillCompression)
                         : inMemorySortBuffer;
     }
 
@@ -120,6 +140,20 @@ public class SortBufferWriteBuffer implements WriteBuffer {
         return buffer.flushMemory();
     }
 
+    @Override
+    public long spilledBytes() {
+        return buffer instanceof BinaryExternalSortBuffer
+                ? ((BinaryExternalSortBuffer) buffer).spilledBytes()
+                : 0;
+    }
+
+    @Override
+    public long spillCostMillis() {
+        return buffer instanceof BinaryExternalSortBuffer
+                ? ((BinaryExternalSortBuffer) buffer).spillCostMillis()
+                : 0;
+    }
+
     @Override
     public void forEach(
             Comparator<InternalRow> keyComparator,
@@ -51,6 +51,12 @@ public interface WriteBuffer {
     /** Flush memory, return false if not supported. */
     boolean flushMemory() throws IOException;
 
+    /** Total bytes spilled to disk by this table. */
+    long spilledBytes();
+
+    /** Total time spent on spilling to disk by this table. */
+    long spillCostMillis();
+
     /**
      * Performs the given action for each remaining element in this buffer until all elements have
      * been processed or the action throws an exception.
@@ -0,0 +1,193 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.mergetree.compact;
+
+import org.apache.paimon.compact.CompactUnit;
+import org.apache.paimon.data.InternalRow;
+import org.apache.paimon.io.DataFileMeta;
+import org.apache.paimon.mergetree.LevelSortedRun;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Leveled Compaction Style is a compaction style, targeting the use cases with frequent updates of
+ * existing keys, where rewriting whole sorted runs is wasteful.
+ *
+ * <p>Each level from 1 to max level - 1 has a size target, which is {@code levelBaseSize *
+ * sizeMultiplier ^ (level - 1)}. Level 0 files are compacted with the overlapping files of level 1
+ * once there are enough of them. Otherwise, the level exceeding its target the most is picked, and
+ * one of its files is compacted with the overlapping files of the next level. The file with the
+ * minimal overlapping ratio is chosen to reduce write amplification.
+ *
+ * <p>See RocksDb Leveled-Compaction: https://github.com/facebook/rocksdb/wiki/Leveled-Compaction.
+ */
+public class LeveledCompaction implements CompactStrategy {
+
+    private static final Logger LOG = LoggerFactory.getLogger(LeveledCompaction.class);
+
+    private final Comparator<InternalRow> keyComparator;
+    private final int numLevel0CompactionTrigger;
+    private final long levelBaseSize;
+    private final int sizeMultiplier;
+
+    public LeveledCompaction(
+            Comparator<InternalRow> keyComparator,
+            int numLevel0CompactionTrigger,
+            long levelBaseSize,
+            int sizeMultiplier) {
+        this.keyComparator = keyComparator;
+        this.numLevel0CompactionTrigger = numLevel0CompactionTrigger;
+        this.levelBaseSize = levelBaseSize;
+        this.sizeMultiplier = sizeMultiplier;
+    }
+
+    @Override
+    public Optional<CompactUnit> pick(int numLevels, List<LevelSortedRun> runs) {
+        int maxLevel = numLevels - 1;
+        if (maxLevel < 1) {
+            return Optional.empty();
+        }
+
+        List<DataFileMeta> level0 = new ArrayList<>();
+        List<List<DataFileMeta>> levels = new ArrayList<>(numLevels);
+        for (int i = 0; i < numLevels; i++) {
+            levels.add(Collections.emptyList());
+        }
+        for (LevelSortedRun run : runs) {
+            if (run.level() == 0) {
+                level0.addAll(run.run().files());
+            } else {
+                levels.set(run.level(), run.run().files());
+            }
+        }
+
+        // 1 checking for level 0 file num
+        if (!level0.isEmpty() && level0.size() >= numLevel0CompactionTrigger) {
+            if (LOG.isDebugEnabled()) {
+                LOG.debug("Leveled compaction due to level 0 file num");
+            }
+            return Optional.of(pickLevel0(level0, levels.get(1)));
+        }
+
+        // 2 checking for level size target
+        int pickedLevel = -1;
+        double maxScore = 1.0;
+        double target = levelBaseSize;
+        for (int level = 1; level < maxLevel; level++) {
+            double score = totalSize(levels.get(level)) / target;
+            if (score > maxScore) {
+                maxScore = score;
+                pickedLevel = level;
+            }
+            target *= sizeMultiplier;
+        }
+
+        if (pickedLevel < 0) {
+            return Optional.empty();
+        }
+
+        if (LOG.isDebugEnabled()) {
+            LOG.debug(
+                    "Leveled compaction due to size of level {}, score = {}",
+                    pickedLevel,
+                    maxScore);
+        }
+        return Optional.of(
+                pickFile(pickedLevel, levels.get(pickedLevel), levels.get(pickedLevel + 1)));
+    }
+
+    private CompactUnit pickLevel0(List<DataFileMeta> level0, List<DataFileMeta> level1) {
+        // level 0 files overlap each other, so all of them are compacted together
+        InternalRow minKey = level0.get(0).minKey();
+        InternalRow maxKey = level0.get(0).maxKey();
+        for (DataFileMeta file : level0) {
+            if (keyComparator.compare(file.minKey(), minKey) < 0) {
+                minKey = file.minKey();
+            }
+            if (keyComparator.compare(file.maxKey(), maxKey) > 0) {
+                maxKey = file.maxKey();
+            }
+        }
+
+        List<DataFileMeta> files = new ArrayList<>(level0);
+        for (DataFileMeta file : level1) {
+            if (overlaps(file, minKey, maxKey)) {
+                files.add(file);
+            }
+        }
+        return CompactUnit.fromFiles(1, files);
+    }
+
+    private CompactUnit pickFile(int level, List<DataFileMeta> files, List<DataFileMeta> next) {
+        DataFileMeta picked = null;
+        int pickedStart = 0;
+        int pickedEnd = 0;
+        double minRatio = Double.MAX_VALUE;
+
+        // both levels are sorted runs, so the overlapping files of next level can be found by
+        // moving two pointers
+        int start = 0;
+        for (DataFileMeta file : files) {
+            while (start < next.size()
+                    && keyComparator.compare(next.get(start).maxKey(), file.minKey()) < 0) {
+                start++;
+            }
+            int end = start;
+            long overlappingSize = 0;
+            while (end < next.size()
+                    && keyComparator.compare(next.get(end).minKey(), file.maxKey()) <= 0) {
+                overlappingSize += next.get(end).fileSize();
+                end++;
+            }
+
+            double ratio = (double) overlappingSize / Math.max(1, file.fileSize());
+            if (ratio < minRatio) {
+                minRatio = ratio;
+                picked = file;
+                pickedStart = start;
+                pickedEnd = end;
+            }
+        }
+
+        List<DataFileMeta> unitFiles = new ArrayList<>();
+        unitFiles.add(picked);
+        unitFiles.addAll(next.subList(pickedStart, pickedEnd));
+        return CompactUnit.fromFiles(level + 1, unitFiles);
+    }
+
+    private boolean overlaps(DataFileMeta file, InternalRow minKey, InternalRow maxKey) {
+        return keyComparator.compare(file.maxKey(), minKey) >= 0
+                && keyComparator.compare(file.minKey(), maxKey) <= 0;
+    }
+
+    private static long totalSize(List<DataFileMeta> files) {
+        long size = 0;
+        for (DataFileMeta file : files) {
+            size += file.fileSize();
+        }
+        return size;
+    }
+}
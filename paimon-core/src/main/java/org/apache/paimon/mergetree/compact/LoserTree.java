@@ -58,6 +58,15 @@ public class LoserTree<T> implements Closeable {
 
     private boolean initialized;
 
+    /** Number of kvs popped since the last {@link #adjustForNextLoop()}. */
+    private int numPopped;
+
+    /**
+     * The loser with the smallest key on the path of the current winner, -1 if it is not computed
+     * yet. It stays valid as long as the tree is not changed.
+     */
+    private int runnerUp;
+
     public LoserTree(
             List<RecordReader<T>> nextBatchReaders,
             Comparator<T> firstComparator,
@@ -72,6 +81,8 @@ public class LoserTree<T> implements Closeable {
         this.secondComparator =
                 (e1, e2) -> e1 == null ? -1 : (e2 == null ? 1 : secondComparator.compare(e1, e2));
         this.initialized = false;
+        this.numPopped = 0;
+        this.runnerUp = -1;
 
         for (RecordReader<T> reader : nextBatchReaders) {
             LeafIterator<T> iterator = new LeafIterator<>(reader);
@@ -94,6 +105,19 @@ public class LoserTree<T> implements Closeable {
     /** Adjust the Key that needs to be returned in the next round. */
     public void adjustForNextLoop() throws IOException {
         LeafIterator<T> winner = leaves.get(tree[0]);
+        if (numPopped == 1 && winner.state == State.WINNER_POPPED) {
+            // fast path, the popped key only comes from the winner, so all the losers still hold
+            // new keys. If the next key of the winner is smaller than all of them, the tree
+            // doesn't need to be adjusted.
+            winner.advanceIfAvailable();
+            if (winner.peek() != null && beatsRunnerUp(winner)) {
+                numPopped = 0;
+                return;
+            }
+            adjust(tree[0]);
+            winner = leaves.get(tree[0]);
+        }
+        numPopped = 0;
         while (winner.state == State.WINNER_POPPED) {
             winner.advanceIfAvailable();
             adjust(tree[0]);
@@ -110,6 +134,7 @@ public class LoserTree<T> implements Closeable {
             return null;
         }
         T result = winner.pop();
+        numPopped++;
         adjust(tree[0]);
         return result;
     }
@@ -119,6 +144,22 @@ public class LoserTree<T> implements Closeable {
         return leaves.get(tree[0]).state != State.WINNER_POPPED ? leaves.get(tree[0]).peek() : null;
     }
 
+    private boolean beatsRunnerUp(LeafIterator<T> winner) {
+        if (runnerUp < 0) {
+            for (int parent = (tree[0] + size) / 2; parent > 0; parent /= 2) {
+                int loser = tree[parent];
+                if (runnerUp < 0
+                        || firstComparator.compare(
+                                        leaves.get(loser).peek(), leaves.get(runnerUp).peek())
+                                > 0) {
+                    runnerUp = loser;
+                }
+            }
+        }
+        return runnerUp < 0
+                || firstComparator.compare(winner.peek(), leaves.get(runnerUp).peek()) > 0;
+    }
+
     /**
      * Adjust the winner from bottom to top. Using different {@link State}, we can quickly compare
      * whether all the current same keys have been processed.
@@ -161,11 +202,15 @@ public class LoserTree<T> implements Closeable {
 
             // if the winner loses, exchange nodes.
             if (!winnerNode.state.isWinner()) {
+                runnerUp = -1;
                 int tmp = winner;
                 winner = this.tree[parent];
                 this.tree[parent] = tmp;
             }
         }
+        if (this.tree[0] != winner) {
+            runnerUp = -1;
+        }
         this.tree[0] = winner;
     }
 
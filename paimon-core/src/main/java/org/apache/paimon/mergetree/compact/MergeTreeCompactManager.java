@@ -20,6 +20,7 @@ package org.apache.paimon.mergetree.compact;
 
 import org.apache.paimon.KeyValueFileStore;
 import org.apache.paimon.annotation.VisibleForTesting;
+import org.apache.paimon.compact.CompactExecutor;
 import org.apache.paimon.compact.CompactFutureManager;
 import org.apache.paimon.compact.CompactResult;
 import org.apache.paimon.compact.CompactUnit;
@@ -115,6 +116,10 @@ public class MergeTreeCompactManager extends CompactFutureManager {
             optionalUnit = CompactStrategy.pickFullCompaction(levels.numberOfLevels(), runs);
         } else {
             if (taskFuture != null) {
+                // more sorted runs make the pending task more urgent
+                if (executor instanceof CompactExecutor) {
+                    ((CompactExecutor) executor).updatePriority(taskFuture, priority());
+                }
                 return;
             }
             if (LOG.isDebugEnabled()) {
@@ -181,7 +186,15 @@ public class MergeTreeCompactManager extends CompactFutureManager {
                                                     file.fileName(), file.level(), file.fileSize()))
                             .collect(Collectors.joining(", ")));
         }
-        taskFuture = executor.submit(task);
+        taskFuture = executor.submit(task.withPriority(priority()));
+    }
+
+    /**
+     * The stall risk of this bucket, that is the ratio of the number of sorted runs to the number
+     * which stops writing.
+     */
+    private double priority() {
+        return (double) levels.numberOfSortedRuns() / numSortedRunStopTrigger;
     }
 
     /** Finish current task, and update result files to {@link Levels}. */
@@ -31,8 +31,15 @@ import org.apache.paimon.mergetree.SortedRun;
 import org.apache.paimon.reader.RecordReader;
 import org.apache.paimon.reader.RecordReaderIterator;
 
+import javax.annotation.Nullable;
+
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Comparator;
 import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 
 /** Default {@link CompactRewriter} for merge trees. */
 public class MergeTreeCompactRewriter extends AbstractCompactRewriter {
@@ -42,6 +49,8 @@ public class MergeTreeCompactRewriter extends AbstractCompactRewriter {
     protected final Comparator<InternalRow> keyComparator;
     protected final MergeFunctionFactory<KeyValue> mfFactory;
     protected final MergeSorter mergeSorter;
+    private final int rewriteParallelism;
+    @Nullable private final ExecutorService rangeRewriteExecutor;
 
     public MergeTreeCompactRewriter(
             KeyValueFileReaderFactory readerFactory,
@@ -49,11 +58,29 @@ public class MergeTreeCompactRewriter extends AbstractCompactRewriter {
             Comparator<InternalRow> keyComparator,
             MergeFunctionFactory<KeyValue> mfFactory,
             MergeSorter mergeSorter) {
+        this(readerFactory, writerFactory, keyComparator, mfFactory, mergeSorter, 1, null);
+    }
+
+    /**
+     * @param rewriteParallelism the maximum number of ranges rewritten concurrently.
+     * @param rangeRewriteExecutor the executor to rewrite ranges except the first one, it is owned
+     *     by the caller and can be shared by the rewriters of all buckets.
+     */
+    public MergeTreeCompactRewriter(
+            KeyValueFileReaderFactory readerFactory,
+            KeyValueFileWriterFactory writerFactory,
+            Comparator<InternalRow> keyComparator,
+            MergeFunctionFactory<KeyValue> mfFactory,
+            MergeSorter mergeSorter,
+            int rewriteParallelism,
+            @Nullable ExecutorService rangeRewriteExecutor) {
         this.readerFactory = readerFactory;
         this.writerFactory = writerFactory;
         this.keyComparator = keyComparator;
         this.mfFactory = mfFactory;
         this.mergeSorter = mergeSorter;
+        this.rewriteParallelism = rangeRewriteExecutor == null ? 1 : rewriteParallelism;
+        this.rangeRewriteExecutor = rangeRewriteExecutor;
     }
 
     @Override
@@ -64,6 +91,170 @@ public class MergeTreeCompactRewriter extends AbstractCompactRewriter {
 
     protected CompactResult rewriteCompaction(
             int outputLevel, boolean dropDelete, List<List<SortedRun>> sections) throws Exception {
+        if (!requireRewrite(dropDelete, sections)) {
+            return upgradeSections(outputLevel, sections);
+        }
+
+        List<List<List<SortedRun>>> ranges = splitRanges(sections);
+        if (ranges.size() == 1) {
+            return rewriteRange(outputLevel, dropDelete, sections);
+        }
+
+        // sections don't overlap with each other, so ranges of sections can be rewritten
+        // concurrently, and the output files of all ranges still form a sorted run, the first
+        // range is rewritten by the compaction thread so that it never waits for a shared thread
+        // without making progress
+        List<Future<CompactResult>> futures = new ArrayList<>();
+        for (List<List<SortedRun>> range : ranges.subList(1, ranges.size())) {
+            futures.add(
+                    rangeRewriteExecutor.submit(
+                            () -> rewriteRange(outputLevel, dropDelete, range)));
+        }
+
+        List<CompactResult> results = new ArrayList<>();
+        Exception exception = null;
+        try {
+            results.add(rewriteRange(outputLevel, dropDelete, ranges.get(0)));
+        } catch (Exception e) {
+            exception = e;
+        }
+        // wait for all ranges even if one fails, the outputs of running ranges can only be
+        // deleted when they are done, a failed range deletes its own output files
+        for (Future<CompactResult> future : futures) {
+            while (true) {
+                try {
+                    results.add(future.get());
+                    break;
+                } catch (InterruptedException e) {
+                    exception = addException(exception, e);
+                } catch (ExecutionException e) {
+                    exception =
+                            addException(
+                                    exception,
+                                    e.getCause() instanceof Exception
+                                            ? (Exception) e.getCause()
+                                            : e);
+                    break;
+                }
+            }
+        }
+
+        if (exception != null) {
+            for (CompactResult result : results) {
+                for (DataFileMeta file : result.after()) {
+                    writerFactory.deleteFile(file.fileName(), file.level());
+                }
+            }
+            throw exception;
+        }
+
+        CompactResult result = new CompactResult();
+        results.forEach(result::merge);
+        return result;
+    }
+
+    private static Exception addException(@Nullable Exception exception, Exception e) {
+        if (exception == null) {
+            return e;
+        }
+        exception.addSuppressed(e);
+        return exception;
+    }
+
+    /**
+     * Overlapping sections must be merged. Non-overlapping files are only worth rewriting if they
+     * can be packed into fewer files, otherwise reading and writing them again just produces the
+     * same number of files, for example when keys are ingested sequentially.
+     *
+     * <p>When delete records are dropped, files must be rewritten to drop them. Files don't record
+     * the number of delete records they hold, so they can't be upgraded in this case.
+     */
+    private boolean requireRewrite(boolean dropDelete, List<List<SortedRun>> sections) {
+        if (dropDelete) {
+            return true;
+        }
+
+        int numFiles = 0;
+        long totalSize = 0;
+        for (List<SortedRun> section : sections) {
+            if (section.size() > 1) {
+                return true;
+            }
+            for (SortedRun run : section) {
+                numFiles += run.files().size();
+                totalSize += run.totalSize();
+            }
+        }
+
+        long fileSize = Math.max(1, writerFactory.suggestedFileSize());
+        long numOutputFiles = totalSize / fileSize + (totalSize % fileSize == 0 ? 0 : 1);
+        return numOutputFiles < numFiles;
+    }
+
+    private CompactResult upgradeSections(int outputLevel, List<List<SortedRun>> sections)
+            throws Exception {
+        CompactResult result = new CompactResult();
+        for (DataFileMeta file : extractFilesFromSections(sections)) {
+            if (file.level() != outputLevel) {
+                result.merge(upgrade(outputLevel, file));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Splits the sections into at most {@code rewriteParallelism} contiguous ranges of similar
+     * size. Each range should be large enough to fill an output file, otherwise splitting only
+     * produces more small files.
+     */
+    private List<List<List<SortedRun>>> splitRanges(List<List<SortedRun>> sections) {
+        if (rewriteParallelism <= 1 || sections.size() <= 1) {
+            return Collections.singletonList(sections);
+        }
+
+        long[] sizes = new long[sections.size()];
+        long totalSize = 0;
+        for (int i = 0; i < sections.size(); i++) {
+            List<SortedRun> section = sections.get(i);
+            if (mergeSorter.requireSpill(section.size())) {
+                // the memory pool of merge sorter can not be shared by concurrent ranges
+                return Collections.singletonList(sections);
+            }
+            for (SortedRun run : section) {
+                sizes[i] += run.totalSize();
+            }
+            totalSize += sizes[i];
+        }
+
+        long numRanges =
+                Math.min(
+                        Math.min(rewriteParallelism, sections.size()),
+                        totalSize / Math.max(1, writerFactory.suggestedFileSize()));
+        if (numRanges <= 1) {
+            return Collections.singletonList(sections);
+        }
+
+        long targetSize = totalSize / numRanges;
+        List<List<List<SortedRun>>> ranges = new ArrayList<>();
+        List<List<SortedRun>> range = new ArrayList<>();
+        long rangeSize = 0;
+        for (int i = 0; i < sections.size(); i++) {
+            range.add(sections.get(i));
+            rangeSize += sizes[i];
+            if (rangeSize >= targetSize && ranges.size() < numRanges - 1) {
+                ranges.add(range);
+                range = new ArrayList<>();
+                rangeSize = 0;
+            }
+        }
+        if (!range.isEmpty()) {
+            ranges.add(range);
+        }
+        return ranges;
+    }
+
+    private CompactResult rewriteRange(
+            int outputLevel, boolean dropDelete, List<List<SortedRun>> sections) throws Exception {
         RollingFileWriter<KeyValue, DataFileMeta> writer =
                 writerFactory.createRollingMergeTreeFileWriter(outputLevel);
         RecordReader<KeyValue> sectionsReader =
@@ -74,8 +265,14 @@ public class MergeTreeCompactRewriter extends AbstractCompactRewriter {
                         keyComparator,
                         mfFactory.create(),
                         mergeSorter);
-        writer.write(new RecordReaderIterator<>(sectionsReader));
-        writer.close();
+        try {
+            writer.write(new RecordReaderIterator<>(sectionsReader));
+            writer.close();
+        } catch (Exception e) {
+            // reading may fail or be interrupted, delete the files written so far
+            writer.abort();
+            throw e;
+        }
         return new CompactResult(extractFilesFromSections(sections), writer.result());
     }
 }
@@ -33,6 +33,7 @@ import java.util.List;
 public class SortMergeReaderWithLoserTree<T> implements SortMergeReader<T> {
 
     private final MergeFunctionWrapper<T> mergeFunctionWrapper;
+    private final boolean reduceSingleKv;
     private final LoserTree<KeyValue> loserTree;
 
     public SortMergeReaderWithLoserTree(
@@ -40,6 +41,7 @@ public class SortMergeReaderWithLoserTree<T> implements SortMergeReader<T> {
             Comparator<InternalRow> userKeyComparator,
             MergeFunctionWrapper<T> mergeFunctionWrapper) {
         this.mergeFunctionWrapper = mergeFunctionWrapper;
+        this.reduceSingleKv = mergeFunctionWrapper instanceof ReducerMergeFunctionWrapper;
         this.loserTree =
                 new LoserTree<>(
                         readers,
@@ -65,6 +67,7 @@ public class SortMergeReaderWithLoserTree<T> implements SortMergeReader<T> {
 
         private boolean released = false;
 
+        @SuppressWarnings("unchecked")
         @Nullable
         @Override
         public T next() throws IOException {
@@ -74,6 +77,10 @@ public class SortMergeReaderWithLoserTree<T> implements SortMergeReader<T> {
                 if (winner == null) {
                     return null;
                 }
+                if (reduceSingleKv && loserTree.peekWinner() == null) {
+                    // the key only appears in one reader, reducer returns it as is
+                    return (T) winner;
+                }
                 mergeFunctionWrapper.reset();
                 mergeFunctionWrapper.add(winner);
 
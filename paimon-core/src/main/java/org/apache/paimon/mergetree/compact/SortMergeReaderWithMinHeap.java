@@ -37,6 +37,7 @@ public class SortMergeReaderWithMinHeap<T> implements SortMergeReader<T> {
     private final List<RecordReader<KeyValue>> nextBatchReaders;
     private final Comparator<InternalRow> userKeyComparator;
     private final MergeFunctionWrapper<T> mergeFunctionWrapper;
+    private final boolean reduceSingleKv;
 
     private final PriorityQueue<Element> minHeap;
     private final List<Element> polled;
@@ -48,6 +49,7 @@ public class SortMergeReaderWithMinHeap<T> implements SortMergeReader<T> {
         this.nextBatchReaders = new ArrayList<>(readers);
         this.userKeyComparator = userKeyComparator;
         this.mergeFunctionWrapper = mergeFunctionWrapper;
+        this.reduceSingleKv = mergeFunctionWrapper instanceof ReducerMergeFunctionWrapper;
 
         this.minHeap =
                 new PriorityQueue<>(
@@ -108,6 +110,7 @@ public class SortMergeReaderWithMinHeap<T> implements SortMergeReader<T> {
 
         private boolean released = false;
 
+        @SuppressWarnings("unchecked")
         @Override
         public T next() throws IOException {
             while (true) {
@@ -115,6 +118,14 @@ public class SortMergeReaderWithMinHeap<T> implements SortMergeReader<T> {
                 if (!hasMore) {
                     return null;
                 }
+                if (reduceSingleKv && polled.size() == 1) {
+                    // the key only appears in one reader, reducer returns it as is
+                    return (T) polled.get(0).kv;
+                }
+                mergeFunctionWrapper.reset();
+                for (Element element : polled) {
+                    mergeFunctionWrapper.add(element.kv);
+                }
                 T result = mergeFunctionWrapper.getResult();
                 if (result != null) {
                     return result;
@@ -130,6 +141,24 @@ public class SortMergeReaderWithMinHeap<T> implements SortMergeReader<T> {
                     "SortMergeIterator#advanceNext is called even if the last call returns null. "
                             + "This is a bug.");
 
+            if (polled.size() == 1) {
+                // fast path, if the next key of the only polled element is still smaller than all
+                // the others, it can be merged without going through the heap
+                Element element = polled.get(0);
+                if (element.update()) {
+                    if (minHeap.isEmpty()
+                            || userKeyComparator.compare(element.kv.key(), minHeap.peek().kv.key())
+                                    < 0) {
+                        return true;
+                    }
+                    minHeap.offer(element);
+                } else {
+                    element.iterator.releaseBatch();
+                    nextBatchReaders.add(element.reader);
+                }
+                polled.clear();
+            }
+
             // add previously polled elements back to priority queue
             for (Element element : polled) {
                 if (element.update()) {
@@ -148,7 +177,6 @@ public class SortMergeReaderWithMinHeap<T> implements SortMergeReader<T> {
                 return false;
             }
 
-            mergeFunctionWrapper.reset();
             InternalRow key =
                     Preconditions.checkNotNull(minHeap.peek(), "Min heap is empty. This is a bug.")
                             .kv
@@ -162,7 +190,6 @@ public class SortMergeReaderWithMinHeap<T> implements SortMergeReader<T> {
                     break;
                 }
                 minHeap.poll();
-                mergeFunctionWrapper.add(element.kv);
                 polled.add(element);
             }
             return true;
@@ -49,6 +49,7 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.atomic.AtomicLong;
@@ -83,6 +84,7 @@ public abstract class AbstractFileStoreScan implements FileStoreScan {
 
     private ManifestCacheFilter manifestCacheFilter = null;
     private final Integer scanManifestParallelism;
+    @Nullable private final SnapshotFilesCache snapshotFilesCache;
 
     private ScanMetrics scanMetrics = null;
 
@@ -95,7 +97,8 @@ public abstract class AbstractFileStoreScan implements FileStoreScan {
             ManifestList.Factory manifestListFactory,
             int numOfBuckets,
             boolean checkNumOfBuckets,
-            Integer scanManifestParallelism) {
+            Integer scanManifestParallelism,
+            @Nullable SnapshotFilesCache snapshotFilesCache) {
         this.partitionStatsConverter = new FieldStatsArraySerializer(partitionType);
         this.partitionType = partitionType;
         this.bucketKeyFilter = bucketKeyFilter;
@@ -107,6 +110,7 @@ public abstract class AbstractFileStoreScan implements FileStoreScan {
         this.checkNumOfBuckets = checkNumOfBuckets;
         this.tableSchemas = new ConcurrentHashMap<>();
         this.scanManifestParallelism = scanManifestParallelism;
+        this.snapshotFilesCache = snapshotFilesCache;
     }
 
     @Override
@@ -249,35 +253,67 @@ public abstract class AbstractFileStoreScan implements FileStoreScan {
                     specifiedSnapshot == null
                             ? snapshotManager.latestSnapshot()
                             : specifiedSnapshot;
-            if (snapshot == null) {
-                manifests = Collections.emptyList();
-            } else {
-                manifests = readManifests(snapshot);
-            }
         }
 
-        long startDataFiles =
-                manifests.stream().mapToLong(f -> f.numAddedFiles() + f.numDeletedFiles()).sum();
-
-        AtomicLong cntEntries = new AtomicLong(0);
-        Iterable<ManifestEntry> entries =
-                ParallellyExecuteUtils.parallelismBatchIterable(
-                        files -> {
-                            List<ManifestEntry> entryList =
-                                    files.parallelStream()
-                                            .filter(this::filterManifestFileMeta)
-                                            .flatMap(m -> readManifest.apply(m).stream())
-                                            .filter(this::filterUnmergedManifestEntry)
-                                            .collect(Collectors.toList());
-                            cntEntries.getAndAdd(entryList.size());
-                            return entryList;
-                        },
-                        manifests,
-                        scanManifestParallelism);
+        long numScannedManifests;
+        Collection<ManifestEntry> mergedEntries;
+        long skippedByPartitionAndStats;
+        if (snapshot != null
+                && snapshotFilesCache != null
+                && scanMode == ScanMode.ALL
+                && manifestCacheFilter == null) {
+            // all files of the snapshot are cached, filter them as they are read from manifests
+            AtomicLong cntManifests = new AtomicLong(0);
+            List<ManifestEntry> snapshotFiles =
+                    snapshotFilesCache.files(
+                            snapshot,
+                            snapshotManager,
+                            manifestList,
+                            files -> {
+                                cntManifests.addAndGet(files.size());
+                                return readAllManifestEntries(files);
+                            });
+            mergedEntries =
+                    snapshotFiles.stream()
+                            .filter(this::filterCachedEntry)
+                            .collect(Collectors.toList());
+            numScannedManifests = cntManifests.get();
+            skippedByPartitionAndStats = snapshotFiles.size() - mergedEntries.size();
+        } else {
+            if (manifests == null) {
+                manifests = snapshot == null ? Collections.emptyList() : readManifests(snapshot);
+            }
+
+            long startDataFiles =
+                    manifests.stream()
+                            .mapToLong(f -> f.numAddedFiles() + f.numDeletedFiles())
+                            .sum();
+
+            // manifests are read and filtered in batches, the next batch is read while the
+            // entries of the current batch are merged
+            AtomicLong cntEntries = new AtomicLong(0);
+            Iterable<ManifestEntry> entries =
+                    ParallellyExecuteUtils.parallelismBatchIterable(
+                            files -> {
+                                List<ManifestEntry> entryList =
+                                        files.parallelStream()
+                                                .filter(this::filterManifestFileMeta)
+                                                .flatMap(m -> readManifest.apply(m).stream())
+                                                .filter(this::filterUnmergedManifestEntry)
+                                                .collect(Collectors.toList());
+                                cntEntries.getAndAdd(entryList.size());
+                                return entryList;
+                            },
+                            manifests,
+                            scanManifestParallelism);
+            mergedEntries = ManifestEntry.mergeEntries(entries);
+            numScannedManifests = manifests.size();
+            skippedByPartitionAndStats = startDataFiles - cntEntries.get();
+        }
 
-        List<ManifestEntry> files = new ArrayList<>();
-        Collection<ManifestEntry> mergedEntries = ManifestEntry.mergeEntries(entries);
-        long skippedByPartitionAndStats = startDataFiles - cntEntries.get();
+        // we use LinkedHashMap to avoid disorder
+        Map<Pair<BinaryRow, Integer>, List<ManifestEntry>> bucketFiles = new LinkedHashMap<>();
+        long afterBucketFilter = 0;
         for (ManifestEntry file : mergedEntries) {
             if (checkNumOfBuckets && file.totalBuckets() != numOfBuckets) {
                 String partInfo =
@@ -303,29 +339,25 @@ public abstract class AbstractFileStoreScan implements FileStoreScan {
             // and thus the filtered manifest entries might be empty
             // which renders the bucket check invalid
             if (filterMergedManifestEntry(file)) {
-                files.add(file);
+                // We group files by bucket here, and filter them by the whole bucket filter.
+                // Why do this: because in primary key table, we can't just filter the value
+                // by the stat in files (see `PrimaryKeyFileStoreTable.nonPartitionFilterConsumer`),
+                // but we can do this by filter the whole bucket files
+                bucketFiles
+                        .computeIfAbsent(
+                                Pair.of(file.partition(), file.bucket()), k -> new ArrayList<>())
+                        .add(file);
+                afterBucketFilter++;
             }
         }
 
-        long afterBucketFilter = files.size();
-        long skippedByBucketAndLevelFilter = mergedEntries.size() - files.size();
-        // We group files by bucket here, and filter them by the whole bucket filter.
-        // Why do this: because in primary key table, we can't just filter the value
-        // by the stat in files (see `PrimaryKeyFileStoreTable.nonPartitionFilterConsumer`),
-        // but we can do this by filter the whole bucket files
-        files =
-                files.stream()
-                        .collect(
-                                Collectors.groupingBy(
-                                        // we use LinkedHashMap to avoid disorder
-                                        file -> Pair.of(file.partition(), file.bucket()),
-                                        LinkedHashMap::new,
-                                        Collectors.toList()))
-                        .values()
-                        .stream()
-                        .filter(this::filterWholeBucketByStats)
-                        .flatMap(Collection::stream)
-                        .collect(Collectors.toList());
+        long skippedByBucketAndLevelFilter = mergedEntries.size() - afterBucketFilter;
+        List<ManifestEntry> files = new ArrayList<>();
+        for (List<ManifestEntry> entriesOfBucket : bucketFiles.values()) {
+            if (filterWholeBucketByStats(entriesOfBucket)) {
+                files.addAll(entriesOfBucket);
+            }
+        }
 
         long skippedByWholeBucketFiles = afterBucketFilter - files.size();
         long scanDuration = (System.nanoTime() - started) / 1_000_000;
@@ -333,7 +365,7 @@ public abstract class AbstractFileStoreScan implements FileStoreScan {
             scanMetrics.reportScan(
                     new ScanStats(
                             scanDuration,
-                            manifests.size(),
+                            numScannedManifests,
                             skippedByPartitionAndStats,
                             skippedByBucketAndLevelFilter,
                             skippedByWholeBucketFiles,
@@ -379,10 +411,31 @@ public abstract class AbstractFileStoreScan implements FileStoreScan {
 
     /** Note: Keep this thread-safe. */
     private boolean filterManifestFileMeta(ManifestFileMeta manifest) {
-        return partitionFilter == null
-                || partitionFilter.test(
-                        manifest.numAddedFiles() + manifest.numDeletedFiles(),
-                        manifest.partitionStats().fields(partitionStatsConverter));
+        return (partitionFilter == null
+                        || partitionFilter.test(
+                                manifest.numAddedFiles() + manifest.numDeletedFiles(),
+                                manifest.partitionStats().fields(partitionStatsConverter)))
+                && filterManifestByStats(manifest);
+    }
+
+    /** Note: Keep this thread-safe. */
+    protected boolean filterManifestByStats(ManifestFileMeta manifest) {
+        return true;
+    }
+
+    /** Filter the cached entry as the filters applied when reading manifests. */
+    private boolean filterCachedEntry(ManifestEntry entry) {
+        if (partitionFilter != null && !partitionFilter.test(entry.partition())) {
+            return false;
+        }
+
+        if (bucketFilter != null
+                && numOfBuckets == entry.totalBuckets()
+                && !bucketFilter.test(entry.bucket())) {
+            return false;
+        }
+
+        return filterUnmergedManifestEntry(entry);
     }
 
     /** Note: Keep this thread-safe. */
@@ -408,6 +461,19 @@ public abstract class AbstractFileStoreScan implements FileStoreScan {
     /** Note: Keep this thread-safe. */
     protected abstract boolean filterWholeBucketByStats(List<ManifestEntry> entries);
 
+    private Iterable<ManifestEntry> readAllManifestEntries(List<ManifestFileMeta> manifests) {
+        return ParallellyExecuteUtils.parallelismBatchIterable(
+                files ->
+                        files.parallelStream()
+                                .flatMap(
+                                        m ->
+                                                manifestFileFactory.create().read(m.fileName())
+                                                        .stream())
+                                .collect(Collectors.toList()),
+                manifests,
+                scanManifestParallelism);
+    }
+
     /** Note: Keep this thread-safe. */
     private List<ManifestEntry> readManifestFileMeta(ManifestFileMeta manifest) {
         return manifestFileFactory
@@ -20,6 +20,7 @@ package org.apache.paimon.operation;
 
 import org.apache.paimon.Snapshot;
 import org.apache.paimon.annotation.VisibleForTesting;
+import org.apache.paimon.compact.CompactExecutor;
 import org.apache.paimon.data.BinaryRow;
 import org.apache.paimon.disk.IOManager;
 import org.apache.paimon.fs.Path;
@@ -27,15 +28,17 @@ import org.apache.paimon.index.IndexFileMeta;
 import org.apache.paimon.index.IndexMaintainer;
 import org.apache.paimon.io.DataFileMeta;
 import org.apache.paimon.io.IndexIncrement;
+import org.apache.paimon.lookup.LookupStoreStats;
 import org.apache.paimon.manifest.ManifestEntry;
 import org.apache.paimon.memory.MemoryPoolFactory;
 import org.apache.paimon.metrics.MetricRegistry;
+import org.apache.paimon.operation.metrics.CompactExecutorMetric;
 import org.apache.paimon.operation.metrics.CompactionMetrics;
+import org.apache.paimon.operation.metrics.LookupMetrics;
 import org.apache.paimon.operation.metrics.WriterMetrics;
 import org.apache.paimon.table.sink.CommitMessage;
 import org.apache.paimon.table.sink.CommitMessageImpl;
 import org.apache.paimon.utils.CommitIncrement;
-import org.apache.paimon.utils.ExecutorThreadFactory;
 import org.apache.paimon.utils.FileStorePathFactory;
 import org.apache.paimon.utils.RecordWriter;
 import org.apache.paimon.utils.SnapshotManager;
@@ -52,7 +55,6 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
 
 /**
  * Base {@link FileStoreWrite} implementation.
@@ -77,6 +79,7 @@ public abstract class AbstractFileStoreWrite<T> implements FileStoreWrite<T> {
     private boolean ignorePreviousFiles = false;
     protected boolean isStreamingMode = false;
     private MetricRegistry metricRegistry = null;
+    @Nullable private CompactExecutorMetric compactExecutorMetric;
 
     protected final String tableName;
     private final FileStorePathFactory pathFactory;
@@ -250,7 +253,10 @@ public abstract class AbstractFileStoreWrite<T> implements FileStoreWrite<T> {
         }
         writers.clear();
         if (lazyCompactExecutor != null && closeCompactExecutorWhenLeaving) {
-            lazyCompactExecutor.shutdownNow();
+            ((CompactExecutor) lazyCompactExecutor).release();
+        }
+        if (compactExecutorMetric != null) {
+            compactExecutorMetric.close();
         }
     }
 
@@ -358,6 +364,11 @@ public abstract class AbstractFileStoreWrite<T> implements FileStoreWrite<T> {
     @Override
     public FileStoreWrite<T> withMetricRegistry(MetricRegistry metricRegistry) {
         this.metricRegistry = metricRegistry;
+        if (metricRegistry != null) {
+            // the executor runs compactions of all buckets, report it once for the table
+            compactExecutorMetric =
+                    new CompactExecutorMetric(() -> lazyCompactExecutor, metricRegistry, tableName);
+        }
         return this;
     }
 
@@ -370,6 +381,19 @@ public abstract class AbstractFileStoreWrite<T> implements FileStoreWrite<T> {
         return null;
     }
 
+    @Nullable
+    public LookupMetrics getLookupMetrics(BinaryRow partition, int bucket, LookupStoreStats stats) {
+        if (metricRegistry != null) {
+            return new LookupMetrics(
+                    metricRegistry,
+                    tableName,
+                    getPartitionString(pathFactory, partition),
+                    bucket,
+                    stats);
+        }
+        return null;
+    }
+
     @Nullable
     public WriterMetrics getWriterMetrics(BinaryRow partition, int bucket) {
         if (this.metricRegistry != null) {
@@ -400,14 +424,15 @@ public abstract class AbstractFileStoreWrite<T> implements FileStoreWrite<T> {
 
     private ExecutorService compactExecutor() {
         if (lazyCompactExecutor == null) {
-            lazyCompactExecutor =
-                    Executors.newSingleThreadScheduledExecutor(
-                            new ExecutorThreadFactory(
-                                    Thread.currentThread().getName() + "-compaction"));
+            lazyCompactExecutor = createCompactExecutor();
         }
         return lazyCompactExecutor;
     }
 
+    protected CompactExecutor createCompactExecutor() {
+        return new CompactExecutor(1, Thread.currentThread().getName() + "-compaction");
+    }
+
     @VisibleForTesting
     public ExecutorService getCompactExecutor() {
         return lazyCompactExecutor;
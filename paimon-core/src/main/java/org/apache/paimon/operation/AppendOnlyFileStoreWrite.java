@@ -25,29 +25,44 @@ import org.apache.paimon.append.AppendOnlyWriter;
 import org.apache.paimon.compact.CompactManager;
 import org.apache.paimon.compact.NoopCompactManager;
 import org.apache.paimon.data.BinaryRow;
+import org.apache.paimon.data.GenericRow;
 import org.apache.paimon.data.InternalRow;
+import org.apache.paimon.data.JoinedRow;
+import org.apache.paimon.disk.IOManager;
 import org.apache.paimon.format.FileFormat;
 import org.apache.paimon.fs.FileIO;
 import org.apache.paimon.io.DataFileMeta;
 import org.apache.paimon.io.DataFilePathFactory;
 import org.apache.paimon.io.RowDataRollingFileWriter;
 import org.apache.paimon.reader.RecordReaderIterator;
+import org.apache.paimon.sort.BinaryExternalSortBuffer;
+import org.apache.paimon.sort.zorder.ZIndexer;
 import org.apache.paimon.statistics.FieldStatsCollector;
 import org.apache.paimon.table.BucketMode;
 import org.apache.paimon.table.source.DataSplit;
+import org.apache.paimon.types.DataType;
+import org.apache.paimon.types.DataTypes;
 import org.apache.paimon.types.RowType;
 import org.apache.paimon.utils.CommitIncrement;
+import org.apache.paimon.utils.ExecutorThreadFactory;
 import org.apache.paimon.utils.FileStorePathFactory;
 import org.apache.paimon.utils.LongCounter;
+import org.apache.paimon.utils.MutableObjectIterator;
+import org.apache.paimon.utils.ProjectedRow;
 import org.apache.paimon.utils.RecordWriter;
 import org.apache.paimon.utils.SnapshotManager;
 import org.apache.paimon.utils.StatsCollectorFactories;
 
 import javax.annotation.Nullable;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
 
 import static org.apache.paimon.io.DataFileMeta.getMaxSequenceNumber;
 
@@ -68,9 +83,16 @@ public class AppendOnlyFileStoreWrite extends MemoryFileStoreWrite<InternalRow>
     private final boolean useWriteBuffer;
     private final boolean spillable;
     private final FieldStatsCollector.Factory[] statsCollectors;
+    private final int asyncCloseFiles;
+    private final List<String> clusterColumns;
+    private final int clusterVarTypeSize;
+    private final long sortSpillBufferSize;
+    private final int pageSize;
+    private final int sortMaxFan;
 
     private boolean skipCompaction;
     private BucketMode bucketMode = BucketMode.FIXED;
+    @Nullable private ExecutorService lazyCloseExecutor;
 
     public AppendOnlyFileStoreWrite(
             FileIO fileIO,
@@ -100,6 +122,12 @@ public class AppendOnlyFileStoreWrite extends MemoryFileStoreWrite<InternalRow>
         this.spillable = options.writeBufferSpillable(fileIO.isObjectStore(), isStreamingMode);
         this.statsCollectors =
                 StatsCollectorFactories.createStatsFactories(options, rowType.getFieldNames());
+        this.asyncCloseFiles = options.writeAsyncCloseFiles();
+        this.clusterColumns = options.compactionClusterColumns();
+        this.clusterVarTypeSize = options.varTypeSize();
+        this.sortSpillBufferSize = options.sortSpillBufferSize();
+        this.pageSize = options.pageSize();
+        this.sortMaxFan = options.localSortMaxNumFileHandles();
     }
 
     @Override
@@ -141,6 +169,8 @@ public class AppendOnlyFileStoreWrite extends MemoryFileStoreWrite<InternalRow>
                 spillable,
                 fileCompression,
                 statsCollectors,
+                asyncCloseFiles,
+                closeExecutor(),
                 getWriterMetrics(partition, bucket));
     }
 
@@ -160,7 +190,9 @@ public class AppendOnlyFileStoreWrite extends MemoryFileStoreWrite<InternalRow>
                             pathFactory.createDataFilePathFactory(partition, bucket),
                             new LongCounter(toCompact.get(0).minSequenceNumber()),
                             fileCompression,
-                            statsCollectors);
+                            statsCollectors,
+                            asyncCloseFiles,
+                            closeExecutor());
             try {
                 rewriter.write(
                         new RecordReaderIterator<>(
@@ -177,6 +209,92 @@ public class AppendOnlyFileStoreWrite extends MemoryFileStoreWrite<InternalRow>
         };
     }
 
+    /**
+     * Rewriter for compaction tasks of unaware-bucket table, which sorts the rewritten records by
+     * z-order of 'compaction.cluster-columns' if configured.
+     */
+    public AppendOnlyCompactManager.CompactRewriter unawareBucketCompactRewriter(
+            BinaryRow partition) {
+        if (clusterColumns.isEmpty()) {
+            return compactRewriter(partition, 0);
+        }
+        return toCompact -> clusterRewrite(partition, toCompact);
+    }
+
+    private List<DataFileMeta> clusterRewrite(BinaryRow partition, List<DataFileMeta> toCompact)
+            throws Exception {
+        if (toCompact.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        ZIndexer indexer = new ZIndexer(rowType, clusterColumns, clusterVarTypeSize);
+        indexer.open();
+        // sort by z-index prepended to the records
+        List<DataType> sortTypes = new ArrayList<>();
+        sortTypes.add(DataTypes.BYTES());
+        sortTypes.addAll(rowType.getFieldTypes());
+        int[] projection = IntStream.range(1, sortTypes.size()).toArray();
+
+        // the compaction workers of unaware-bucket table may have no IOManager
+        IOManager sortIOManager =
+                ioManager == null
+                        ? IOManager.create(System.getProperty("java.io.tmpdir"))
+                        : ioManager;
+        BinaryExternalSortBuffer sortBuffer =
+                BinaryExternalSortBuffer.create(
+                        sortIOManager,
+                        RowType.of(DataTypes.BYTES()),
+                        RowType.of(sortTypes.toArray(new DataType[0])),
+                        sortSpillBufferSize,
+                        pageSize,
+                        sortMaxFan);
+        RowDataRollingFileWriter rewriter =
+                new RowDataRollingFileWriter(
+                        fileIO,
+                        schemaId,
+                        fileFormat,
+                        targetFileSize,
+                        rowType,
+                        pathFactory.createDataFilePathFactory(partition, 0),
+                        new LongCounter(toCompact.get(0).minSequenceNumber()),
+                        fileCompression,
+                        statsCollectors,
+                        asyncCloseFiles,
+                        closeExecutor());
+        try {
+            try (RecordReaderIterator<InternalRow> iterator =
+                    new RecordReaderIterator<>(
+                            read.createReader(
+                                    DataSplit.builder()
+                                            .withPartition(partition)
+                                            .withBucket(0)
+                                            .withDataFiles(toCompact)
+                                            .build()))) {
+                GenericRow index = new GenericRow(1);
+                JoinedRow joined = new JoinedRow();
+                while (iterator.hasNext()) {
+                    InternalRow row = iterator.next();
+                    index.setField(0, indexer.index(row));
+                    sortBuffer.write(joined.replace(index, row));
+                }
+            }
+
+            ProjectedRow projected = ProjectedRow.from(projection);
+            MutableObjectIterator<BinaryRow> sorted = sortBuffer.sortedIterator();
+            BinaryRow row = new BinaryRow(sortTypes.size());
+            while ((row = sorted.next(row)) != null) {
+                rewriter.write(projected.replaceRow(row));
+            }
+        } finally {
+            rewriter.close();
+            sortBuffer.clear();
+            if (sortIOManager != ioManager) {
+                sortIOManager.close();
+            }
+        }
+        return rewriter.result();
+    }
+
     public AppendOnlyFileStoreWrite withBucketMode(BucketMode bucketMode) {
         // AppendOnlyFileStoreWrite is sensitive with bucket mode. It will act difference in
         // unaware-bucket mode (no compaction and force empty-writer).
@@ -193,4 +311,37 @@ public class AppendOnlyFileStoreWrite extends MemoryFileStoreWrite<InternalRow>
         // in unaware bucket mode, we need all writers to be empty
         super.withIgnorePreviousFiles(ignorePrevious || bucketMode == BucketMode.UNAWARE);
     }
+
+    /** Executor shared by the writers and rewriters to close rolled files in background. */
+    @Nullable
+    private synchronized ExecutorService closeExecutor() {
+        if (asyncCloseFiles <= 0) {
+            return null;
+        }
+
+        if (lazyCloseExecutor == null) {
+            ThreadPoolExecutor executor =
+                    new ThreadPoolExecutor(
+                            asyncCloseFiles,
+                            asyncCloseFiles,
+                            60L,
+                            TimeUnit.SECONDS,
+                            new LinkedBlockingQueue<>(),
+                            new ExecutorThreadFactory(
+                                    Thread.currentThread().getName() + "-file-close"));
+            executor.allowCoreThreadTimeOut(true);
+            lazyCloseExecutor = executor;
+        }
+        return lazyCloseExecutor;
+    }
+
+    @Override
+    public void close() throws Exception {
+        super.close();
+        synchronized (this) {
+            if (lazyCloseExecutor != null) {
+                lazyCloseExecutor.shutdownNow();
+            }
+        }
+    }
 }
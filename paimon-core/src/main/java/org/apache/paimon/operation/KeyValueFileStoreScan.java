@@ -21,14 +21,18 @@ package org.apache.paimon.operation;
 import org.apache.paimon.KeyValueFileStore;
 import org.apache.paimon.manifest.ManifestEntry;
 import org.apache.paimon.manifest.ManifestFile;
+import org.apache.paimon.manifest.ManifestFileMeta;
 import org.apache.paimon.manifest.ManifestList;
 import org.apache.paimon.predicate.Predicate;
 import org.apache.paimon.schema.KeyValueFieldsExtractor;
 import org.apache.paimon.schema.SchemaManager;
+import org.apache.paimon.stats.BinaryTableStats;
 import org.apache.paimon.stats.FieldStatsConverters;
 import org.apache.paimon.types.RowType;
 import org.apache.paimon.utils.SnapshotManager;
 
+import javax.annotation.Nullable;
+
 import java.util.List;
 
 /** {@link FileStoreScan} for {@link KeyValueFileStore}. */
@@ -51,7 +55,8 @@ public class KeyValueFileStoreScan extends AbstractFileStoreScan {
             ManifestList.Factory manifestListFactory,
             int numOfBuckets,
             boolean checkNumOfBuckets,
-            Integer scanManifestParallelism) {
+            Integer scanManifestParallelism,
+            @Nullable SnapshotFilesCache snapshotFilesCache) {
         super(
                 partitionType,
                 bucketFilter,
@@ -61,7 +66,8 @@ public class KeyValueFileStoreScan extends AbstractFileStoreScan {
                 manifestListFactory,
                 numOfBuckets,
                 checkNumOfBuckets,
-                scanManifestParallelism);
+                scanManifestParallelism,
+                snapshotFilesCache);
         this.fieldKeyStatsConverters =
                 new FieldStatsConverters(
                         sid -> keyValueFieldsExtractor.keyFields(scanTableSchema(sid)), schemaId);
@@ -81,6 +87,22 @@ public class KeyValueFileStoreScan extends AbstractFileStoreScan {
         return this;
     }
 
+    /** Note: Keep this thread-safe. */
+    @Override
+    protected boolean filterManifestByStats(ManifestFileMeta manifest) {
+        BinaryTableStats keyStats = manifest.keyStats();
+        if (keyFilter == null || keyStats == null) {
+            return true;
+        }
+
+        // the row count of the manifest is unknown, the merged key stats are tested as if
+        // not all values are null
+        return keyFilter.test(
+                Long.MAX_VALUE,
+                keyStats.fields(
+                        fieldKeyStatsConverters.getOrCreate(manifest.schemaId()), Long.MAX_VALUE));
+    }
+
     /** Note: Keep this thread-safe. */
     @Override
     protected boolean filterByStats(ManifestEntry entry) {
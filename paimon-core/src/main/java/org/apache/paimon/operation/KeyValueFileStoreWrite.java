@@ -34,26 +34,32 @@ import org.apache.paimon.index.IndexMaintainer;
 import org.apache.paimon.io.DataFileMeta;
 import org.apache.paimon.io.KeyValueFileReaderFactory;
 import org.apache.paimon.io.KeyValueFileWriterFactory;
-import org.apache.paimon.lookup.hash.HashLookupStoreFactory;
+import org.apache.paimon.lookup.LookupStoreFactory;
 import org.apache.paimon.mergetree.ContainsLevels;
 import org.apache.paimon.mergetree.Levels;
 import org.apache.paimon.mergetree.LookupLevels;
+import org.apache.paimon.mergetree.LookupUtils;
 import org.apache.paimon.mergetree.MergeSorter;
 import org.apache.paimon.mergetree.MergeTreeWriter;
+import org.apache.paimon.mergetree.PersistentLookupFiles;
 import org.apache.paimon.mergetree.compact.CompactRewriter;
 import org.apache.paimon.mergetree.compact.CompactStrategy;
 import org.apache.paimon.mergetree.compact.FirstRowMergeTreeCompactRewriter;
 import org.apache.paimon.mergetree.compact.FullChangelogMergeTreeCompactRewriter;
+import org.apache.paimon.mergetree.compact.LeveledCompaction;
 import org.apache.paimon.mergetree.compact.LookupCompaction;
 import org.apache.paimon.mergetree.compact.LookupMergeTreeCompactRewriter;
 import org.apache.paimon.mergetree.compact.MergeFunctionFactory;
 import org.apache.paimon.mergetree.compact.MergeTreeCompactManager;
 import org.apache.paimon.mergetree.compact.MergeTreeCompactRewriter;
 import org.apache.paimon.mergetree.compact.UniversalCompaction;
+import org.apache.paimon.options.Options;
 import org.apache.paimon.schema.KeyValueFieldsExtractor;
 import org.apache.paimon.schema.SchemaManager;
+import org.apache.paimon.sort.SpillCompression;
 import org.apache.paimon.types.RowType;
 import org.apache.paimon.utils.CommitIncrement;
+import org.apache.paimon.utils.ExecutorThreadFactory;
 import org.apache.paimon.utils.FileStorePathFactory;
 import org.apache.paimon.utils.SnapshotManager;
 
@@ -62,10 +68,19 @@ import org.slf4j.LoggerFactory;
 
 import javax.annotation.Nullable;
 
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
+import java.util.UUID;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Supplier;
 
 import static org.apache.paimon.io.DataFileMeta.getMaxSequenceNumber;
@@ -84,6 +99,11 @@ public class KeyValueFileStoreWrite extends MemoryFileStoreWrite<KeyValue> {
     private final FileIO fileIO;
     private final RowType keyType;
     private final RowType valueType;
+    private final FileStorePathFactory pathFactory;
+
+    @Nullable private ExecutorService lazyLookupPrebuildExecutor;
+    @Nullable private ExecutorService lazyRangeRewriteExecutor;
+    @Nullable private String lazyPersistentLookupIdentifier;
 
     public KeyValueFileStoreWrite(
             FileIO fileIO,
@@ -107,6 +127,7 @@ public class KeyValueFileStoreWrite extends MemoryFileStoreWrite<KeyValue> {
         this.fileIO = fileIO;
         this.keyType = keyType;
         this.valueType = valueType;
+        this.pathFactory = pathFactory;
         this.readerFactoryBuilder =
                 KeyValueFileReaderFactory.builder(
                         fileIO,
@@ -152,15 +173,7 @@ public class KeyValueFileStoreWrite extends MemoryFileStoreWrite<KeyValue> {
                 writerFactoryBuilder.build(partition, bucket, options);
         Comparator<InternalRow> keyComparator = keyComparatorSupplier.get();
         Levels levels = new Levels(keyComparator, restoreFiles, options.numLevels());
-        UniversalCompaction universalCompaction =
-                new UniversalCompaction(
-                        options.maxSizeAmplificationPercent(),
-                        options.sortedRunSizeRatio(),
-                        options.numSortedRunCompactionTrigger());
-        CompactStrategy compactStrategy =
-                options.changelogProducer() == ChangelogProducer.LOOKUP
-                        ? new LookupCompaction(universalCompaction)
-                        : universalCompaction;
+        CompactStrategy compactStrategy = createCompactStrategy(keyComparator);
         CompactManager compactManager =
                 createCompactManager(partition, bucket, compactStrategy, compactExecutor, levels);
 
@@ -175,10 +188,32 @@ public class KeyValueFileStoreWrite extends MemoryFileStoreWrite<KeyValue> {
                 writerFactory,
                 options.commitForceCompact(),
                 options.changelogProducer(),
+                options.writeBufferAsyncFlush(),
+                SpillCompression.create(
+                        options.spillCompression(), options.spillCompressionDiskBandwidth()),
                 restoreIncrement,
                 getWriterMetrics(partition, bucket));
     }
 
+    private CompactStrategy createCompactStrategy(Comparator<InternalRow> keyComparator) {
+        boolean lookup = options.changelogProducer() == ChangelogProducer.LOOKUP;
+        if (options.compactionStyle() == CoreOptions.CompactionStyle.LEVELED) {
+            // lookup changelog producer requires level 0 files to be compacted immediately
+            return new LeveledCompaction(
+                    keyComparator,
+                    lookup ? 1 : options.numSortedRunCompactionTrigger(),
+                    options.leveledCompactionLevelBaseSize(),
+                    options.leveledCompactionLevelSizeMultiplier());
+        }
+
+        UniversalCompaction universalCompaction =
+                new UniversalCompaction(
+                        options.maxSizeAmplificationPercent(),
+                        options.sortedRunSizeRatio(),
+                        options.numSortedRunCompactionTrigger());
+        return lookup ? new LookupCompaction(universalCompaction) : universalCompaction;
+    }
+
     @VisibleForTesting
     public boolean bufferSpillable() {
         return options.writeBufferSpillable(fileIO.isObjectStore(), isStreamingMode);
@@ -231,7 +266,8 @@ public class KeyValueFileStoreWrite extends MemoryFileStoreWrite<KeyValue> {
                                     .copyWithoutProjection()
                                     .withValueProjection(new int[0][])
                                     .build(partition, bucket);
-                    ContainsLevels containsLevels = createContainsLevels(levels, keyOnlyReader);
+                    ContainsLevels containsLevels =
+                            createContainsLevels(partition, bucket, levels, keyOnlyReader);
                     return new FirstRowMergeTreeCompactRewriter(
                             containsLevels,
                             readerFactory,
@@ -242,7 +278,13 @@ public class KeyValueFileStoreWrite extends MemoryFileStoreWrite<KeyValue> {
                             valueEqualiserSupplier.get(),
                             options.changelogRowDeduplicate());
                 }
-                LookupLevels lookupLevels = createLookupLevels(levels, readerFactory);
+                // lookup files may be pre-built in another thread, they use their own reader
+                LookupLevels lookupLevels =
+                        createLookupLevels(
+                                partition,
+                                bucket,
+                                levels,
+                                readerFactoryBuilder.build(partition, bucket));
                 return new LookupMergeTreeCompactRewriter(
                         lookupLevels,
                         readerFactory,
@@ -254,16 +296,26 @@ public class KeyValueFileStoreWrite extends MemoryFileStoreWrite<KeyValue> {
                         options.changelogRowDeduplicate());
             default:
                 return new MergeTreeCompactRewriter(
-                        readerFactory, writerFactory, keyComparator, mfFactory, mergeSorter);
+                        readerFactory,
+                        writerFactory,
+                        keyComparator,
+                        mfFactory,
+                        mergeSorter,
+                        options.compactionRewriteParallelism(),
+                        rangeRewriteExecutor());
         }
     }
 
     private LookupLevels createLookupLevels(
-            Levels levels, KeyValueFileReaderFactory readerFactory) {
+            BinaryRow partition,
+            int bucket,
+            Levels levels,
+            KeyValueFileReaderFactory readerFactory) {
         if (ioManager == null) {
             throw new RuntimeException(
                     "Can not use lookup, there is no temp disk directory to use.");
         }
+        LookupStoreFactory lookupStoreFactory = createLookupStoreFactory();
         return new LookupLevels(
                 levels,
                 keyComparatorSupplier.get(),
@@ -273,19 +325,99 @@ public class KeyValueFileStoreWrite extends MemoryFileStoreWrite<KeyValue> {
                         readerFactory.createRecordReader(
                                 file.schemaId(), file.fileName(), file.fileSize(), file.level()),
                 () -> ioManager.createChannel().getPathFile(),
-                new HashLookupStoreFactory(
-                        cacheManager,
-                        options.toConfiguration().get(CoreOptions.LOOKUP_HASH_LOAD_FACTOR)),
+                lookupStoreFactory,
                 options.toConfiguration().get(CoreOptions.LOOKUP_CACHE_FILE_RETENTION),
-                options.toConfiguration().get(CoreOptions.LOOKUP_CACHE_MAX_DISK_SIZE));
+                options.toConfiguration().get(CoreOptions.LOOKUP_CACHE_MAX_DISK_SIZE),
+                LookupStoreFactory.bfGenerator(options.toConfiguration()),
+                getLookupMetrics(partition, bucket, lookupStoreFactory.stats()),
+                options.toConfiguration().get(CoreOptions.LOOKUP_CACHE_FILE_ASYNC_PREBUILD)
+                        ? lookupPrebuildExecutor()
+                        : null,
+                persistentLookupFiles(partition, bucket));
+    }
+
+    @Nullable
+    private PersistentLookupFiles persistentLookupFiles(BinaryRow partition, int bucket) {
+        Options conf = options.toConfiguration();
+        String dir = conf.get(CoreOptions.LOOKUP_CACHE_PERSISTENT_DIR);
+        if (dir == null) {
+            return null;
+        }
+
+        if (lazyPersistentLookupIdentifier == null) {
+            // lookup files can only be shared if they are built in the same format
+            String descriptor =
+                    String.join(
+                            ",",
+                            conf.get(CoreOptions.LOOKUP_LOCAL_FILE_TYPE).toString(),
+                            String.valueOf(conf.get(CoreOptions.LOOKUP_HASH_LOAD_FACTOR)),
+                            conf.get(CoreOptions.LOOKUP_SORT_BLOCK_SIZE).toString(),
+                            conf.get(CoreOptions.LOOKUP_SORT_COMPRESSION),
+                            String.valueOf(conf.get(CoreOptions.LOOKUP_CACHE_BLOOM_FILTER_ENABLED)),
+                            String.valueOf(conf.get(CoreOptions.LOOKUP_CACHE_BLOOM_FILTER_FPP)),
+                            keyType.asSQLString(),
+                            valueType.asSQLString());
+            lazyPersistentLookupIdentifier =
+                    UUID.nameUUIDFromBytes(descriptor.getBytes(StandardCharsets.UTF_8)).toString();
+        }
+
+        try {
+            // the files of a bucket are owned by the bucket
+            return PersistentLookupFiles.create(
+                    new File(dir),
+                    conf.get(CoreOptions.LOOKUP_CACHE_MAX_DISK_SIZE).getBytes(),
+                    lazyPersistentLookupIdentifier,
+                    pathFactory.bucketPath(partition, bucket).toString());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private ExecutorService lookupPrebuildExecutor() {
+        if (lazyLookupPrebuildExecutor == null) {
+            lazyLookupPrebuildExecutor =
+                    Executors.newSingleThreadExecutor(
+                            new ExecutorThreadFactory(
+                                    Thread.currentThread().getName() + "-lookup-prebuild"));
+        }
+        return lazyLookupPrebuildExecutor;
+    }
+
+    /** Executor shared by the compact rewriters of all buckets to rewrite ranges concurrently. */
+    @Nullable
+    private ExecutorService rangeRewriteExecutor() {
+        int parallelism = options.compactionRewriteParallelism();
+        if (parallelism <= 1) {
+            return null;
+        }
+
+        if (lazyRangeRewriteExecutor == null) {
+            // the first range is rewritten by the compaction thread, idle threads are released
+            ThreadPoolExecutor executor =
+                    new ThreadPoolExecutor(
+                            parallelism - 1,
+                            parallelism - 1,
+                            60L,
+                            TimeUnit.SECONDS,
+                            new LinkedBlockingQueue<>(),
+                            new ExecutorThreadFactory(
+                                    Thread.currentThread().getName() + "-compaction-range"));
+            executor.allowCoreThreadTimeOut(true);
+            lazyRangeRewriteExecutor = executor;
+        }
+        return lazyRangeRewriteExecutor;
     }
 
     private ContainsLevels createContainsLevels(
-            Levels levels, KeyValueFileReaderFactory readerFactory) {
+            BinaryRow partition,
+            int bucket,
+            Levels levels,
+            KeyValueFileReaderFactory readerFactory) {
         if (ioManager == null) {
             throw new RuntimeException(
                     "Can not use lookup, there is no temp disk directory to use.");
         }
+        LookupStoreFactory lookupStoreFactory = createLookupStoreFactory();
         return new ContainsLevels(
                 levels,
                 keyComparatorSupplier.get(),
@@ -294,10 +426,26 @@ public class KeyValueFileStoreWrite extends MemoryFileStoreWrite<KeyValue> {
                         readerFactory.createRecordReader(
                                 file.schemaId(), file.fileName(), file.fileSize(), file.level()),
                 () -> ioManager.createChannel().getPathFile(),
-                new HashLookupStoreFactory(
-                        cacheManager,
-                        options.toConfiguration().get(CoreOptions.LOOKUP_HASH_LOAD_FACTOR)),
+                lookupStoreFactory,
                 options.toConfiguration().get(CoreOptions.LOOKUP_CACHE_FILE_RETENTION),
-                options.toConfiguration().get(CoreOptions.LOOKUP_CACHE_MAX_DISK_SIZE));
+                options.toConfiguration().get(CoreOptions.LOOKUP_CACHE_MAX_DISK_SIZE),
+                LookupStoreFactory.bfGenerator(options.toConfiguration()),
+                getLookupMetrics(partition, bucket, lookupStoreFactory.stats()));
+    }
+
+    private LookupStoreFactory createLookupStoreFactory() {
+        return LookupUtils.createLookupStoreFactory(
+                options.toConfiguration(), cacheManager, keyType, keyComparatorSupplier.get());
+    }
+
+    @Override
+    public void close() throws Exception {
+        super.close();
+        if (lazyLookupPrebuildExecutor != null) {
+            lazyLookupPrebuildExecutor.shutdownNow();
+        }
+        if (lazyRangeRewriteExecutor != null) {
+            lazyRangeRewriteExecutor.shutdownNow();
+        }
     }
 }
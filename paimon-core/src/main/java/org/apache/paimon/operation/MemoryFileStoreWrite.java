@@ -19,12 +19,14 @@
 package org.apache.paimon.operation;
 
 import org.apache.paimon.CoreOptions;
+import org.apache.paimon.compact.CompactExecutor;
 import org.apache.paimon.index.IndexMaintainer;
 import org.apache.paimon.io.cache.CacheManager;
-import org.apache.paimon.memory.HeapMemorySegmentPool;
 import org.apache.paimon.memory.MemoryOwner;
 import org.apache.paimon.memory.MemoryPoolFactory;
+import org.apache.paimon.memory.MemorySegmentPool;
 import org.apache.paimon.metrics.MetricRegistry;
+import org.apache.paimon.operation.metrics.LookupCacheMetric;
 import org.apache.paimon.operation.metrics.WriterBufferMetric;
 import org.apache.paimon.utils.FileStorePathFactory;
 import org.apache.paimon.utils.RecordWriter;
@@ -37,10 +39,12 @@ import org.slf4j.LoggerFactory;
 
 import javax.annotation.Nullable;
 
+import java.io.Closeable;
 import java.util.Iterator;
 import java.util.Map;
 
 import static org.apache.paimon.CoreOptions.LOOKUP_CACHE_MAX_MEMORY_SIZE;
+import static org.apache.paimon.CoreOptions.LOOKUP_CACHE_MEMORY_TYPE;
 
 /**
  * Base {@link FileStoreWrite} implementation which supports using shared memory and preempting
@@ -54,8 +58,11 @@ public abstract class MemoryFileStoreWrite<T> extends AbstractFileStoreWrite<T>
     private final CoreOptions options;
     protected final CacheManager cacheManager;
     private MemoryPoolFactory writeBufferPool;
+    // the default pool created by this write, released when the write is closed
+    @Nullable private MemorySegmentPool defaultWriteBufferPool;
 
     private WriterBufferMetric writerBufferMetric;
+    private LookupCacheMetric lookupCacheMetric;
 
     public MemoryFileStoreWrite(
             String commitUser,
@@ -70,7 +77,8 @@ public abstract class MemoryFileStoreWrite<T> extends AbstractFileStoreWrite<T>
         this.cacheManager =
                 new CacheManager(
                         options.pageSize(),
-                        options.toConfiguration().get(LOOKUP_CACHE_MAX_MEMORY_SIZE));
+                        options.toConfiguration().get(LOOKUP_CACHE_MAX_MEMORY_SIZE),
+                        options.toConfiguration().get(LOOKUP_CACHE_MEMORY_TYPE));
     }
 
     @Override
@@ -79,6 +87,14 @@ public abstract class MemoryFileStoreWrite<T> extends AbstractFileStoreWrite<T>
         return this;
     }
 
+    @Override
+    protected CompactExecutor createCompactExecutor() {
+        int numThreads = options.compactionExecutorThreads();
+        return options.compactionExecutorShared()
+                ? CompactExecutor.shared(numThreads)
+                : new CompactExecutor(numThreads, Thread.currentThread().getName() + "-compaction");
+    }
+
     private Iterator<MemoryOwner> memoryOwners() {
         Iterator<Map<Integer, WriterContainer<T>>> iterator = writers.values().iterator();
         return Iterators.concat(
@@ -109,12 +125,16 @@ public abstract class MemoryFileStoreWrite<T> extends AbstractFileStoreWrite<T>
                             + writer.getClass());
         }
         if (writeBufferPool == null) {
-            LOG.debug("Use default heap memory segment pool for write buffer.");
+            LOG.debug(
+                    "Use default {} memory segment pool for write buffer.",
+                    options.writeBufferOffHeap() ? "off-heap" : "heap");
+            defaultWriteBufferPool =
+                    MemorySegmentPool.createPool(
+                            options.writeBufferSize(),
+                            options.pageSize(),
+                            options.writeBufferOffHeap());
             writeBufferPool =
-                    new MemoryPoolFactory(
-                                    new HeapMemorySegmentPool(
-                                            options.writeBufferSize(), options.pageSize()))
-                            .addOwners(this::memoryOwners);
+                    new MemoryPoolFactory(defaultWriteBufferPool).addOwners(this::memoryOwners);
         }
         writeBufferPool.notifyNewOwner((MemoryOwner) writer);
     }
@@ -123,6 +143,9 @@ public abstract class MemoryFileStoreWrite<T> extends AbstractFileStoreWrite<T>
     public FileStoreWrite<T> withMetricRegistry(MetricRegistry metricRegistry) {
         super.withMetricRegistry(metricRegistry);
         registerWriterBufferMetric(metricRegistry);
+        if (metricRegistry != null) {
+            lookupCacheMetric = new LookupCacheMetric(cacheManager, metricRegistry, tableName);
+        }
         return this;
     }
 
@@ -139,5 +162,12 @@ public abstract class MemoryFileStoreWrite<T> extends AbstractFileStoreWrite<T>
         if (this.writerBufferMetric != null) {
             this.writerBufferMetric.close();
         }
+        if (this.lookupCacheMetric != null) {
+            this.lookupCacheMetric.close();
+        }
+        // the writers are closed above, so their pages have been returned
+        if (defaultWriteBufferPool instanceof Closeable) {
+            ((Closeable) defaultWriteBufferPool).close();
+        }
     }
 }
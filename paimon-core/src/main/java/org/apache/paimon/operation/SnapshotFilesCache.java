@@ -0,0 +1,177 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.operation;
+
+import org.apache.paimon.Snapshot;
+import org.apache.paimon.annotation.VisibleForTesting;
+import org.apache.paimon.fs.Path;
+import org.apache.paimon.manifest.ManifestEntry;
+import org.apache.paimon.manifest.ManifestFileMeta;
+import org.apache.paimon.manifest.ManifestList;
+import org.apache.paimon.utils.SnapshotManager;
+
+import org.apache.paimon.shade.caffeine2.com.github.benmanes.caffeine.cache.Cache;
+import org.apache.paimon.shade.caffeine2.com.github.benmanes.caffeine.cache.Caffeine;
+import org.apache.paimon.shade.guava30.com.google.common.util.concurrent.MoreExecutors;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.annotation.Nullable;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Cache of all data files of the latest planned snapshot of a table. When a newer snapshot is
+ * planned, the files are updated incrementally from the delta manifests of the snapshots in between
+ * instead of reading all data manifests again.
+ *
+ * <p>The cache is shared by all scans of the same table in this process, so that repeated planning
+ * in long-running services can reuse the files. A snapshot is identified by its id and its manifest
+ * lists, because after a rollback or a recreation of the table, another snapshot may have the same
+ * id.
+ */
+public class SnapshotFilesCache {
+
+    private static final Logger LOG = LoggerFactory.getLogger(SnapshotFilesCache.class);
+
+    private static final Cache<Path, SnapshotFilesCache> CACHES =
+            Caffeine.newBuilder()
+                    .expireAfterAccess(Duration.ofMinutes(30))
+                    .softValues()
+                    .executor(MoreExecutors.directExecutor())
+                    .build();
+
+    private final Path tablePath;
+
+    @Nullable private Long snapshotId;
+    @Nullable private String baseManifestList;
+    @Nullable private String deltaManifestList;
+    private LinkedHashMap<ManifestEntry.Identifier, ManifestEntry> files;
+
+    private SnapshotFilesCache(Path tablePath) {
+        this.tablePath = tablePath;
+    }
+
+    /** Returns the cache shared by all scans of the table. */
+    public static SnapshotFilesCache of(Path tablePath) {
+        return CACHES.get(tablePath, SnapshotFilesCache::new);
+    }
+
+    @VisibleForTesting
+    static void clear() {
+        CACHES.invalidateAll();
+    }
+
+    /**
+     * Returns the merged data files of the snapshot.
+     *
+     * @param reader reads and merges all entries of the manifest files without filtering.
+     */
+    public synchronized List<ManifestEntry> files(
+            Snapshot snapshot,
+            SnapshotManager snapshotManager,
+            ManifestList manifestList,
+            Function<List<ManifestFileMeta>, Iterable<ManifestEntry>> reader) {
+        if (isCached(snapshot)) {
+            return new ArrayList<>(files.values());
+        }
+
+        if (snapshotId != null && snapshotId < snapshot.id()) {
+            try {
+                if (tryUpdate(snapshot, snapshotManager, manifestList, reader)) {
+                    return new ArrayList<>(files.values());
+                }
+            } catch (Exception e) {
+                LOG.info(
+                        "Failed to update the cached files of table {} to snapshot {}, read all"
+                                + " manifests instead.",
+                        tablePath,
+                        snapshot.id(),
+                        e);
+            }
+            reset();
+        } else if (snapshotId != null && snapshotId == snapshot.id()) {
+            // the snapshot has been replaced since it was cached
+            reset();
+        }
+
+        LinkedHashMap<ManifestEntry.Identifier, ManifestEntry> snapshotFiles =
+                new LinkedHashMap<>();
+        ManifestEntry.mergeEntries(
+                reader.apply(snapshot.dataManifests(manifestList)), snapshotFiles);
+        List<ManifestEntry> result = new ArrayList<>(snapshotFiles.values());
+        if (snapshotId == null) {
+            // only cache the latest planned snapshot, older snapshots are planned for time travel
+            setSnapshot(snapshot);
+            files = snapshotFiles;
+        }
+        return result;
+    }
+
+    private boolean isCached(Snapshot snapshot) {
+        return snapshotId != null
+                && snapshotId == snapshot.id()
+                && snapshot.baseManifestList().equals(baseManifestList)
+                && snapshot.deltaManifestList().equals(deltaManifestList);
+    }
+
+    private void setSnapshot(Snapshot snapshot) {
+        snapshotId = snapshot.id();
+        baseManifestList = snapshot.baseManifestList();
+        deltaManifestList = snapshot.deltaManifestList();
+    }
+
+    private void reset() {
+        snapshotId = null;
+        baseManifestList = null;
+        deltaManifestList = null;
+        files = null;
+    }
+
+    private boolean tryUpdate(
+            Snapshot target,
+            SnapshotManager snapshotManager,
+            ManifestList manifestList,
+            Function<List<ManifestFileMeta>, Iterable<ManifestEntry>> reader) {
+        // the newer snapshots only follow the cached snapshot if it has not been replaced
+        if (!snapshotManager.snapshotExists(snapshotId)
+                || !isCached(snapshotManager.snapshot(snapshotId))) {
+            return false;
+        }
+
+        for (long id = snapshotId + 1; id <= target.id(); id++) {
+            if (!snapshotManager.snapshotExists(id)) {
+                // the snapshot has been expired
+                return false;
+            }
+        }
+
+        for (long id = snapshotId + 1; id <= target.id(); id++) {
+            Snapshot snapshot = snapshotManager.snapshot(id);
+            ManifestEntry.mergeEntries(reader.apply(snapshot.deltaManifests(manifestList)), files);
+            setSnapshot(snapshot);
+        }
+        return isCached(target);
+    }
+}
@@ -0,0 +1,61 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.operation.metrics;
+
+import org.apache.paimon.annotation.VisibleForTesting;
+import org.apache.paimon.compact.CompactExecutor;
+import org.apache.paimon.metrics.MetricGroup;
+import org.apache.paimon.metrics.MetricRegistry;
+
+import java.util.concurrent.ExecutorService;
+import java.util.function.Supplier;
+
+/** Metrics for the compaction executor of a writer, which runs compactions of all its buckets. */
+public class CompactExecutorMetric {
+
+    private static final String GROUP_NAME = "compactExecutor";
+
+    @VisibleForTesting static final String COMPACTION_QUEUE_DEPTH = "compactionQueueDepth";
+
+    private final MetricGroup metricGroup;
+
+    public CompactExecutorMetric(
+            Supplier<ExecutorService> compactExecutorSupplier,
+            MetricRegistry metricRegistry,
+            String tableName) {
+        metricGroup = metricRegistry.tableMetricGroup(GROUP_NAME, tableName);
+        metricGroup.gauge(
+                COMPACTION_QUEUE_DEPTH,
+                () -> {
+                    ExecutorService executor = compactExecutorSupplier.get();
+                    return executor instanceof CompactExecutor
+                            ? ((CompactExecutor) executor).queueDepth()
+                            : -1;
+                });
+    }
+
+    @VisibleForTesting
+    MetricGroup getMetricGroup() {
+        return metricGroup;
+    }
+
+    public void close() {
+        this.metricGroup.close();
+    }
+}
@@ -43,10 +43,15 @@ public class CompactionMetrics {
     }
 
     private Histogram durationHistogram;
+    private Histogram queueWaitTimeHistogram;
     private CompactionStats latestCompaction;
+    private long totalRewriteInputFileSize;
+    private long totalRewriteOutputFileSize;
+    private long totalLevel0InputFileSize;
 
     @VisibleForTesting static final String LAST_COMPACTION_DURATION = "lastCompactionDuration";
     @VisibleForTesting static final String COMPACTION_DURATION = "compactionDuration";
+    @VisibleForTesting static final String COMPACTION_QUEUE_WAIT_TIME = "compactionQueueWaitTime";
 
     @VisibleForTesting
     static final String LAST_TABLE_FILES_COMPACTED_BEFORE = "lastTableFilesCompactedBefore";
@@ -66,11 +71,22 @@ public class CompactionMetrics {
     @VisibleForTesting
     static final String LAST_REWRITE_CHANGELOG_FILE_SIZE = "lastRewriteChangelogFileSize";
 
+    @VisibleForTesting
+    static final String TOTAL_REWRITE_INPUT_FILE_SIZE = "totalRewriteInputFileSize";
+
+    @VisibleForTesting
+    static final String TOTAL_REWRITE_OUTPUT_FILE_SIZE = "totalRewriteOutputFileSize";
+
+    @VisibleForTesting
+    static final String COMPACTION_WRITE_AMPLIFICATION = "compactionWriteAmplification";
+
     private void registerGenericCompactionMetrics() {
         metricGroup.gauge(
                 LAST_COMPACTION_DURATION,
                 () -> latestCompaction == null ? 0L : latestCompaction.getDuration());
         durationHistogram = metricGroup.histogram(COMPACTION_DURATION, HISTOGRAM_WINDOW_SIZE);
+        queueWaitTimeHistogram =
+                metricGroup.histogram(COMPACTION_QUEUE_WAIT_TIME, HISTOGRAM_WINDOW_SIZE);
         metricGroup.gauge(
                 LAST_TABLE_FILES_COMPACTED_BEFORE,
                 () ->
@@ -98,13 +114,34 @@ public class CompactionMetrics {
                         latestCompaction == null
                                 ? 0L
                                 : latestCompaction.getRewriteChangelogFileSize());
+        metricGroup.gauge(TOTAL_REWRITE_INPUT_FILE_SIZE, () -> totalRewriteInputFileSize);
+        metricGroup.gauge(TOTAL_REWRITE_OUTPUT_FILE_SIZE, () -> totalRewriteOutputFileSize);
+        metricGroup.gauge(COMPACTION_WRITE_AMPLIFICATION, this::writeAmplification);
+    }
+
+    /**
+     * Bytes written by compaction per byte of level 0 data compacted, that is, how many times new
+     * data has been rewritten since the metrics were created.
+     */
+    private double writeAmplification() {
+        return totalLevel0InputFileSize == 0
+                ? 0
+                : (double) totalRewriteOutputFileSize / totalLevel0InputFileSize;
     }
 
     public void reportCompaction(CompactionStats compactionStats) {
         latestCompaction = compactionStats;
+        totalRewriteInputFileSize += compactionStats.getRewrittenInputFileSize();
+        totalRewriteOutputFileSize += compactionStats.getRewrittenOutputFileSize();
+        totalLevel0InputFileSize += compactionStats.getLevel0InputFileSize();
         durationHistogram.update(compactionStats.getDuration());
     }
 
+    /** Reports the time in milliseconds a compaction task waited before it started running. */
+    public void reportQueueWaitTime(long waitMillis) {
+        queueWaitTimeHistogram.update(waitMillis);
+    }
+
     public void close() {
         metricGroup.close();
     }
@@ -22,6 +22,8 @@ import org.apache.paimon.annotation.VisibleForTesting;
 import org.apache.paimon.io.DataFileMeta;
 
 import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 /** Statistics for a compaction. */
 public class CompactionStats {
@@ -32,6 +34,9 @@ public class CompactionStats {
     private final long rewriteInputFileSize;
     private final long rewriteOutputFileSize;
     private final long rewriteChangelogFileSize;
+    private final long level0InputFileSize;
+    private final long rewrittenInputFileSize;
+    private final long rewrittenOutputFileSize;
 
     public CompactionStats(
             long compactionDuration,
@@ -45,6 +50,26 @@ public class CompactionStats {
         this.rewriteInputFileSize = rewriteFileSize(compactBefore);
         this.rewriteOutputFileSize = rewriteFileSize(compactAfter);
         this.rewriteChangelogFileSize = rewriteFileSize(compactChangelog);
+        this.level0InputFileSize =
+                compactBefore.stream()
+                        .filter(file -> file.level() == 0)
+                        .mapToLong(DataFileMeta::fileSize)
+                        .sum();
+        // upgraded files are in both before and after, they are not rewritten
+        Set<String> beforeFiles =
+                compactBefore.stream().map(DataFileMeta::fileName).collect(Collectors.toSet());
+        Set<String> afterFiles =
+                compactAfter.stream().map(DataFileMeta::fileName).collect(Collectors.toSet());
+        this.rewrittenInputFileSize =
+                rewriteFileSize(
+                        compactBefore.stream()
+                                .filter(file -> !afterFiles.contains(file.fileName()))
+                                .collect(Collectors.toList()));
+        this.rewrittenOutputFileSize =
+                rewriteFileSize(
+                        compactAfter.stream()
+                                .filter(file -> !beforeFiles.contains(file.fileName()))
+                                .collect(Collectors.toList()));
     }
 
     @VisibleForTesting
@@ -76,6 +101,21 @@ public class CompactionStats {
         return rewriteChangelogFileSize;
     }
 
+    /** Size of the level 0 files compacted, which are new data flushed from write buffers. */
+    public long getLevel0InputFileSize() {
+        return level0InputFileSize;
+    }
+
+    /** Size of the input files which are rewritten, excluding upgraded files. */
+    public long getRewrittenInputFileSize() {
+        return rewrittenInputFileSize;
+    }
+
+    /** Size of the output files which are written, excluding upgraded files. */
+    public long getRewrittenOutputFileSize() {
+        return rewrittenOutputFileSize;
+    }
+
     private long rewriteFileSize(List<DataFileMeta> files) {
         return files.stream().mapToLong(DataFileMeta::fileSize).sum();
     }
@@ -97,6 +137,12 @@ public class CompactionStats {
                 + rewriteOutputFileSize
                 + ", rewriteChangelogFileSize="
                 + rewriteChangelogFileSize
+                + ", level0InputFileSize="
+                + level0InputFileSize
+                + ", rewrittenInputFileSize="
+                + rewrittenInputFileSize
+                + ", rewrittenOutputFileSize="
+                + rewrittenOutputFileSize
                 + '}';
     }
 }
@@ -0,0 +1,48 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.operation.metrics;
+
+import org.apache.paimon.io.cache.CacheManager;
+import org.apache.paimon.metrics.MetricGroup;
+import org.apache.paimon.metrics.MetricRegistry;
+
+/** Metrics for the page cache of lookup files. */
+public class LookupCacheMetric {
+
+    private static final String GROUP_NAME = "lookupCache";
+    private static final String HIT_COUNT = "lookupCacheHitCount";
+    private static final String MISS_COUNT = "lookupCacheMissCount";
+    private static final String EVICTION_COUNT = "lookupCacheEvictionCount";
+    private static final String USED_MEMORY_SIZE = "lookupCacheUsedMemorySizeByte";
+
+    private final MetricGroup metricGroup;
+
+    public LookupCacheMetric(
+            CacheManager cacheManager, MetricRegistry metricRegistry, String tableName) {
+        metricGroup = metricRegistry.tableMetricGroup(GROUP_NAME, tableName);
+        metricGroup.gauge(HIT_COUNT, cacheManager::hitCount);
+        metricGroup.gauge(MISS_COUNT, cacheManager::missCount);
+        metricGroup.gauge(EVICTION_COUNT, cacheManager::evictionCount);
+        metricGroup.gauge(USED_MEMORY_SIZE, cacheManager::usedMemorySize);
+    }
+
+    public void close() {
+        this.metricGroup.close();
+    }
+}
@@ -0,0 +1,60 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.operation.metrics;
+
+import org.apache.paimon.annotation.VisibleForTesting;
+import org.apache.paimon.lookup.LookupStoreStats;
+import org.apache.paimon.metrics.MetricGroup;
+import org.apache.paimon.metrics.MetricRegistry;
+
+/** Metrics to measure the lookup of local lookup files. */
+public class LookupMetrics {
+
+    private static final String GROUP_NAME = "lookup";
+
+    @VisibleForTesting static final String BLOOM_FILTER_SKIPPED = "lookupBloomFilterSkippedCount";
+
+    @VisibleForTesting static final String BLOOM_FILTER_PASSED = "lookupBloomFilterPassedCount";
+
+    @VisibleForTesting
+    static final String BLOOM_FILTER_FALSE_POSITIVE = "lookupBloomFilterFalsePositiveCount";
+
+    private final MetricGroup metricGroup;
+
+    public LookupMetrics(
+            MetricRegistry registry,
+            String tableName,
+            String partition,
+            int bucket,
+            LookupStoreStats stats) {
+        this.metricGroup = registry.bucketMetricGroup(GROUP_NAME, tableName, partition, bucket);
+        metricGroup.gauge(BLOOM_FILTER_SKIPPED, stats::bloomFilterSkipped);
+        metricGroup.gauge(BLOOM_FILTER_PASSED, stats::bloomFilterPassed);
+        metricGroup.gauge(BLOOM_FILTER_FALSE_POSITIVE, stats::bloomFilterFalsePositive);
+    }
+
+    @VisibleForTesting
+    public MetricGroup getMetricGroup() {
+        return metricGroup;
+    }
+
+    public void close() {
+        metricGroup.close();
+    }
+}
@@ -19,6 +19,7 @@
 package org.apache.paimon.operation.metrics;
 
 import org.apache.paimon.metrics.Counter;
+import org.apache.paimon.metrics.Gauge;
 import org.apache.paimon.metrics.Histogram;
 import org.apache.paimon.metrics.MetricGroup;
 import org.apache.paimon.metrics.MetricRegistry;
@@ -35,6 +36,10 @@ public class WriterMetrics {
 
     public static final String PREPARE_COMMIT_COST_MILLIS = "prepareCommitCostMillis";
 
+    public static final String SPILLED_BYTES = "spilledBytes";
+
+    public static final String SPILL_COST_MILLIS = "spillCostMillis";
+
     private final Counter writeRecordNumCounter;
 
     private final Histogram bufferFlushCostMillis;
@@ -65,6 +70,11 @@ public class WriterMetrics {
         this.prepareCommitCostMillis.update(cost);
     }
 
+    public void registerSpillMetrics(Gauge<Long> spilledBytes, Gauge<Long> spillCostMillis) {
+        metricGroup.gauge(SPILLED_BYTES, spilledBytes);
+        metricGroup.gauge(SPILL_COST_MILLIS, spillCostMillis);
+    }
+
     public void close() {
         metricGroup.close();
     }
@@ -21,7 +21,6 @@ package org.apache.paimon.sort;
 import org.apache.paimon.annotation.VisibleForTesting;
 import org.apache.paimon.codegen.RecordComparator;
 import org.apache.paimon.compression.BlockCompressionFactory;
-import org.apache.paimon.compression.Lz4BlockCompressionFactory;
 import org.apache.paimon.data.BinaryRow;
 import org.apache.paimon.data.InternalRow;
 import org.apache.paimon.data.serializer.BinaryRowSerializer;
@@ -52,7 +51,7 @@ public class BinaryExternalSortBuffer implements SortBuffer {
     private final IOManager ioManager;
     private SpillChannelManager channelManager;
     private final int maxNumFileHandles;
-    private final BlockCompressionFactory compressionCodecFactory;
+    private final SpillCompression spillCompression;
     private final int compressionBlockSize;
     private final BinaryExternalMerger merger;
 
@@ -61,6 +60,10 @@ public class BinaryExternalSortBuffer implements SortBuffer {
 
     private int numRecords = 0;
 
+    // spill statistics, not reset by clear
+    private long spilledBytes;
+    private long spillNanos;
+
     public BinaryExternalSortBuffer(
             BinaryRowSerializer serializer,
             RecordComparator comparator,
@@ -68,12 +71,30 @@ public class BinaryExternalSortBuffer implements SortBuffer {
             BinaryInMemorySortBuffer inMemorySortBuffer,
             IOManager ioManager,
             int maxNumFileHandles) {
+        this(
+                serializer,
+                comparator,
+                pageSize,
+                inMemorySortBuffer,
+                ioManager,
+                maxNumFileHandles,
+                SpillCompression.create("lz4"));
+    }
+
+    public BinaryExternalSortBuffer(
+            BinaryRowSerializer serializer,
+            RecordComparator comparator,
+            int pageSize,
+            BinaryInMemorySortBuffer inMemorySortBuffer,
+            IOManager ioManager,
+            int maxNumFileHandles,
+            SpillCompression spillCompression) {
         this.serializer = serializer;
         this.inMemorySortBuffer = inMemorySortBuffer;
         this.ioManager = ioManager;
         this.channelManager = new SpillChannelManager();
         this.maxNumFileHandles = maxNumFileHandles;
-        this.compressionCodecFactory = new Lz4BlockCompressionFactory();
+        this.spillCompression = spillCompression;
         this.compressionBlockSize = (int) MemorySize.parse("64 kb").getBytes();
         this.merger =
                 new BinaryExternalMerger(
@@ -83,7 +104,7 @@ public class BinaryExternalSortBuffer implements SortBuffer {
                         channelManager,
                         serializer.duplicate(),
                         comparator,
-                        compressionCodecFactory,
+                        spillCompression.defaultCompression(),
                         compressionBlockSize);
         this.enumerator = ioManager.createChannelEnumerator();
         this.spillChannelIDs = new ArrayList<>();
@@ -149,6 +170,16 @@ public class BinaryExternalSortBuffer implements SortBuffer {
         return inMemorySortBuffer.getOccupancy();
     }
 
+    /** Total bytes of the spilled runs written to disk. */
+    public long spilledBytes() {
+        return spilledBytes;
+    }
+
+    /** Total time spent on spilling runs to disk. */
+    public long spillCostMillis() {
+        return spillNanos / 1_000_000;
+    }
+
     @Override
     public boolean flushMemory() throws IOException {
         spill();
@@ -223,9 +254,12 @@ public class BinaryExternalSortBuffer implements SortBuffer {
             return;
         }
 
+        long start = System.nanoTime();
+
         // open next channel
         FileIOChannel.ID channel = enumerator.next();
         channelManager.addChannel(channel);
+        BlockCompressionFactory compression = spillCompression.nextRun();
 
         ChannelWriterOutputView output = null;
         int bytesInLastBuffer;
@@ -234,7 +268,7 @@ public class BinaryExternalSortBuffer implements SortBuffer {
         try {
             output =
                     FileChannelUtil.createOutputView(
-                            ioManager, channel, compressionCodecFactory, compressionBlockSize);
+                            ioManager, channel, compression, compressionBlockSize);
             new QuickSort().sort(inMemorySortBuffer);
             inMemorySortBuffer.writeToOutput(output);
             bytesInLastBuffer = output.close();
@@ -247,7 +281,11 @@ public class BinaryExternalSortBuffer implements SortBuffer {
             throw e;
         }
 
-        spillChannelIDs.add(new ChannelWithMeta(channel, blockCount, bytesInLastBuffer));
+        spillCompression.reportRun(compression, output);
+        spilledBytes += output.getNumCompressedBytes();
+        spillChannelIDs.add(
+                new ChannelWithMeta(channel, blockCount, bytesInLastBuffer, compression));
         inMemorySortBuffer.clear();
+        spillNanos += System.nanoTime() - start;
     }
 }
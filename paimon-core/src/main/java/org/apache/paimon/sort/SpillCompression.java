@@ -0,0 +1,130 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.sort;
+
+import org.apache.paimon.CoreOptions;
+import org.apache.paimon.annotation.VisibleForTesting;
+import org.apache.paimon.compression.BlockCompressionFactory;
+import org.apache.paimon.compression.Lz4BlockCompressionFactory;
+import org.apache.paimon.compression.NoneBlockCompressionFactory;
+import org.apache.paimon.disk.ChannelWriterOutputView;
+import org.apache.paimon.options.MemorySize;
+
+/**
+ * Chooses the compression of each run spilled by {@link BinaryExternalSortBuffer}.
+ *
+ * <p>With the 'adaptive' compression, a run is compressed only if the time to compress it is less
+ * than the time saved by writing fewer bytes to the disk. The compression time and ratio are
+ * measured on the previous compressed run, the disk write time is derived from the configured disk
+ * bandwidth. The time of writing to the channel is not used, it mostly measures the copy to the
+ * page cache rather than the disk. While runs are not compressed, one run in every {@link
+ * #PROBE_INTERVAL} runs is still compressed to measure the compression again, because the data may
+ * change.
+ *
+ * <p>This class is thread-safe, the two halves of an asynchronously flushed write buffer spill in
+ * different threads and share the measurements.
+ */
+public class SpillCompression {
+
+    public static final String ADAPTIVE = "adaptive";
+
+    private static final int PROBE_INTERVAL = 8;
+
+    private static final BlockCompressionFactory LZ4 = new Lz4BlockCompressionFactory();
+    private static final BlockCompressionFactory NONE = new NoneBlockCompressionFactory();
+
+    private final BlockCompressionFactory fixed;
+    private final boolean adaptive;
+
+    // time to write a byte to the disk, from the configured disk bandwidth
+    private final double diskNanosPerByte;
+
+    private boolean compress = true;
+    private int runsSinceProbe;
+
+    // measured from the latest compressed run, per uncompressed byte
+    private double compressNanosPerByte;
+    private double compressionRatio;
+
+    private SpillCompression(
+            BlockCompressionFactory fixed, boolean adaptive, MemorySize diskBandwidth) {
+        this.fixed = fixed;
+        this.adaptive = adaptive;
+        this.diskNanosPerByte = 1_000_000_000d / Math.max(1, diskBandwidth.getBytes());
+    }
+
+    public static SpillCompression create(String compression) {
+        return create(compression, CoreOptions.SPILL_COMPRESSION_DISK_BANDWIDTH.defaultValue());
+    }
+
+    public static SpillCompression create(String compression, MemorySize diskBandwidth) {
+        switch (compression.toLowerCase()) {
+            case "none":
+                return new SpillCompression(NONE, false, diskBandwidth);
+            case "lz4":
+                return new SpillCompression(LZ4, false, diskBandwidth);
+            case ADAPTIVE:
+                return new SpillCompression(LZ4, true, diskBandwidth);
+            default:
+                throw new IllegalArgumentException("Unsupported spill compression: " + compression);
+        }
+    }
+
+    /** The compression for spilled runs when it can't be chosen per run, e.g. merged runs. */
+    public BlockCompressionFactory defaultCompression() {
+        return fixed;
+    }
+
+    /** The compression for the next spilled run. */
+    public synchronized BlockCompressionFactory nextRun() {
+        if (!adaptive) {
+            return fixed;
+        }
+        if (!compress && ++runsSinceProbe >= PROBE_INTERVAL) {
+            runsSinceProbe = 0;
+            return LZ4;
+        }
+        return compress ? LZ4 : NONE;
+    }
+
+    /** Reports the statistics of a spilled run written with the given compression. */
+    public void reportRun(BlockCompressionFactory compression, ChannelWriterOutputView output) {
+        reportRun(
+                compression,
+                output.getNumBytes(),
+                output.getNumCompressedBytes(),
+                output.getCompressNanos());
+    }
+
+    @VisibleForTesting
+    synchronized void reportRun(
+            BlockCompressionFactory compression,
+            long numBytes,
+            long numCompressedBytes,
+            long compressNanos) {
+        if (!adaptive || compression != LZ4 || numBytes == 0) {
+            return;
+        }
+
+        compressNanosPerByte = (double) compressNanos / numBytes;
+        compressionRatio = (double) numCompressedBytes / numBytes;
+        // compressing a byte costs compressNanosPerByte and saves writing (1 - ratio) bytes
+        compress = compressNanosPerByte < (1 - compressionRatio) * diskNanosPerByte;
+    }
+}
@@ -115,6 +115,10 @@ public class FieldStatsArraySerializer {
         return stats;
     }
 
+    public int fieldCount() {
+        return fieldGetters.length;
+    }
+
     public static RowType schema() {
         List<DataField> fields = new ArrayList<>();
         fields.add(new DataField(0, "_MIN_VALUES", newBytesType(false)));
@@ -0,0 +1,121 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.stats;
+
+import org.apache.paimon.format.FieldStats;
+import org.apache.paimon.types.DataType;
+import org.apache.paimon.types.DataTypeRoot;
+import org.apache.paimon.types.RowType;
+import org.apache.paimon.utils.InternalRowUtils;
+
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Merge {@link FieldStats} arrays of several files into one array covering all of them, the merged
+ * min and max values are unknown if they are unknown in any file.
+ */
+public class FieldStatsMerger {
+
+    private static final Set<DataTypeRoot> COMPARABLE_TYPES =
+            EnumSet.of(
+                    DataTypeRoot.DECIMAL,
+                    DataTypeRoot.TINYINT,
+                    DataTypeRoot.SMALLINT,
+                    DataTypeRoot.INTEGER,
+                    DataTypeRoot.DATE,
+                    DataTypeRoot.TIME_WITHOUT_TIME_ZONE,
+                    DataTypeRoot.BIGINT,
+                    DataTypeRoot.FLOAT,
+                    DataTypeRoot.DOUBLE,
+                    DataTypeRoot.TIMESTAMP_WITHOUT_TIME_ZONE,
+                    DataTypeRoot.TIMESTAMP_WITH_LOCAL_TIME_ZONE,
+                    DataTypeRoot.BINARY,
+                    DataTypeRoot.VARBINARY,
+                    DataTypeRoot.VARCHAR,
+                    DataTypeRoot.CHAR);
+
+    private final List<DataType> fieldTypes;
+    private final Object[] minValues;
+    private final Object[] maxValues;
+    private final Long[] nullCounts;
+    private final boolean[] unknown;
+
+    public FieldStatsMerger(RowType rowType) {
+        this.fieldTypes = rowType.getFieldTypes();
+        int fieldCount = fieldTypes.size();
+        this.minValues = new Object[fieldCount];
+        this.maxValues = new Object[fieldCount];
+        this.nullCounts = new Long[fieldCount];
+        this.unknown = new boolean[fieldCount];
+        for (int i = 0; i < fieldCount; i++) {
+            nullCounts[i] = 0L;
+            // min and max of other types are not merged
+            unknown[i] = !COMPARABLE_TYPES.contains(fieldTypes.get(i).getTypeRoot());
+        }
+    }
+
+    public void merge(FieldStats[] stats, long rowCount) {
+        for (int i = 0; i < minValues.length; i++) {
+            FieldStats fieldStats = stats[i];
+            Long nullCount = fieldStats.nullCount();
+            nullCounts[i] =
+                    nullCount == null || nullCounts[i] == null ? null : nullCounts[i] + nullCount;
+            if (unknown[i] || (nullCount != null && nullCount == rowCount)) {
+                // all values are null in this file, it has no effect on min and max
+                continue;
+            }
+
+            Object min = fieldStats.minValue();
+            Object max = fieldStats.maxValue();
+            if (min == null || max == null) {
+                unknown[i] = true;
+                minValues[i] = null;
+                maxValues[i] = null;
+                continue;
+            }
+
+            DataType type = fieldTypes.get(i);
+            if (minValues[i] == null || compare(min, minValues[i], type) < 0) {
+                minValues[i] = min;
+            }
+            if (maxValues[i] == null || compare(max, maxValues[i], type) > 0) {
+                maxValues[i] = max;
+            }
+        }
+    }
+
+    /**
+     * Returns the merged stats, the null count is unknown if it is unknown in any file. Note that
+     * min and max values are null if all values of the field are null, so the merged stats should
+     * not be tested with an exact row count.
+     */
+    public FieldStats[] result() {
+        FieldStats[] stats = new FieldStats[minValues.length];
+        for (int i = 0; i < stats.length; i++) {
+            stats[i] = new FieldStats(minValues[i], maxValues[i], nullCounts[i]);
+        }
+        return stats;
+    }
+
+    private static int compare(Object x, Object y, DataType type) {
+        return InternalRowUtils.compare(x, y, type.getTypeRoot());
+    }
+}
@@ -0,0 +1,198 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.table.query;
+
+import org.apache.paimon.CoreOptions;
+import org.apache.paimon.FileStore;
+import org.apache.paimon.KeyValue;
+import org.apache.paimon.KeyValueFileStore;
+import org.apache.paimon.data.BinaryRow;
+import org.apache.paimon.data.InternalRow;
+import org.apache.paimon.disk.IOManager;
+import org.apache.paimon.io.DataFileMeta;
+import org.apache.paimon.io.KeyValueFileReaderFactory;
+import org.apache.paimon.io.cache.CacheManager;
+import org.apache.paimon.lookup.LookupStoreFactory;
+import org.apache.paimon.mergetree.Levels;
+import org.apache.paimon.mergetree.LookupLevels;
+import org.apache.paimon.mergetree.LookupUtils;
+import org.apache.paimon.options.Options;
+import org.apache.paimon.table.FileStoreTable;
+
+import org.apache.paimon.shade.caffeine2.com.github.benmanes.caffeine.cache.Cache;
+
+import javax.annotation.Nullable;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.apache.paimon.CoreOptions.LOOKUP_CACHE_FILE_RETENTION;
+import static org.apache.paimon.CoreOptions.LOOKUP_CACHE_MAX_DISK_SIZE;
+import static org.apache.paimon.CoreOptions.LOOKUP_CACHE_MAX_MEMORY_SIZE;
+import static org.apache.paimon.CoreOptions.LOOKUP_CACHE_MEMORY_TYPE;
+import static org.apache.paimon.utils.Preconditions.checkArgument;
+import static org.apache.paimon.utils.Preconditions.checkNotNull;
+
+/**
+ * A query of primary key table, which looks up the value of a key directly from the data files of
+ * the bucket level by level, without reading the whole table. The data files are built into local
+ * lookup files on demand, and the total disk size of the local files is bounded by {@link
+ * CoreOptions#LOOKUP_CACHE_MAX_DISK_SIZE}.
+ *
+ * <p>The files of each bucket are maintained by {@link #refreshFiles}, usually fed by a streaming
+ * scan in {@link CoreOptions.StreamScanMode#FILE_MONITOR} mode.
+ */
+public class LocalTableQuery implements Closeable {
+
+    private final Map<BinaryRow, Map<Integer, LookupLevels>> tableView;
+    private final CoreOptions options;
+    private final Comparator<InternalRow> keyComparator;
+    private final KeyValueFileReaderFactory.Builder readerFactoryBuilder;
+    private final LookupStoreFactory lookupStoreFactory;
+    private final Cache<String, LookupLevels.LookupFile> lookupFiles;
+
+    @Nullable private IOManager ioManager;
+
+    public LocalTableQuery(FileStoreTable table) {
+        FileStore<?> store = table.store();
+        if (!(store instanceof KeyValueFileStore)) {
+            throw new UnsupportedOperationException(
+                    "Table query only supports table with primary key.");
+        }
+        this.options = table.coreOptions();
+        checkArgument(
+                options.mergeEngine() == CoreOptions.MergeEngine.DEDUPLICATE
+                        && !options.sequenceField().isPresent(),
+                "Table query only supports deduplicate merge engine without sequence field.");
+
+        KeyValueFileStore keyValueStore = (KeyValueFileStore) store;
+        this.tableView = new HashMap<>();
+        this.keyComparator = keyValueStore.newKeyComparator();
+        this.readerFactoryBuilder = keyValueStore.newReaderFactoryBuilder();
+
+        Options conf = options.toConfiguration();
+        CacheManager cacheManager =
+                new CacheManager(
+                        options.pageSize(),
+                        conf.get(LOOKUP_CACHE_MAX_MEMORY_SIZE),
+                        conf.get(LOOKUP_CACHE_MEMORY_TYPE));
+        this.lookupStoreFactory =
+                LookupUtils.createLookupStoreFactory(
+                        conf, cacheManager, readerFactoryBuilder.keyType(), keyComparator);
+        // the local files of all buckets share one cache to bound the total disk size
+        this.lookupFiles =
+                LookupLevels.createCache(
+                        conf.get(LOOKUP_CACHE_FILE_RETENTION),
+                        conf.get(LOOKUP_CACHE_MAX_DISK_SIZE));
+    }
+
+    /** Only read the projected fields of the values, must be called before any refreshing. */
+    public LocalTableQuery withValueProjection(int[][] projection) {
+        checkArgument(tableView.isEmpty(), "Projection must be set before refreshing files.");
+        readerFactoryBuilder.withValueProjection(projection);
+        return this;
+    }
+
+    public LocalTableQuery withIOManager(IOManager ioManager) {
+        this.ioManager = ioManager;
+        return this;
+    }
+
+    /** Apply the file changes of a bucket, the first refreshing of a bucket adds all its files. */
+    public void refreshFiles(
+            BinaryRow partition,
+            int bucket,
+            List<DataFileMeta> beforeFiles,
+            List<DataFileMeta> dataFiles) {
+        Map<Integer, LookupLevels> buckets = tableView.get(partition);
+        LookupLevels lookupLevels = buckets == null ? null : buckets.get(bucket);
+        if (lookupLevels == null) {
+            checkArgument(
+                    beforeFiles.isEmpty(),
+                    "The before files should be empty for the first refreshing of bucket %s.",
+                    bucket);
+            newLookupLevels(partition, bucket, dataFiles);
+        } else {
+            lookupLevels.getLevels().update(beforeFiles, dataFiles);
+        }
+    }
+
+    private void newLookupLevels(BinaryRow partition, int bucket, List<DataFileMeta> dataFiles) {
+        checkNotNull(ioManager, "IOManager is required to create local lookup files.");
+        Levels levels = new Levels(keyComparator, dataFiles, options.numLevels());
+        // the partition is kept as a key of the table view, it may be reused by the caller
+        partition = partition.copy();
+        KeyValueFileReaderFactory factory = readerFactoryBuilder.build(partition, bucket);
+        LookupLevels lookupLevels =
+                new LookupLevels(
+                        levels,
+                        keyComparator,
+                        readerFactoryBuilder.keyType(),
+                        readerFactoryBuilder.projectedValueType(),
+                        file ->
+                                factory.createRecordReader(
+                                        file.schemaId(),
+                                        file.fileName(),
+                                        file.fileSize(),
+                                        file.level()),
+                        () -> ioManager.createChannel().getPathFile(),
+                        lookupStoreFactory,
+                        lookupFiles,
+                        LookupStoreFactory.bfGenerator(options.toConfiguration()),
+                        null);
+        tableView.computeIfAbsent(partition, k -> new HashMap<>()).put(bucket, lookupLevels);
+    }
+
+    /**
+     * Look up the latest value of the key in the bucket, returns null if the key does not exist or
+     * has been deleted. The key should be the trimmed primary key, without partition fields.
+     */
+    @Nullable
+    public InternalRow lookup(BinaryRow partition, int bucket, InternalRow key) throws IOException {
+        Map<Integer, LookupLevels> buckets = tableView.get(partition);
+        if (buckets == null) {
+            return null;
+        }
+        LookupLevels lookupLevels = buckets.get(bucket);
+        if (lookupLevels == null) {
+            return null;
+        }
+
+        KeyValue kv = lookupLevels.lookup(key, 0);
+        if (kv == null || kv.valueKind().isRetract()) {
+            return null;
+        }
+        return kv.value();
+    }
+
+    @Override
+    public void close() throws IOException {
+        for (Map<Integer, LookupLevels> buckets : tableView.values()) {
+            for (LookupLevels lookupLevels : buckets.values()) {
+                lookupLevels.close();
+            }
+        }
+        tableView.clear();
+        lookupFiles.invalidateAll();
+    }
+}
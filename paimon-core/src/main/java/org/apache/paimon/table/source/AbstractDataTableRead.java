@@ -19,15 +19,19 @@
 package org.apache.paimon.table.source;
 
 import org.apache.paimon.data.InternalRow;
+import org.apache.paimon.data.columnar.ColumnarRowIterator;
 import org.apache.paimon.disk.IOManager;
 import org.apache.paimon.operation.DefaultValueAssigner;
 import org.apache.paimon.operation.FileStoreRead;
 import org.apache.paimon.predicate.Predicate;
 import org.apache.paimon.predicate.PredicateProjectionConverter;
+import org.apache.paimon.predicate.VectorizedPredicate;
 import org.apache.paimon.reader.RecordReader;
 import org.apache.paimon.schema.TableSchema;
 import org.apache.paimon.utils.Projection;
 
+import javax.annotation.Nullable;
+
 import java.io.IOException;
 import java.util.Optional;
 
@@ -110,6 +114,26 @@ public abstract class AbstractDataTableRead<T> implements InnerTableRead {
         }
 
         Predicate finalFilter = predicate;
-        return reader.filter(finalFilter::test);
+        VectorizedPredicate vectorizedFilter = VectorizedPredicate.create(finalFilter);
+        return new RecordReader<InternalRow>() {
+            @Nullable
+            @Override
+            public RecordIterator<InternalRow> readBatch() throws IOException {
+                RecordIterator<InternalRow> iterator = reader.readBatch();
+                if (iterator == null) {
+                    return null;
+                }
+                // evaluate the filter on column vectors directly if possible
+                if (iterator instanceof ColumnarRowIterator) {
+                    return ((ColumnarRowIterator) iterator).filter(vectorizedFilter);
+                }
+                return iterator.filter(finalFilter::test);
+            }
+
+            @Override
+            public void close() throws IOException {
+                reader.close();
+            }
+        };
     }
 }
@@ -28,6 +28,7 @@ import java.util.List;
 import java.util.NoSuchElementException;
 import java.util.Queue;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
 import java.util.function.Function;
 
 /**
@@ -36,7 +37,12 @@ import java.util.function.Function;
  */
 public class ParallellyExecuteUtils {
 
-    // reduce memory usage by batch iterable process, the cached result in memory will be queueSize
+    /**
+     * Process the input in batches of queueSize in a pipelined way: the next batch is processed
+     * while the current batch is being consumed. This reduces memory usage because at most two
+     * processed batches are held in memory, and the consumer does not need to wait for the
+     * processing of each batch.
+     */
     public static <T, U> Iterable<T> parallelismBatchIterable(
             Function<List<U>, List<T>> processor, List<U> input, @Nullable Integer queueSize) {
         if (queueSize == null) {
@@ -45,11 +51,14 @@ public class ParallellyExecuteUtils {
             throw new NegativeArraySizeException("queue size should not be negetive");
         }
 
-        final Queue<List<U>> stack = new ArrayDeque<>(Lists.partition(input, queueSize));
+        final List<List<U>> batches = Lists.partition(input, queueSize);
 
         return () ->
                 new Iterator<T>() {
-                    List<T> activeList = null;
+                    private final Queue<List<U>> stack = new ArrayDeque<>(batches);
+
+                    private CompletableFuture<List<T>> nextList = null;
+                    private List<T> activeList = null;
                     private int index = 0;
 
                     @Override
@@ -68,21 +77,43 @@ public class ParallellyExecuteUtils {
                     }
 
                     private void advanceIfNeeded() {
-                        while ((activeList == null || index >= activeList.size())
-                                && stack.size() > 0) {
+                        while (activeList == null || index >= activeList.size()) {
+                            if (nextList == null) {
+                                nextList = submitNext();
+                                if (nextList == null) {
+                                    activeList = null;
+                                    return;
+                                }
+                            }
+
                             // reset index
                             index = 0;
                             try {
-                                activeList =
-                                        CompletableFuture.supplyAsync(
-                                                        () -> processor.apply(stack.poll()),
-                                                        FileUtils.COMMON_IO_FORK_JOIN_POOL)
-                                                .get();
-                            } catch (Exception e) {
+                                activeList = nextList.get();
+                            } catch (InterruptedException e) {
+                                Thread.currentThread().interrupt();
                                 throw new RuntimeException(e);
+                            } catch (ExecutionException e) {
+                                throw new RuntimeException(e.getCause());
+                            }
+                            // process the next batch while the active batch is being consumed
+                            nextList = submitNext();
+                            if (nextList == null && activeList.isEmpty()) {
+                                activeList = null;
+                                return;
                             }
                         }
                     }
+
+                    @Nullable
+                    private CompletableFuture<List<T>> submitNext() {
+                        List<U> batch = stack.poll();
+                        if (batch == null) {
+                            return null;
+                        }
+                        return CompletableFuture.supplyAsync(
+                                () -> processor.apply(batch), FileUtils.COMMON_IO_FORK_JOIN_POOL);
+                    }
                 };
     }
 }
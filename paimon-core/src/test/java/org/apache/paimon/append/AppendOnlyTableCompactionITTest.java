@@ -18,6 +18,7 @@
 
 package org.apache.paimon.append;
 
+import org.apache.paimon.CoreOptions;
 import org.apache.paimon.data.BinaryString;
 import org.apache.paimon.data.GenericRow;
 import org.apache.paimon.data.InternalRow;
@@ -25,17 +26,21 @@ import org.apache.paimon.fs.FileIO;
 import org.apache.paimon.fs.local.LocalFileIO;
 import org.apache.paimon.io.DataFileMeta;
 import org.apache.paimon.operation.AppendOnlyFileStoreWrite;
+import org.apache.paimon.reader.RecordReaderIterator;
 import org.apache.paimon.schema.Schema;
 import org.apache.paimon.schema.SchemaManager;
 import org.apache.paimon.schema.TableSchema;
+import org.apache.paimon.sort.zorder.ZIndexer;
 import org.apache.paimon.table.AppendOnlyFileStoreTable;
 import org.apache.paimon.table.FileStoreTableFactory;
 import org.apache.paimon.table.sink.CommitMessage;
 import org.apache.paimon.table.sink.CommitMessageImpl;
 import org.apache.paimon.table.sink.StreamTableWrite;
 import org.apache.paimon.table.sink.TableCommitImpl;
+import org.apache.paimon.table.source.DataSplit;
 import org.apache.paimon.types.DataTypes;
 import org.apache.paimon.utils.SnapshotManager;
+import org.apache.paimon.utils.SortUtil;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -43,6 +48,8 @@ import org.junit.jupiter.api.io.TempDir;
 
 import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import java.util.Random;
 import java.util.UUID;
@@ -134,6 +141,65 @@ public class AppendOnlyTableCompactionITTest {
         assertThat(remainedSize).isEqualTo(5);
     }
 
+    @Test
+    public void testClusteringCompaction() throws Exception {
+        appendOnlyFileStoreTable =
+                (AppendOnlyFileStoreTable)
+                        appendOnlyFileStoreTable.copy(
+                                Collections.singletonMap(
+                                        CoreOptions.COMPACTION_CLUSTER_COLUMNS.key(), "f0,f1"));
+        compactionCoordinator = new AppendOnlyTableCompactionCoordinator(appendOnlyFileStoreTable);
+        write = appendOnlyFileStoreTable.store().newWrite(commitUser);
+
+        // 10 files of 50 records
+        StreamTableWrite writer = appendOnlyFileStoreTable.newStreamWriteBuilder().newWrite();
+        for (int i = 0; i < 10; i++) {
+            for (int j = 0; j < 50; j++) {
+                writer.write(randomRow());
+            }
+            commit(writer.prepareCommit(true, i));
+        }
+        writer.close();
+
+        List<AppendOnlyCompactionTask> tasks = compactionCoordinator.run();
+        assertThat(tasks).isNotEmpty();
+        List<CommitMessage> result = doCompact(tasks);
+        commit(result);
+
+        ZIndexer indexer =
+                new ZIndexer(appendOnlyFileStoreTable.rowType(), Arrays.asList("f0", "f1"));
+        indexer.open();
+        for (AppendOnlyCompactionTask task : tasks) {
+            assertThat(task.compactAfter()).isNotEmpty();
+            long rowCount = 0;
+            for (DataFileMeta file : task.compactAfter()) {
+                byte[] previous = new byte[0];
+                RecordReaderIterator<InternalRow> iterator =
+                        new RecordReaderIterator<>(
+                                appendOnlyFileStoreTable
+                                        .store()
+                                        .newRead()
+                                        .createReader(
+                                                DataSplit.builder()
+                                                        .withPartition(task.partition())
+                                                        .withBucket(0)
+                                                        .withDataFiles(
+                                                                Collections.singletonList(file))
+                                                        .build()));
+                while (iterator.hasNext()) {
+                    byte[] index = indexer.index(iterator.next()).clone();
+                    assertThat(SortUtil.compareBinary(previous, index)).isLessThanOrEqualTo(0);
+                    previous = index;
+                    rowCount++;
+                }
+                iterator.close();
+            }
+            assertThat(rowCount)
+                    .isEqualTo(
+                            task.compactBefore().stream().mapToLong(DataFileMeta::rowCount).sum());
+        }
+    }
+
     private static Schema schema() {
         Schema.Builder schemaBuilder = Schema.newBuilder();
         schemaBuilder.column("f0", DataTypes.INT());
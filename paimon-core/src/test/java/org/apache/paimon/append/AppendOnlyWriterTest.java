@@ -52,6 +52,8 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
+import javax.annotation.Nullable;
+
 import java.io.File;
 import java.io.IOException;
 import java.nio.file.Files;
@@ -63,6 +65,7 @@ import java.util.List;
 import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.stream.Collectors;
 
@@ -277,6 +280,44 @@ public class AppendOnlyWriterTest {
         assertThat(secInc.newFilesIncrement().newFiles()).hasSize(1);
     }
 
+    @Test
+    public void testRollingWriteWithAsyncClose() throws Exception {
+        ExecutorService closeExecutor =
+                Executors.newFixedThreadPool(2, new ExecutorThreadFactory("file-close"));
+        AppendOnlyWriter writer =
+                createWriter(
+                                10L,
+                                false,
+                                false,
+                                false,
+                                Collections.emptyList(),
+                                new CountDownLatch(0),
+                                2,
+                                closeExecutor)
+                        .getLeft();
+
+        for (int i = 0; i < 10 * 1000; i++) {
+            writer.write(row(i, String.format("%03d", i), PART));
+        }
+
+        CommitIncrement increment = writer.prepareCommit(true);
+        List<DataFileMeta> newFiles = increment.newFilesIncrement().newFiles();
+        assertThat(newFiles).hasSize(10);
+
+        // files are in the order of rolling with their own sequence numbers
+        for (int id = 0; id < newFiles.size(); id++) {
+            DataFileMeta meta = newFiles.get(id);
+            assertThat(LocalFileIO.create().exists(pathFactory.toPath(meta.fileName()))).isTrue();
+            assertThat(meta.rowCount()).isEqualTo(1000L);
+            assertThat(meta.minSequenceNumber()).isEqualTo(id * 1000);
+            assertThat(meta.maxSequenceNumber()).isEqualTo(id * 1000 + 999);
+            assertThat(meta.valueStats().min().getInt(0)).isEqualTo(id * 1000);
+            assertThat(meta.valueStats().max().getInt(0)).isEqualTo(id * 1000 + 999);
+        }
+        writer.close();
+        closeExecutor.shutdownNow();
+    }
+
     @Test
     public void testCloseUnexpectedly() throws Exception {
         final CountDownLatch latch = new CountDownLatch(1);
@@ -511,6 +552,26 @@ public class AppendOnlyWriterTest {
             boolean spillable,
             List<DataFileMeta> scannedFiles,
             CountDownLatch latch) {
+        return createWriter(
+                targetFileSize,
+                forceCompact,
+                useWriteBuffer,
+                spillable,
+                scannedFiles,
+                latch,
+                0,
+                null);
+    }
+
+    private Pair<AppendOnlyWriter, List<DataFileMeta>> createWriter(
+            long targetFileSize,
+            boolean forceCompact,
+            boolean useWriteBuffer,
+            boolean spillable,
+            List<DataFileMeta> scannedFiles,
+            CountDownLatch latch,
+            int asyncCloseFiles,
+            @Nullable ExecutorService closeExecutor) {
         FileFormat fileFormat = FileFormat.fromIdentifier(AVRO, new Options());
         LinkedList<DataFileMeta> toCompact = new LinkedList<>(scannedFiles);
         AppendOnlyCompactManager compactManager =
@@ -548,6 +609,8 @@ public class AppendOnlyWriterTest {
                         CoreOptions.FILE_COMPRESSION.defaultValue(),
                         StatsCollectorFactories.createStatsFactories(
                                 options, AppendOnlyWriterTest.SCHEMA.getFieldNames()),
+                        asyncCloseFiles,
+                        closeExecutor,
                         null);
         writer.setMemoryPool(
                 new HeapMemorySegmentPool(options.writeBufferSize(), options.pageSize()));
@@ -0,0 +1,102 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.compact;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/** Tests for {@link CompactExecutor}. */
+public class CompactExecutorTest {
+
+    @Test
+    public void testPriority() throws Exception {
+        CompactExecutor executor = new CompactExecutor(1, "compaction-test");
+        CountDownLatch latch = new CountDownLatch(1);
+        executor.submit(
+                () -> {
+                    latch.await();
+                    return null;
+                });
+
+        List<Integer> order = Collections.synchronizedList(new ArrayList<>());
+        Future<?> f1 = executor.submit(new TestTask(order, 1).withPriority(0.5));
+        Future<?> f2 = executor.submit(new TestTask(order, 2).withPriority(0.5));
+        Future<?> f3 = executor.submit(new TestTask(order, 3).withPriority(1.0));
+        Future<?> f4 = executor.submit(new TestTask(order, 4).withPriority(0.1));
+        Future<?> f5 = executor.submit(new TestTask(order, 5).withPriority(0.1));
+        assertThat(executor.queueDepth()).isEqualTo(5);
+
+        // task 4 becomes the most urgent one
+        assertThat(executor.updatePriority(f4, 2.0)).isTrue();
+        // cancelled task is removed from the queue
+        f5.cancel(true);
+        assertThat(executor.queueDepth()).isEqualTo(4);
+
+        latch.countDown();
+        for (Future<?> future : new Future<?>[] {f1, f2, f3, f4}) {
+            future.get();
+        }
+        assertThat(order).containsExactly(4, 3, 1, 2);
+        assertThat(executor.updatePriority(f1, 3.0)).isFalse();
+        executor.release();
+        assertThat(executor.isShutdown()).isTrue();
+    }
+
+    @Test
+    public void testShared() {
+        CompactExecutor executor1 = CompactExecutor.shared(2);
+        CompactExecutor executor2 = CompactExecutor.shared(2);
+        CompactExecutor executor3 = CompactExecutor.shared(3);
+        assertThat(executor1).isSameAs(executor2);
+        assertThat(executor1).isNotSameAs(executor3);
+        assertThat(CompactExecutor.numSharedExecutors()).isEqualTo(2);
+
+        executor1.release();
+        assertThat(executor2.isShutdown()).isFalse();
+        executor2.release();
+        assertThat(executor2.isShutdown()).isTrue();
+        executor3.release();
+        assertThat(CompactExecutor.numSharedExecutors()).isEqualTo(0);
+    }
+
+    private static class TestTask extends CompactTask {
+
+        private final List<Integer> order;
+        private final int id;
+
+        private TestTask(List<Integer> order, int id) {
+            super(null);
+            this.order = order;
+            this.id = id;
+        }
+
+        @Override
+        protected CompactResult doCompact() {
+            order.add(id);
+            return new CompactResult();
+        }
+    }
+}
@@ -0,0 +1,112 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.lookup;
+
+import org.apache.paimon.data.BinaryRow;
+import org.apache.paimon.data.BinaryString;
+import org.apache.paimon.data.GenericRow;
+import org.apache.paimon.data.InternalRow;
+import org.apache.paimon.types.DataTypes;
+import org.apache.paimon.types.RowKind;
+import org.apache.paimon.types.RowType;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/** Test for {@link InMemoryRowMap}. */
+public class InMemoryRowMapTest {
+
+    private static final RowType VALUE_TYPE = RowType.of(DataTypes.INT(), DataTypes.STRING());
+
+    @Test
+    public void testIntKey() {
+        innerTest(RowType.of(DataTypes.INT()), GenericRow::of);
+    }
+
+    @Test
+    public void testBigIntKey() {
+        innerTest(RowType.of(DataTypes.BIGINT()), k -> GenericRow.of((long) k * Integer.MAX_VALUE));
+    }
+
+    @Test
+    public void testBinaryKey() {
+        innerTest(
+                RowType.of(DataTypes.INT(), DataTypes.STRING()),
+                k -> GenericRow.of(k % 7, BinaryString.fromString(String.valueOf(k))));
+    }
+
+    @Test
+    public void testKeyRowKindIgnored() {
+        InMemoryRowMap map =
+                InMemoryRowMap.create(RowType.of(DataTypes.INT(), DataTypes.INT()), VALUE_TYPE);
+        map.put(GenericRow.ofKind(RowKind.UPDATE_AFTER, 1, 2), value(1));
+        assertThat(map.get(GenericRow.of(1, 2))).isNotNull();
+        map.delete(GenericRow.ofKind(RowKind.DELETE, 1, 2));
+        assertThat(map.get(GenericRow.of(1, 2))).isNull();
+        assertThat(map.size()).isEqualTo(0);
+    }
+
+    @Test
+    public void testNullKey() {
+        InMemoryRowMap map = InMemoryRowMap.create(RowType.of(DataTypes.INT()), VALUE_TYPE);
+        assertThat(map.get(GenericRow.of((Object) null))).isNull();
+        map.delete(GenericRow.of((Object) null));
+        assertThat(map.size()).isEqualTo(0);
+    }
+
+    private void innerTest(RowType keyType, Function<Integer, InternalRow> keyFunction) {
+        InMemoryRowMap map = InMemoryRowMap.create(keyType, VALUE_TYPE);
+        Map<Integer, Integer> expected = new HashMap<>();
+        Random random = new Random();
+        for (int i = 0; i < 100_000; i++) {
+            int k = random.nextInt(5000);
+            if (random.nextInt(3) == 0) {
+                map.delete(keyFunction.apply(k));
+                expected.remove(k);
+            } else {
+                int v = random.nextInt();
+                map.put(keyFunction.apply(k), value(v));
+                expected.put(k, v);
+            }
+        }
+
+        assertThat(map.size()).isEqualTo(expected.size());
+        for (int k = 0; k < 5000; k++) {
+            BinaryRow value = map.get(keyFunction.apply(k));
+            if (expected.containsKey(k)) {
+                assertThat(value).isNotNull();
+                assertThat(value.getInt(0)).isEqualTo(expected.get(k));
+                assertThat(value.getString(1).toString())
+                        .isEqualTo(String.valueOf(expected.get(k)));
+            } else {
+                assertThat(value).isNull();
+            }
+        }
+    }
+
+    private static InternalRow value(int v) {
+        return GenericRow.of(v, BinaryString.fromString(String.valueOf(v)));
+    }
+}
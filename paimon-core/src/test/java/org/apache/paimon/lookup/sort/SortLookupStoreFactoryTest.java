@@ -0,0 +1,145 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.lookup.sort;
+
+import org.apache.paimon.compression.BlockCompressionFactory;
+import org.apache.paimon.io.cache.CacheManager;
+import org.apache.paimon.lookup.LookupStoreStats;
+import org.apache.paimon.options.MemorySize;
+import org.apache.paimon.utils.BloomFilter;
+
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/** Test for {@link SortLookupStoreFactory}. */
+public class SortLookupStoreFactoryTest {
+
+    private static final Comparator<byte[]> COMPARATOR =
+            (b1, b2) -> {
+                int len = Math.min(b1.length, b2.length);
+                for (int i = 0; i < len; i++) {
+                    int cmp = Byte.compare(b1[i], b2[i]);
+                    if (cmp != 0) {
+                        return cmp;
+                    }
+                }
+                return Integer.compare(b1.length, b2.length);
+            };
+
+    @TempDir Path tempDir;
+
+    private SortLookupStoreFactory createFactory(String compression) {
+        return new SortLookupStoreFactory(
+                COMPARATOR,
+                new CacheManager(1024, MemorySize.ofMebiBytes(1)),
+                1024,
+                BlockCompressionFactory.create(compression));
+    }
+
+    private File newFile() {
+        return new File(tempDir.toFile(), UUID.randomUUID().toString());
+    }
+
+    private static byte[] key(int i) {
+        return String.format("key-%08d", i).getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static byte[] value(int i) {
+        return ("value-" + i).getBytes(StandardCharsets.UTF_8);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"none", "lz4"})
+    public void testEmpty(String compression) throws IOException {
+        SortLookupStoreFactory factory = createFactory(compression);
+        File file = newFile();
+        factory.createWriter(file, null).close();
+
+        SortLookupStoreReader reader = factory.createReader(file);
+        assertThat(reader.lookup(key(1))).isNull();
+        reader.close();
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"none", "lz4"})
+    public void testLookup(String compression) throws IOException {
+        SortLookupStoreFactory factory = createFactory(compression);
+        File file = newFile();
+        int count = 10000;
+        SortLookupStoreWriter writer = factory.createWriter(file, null);
+        // only even keys are written
+        for (int i = 0; i < count; i += 2) {
+            writer.put(key(i), value(i));
+        }
+        writer.close();
+
+        SortLookupStoreReader reader = factory.createReader(file);
+        for (int i = 0; i < count; i++) {
+            if (i % 2 == 0) {
+                assertThat(reader.lookup(key(i))).isEqualTo(value(i));
+            } else {
+                assertThat(reader.lookup(key(i))).isNull();
+            }
+        }
+        assertThat(reader.lookup(key(-1))).isNull();
+        assertThat(reader.lookup(key(count + 1))).isNull();
+        reader.close();
+
+        // prefix compression and block compression make the file smaller than the raw data
+        long rawSize = (long) (count / 2) * (key(0).length + value(count).length);
+        assertThat(file.length()).isLessThan(rawSize);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"none", "lz4"})
+    public void testBloomFilter(String compression) throws IOException {
+        SortLookupStoreFactory factory = createFactory(compression);
+        File file = newFile();
+        int len = 1000;
+        SortLookupStoreWriter writer = factory.createWriter(file, BloomFilter.builder(len, 0.05));
+        for (int i = 0; i < len; i++) {
+            writer.put(key(i), value(i));
+        }
+        writer.close();
+
+        SortLookupStoreReader reader = factory.createReader(file);
+        for (int i = 0; i < len; i++) {
+            assertThat(reader.lookup(key(i))).isEqualTo(value(i));
+        }
+        LookupStoreStats stats = factory.stats();
+        assertThat(stats.bloomFilterPassed()).isEqualTo(len);
+
+        for (int i = len; i < len * 2; i++) {
+            assertThat(reader.lookup(key(i))).isNull();
+        }
+        assertThat(stats.bloomFilterSkipped() + stats.bloomFilterFalsePositive()).isEqualTo(len);
+        assertThat(stats.bloomFilterSkipped()).isGreaterThan(len / 2);
+        reader.close();
+    }
+}
@@ -31,7 +31,7 @@ import org.apache.paimon.io.KeyValueFileReaderFactory;
 import org.apache.paimon.io.KeyValueFileWriterFactory;
 import org.apache.paimon.io.RollingFileWriter;
 import org.apache.paimon.io.cache.CacheManager;
-import org.apache.paimon.lookup.hash.HashLookupStoreFactory;
+import org.apache.paimon.lookup.LookupStoreFactory;
 import org.apache.paimon.options.MemorySize;
 import org.apache.paimon.options.Options;
 import org.apache.paimon.schema.KeyValueFieldsExtractor;
@@ -42,13 +42,21 @@ import org.apache.paimon.types.DataField;
 import org.apache.paimon.types.DataTypes;
 import org.apache.paimon.types.RowKind;
 import org.apache.paimon.types.RowType;
+import org.apache.paimon.utils.BloomFilter;
 import org.apache.paimon.utils.FileStorePathFactory;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import javax.annotation.Nullable;
 
 import java.io.File;
 import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.file.StandardOpenOption;
 import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -58,6 +66,8 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 import static org.apache.paimon.CoreOptions.TARGET_FILE_SIZE;
 import static org.apache.paimon.KeyValue.UNKNOWN_SEQUENCE;
@@ -79,8 +89,9 @@ public class LookupLevelsTest {
                     DataTypes.FIELD(0, "key", DataTypes.INT()),
                     DataTypes.FIELD(1, "value", DataTypes.INT()));
 
-    @Test
-    public void testMultiLevels() throws IOException {
+    @ParameterizedTest
+    @EnumSource(CoreOptions.LookupLocalFileType.class)
+    public void testMultiLevels(CoreOptions.LookupLocalFileType fileType) throws IOException {
         Levels levels =
                 new Levels(
                         comparator,
@@ -88,7 +99,8 @@ public class LookupLevelsTest {
                                 newFile(1, kv(1, 11), kv(3, 33), kv(5, 5)),
                                 newFile(2, kv(2, 22), kv(5, 55))),
                         3);
-        LookupLevels lookupLevels = createLookupLevels(levels, MemorySize.ofMebiBytes(10));
+        LookupLevels lookupLevels =
+                createLookupLevels(levels, MemorySize.ofMebiBytes(10), fileType);
 
         // only in level 1
         KeyValue kv = lookupLevels.lookup(row(1), 1);
@@ -163,6 +175,65 @@ public class LookupLevelsTest {
         assertThat(lookupLevels.lookupFiles().estimatedSize()).isEqualTo(0);
     }
 
+    @Test
+    public void testLookupLevel0() throws IOException {
+        Levels levels =
+                new Levels(
+                        comparator,
+                        Arrays.asList(
+                                newFile(0, kv(1, 11, 1), kv(3, 33, 2)),
+                                newFile(0, kv(3, 333, 3), kv(5, 55, 4)),
+                                newFile(1, kv(1, 111, 0), kv(7, 77, 0))),
+                        3);
+        LookupLevels lookupLevels = createLookupLevels(levels, MemorySize.ofMebiBytes(10));
+
+        // the newest level 0 file wins
+        KeyValue kv = lookupLevels.lookup(row(3), 0);
+        assertThat(kv).isNotNull();
+        assertThat(kv.level()).isEqualTo(0);
+        assertThat(kv.value().getInt(1)).isEqualTo(333);
+
+        // level 0 wins upper levels
+        kv = lookupLevels.lookup(row(1), 0);
+        assertThat(kv).isNotNull();
+        assertThat(kv.level()).isEqualTo(0);
+        assertThat(kv.value().getInt(1)).isEqualTo(11);
+        kv = lookupLevels.lookup(row(1), 1);
+        assertThat(kv).isNotNull();
+        assertThat(kv.level()).isEqualTo(1);
+        assertThat(kv.value().getInt(1)).isEqualTo(111);
+
+        // only in upper level
+        kv = lookupLevels.lookup(row(7), 0);
+        assertThat(kv).isNotNull();
+        assertThat(kv.level()).isEqualTo(1);
+        assertThat(kv.value().getInt(1)).isEqualTo(77);
+
+        lookupLevels.close();
+        assertThat(lookupLevels.lookupFiles().estimatedSize()).isEqualTo(0);
+    }
+
+    @Test
+    public void testKeyRangePruning() throws IOException {
+        Levels levels =
+                new Levels(
+                        comparator,
+                        Arrays.asList(
+                                newFile(0, kv(3, 33, 1), kv(5, 55, 2)),
+                                newFile(1, kv(2, 22, 0), kv(4, 44, 0)),
+                                newFile(1, kv(8, 88, 0), kv(9, 99, 0))),
+                        3);
+        LookupLevels lookupLevels = createLookupLevels(levels, MemorySize.ofMebiBytes(10));
+
+        // keys out of the key ranges of the files, no lookup file is built
+        for (int key : new int[] {0, 1, 6, 7, 10}) {
+            assertThat(lookupLevels.lookup(row(key), 0)).isNull();
+        }
+        assertThat(lookupLevels.lookupFiles().estimatedSize()).isEqualTo(0);
+
+        lookupLevels.close();
+    }
+
     @Test
     public void testMaxDiskSize() throws IOException {
         List<DataFileMeta> files = new ArrayList<>();
@@ -198,7 +269,189 @@ public class LookupLevelsTest {
         assertThat(lookupLevels.lookupFiles().estimatedSize()).isEqualTo(0);
     }
 
+    @Test
+    public void testAsyncPrebuild() throws Exception {
+        Levels levels = new Levels(comparator, Collections.singletonList(newFile(1, kv(1, 11))), 3);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        LookupLevels lookupLevels =
+                createLookupLevels(
+                        levels,
+                        MemorySize.ofMebiBytes(10),
+                        CoreOptions.LookupLocalFileType.HASH,
+                        executor);
+
+        // new upper level file is built in background
+        DataFileMeta newFile = newFile(2, kv(2, 22), kv(3, 33));
+        levels.update(Collections.emptyList(), Collections.singletonList(newFile));
+        executor.submit(() -> {}).get();
+        // pre-built file is put to the cache by the lookup thread
+        assertThat(lookupLevels.lookupFiles().getIfPresent(newFile.fileName())).isNull();
+
+        KeyValue kv = lookupLevels.lookup(row(3), 1);
+        assertThat(kv).isNotNull();
+        assertThat(kv.level()).isEqualTo(2);
+        assertThat(kv.value().getInt(1)).isEqualTo(33);
+        assertThat(lookupLevels.lookupFiles().estimatedSize()).isEqualTo(1);
+
+        // level 0 file is not built
+        DataFileMeta level0File = newFile(0, kv(4, 44));
+        levels.update(Collections.emptyList(), Collections.singletonList(level0File));
+        executor.submit(() -> {}).get();
+        assertThat(lookupLevels.lookupFiles().getIfPresent(level0File.fileName())).isNull();
+
+        lookupLevels.close();
+        assertThat(lookupLevels.lookupFiles().estimatedSize()).isEqualTo(0);
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void testPersistentLookupFiles() throws Exception {
+        File persistentDir = new File(tempDir.toFile(), "persistent");
+        File slotDir = new File(persistentDir, "slot-0");
+        DataFileMeta file = newFile(1, kv(1, 11), kv(2, 22));
+        Levels levels = new Levels(comparator, Collections.singletonList(file), 3);
+        LookupLevels lookupLevels =
+                createLookupLevels(
+                        levels,
+                        MemorySize.ofMebiBytes(10),
+                        CoreOptions.LookupLocalFileType.HASH,
+                        null,
+                        PersistentLookupFiles.create(persistentDir, Long.MAX_VALUE, "id", "b"));
+        assertThat(lookupLevels.lookup(row(1), 1)).isNotNull();
+        lookupLevels.close();
+        assertThat(slotDir.list((dir, name) -> name.startsWith(file.fileName()))).hasSize(1);
+
+        // restart, the partially built file is deleted and the persisted file is adopted
+        PersistentLookupFiles.clear();
+        File partialFile = new File(slotDir, "building-" + UUID.randomUUID());
+        assertThat(partialFile.createNewFile()).isTrue();
+        levels = new Levels(comparator, Collections.singletonList(file), 3);
+        lookupLevels =
+                createLookupLevels(
+                        levels,
+                        MemorySize.ofMebiBytes(10),
+                        CoreOptions.LookupLocalFileType.HASH,
+                        null,
+                        PersistentLookupFiles.create(persistentDir, Long.MAX_VALUE, "id", "b"));
+        assertThat(partialFile).doesNotExist();
+        // delete the remote file to make sure the lookup file is not built again
+        Path remoteFile =
+                new FileStorePathFactory(new Path(tempDir.toUri().toString()))
+                        .createDataFilePathFactory(BinaryRow.EMPTY_ROW, 0)
+                        .toPath(file.fileName());
+        assertThat(FileIOFinder.find(remoteFile).exists(remoteFile)).isTrue();
+        FileIOFinder.find(remoteFile).deleteQuietly(remoteFile);
+        KeyValue kv = lookupLevels.lookup(row(2), 1);
+        assertThat(kv).isNotNull();
+        assertThat(kv.value().getInt(1)).isEqualTo(22);
+
+        // dropped file is deleted from the persistent directory
+        levels.update(Collections.singletonList(file), Collections.emptyList());
+        assertThat(slotDir.list((dir, name) -> name.startsWith(file.fileName()))).isEmpty();
+        lookupLevels.close();
+        PersistentLookupFiles.clear();
+    }
+
+    @Test
+    public void testPersistentLookupFilesRetain() throws Exception {
+        File persistentDir = new File(tempDir.toFile(), "persistent");
+        File slotDir = new File(persistentDir, "slot-0");
+        DataFileMeta file = newFile(1, kv(1, 11));
+        LookupLevels lookupLevels =
+                createLookupLevels(
+                        new Levels(comparator, Collections.singletonList(file), 3),
+                        MemorySize.ofMebiBytes(10),
+                        CoreOptions.LookupLocalFileType.HASH,
+                        null,
+                        PersistentLookupFiles.create(persistentDir, Long.MAX_VALUE, "id", "b"));
+        assertThat(lookupLevels.lookup(row(1), 1)).isNotNull();
+        lookupLevels.close();
+        assertThat(slotDir.list((dir, name) -> name.startsWith(file.fileName()))).hasSize(1);
+
+        // the file is kept for other owners
+        PersistentLookupFiles.create(persistentDir, Long.MAX_VALUE, "id", "other")
+                .retain(Collections.emptyList());
+        assertThat(slotDir.list((dir, name) -> name.startsWith(file.fileName()))).hasSize(1);
+
+        // restart without the file, for example it has been compacted by another job
+        PersistentLookupFiles.clear();
+        lookupLevels =
+                createLookupLevels(
+                        new Levels(comparator, Collections.emptyList(), 3),
+                        MemorySize.ofMebiBytes(10),
+                        CoreOptions.LookupLocalFileType.HASH,
+                        null,
+                        PersistentLookupFiles.create(persistentDir, Long.MAX_VALUE, "id", "b"));
+        assertThat(slotDir.list((dir, name) -> name.startsWith(file.fileName()))).isEmpty();
+        lookupLevels.close();
+        PersistentLookupFiles.clear();
+    }
+
+    @Test
+    public void testPersistentLookupFilesLockedByOtherProcess() throws Exception {
+        File persistentDir = new File(tempDir.toFile(), "persistent");
+        File slotDir = new File(persistentDir, "slot-0");
+        assertThat(slotDir.mkdirs()).isTrue();
+        File otherFile = new File(slotDir, "other-file");
+        assertThat(otherFile.createNewFile()).isTrue();
+
+        // another process holds the first slot
+        try (FileChannel channel =
+                        FileChannel.open(
+                                new File(slotDir, "LOCK").toPath(),
+                                StandardOpenOption.CREATE,
+                                StandardOpenOption.WRITE);
+                FileLock ignored = channel.lock()) {
+            DataFileMeta file = newFile(1, kv(1, 11));
+            LookupLevels lookupLevels =
+                    createLookupLevels(
+                            new Levels(comparator, Collections.singletonList(file), 3),
+                            MemorySize.ofMebiBytes(10),
+                            CoreOptions.LookupLocalFileType.HASH,
+                            null,
+                            PersistentLookupFiles.create(persistentDir, Long.MAX_VALUE, "id", "b"));
+            assertThat(lookupLevels.lookup(row(1), 1)).isNotNull();
+            lookupLevels.close();
+
+            assertThat(otherFile).exists();
+            assertThat(
+                            new File(persistentDir, "slot-1")
+                                    .list((dir, name) -> name.startsWith(file.fileName())))
+                    .hasSize(1);
+        } finally {
+            PersistentLookupFiles.clear();
+        }
+    }
+
     private LookupLevels createLookupLevels(Levels levels, MemorySize maxDiskSize) {
+        return createLookupLevels(levels, maxDiskSize, CoreOptions.LookupLocalFileType.HASH);
+    }
+
+    private LookupLevels createLookupLevels(
+            Levels levels, MemorySize maxDiskSize, CoreOptions.LookupLocalFileType fileType) {
+        return createLookupLevels(levels, maxDiskSize, fileType, null);
+    }
+
+    private LookupLevels createLookupLevels(
+            Levels levels,
+            MemorySize maxDiskSize,
+            CoreOptions.LookupLocalFileType fileType,
+            @Nullable ExecutorService prebuildExecutor) {
+        return createLookupLevels(levels, maxDiskSize, fileType, prebuildExecutor, null);
+    }
+
+    private LookupLevels createLookupLevels(
+            Levels levels,
+            MemorySize maxDiskSize,
+            CoreOptions.LookupLocalFileType fileType,
+            @Nullable ExecutorService prebuildExecutor,
+            @Nullable PersistentLookupFiles persistentFiles) {
+        CacheManager cacheManager = new CacheManager(2048, MemorySize.ofMebiBytes(1));
+        Options options = new Options();
+        options.set(CoreOptions.LOOKUP_LOCAL_FILE_TYPE, fileType);
+        options.set(CoreOptions.LOOKUP_SORT_BLOCK_SIZE, MemorySize.ofKibiBytes(1));
+        LookupStoreFactory lookupStoreFactory =
+                LookupUtils.createLookupStoreFactory(options, cacheManager, keyType, comparator);
         return new LookupLevels(
                 levels,
                 comparator,
@@ -209,9 +462,13 @@ public class LookupLevelsTest {
                                 .createRecordReader(
                                         0, file.fileName(), file.fileSize(), file.level()),
                 () -> new File(tempDir.toFile(), LOOKUP_FILE_PREFIX + UUID.randomUUID()),
-                new HashLookupStoreFactory(new CacheManager(2048, MemorySize.ofMebiBytes(1)), 0.75),
+                lookupStoreFactory,
                 Duration.ofHours(1),
-                maxDiskSize);
+                maxDiskSize,
+                rowCount -> BloomFilter.builder(rowCount, 0.05),
+                null,
+                prebuildExecutor,
+                persistentFiles);
     }
 
     private KeyValue kv(int key, int value) {
@@ -219,6 +476,15 @@ public class LookupLevelsTest {
                 .replace(GenericRow.of(key), RowKind.INSERT, GenericRow.of(key, value));
     }
 
+    private KeyValue kv(int key, int value, long sequenceNumber) {
+        return new KeyValue()
+                .replace(
+                        GenericRow.of(key),
+                        sequenceNumber,
+                        RowKind.INSERT,
+                        GenericRow.of(key, value));
+    }
+
     private DataFileMeta newFile(int level, KeyValue... records) throws IOException {
         RollingFileWriter<KeyValue, DataFileMeta> writer =
                 createWriterFactory().createRollingMergeTreeFileWriter(level);
@@ -26,6 +26,7 @@ import org.apache.paimon.compact.CompactResult;
 import org.apache.paimon.data.BinaryRow;
 import org.apache.paimon.data.GenericRow;
 import org.apache.paimon.data.InternalRow;
+import org.apache.paimon.disk.IOManager;
 import org.apache.paimon.format.FileFormat;
 import org.apache.paimon.format.FlushingFileFormat;
 import org.apache.paimon.fs.FileStatus;
@@ -41,7 +42,9 @@ import org.apache.paimon.mergetree.compact.CompactRewriter;
 import org.apache.paimon.mergetree.compact.CompactStrategy;
 import org.apache.paimon.mergetree.compact.DeduplicateMergeFunction;
 import org.apache.paimon.mergetree.compact.IntervalPartition;
+import org.apache.paimon.mergetree.compact.LeveledCompaction;
 import org.apache.paimon.mergetree.compact.MergeTreeCompactManager;
+import org.apache.paimon.mergetree.compact.MergeTreeCompactRewriter;
 import org.apache.paimon.mergetree.compact.UniversalCompaction;
 import org.apache.paimon.options.MemorySize;
 import org.apache.paimon.options.Options;
@@ -50,6 +53,7 @@ import org.apache.paimon.reader.RecordReaderIterator;
 import org.apache.paimon.schema.KeyValueFieldsExtractor;
 import org.apache.paimon.schema.SchemaManager;
 import org.apache.paimon.schema.TableSchema;
+import org.apache.paimon.sort.SpillCompression;
 import org.apache.paimon.table.SchemaEvolutionTableTestBase;
 import org.apache.paimon.types.DataField;
 import org.apache.paimon.types.IntType;
@@ -60,6 +64,7 @@ import org.apache.paimon.utils.ExceptionUtils;
 import org.apache.paimon.utils.FileStorePathFactory;
 
 import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -67,6 +72,7 @@ import org.junit.jupiter.api.io.TempDir;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
 
+import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -86,6 +92,7 @@ import java.util.stream.Collectors;
 
 import static java.util.Collections.singletonList;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 /** Tests for {@link MergeTreeReaders} and {@link MergeTreeWriter}. */
 public abstract class MergeTreeTestBase {
@@ -102,6 +109,7 @@ public abstract class MergeTreeTestBase {
     private KeyValueFileWriterFactory writerFactory;
     private KeyValueFileWriterFactory compactWriterFactory;
     private MergeTreeWriter writer;
+    private IOManager ioManager;
 
     @BeforeEach
     public void beforeEach() throws IOException {
@@ -113,6 +121,14 @@ public abstract class MergeTreeTestBase {
         LocalFileIO.create().mkdirs(bucketDir);
     }
 
+    @AfterEach
+    public void afterEach() throws Exception {
+        if (ioManager != null) {
+            ioManager.close();
+            ioManager = null;
+        }
+    }
+
     private SchemaManager createTestingSchemaManager(Path path) {
         TableSchema schema =
                 new TableSchema(
@@ -130,8 +146,13 @@ public abstract class MergeTreeTestBase {
     }
 
     private void recreateMergeTree(long targetFileSize) {
-        Options configuration = new Options();
-        configuration.set(CoreOptions.WRITE_BUFFER_SIZE, new MemorySize(4096 * 3));
+        recreateMergeTree(targetFileSize, new Options());
+    }
+
+    private void recreateMergeTree(long targetFileSize, Options configuration) {
+        if (!configuration.contains(CoreOptions.WRITE_BUFFER_SIZE)) {
+            configuration.set(CoreOptions.WRITE_BUFFER_SIZE, new MemorySize(4096 * 3));
+        }
         configuration.set(CoreOptions.PAGE_SIZE, new MemorySize(4096));
         configuration.set(CoreOptions.TARGET_FILE_SIZE, new MemorySize(targetFileSize));
         configuration.set(CoreOptions.SORT_ENGINE, getSortEngine());
@@ -358,6 +379,195 @@ public abstract class MergeTreeTestBase {
         doTestWriteRead(3, 20_000);
     }
 
+    @Test
+    public void testLeveledCompaction() throws Exception {
+        Options configuration = new Options();
+        configuration.set(CoreOptions.COMPACTION_STYLE, CoreOptions.CompactionStyle.LEVELED);
+        configuration.set(CoreOptions.COMPACTION_LEVELED_LEVEL_BASE_SIZE, new MemorySize(1024));
+        configuration.set(CoreOptions.COMPACTION_LEVELED_LEVEL_SIZE_MULTIPLIER, 2);
+        recreateMergeTree(1024, configuration);
+        doTestWriteRead(20);
+    }
+
+    @Test
+    public void testAsyncFlushWriteBuffer() throws Exception {
+        Options configuration = new Options();
+        configuration.set(CoreOptions.WRITE_BUFFER_ASYNC_FLUSH, true);
+        // two halves of 3 pages
+        configuration.set(CoreOptions.WRITE_BUFFER_SIZE, new MemorySize(4096 * 6));
+        recreateMergeTree(1024, configuration);
+        // large batches to fill up the write buffer several times before committing
+        doTestWriteRead(6, 5_000);
+    }
+
+    @Test
+    public void testAsyncFlushWithAdaptiveSpill() throws Exception {
+        Options configuration = new Options();
+        configuration.set(CoreOptions.WRITE_BUFFER_ASYNC_FLUSH, true);
+        configuration.set(CoreOptions.WRITE_BUFFER_SPILLABLE, true);
+        configuration.set(CoreOptions.SPILL_COMPRESSION, SpillCompression.ADAPTIVE);
+        configuration.set(CoreOptions.WRITE_BUFFER_SIZE, new MemorySize(4096 * 6));
+        recreateMergeTree(1024, configuration);
+        // both halves spill through the same adaptive compression while a flush is running
+        doTestWriteRead(6, 5_000);
+    }
+
+    @ParameterizedTest
+    @ValueSource(longs = {1024, 1024 * 1024})
+    public void testSkipRewriteNonOverlapping(long targetFileSize) throws Exception {
+        recreateMergeTree(targetFileSize);
+        List<TestRecord> expected = new ArrayList<>();
+        List<DataFileMeta> files = new ArrayList<>();
+        long sequenceNumber = 0;
+        // 4 non-overlapping files
+        for (int i = 0; i < 4; i++) {
+            RollingFileWriter<KeyValue, DataFileMeta> fileWriter =
+                    writerFactory.createRollingMergeTreeFileWriter(0);
+            for (int k = i * 1000; k < i * 1000 + 800; k++) {
+                TestRecord record = new TestRecord(RowKind.INSERT, k, k);
+                expected.add(record);
+                fileWriter.write(
+                        new KeyValue()
+                                .replace(
+                                        row(record.k),
+                                        sequenceNumber++,
+                                        record.kind,
+                                        row(record.v)));
+            }
+            fileWriter.close();
+            files.addAll(fileWriter.result());
+        }
+
+        List<List<SortedRun>> sections = new IntervalPartition(files, comparator).partition();
+        assertThat(sections).hasSize(4);
+        MergeTreeCompactRewriter rewriter =
+                new MergeTreeCompactRewriter(
+                        compactReaderFactory,
+                        compactWriterFactory,
+                        comparator,
+                        DeduplicateMergeFunction.factory(),
+                        new MergeSorter(options, null, null, null));
+        CompactResult result = rewriter.rewrite(1, false, sections);
+
+        assertThat(result.before()).containsExactlyInAnyOrderElementsOf(files);
+        assertThat(result.after()).allMatch(file -> file.level() == 1);
+        Set<String> before = files.stream().map(DataFileMeta::fileName).collect(Collectors.toSet());
+        Set<String> after =
+                result.after().stream().map(DataFileMeta::fileName).collect(Collectors.toSet());
+        if (files.stream().allMatch(file -> file.fileSize() >= targetFileSize)) {
+            // can not be packed into fewer files, just upgrade them
+            assertThat(after).isEqualTo(before);
+        } else {
+            assertThat(targetFileSize).isEqualTo(1024 * 1024);
+            assertThat(after).hasSize(1).doesNotContainAnyElementsOf(before);
+        }
+        assertRecords(expected, result.after(), true);
+
+        // files may hold delete records which must be dropped, so they are always rewritten
+        CompactResult dropDeleteResult = rewriter.rewrite(2, true, sections);
+        assertThat(dropDeleteResult.after())
+                .allMatch(file -> file.level() == 2)
+                .noneMatch(file -> before.contains(file.fileName()));
+        assertRecords(expected, dropDeleteResult.after(), true);
+    }
+
+    @Test
+    public void testParallelRangeRewrite() throws Exception {
+        // small target file size to make every section large enough for its own range
+        recreateMergeTree(1024);
+        List<TestRecord> expected = new ArrayList<>();
+        List<DataFileMeta> files = writeRangeSections(expected);
+
+        List<List<SortedRun>> sections = new IntervalPartition(files, comparator).partition();
+        assertThat(sections).hasSize(8);
+        ExecutorService rangeExecutor = Executors.newFixedThreadPool(3);
+        MergeTreeCompactRewriter rewriter = createRangeRewriter(rangeExecutor);
+        CompactResult result = rewriter.rewrite(1, true, sections);
+        rewriter.close();
+        rangeExecutor.shutdownNow();
+
+        assertThat(result.before()).containsExactlyInAnyOrderElementsOf(files);
+        // output files of all ranges form a valid sorted run
+        List<DataFileMeta> after = new ArrayList<>(result.after());
+        SortedRun.fromUnsorted(after, comparator);
+        assertThat(after).allMatch(file -> file.level() == 1);
+        assertRecords(expected, after, true);
+    }
+
+    @Test
+    public void testParallelRangeRewriteFailure() throws Exception {
+        recreateMergeTree(1024);
+        List<DataFileMeta> files = writeRangeSections(new ArrayList<>());
+        List<List<SortedRun>> sections = new IntervalPartition(files, comparator).partition();
+
+        // the range of the last section fails, other ranges succeed
+        DataFileMeta missingFile = files.get(files.size() - 1);
+        Path bucketDir = writerFactory.pathFactory(0).toPath("ignore").getParent();
+        LocalFileIO.create().deleteQuietly(new Path(bucketDir, missingFile.fileName()));
+        ExecutorService rangeExecutor = Executors.newFixedThreadPool(3);
+        MergeTreeCompactRewriter rewriter = createRangeRewriter(rangeExecutor);
+        // the exception is wrapped if the file is opened while iterating the records
+        assertThatThrownBy(() -> rewriter.rewrite(1, true, sections))
+                .satisfies(
+                        e ->
+                                assertThat(
+                                                ExceptionUtils.findThrowable(
+                                                        e, FileNotFoundException.class))
+                                        .isPresent());
+        rewriter.close();
+        rangeExecutor.shutdownNow();
+
+        // outputs of all ranges are deleted
+        Set<String> expectedFiles =
+                files.stream()
+                        .filter(file -> file != missingFile)
+                        .map(DataFileMeta::fileName)
+                        .collect(Collectors.toSet());
+        assertThat(
+                        Arrays.stream(LocalFileIO.create().listStatus(bucketDir))
+                                .map(status -> status.getPath().getName())
+                                .collect(Collectors.toSet()))
+                .isEqualTo(expectedFiles);
+    }
+
+    /** Writes 8 non-overlapping sections, each has 2 overlapping runs. */
+    private List<DataFileMeta> writeRangeSections(List<TestRecord> expected) throws Exception {
+        Random random = new Random();
+        List<DataFileMeta> files = new ArrayList<>();
+        long sequenceNumber = 0;
+        for (int i = 0; i < 8; i++) {
+            for (int j = 0; j < 2; j++) {
+                RollingFileWriter<KeyValue, DataFileMeta> fileWriter =
+                        writerFactory.createRollingMergeTreeFileWriter(0);
+                for (int k = i * 1000; k < i * 1000 + 500; k += random.nextInt(3) + 1) {
+                    TestRecord record = new TestRecord(RowKind.INSERT, k, random.nextInt());
+                    expected.add(record);
+                    fileWriter.write(
+                            new KeyValue()
+                                    .replace(
+                                            row(record.k),
+                                            sequenceNumber++,
+                                            record.kind,
+                                            row(record.v)));
+                }
+                fileWriter.close();
+                files.addAll(fileWriter.result());
+            }
+        }
+        return files;
+    }
+
+    private MergeTreeCompactRewriter createRangeRewriter(ExecutorService rangeExecutor) {
+        return new MergeTreeCompactRewriter(
+                compactReaderFactory,
+                compactWriterFactory,
+                comparator,
+                DeduplicateMergeFunction.factory(),
+                new MergeSorter(options, null, null, null),
+                4,
+                rangeExecutor);
+    }
+
     private void doTestWriteRead(int batchNumber) throws Exception {
         doTestWriteRead(batchNumber, 200);
     }
@@ -412,11 +622,15 @@ public abstract class MergeTreeTestBase {
             List<DataFileMeta> files, MergeTreeCompactManager compactManager) {
         long maxSequenceNumber =
                 files.stream().map(DataFileMeta::maxSequenceNumber).max(Long::compare).orElse(-1L);
+        boolean spillable = options.writeBufferSpillable(false, true);
+        if (spillable && ioManager == null) {
+            ioManager = IOManager.create(tempDir.toString());
+        }
         MergeTreeWriter writer =
                 new MergeTreeWriter(
-                        false,
+                        spillable,
                         128,
-                        null,
+                        spillable ? ioManager : null,
                         compactManager,
                         maxSequenceNumber,
                         comparator,
@@ -424,6 +638,10 @@ public abstract class MergeTreeTestBase {
                         writerFactory,
                         options.commitForceCompact(),
                         ChangelogProducer.NONE,
+                        options.writeBufferAsyncFlush(),
+                        SpillCompression.create(
+                                options.spillCompression(),
+                                options.spillCompressionDiskBandwidth()),
                         null,
                         null);
         writer.setMemoryPool(
@@ -434,10 +652,16 @@ public abstract class MergeTreeTestBase {
     private MergeTreeCompactManager createCompactManager(
             ExecutorService compactExecutor, List<DataFileMeta> files) {
         CompactStrategy strategy =
-                new UniversalCompaction(
-                        options.maxSizeAmplificationPercent(),
-                        options.sortedRunSizeRatio(),
-                        options.numSortedRunCompactionTrigger());
+                options.compactionStyle() == CoreOptions.CompactionStyle.LEVELED
+                        ? new LeveledCompaction(
+                                comparator,
+                                options.numSortedRunCompactionTrigger(),
+                                options.leveledCompactionLevelBaseSize(),
+                                options.leveledCompactionLevelSizeMultiplier())
+                        : new UniversalCompaction(
+                                options.maxSizeAmplificationPercent(),
+                                options.sortedRunSizeRatio(),
+                                options.numSortedRunCompactionTrigger());
         return new MergeTreeCompactManager(
                 compactExecutor,
                 new Levels(comparator, files, options.numLevels()),
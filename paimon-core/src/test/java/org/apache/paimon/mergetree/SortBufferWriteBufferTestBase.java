@@ -22,6 +22,8 @@ import org.apache.paimon.CoreOptions;
 import org.apache.paimon.KeyValue;
 import org.apache.paimon.codegen.RecordComparator;
 import org.apache.paimon.memory.HeapMemorySegmentPool;
+import org.apache.paimon.memory.MemorySegmentPool;
+import org.apache.paimon.memory.OffHeapMemorySegmentPool;
 import org.apache.paimon.mergetree.compact.DeduplicateMergeFunction;
 import org.apache.paimon.mergetree.compact.FirstRowMergeFunction;
 import org.apache.paimon.mergetree.compact.LookupMergeFunction;
@@ -66,11 +68,15 @@ public abstract class SortBufferWriteBufferTestBase {
                     new RowType(Collections.singletonList(new DataField(0, "key", new IntType()))),
                     new RowType(
                             Collections.singletonList(new DataField(1, "value", new BigIntType()))),
-                    new HeapMemorySegmentPool(32 * 1024 * 3L, 32 * 1024),
+                    createMemoryPool(),
                     false,
                     128,
                     null);
 
+    protected MemorySegmentPool createMemoryPool() {
+        return new HeapMemorySegmentPool(32 * 1024 * 3L, 32 * 1024);
+    }
+
     protected abstract boolean addOnly();
 
     protected abstract List<ReusingTestData> getExpected(List<ReusingTestData> input);
@@ -159,6 +165,15 @@ public abstract class SortBufferWriteBufferTestBase {
         }
     }
 
+    /** Test for {@link SortBufferWriteBuffer} with {@link OffHeapMemorySegmentPool}. */
+    public static class WithOffHeapMemoryTest extends WithDeduplicateMergeFunctionTest {
+
+        @Override
+        protected MemorySegmentPool createMemoryPool() {
+            return new OffHeapMemorySegmentPool(32 * 1024 * 3L, 32 * 1024);
+        }
+    }
+
     /** Test for {@link SortBufferWriteBuffer} with {@link PartialUpdateMergeFunction}. */
     public static class WithPartialUpdateMergeFunctionTest extends SortBufferWriteBufferTestBase {
 
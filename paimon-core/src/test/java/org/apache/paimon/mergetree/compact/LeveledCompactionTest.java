@@ -0,0 +1,124 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.mergetree.compact;
+
+import org.apache.paimon.compact.CompactUnit;
+import org.apache.paimon.data.InternalRow;
+import org.apache.paimon.io.DataFileMeta;
+import org.apache.paimon.mergetree.LevelSortedRun;
+import org.apache.paimon.mergetree.SortedRun;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+
+import static org.apache.paimon.io.DataFileTestUtils.newFile;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/** Test for {@link LeveledCompaction}. */
+public class LeveledCompactionTest {
+
+    private static final Comparator<InternalRow> KEY_COMPARATOR =
+            Comparator.comparingInt(row -> row.getInt(0));
+
+    @Test
+    public void testNoPick() {
+        LeveledCompaction compaction = new LeveledCompaction(KEY_COMPARATOR, 2, 100, 10);
+
+        assertThat(compaction.pick(1, Arrays.asList(level0(0, 9), level0(10, 19)))).isEmpty();
+        // level 0 file num is below trigger, level 1 is below its target
+        assertThat(compaction.pick(3, Arrays.asList(level0(0, 9), run(1, 0, 49)))).isEmpty();
+        // the max level has no size target
+        assertThat(compaction.pick(3, Arrays.asList(run(1, 0, 49), run(2, 0, 9999)))).isEmpty();
+    }
+
+    @Test
+    public void testPickLevel0() {
+        LeveledCompaction compaction = new LeveledCompaction(KEY_COMPARATOR, 2, 100, 10);
+
+        Optional<CompactUnit> pick =
+                compaction.pick(
+                        3,
+                        Arrays.asList(
+                                level0(20, 29),
+                                level0(35, 45),
+                                run(1, 0, 9, 10, 19, 30, 39, 40, 49, 50, 59),
+                                run(2, 0, 99)));
+        assertThat(pick).isPresent();
+        assertThat(pick.get().outputLevel()).isEqualTo(1);
+        // only the level 1 files overlapping [20, 45] are rewritten
+        assertThat(keyRanges(pick.get())).containsExactly(20, 29, 35, 45, 30, 39, 40, 49);
+    }
+
+    @Test
+    public void testPickByLevelSize() {
+        LeveledCompaction compaction = new LeveledCompaction(KEY_COMPARATOR, 5, 100, 10);
+
+        Optional<CompactUnit> pick =
+                compaction.pick(
+                        4,
+                        Arrays.asList(
+                                level0(0, 9),
+                                run(1, 0, 59, 150, 209),
+                                run(2, 0, 99, 300, 399, 400, 499),
+                                run(3, 0, 9999)));
+        assertThat(pick).isPresent();
+        assertThat(pick.get().outputLevel()).isEqualTo(2);
+        // [150, 209] overlaps no file of level 2
+        assertThat(keyRanges(pick.get())).containsExactly(150, 209);
+
+        // level 2 exceeds its target more than level 1
+        pick =
+                compaction.pick(
+                        4,
+                        Arrays.asList(
+                                run(1, 0, 109),
+                                run(2, 0, 999, 1000, 1999, 2000, 2999),
+                                run(3, 0, 899, 900, 1799, 1800, 3999)));
+        assertThat(pick).isPresent();
+        assertThat(pick.get().outputLevel()).isEqualTo(3);
+        // [0, 999] has the minimal overlapping ratio 1.8, [1000, 1999] has 3.1
+        assertThat(keyRanges(pick.get())).containsExactly(0, 999, 0, 899, 900, 1799);
+    }
+
+    private List<Integer> keyRanges(CompactUnit unit) {
+        List<Integer> ranges = new ArrayList<>();
+        for (DataFileMeta file : unit.files()) {
+            ranges.add(file.minKey().getInt(0));
+            ranges.add(file.maxKey().getInt(0));
+        }
+        return ranges;
+    }
+
+    private LevelSortedRun level0(int minKey, int maxKey) {
+        return new LevelSortedRun(0, SortedRun.fromSingle(newFile(0, minKey, maxKey, 0)));
+    }
+
+    private LevelSortedRun run(int level, int... keyRanges) {
+        List<DataFileMeta> files = new ArrayList<>();
+        for (int i = 0; i < keyRanges.length; i += 2) {
+            files.add(newFile(level, keyRanges[i], keyRanges[i + 1], 0));
+        }
+        return new LevelSortedRun(level, SortedRun.fromSorted(files));
+    }
+}
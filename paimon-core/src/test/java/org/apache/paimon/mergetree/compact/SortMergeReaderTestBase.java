@@ -92,6 +92,21 @@ public abstract class SortMergeReaderTestBase extends CombiningRecordReaderTestB
                 sortEngine);
     }
 
+    @ParameterizedTest
+    @EnumSource(SortEngine.class)
+    public void testSingleReaderStretches(SortEngine sortEngine) throws IOException {
+        // most keys only appear in one reader, with some keys shared between readers
+        runTest(
+                parseData(
+                        "1, 1, +, 100 | 2, 2, +, 200 | 3, 3, +, 300 | 10, 4, +, 1000 | "
+                                + "11, 5, +, 1100 | 20, 6, +, 2000",
+                        "4, 7, +, 400 | 5, 8, +, 500 | 10, 9, +, 1001 | 12, 10, +, 1200 | "
+                                + "13, 11, +, 1300 | 14, 12, +, 1400",
+                        "",
+                        "6, 13, +, 600 | 15, 14, +, 1500 | 20, 15, +, 2001 | 21, 16, +, 2100"),
+                sortEngine);
+    }
+
     /** Tests for {@link SortMergeReader} with {@link DeduplicateMergeFunction}. */
     public static class WithDeduplicateMergeFunction extends SortMergeReaderTestBase {
 
@@ -25,6 +25,7 @@ import org.apache.paimon.TestKeyValueGenerator;
 import org.apache.paimon.data.BinaryRow;
 import org.apache.paimon.data.BinaryRowWriter;
 import org.apache.paimon.data.BinaryString;
+import org.apache.paimon.format.FieldStats;
 import org.apache.paimon.fs.Path;
 import org.apache.paimon.fs.local.LocalFileIO;
 import org.apache.paimon.manifest.ManifestEntry;
@@ -34,6 +35,8 @@ import org.apache.paimon.mergetree.compact.DeduplicateMergeFunction;
 import org.apache.paimon.predicate.PredicateBuilder;
 import org.apache.paimon.schema.Schema;
 import org.apache.paimon.schema.SchemaManager;
+import org.apache.paimon.stats.BinaryTableStats;
+import org.apache.paimon.stats.FieldStatsArraySerializer;
 import org.apache.paimon.types.IntType;
 import org.apache.paimon.types.RowType;
 import org.apache.paimon.utils.SnapshotManager;
@@ -146,6 +149,38 @@ public class KeyValueFileStoreScanTest {
         runTestContainsAll(scan, snapshot.id(), expected);
     }
 
+    @Test
+    public void testManifestKeyStats() throws Exception {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        List<KeyValue> data = generateData(random.nextInt(1000) + 1);
+        Snapshot snapshot = writeData(data);
+
+        int minShopId = data.stream().mapToInt(kv -> kv.key().getInt(0)).min().getAsInt();
+        int maxShopId = data.stream().mapToInt(kv -> kv.key().getInt(0)).max().getAsInt();
+        List<ManifestFileMeta> manifests =
+                snapshot.deltaManifests(store.manifestListFactory().create());
+        assertThat(manifests).hasSize(1);
+        BinaryTableStats keyStats = manifests.get(0).keyStats();
+        assertThat(keyStats).isNotNull();
+        FieldStats[] stats =
+                keyStats.fields(new FieldStatsArraySerializer(TestKeyValueGenerator.KEY_TYPE));
+        assertThat(stats[0].minValue()).isEqualTo(minShopId);
+        assertThat(stats[0].maxValue()).isEqualTo(maxShopId);
+
+        // manifests out of the key range are skipped
+        KeyValueFileStoreScan scan = store.newScan();
+        scan.withSnapshot(snapshot.id());
+        scan.withKeyFilter(
+                new PredicateBuilder(RowType.of(new IntType(false))).greaterThan(0, maxShopId));
+        assertThat(scan.plan().files()).isEmpty();
+
+        scan = store.newScan();
+        scan.withSnapshot(snapshot.id());
+        scan.withKeyFilter(
+                new PredicateBuilder(RowType.of(new IntType(false))).equal(0, minShopId));
+        assertThat(scan.plan().files()).isNotEmpty();
+    }
+
     @Test
     public void testWithValueFilter() throws Exception {
         ThreadLocalRandom random = ThreadLocalRandom.current();
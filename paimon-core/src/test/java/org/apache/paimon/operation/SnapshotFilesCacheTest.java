@@ -0,0 +1,211 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.operation;
+
+import org.apache.paimon.KeyValue;
+import org.apache.paimon.Snapshot;
+import org.apache.paimon.TestFileStore;
+import org.apache.paimon.TestKeyValueGenerator;
+import org.apache.paimon.fs.Path;
+import org.apache.paimon.fs.local.LocalFileIO;
+import org.apache.paimon.manifest.ManifestEntry;
+import org.apache.paimon.manifest.ManifestFile;
+import org.apache.paimon.manifest.ManifestFileMeta;
+import org.apache.paimon.manifest.ManifestList;
+import org.apache.paimon.mergetree.compact.DeduplicateMergeFunction;
+import org.apache.paimon.schema.Schema;
+import org.apache.paimon.schema.SchemaManager;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/** Tests for {@link SnapshotFilesCache}. */
+public class SnapshotFilesCacheTest {
+
+    private static final int NUM_BUCKETS = 2;
+
+    @TempDir java.nio.file.Path tempDir;
+
+    private TestKeyValueGenerator gen;
+    private TestFileStore store;
+
+    @BeforeEach
+    public void beforeEach() throws Exception {
+        createTable();
+    }
+
+    private void createTable() throws Exception {
+        gen = new TestKeyValueGenerator();
+        store =
+                new TestFileStore.Builder(
+                                "avro",
+                                tempDir.toString(),
+                                NUM_BUCKETS,
+                                TestKeyValueGenerator.DEFAULT_PART_TYPE,
+                                TestKeyValueGenerator.KEY_TYPE,
+                                TestKeyValueGenerator.DEFAULT_ROW_TYPE,
+                                TestKeyValueGenerator.TestKeyValueFieldsExtractor.EXTRACTOR,
+                                DeduplicateMergeFunction.factory())
+                        .build();
+
+        SchemaManager schemaManager =
+                new SchemaManager(LocalFileIO.create(), new Path(tempDir.toUri()));
+        schemaManager.createTable(
+                new Schema(
+                        TestKeyValueGenerator.DEFAULT_ROW_TYPE.getFields(),
+                        TestKeyValueGenerator.DEFAULT_PART_TYPE.getFieldNames(),
+                        TestKeyValueGenerator.getPrimaryKeys(
+                                TestKeyValueGenerator.GeneratorMode.MULTI_PARTITIONED),
+                        Collections.emptyMap(),
+                        null));
+    }
+
+    @AfterEach
+    public void afterEach() {
+        SnapshotFilesCache.clear();
+    }
+
+    @Test
+    public void testIncrementalUpdate() throws Exception {
+        SnapshotFilesCache cache = SnapshotFilesCache.of(new Path(tempDir.toUri()));
+        ManifestList manifestList = store.manifestListFactory().create();
+        AtomicInteger readManifests = new AtomicInteger(0);
+        Function<List<ManifestFileMeta>, Iterable<ManifestEntry>> reader =
+                manifests -> {
+                    readManifests.addAndGet(manifests.size());
+                    ManifestFile manifestFile = store.manifestFileFactory().create();
+                    List<ManifestEntry> entries = new ArrayList<>();
+                    for (ManifestFileMeta manifest : manifests) {
+                        entries.addAll(manifestFile.read(manifest.fileName()));
+                    }
+                    return entries;
+                };
+
+        Snapshot first = writeData();
+        assertFiles(cache.files(first, store.snapshotManager(), manifestList, reader), first);
+        assertThat(readManifests.get()).isEqualTo(first.dataManifests(manifestList).size());
+
+        // the newer snapshots are updated from delta manifests
+        List<Snapshot> newSnapshots = new ArrayList<>();
+        newSnapshots.add(writeData());
+        KeyValue kv = gen.next();
+        newSnapshots.addAll(
+                store.overwriteData(
+                        Collections.singletonList(kv),
+                        gen::getPartition,
+                        this::getBucket,
+                        Collections.emptyMap()));
+        newSnapshots.add(writeData());
+        Snapshot latest = newSnapshots.get(newSnapshots.size() - 1);
+
+        readManifests.set(0);
+        assertFiles(cache.files(latest, store.snapshotManager(), manifestList, reader), latest);
+        int deltaManifests = 0;
+        for (Snapshot snapshot : newSnapshots) {
+            deltaManifests += snapshot.deltaManifests(manifestList).size();
+        }
+        assertThat(readManifests.get()).isEqualTo(deltaManifests);
+
+        // the cached snapshot is not read again
+        readManifests.set(0);
+        assertFiles(cache.files(latest, store.snapshotManager(), manifestList, reader), latest);
+        assertThat(readManifests.get()).isEqualTo(0);
+
+        // older snapshot is read from all manifests and does not replace the cache
+        assertFiles(cache.files(first, store.snapshotManager(), manifestList, reader), first);
+        assertThat(readManifests.get()).isEqualTo(first.dataManifests(manifestList).size());
+        readManifests.set(0);
+        cache.files(latest, store.snapshotManager(), manifestList, reader);
+        assertThat(readManifests.get()).isEqualTo(0);
+    }
+
+    @Test
+    public void testRecreateTable() throws Exception {
+        SnapshotFilesCache cache = SnapshotFilesCache.of(new Path(tempDir.toUri()));
+        ManifestList manifestList = store.manifestListFactory().create();
+        Function<List<ManifestFileMeta>, Iterable<ManifestEntry>> reader =
+                manifests -> {
+                    ManifestFile manifestFile = store.manifestFileFactory().create();
+                    List<ManifestEntry> entries = new ArrayList<>();
+                    for (ManifestFileMeta manifest : manifests) {
+                        entries.addAll(manifestFile.read(manifest.fileName()));
+                    }
+                    return entries;
+                };
+
+        Snapshot oldFirst = writeData();
+        writeData();
+        assertFiles(cache.files(oldFirst, store.snapshotManager(), manifestList, reader), oldFirst);
+
+        // newer snapshot of the recreated table doesn't follow the cached snapshot
+        recreateTable();
+        Snapshot first = writeData();
+        Snapshot second = writeData();
+        assertThat(first.id()).isEqualTo(oldFirst.id());
+        assertFiles(cache.files(second, store.snapshotManager(), manifestList, reader), second);
+
+        // snapshot of the recreated table with the same id as the cached snapshot
+        recreateTable();
+        writeData();
+        Snapshot newSecond = writeData();
+        assertThat(newSecond.id()).isEqualTo(second.id());
+        assertFiles(
+                cache.files(newSecond, store.snapshotManager(), manifestList, reader), newSecond);
+        assertFiles(
+                cache.files(newSecond, store.snapshotManager(), manifestList, reader), newSecond);
+    }
+
+    private void recreateTable() throws Exception {
+        LocalFileIO.create().delete(new Path(tempDir.toUri()), true);
+        createTable();
+    }
+
+    private void assertFiles(List<ManifestEntry> files, Snapshot snapshot) {
+        List<ManifestEntry> expected = store.newScan().withSnapshot(snapshot).plan().files();
+        assertThat(files.stream().map(ManifestEntry::identifier).collect(Collectors.toList()))
+                .containsExactlyInAnyOrderElementsOf(
+                        expected.stream()
+                                .map(ManifestEntry::identifier)
+                                .collect(Collectors.toList()));
+    }
+
+    private Snapshot writeData() throws Exception {
+        List<KeyValue> data = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            data.add(gen.next());
+        }
+        List<Snapshot> snapshots = store.commitData(data, gen::getPartition, this::getBucket);
+        return snapshots.get(snapshots.size() - 1);
+    }
+
+    private int getBucket(KeyValue kv) {
+        return (kv.key().hashCode() % NUM_BUCKETS + NUM_BUCKETS) % NUM_BUCKETS;
+    }
+}
@@ -0,0 +1,69 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.operation.metrics;
+
+import org.apache.paimon.compact.CompactExecutor;
+import org.apache.paimon.metrics.Gauge;
+import org.apache.paimon.metrics.MetricRegistryImpl;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/** Tests for {@link CompactExecutorMetric}. */
+public class CompactExecutorMetricTest {
+
+    @SuppressWarnings("unchecked")
+    @Test
+    public void testQueueDepth() throws Exception {
+        AtomicReference<CompactExecutor> executor = new AtomicReference<>();
+        CompactExecutorMetric metric =
+                new CompactExecutorMetric(executor::get, new MetricRegistryImpl(), "myTable");
+        Gauge<Integer> queueDepth =
+                (Gauge<Integer>)
+                        metric.getMetricGroup()
+                                .getMetrics()
+                                .get(CompactExecutorMetric.COMPACTION_QUEUE_DEPTH);
+
+        // the executor is created lazily
+        assertThat(queueDepth.getValue()).isEqualTo(-1);
+
+        executor.set(new CompactExecutor(1, "compaction"));
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch blocker = new CountDownLatch(1);
+        executor.get()
+                .submit(
+                        () -> {
+                            started.countDown();
+                            blocker.await();
+                            return null;
+                        });
+        started.await();
+        executor.get().submit(() -> {});
+        executor.get().submit(() -> {});
+        assertThat(queueDepth.getValue()).isEqualTo(2);
+
+        blocker.countDown();
+        executor.get().release();
+        metric.close();
+    }
+}
@@ -28,6 +28,8 @@ import org.apache.paimon.metrics.MetricRegistryImpl;
 import org.junit.jupiter.api.Test;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 
@@ -134,6 +136,74 @@ public class CompactionMetricsTest {
         assertThat(lastRewriteChangelogFileSize.getValue()).isEqualTo(2501);
     }
 
+    @Test
+    public void testQueueMetrics() {
+        CompactionMetrics compactionMetrics = getCompactionMetrics();
+        Map<String, Metric> metrics = compactionMetrics.getMetricGroup().getMetrics();
+
+        Histogram queueWaitTime =
+                (Histogram) metrics.get(CompactionMetrics.COMPACTION_QUEUE_WAIT_TIME);
+        compactionMetrics.reportQueueWaitTime(100);
+        compactionMetrics.reportQueueWaitTime(300);
+        assertThat(queueWaitTime.getCount()).isEqualTo(2);
+        assertThat(queueWaitTime.getStatistics().getMean()).isEqualTo(200);
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    public void testWriteAmplificationMetrics() {
+        CompactionMetrics compactionMetrics = getCompactionMetrics();
+        Map<String, Metric> metrics = compactionMetrics.getMetricGroup().getMetrics();
+        Gauge<Long> totalRewriteInputFileSize =
+                (Gauge<Long>) metrics.get(CompactionMetrics.TOTAL_REWRITE_INPUT_FILE_SIZE);
+        Gauge<Long> totalRewriteOutputFileSize =
+                (Gauge<Long>) metrics.get(CompactionMetrics.TOTAL_REWRITE_OUTPUT_FILE_SIZE);
+        Gauge<Double> writeAmplification =
+                (Gauge<Double>) metrics.get(CompactionMetrics.COMPACTION_WRITE_AMPLIFICATION);
+        assertThat(writeAmplification.getValue()).isEqualTo(0);
+
+        // 100 bytes of level 0 data are compacted into level 1
+        DataFileMeta level1File = DataFileTestUtils.newFile("l1", 1, 0, 99, 0);
+        compactionMetrics.reportCompaction(
+                new CompactionStats(
+                        1000,
+                        Arrays.asList(
+                                DataFileTestUtils.newFile("l0-1", 0, 0, 49, 0),
+                                DataFileTestUtils.newFile("l0-2", 0, 50, 99, 0)),
+                        Collections.singletonList(level1File),
+                        Collections.emptyList()));
+        assertThat(totalRewriteInputFileSize.getValue()).isEqualTo(100);
+        assertThat(totalRewriteOutputFileSize.getValue()).isEqualTo(100);
+        assertThat(writeAmplification.getValue()).isEqualTo(1);
+
+        // level 1 data is rewritten into level 2 without new data
+        compactionMetrics.reportCompaction(
+                new CompactionStats(
+                        1000,
+                        Collections.singletonList(level1File),
+                        Collections.singletonList(DataFileTestUtils.newFile("l2", 2, 0, 99, 0)),
+                        Collections.emptyList()));
+        assertThat(totalRewriteInputFileSize.getValue()).isEqualTo(200);
+        assertThat(totalRewriteOutputFileSize.getValue()).isEqualTo(200);
+        assertThat(writeAmplification.getValue()).isEqualTo(2);
+
+        // 100 bytes of level 0 data are upgraded to level 1 without rewriting
+        DataFileMeta upgradedFile = DataFileTestUtils.newFile("l0-3", 0, 100, 199, 0);
+        CompactionStats upgradeStats =
+                new CompactionStats(
+                        1000,
+                        Collections.singletonList(upgradedFile),
+                        Collections.singletonList(upgradedFile.upgrade(1)),
+                        Collections.emptyList());
+        assertThat(upgradeStats.getRewriteOutputFileSize()).isEqualTo(100);
+        assertThat(upgradeStats.getRewrittenOutputFileSize()).isEqualTo(0);
+        assertThat(upgradeStats.getLevel0InputFileSize()).isEqualTo(100);
+        compactionMetrics.reportCompaction(upgradeStats);
+        assertThat(totalRewriteInputFileSize.getValue()).isEqualTo(200);
+        assertThat(totalRewriteOutputFileSize.getValue()).isEqualTo(200);
+        assertThat(writeAmplification.getValue()).isEqualTo(1);
+    }
+
     private void reportOnce(CompactionMetrics compactionMetrics) {
         List<DataFileMeta> compactBefore = new ArrayList<>();
         List<DataFileMeta> compactAfter = new ArrayList<>();
@@ -32,6 +32,8 @@ import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
 
 import java.io.File;
 import java.io.IOException;
@@ -41,6 +43,9 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.stream.Collectors;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -227,6 +232,70 @@ public class BinaryExternalSortBufferTest {
         sorter.clear();
     }
 
+    @ParameterizedTest
+    @ValueSource(strings = {"none", "lz4", "adaptive"})
+    public void testSpillCompression(String compression) throws Exception {
+        int size = 1000_000;
+
+        MockBinaryRowReader reader = new MockBinaryRowReader(size);
+
+        // small fan-in to merge runs of different compressions
+        BinaryExternalSortBuffer sorter = createBuffer(4, SpillCompression.create(compression));
+        sorter.write(reader);
+
+        MutableObjectIterator<BinaryRow> iterator = sorter.sortedIterator();
+
+        BinaryRow next = serializer.createInstance();
+        for (int i = 0; i < size; i++) {
+            next = iterator.next(next);
+            assertThat(next.getInt(0)).isEqualTo(i);
+            assertThat(next.getString(1).toString()).isEqualTo(getString(i));
+        }
+        assertThat(sorter.spilledBytes()).isGreaterThan(0);
+
+        sorter.clear();
+    }
+
+    @Test
+    public void testConcurrentAdaptiveSpill() throws Exception {
+        // the two halves of an asynchronously flushed write buffer spill in different threads
+        SpillCompression compression = SpillCompression.create(SpillCompression.ADAPTIVE);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < 2; i++) {
+                futures.add(executor.submit(() -> sortWithSpill(500_000, compression)));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private Void sortWithSpill(int size, SpillCompression compression) throws Exception {
+        MemorySegmentPool pool =
+                new HeapMemorySegmentPool(MEMORY_SIZE / 4, MemorySegmentPool.DEFAULT_PAGE_SIZE);
+        int freePages = pool.freePages();
+        BinaryRowSerializer serializer = new BinaryRowSerializer(2);
+        BinaryExternalSortBuffer sorter = createBuffer(4, compression, pool, serializer);
+        sorter.write(new MockBinaryRowReader(size));
+
+        MutableObjectIterator<BinaryRow> iterator = sorter.sortedIterator();
+        BinaryRow next = serializer.createInstance();
+        for (int i = 0; i < size; i++) {
+            next = iterator.next(next);
+            assertThat(next.getInt(0)).isEqualTo(i);
+            assertThat(next.getString(1).toString()).isEqualTo(getString(i));
+        }
+        assertThat(sorter.spilledBytes()).isGreaterThan(0);
+
+        sorter.clear();
+        assertThat(pool.freePages()).isEqualTo(freePages);
+        return null;
+    }
+
     @Test
     public void testSpillingRandom() throws Exception {
         int size = 1000_000;
@@ -267,6 +336,19 @@ public class BinaryExternalSortBufferTest {
     }
 
     private BinaryExternalSortBuffer createBuffer(int maxNumFileHandles) {
+        return createBuffer(maxNumFileHandles, SpillCompression.create("lz4"));
+    }
+
+    private BinaryExternalSortBuffer createBuffer(
+            int maxNumFileHandles, SpillCompression spillCompression) {
+        return createBuffer(maxNumFileHandles, spillCompression, memorySegmentPool, serializer);
+    }
+
+    private BinaryExternalSortBuffer createBuffer(
+            int maxNumFileHandles,
+            SpillCompression spillCompression,
+            MemorySegmentPool memorySegmentPool,
+            BinaryRowSerializer serializer) {
         @SuppressWarnings({"unchecked", "rawtypes"})
         BinaryInMemorySortBuffer inMemorySortBuffer =
                 BinaryInMemorySortBuffer.createBuffer(
@@ -280,7 +362,8 @@ public class BinaryExternalSortBufferTest {
                 MemorySegmentPool.DEFAULT_PAGE_SIZE,
                 inMemorySortBuffer,
                 ioManager,
-                maxNumFileHandles);
+                maxNumFileHandles,
+                spillCompression);
     }
 
     /** Mock reader for binary row. */
@@ -0,0 +1,103 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.sort;
+
+import org.apache.paimon.compression.BlockCompressionFactory;
+import org.apache.paimon.options.MemorySize;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/** Test for {@link SpillCompression}. */
+public class SpillCompressionTest {
+
+    @Test
+    public void testAdaptive() {
+        // writing a byte to the disk costs 10 nanos
+        SpillCompression compression =
+                SpillCompression.create("adaptive", new MemorySize(100_000_000));
+        BlockCompressionFactory lz4 = compression.defaultCompression();
+        assertThat(compression.nextRun()).isSameAs(lz4);
+
+        // 2 nanos per byte to save 5 nanos per byte
+        compression.reportRun(lz4, 1000, 500, 2000);
+        assertThat(compression.nextRun()).isSameAs(lz4);
+
+        // 2 nanos per byte to save 1 nanos per byte
+        compression.reportRun(lz4, 1000, 900, 2000);
+        BlockCompressionFactory none = compression.nextRun();
+        assertThat(none).isNotSameAs(lz4);
+
+        // uncompressed runs don't change the decision, but compression is probed again
+        compression.reportRun(none, 1000, 1000, 0);
+        for (int i = 0; i < 6; i++) {
+            assertThat(compression.nextRun()).isSameAs(none);
+        }
+        assertThat(compression.nextRun()).isSameAs(lz4);
+        compression.reportRun(lz4, 1000, 300, 1000);
+        assertThat(compression.nextRun()).isSameAs(lz4);
+    }
+
+    @Test
+    public void testConcurrentProbe() throws Exception {
+        SpillCompression compression =
+                SpillCompression.create("adaptive", new MemorySize(100_000_000));
+        BlockCompressionFactory lz4 = compression.defaultCompression();
+        compression.reportRun(lz4, 1000, 900, 2000);
+
+        // runs of two threads are counted exactly, one in every 8 runs is compressed
+        int runsPerThread = 800_000;
+        AtomicInteger probes = new AtomicInteger();
+        Thread[] threads = new Thread[2];
+        CyclicBarrier barrier = new CyclicBarrier(threads.length);
+        for (int i = 0; i < threads.length; i++) {
+            threads[i] =
+                    new Thread(
+                            () -> {
+                                try {
+                                    barrier.await();
+                                } catch (Exception e) {
+                                    throw new RuntimeException(e);
+                                }
+                                for (int j = 0; j < runsPerThread; j++) {
+                                    if (compression.nextRun() == lz4) {
+                                        probes.incrementAndGet();
+                                    }
+                                }
+                            });
+            threads[i].start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        assertThat(probes.get()).isEqualTo(threads.length * runsPerThread / 8);
+    }
+
+    @Test
+    public void testFixed() {
+        SpillCompression compression = SpillCompression.create("none");
+        BlockCompressionFactory none = compression.defaultCompression();
+        compression.reportRun(none, 1000, 1000, 0);
+        assertThat(compression.nextRun()).isSameAs(none);
+    }
+}
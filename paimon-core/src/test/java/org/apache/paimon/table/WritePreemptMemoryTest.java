@@ -57,13 +57,24 @@ public class WritePreemptMemoryTest extends FileStoreTableTestBase {
         testWritePreemptMemory(true);
     }
 
+    @Test
+    public void writeMultiplePartitionsOffHeap() throws Exception {
+        testWritePreemptMemory(
+                false,
+                createFileStoreTable(conf -> conf.set(CoreOptions.WRITE_BUFFER_OFF_HEAP, true)));
+    }
+
     @Override // this has been tested in PrimaryKeyFileStoreTableTest
     @Test
     public void testReadFilter() {}
 
     private void testWritePreemptMemory(boolean singlePartition) throws Exception {
+        testWritePreemptMemory(singlePartition, createFileStoreTable());
+    }
+
+    private void testWritePreemptMemory(boolean singlePartition, FileStoreTable table)
+            throws Exception {
         // write
-        FileStoreTable table = createFileStoreTable();
         StreamTableWrite write = table.newWrite(commitUser);
         StreamTableCommit commit = table.newCommit(commitUser);
         Random random = new Random();
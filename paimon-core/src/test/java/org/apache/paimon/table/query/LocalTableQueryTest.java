@@ -0,0 +1,136 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.table.query;
+
+import org.apache.paimon.CoreOptions;
+import org.apache.paimon.catalog.Identifier;
+import org.apache.paimon.data.GenericRow;
+import org.apache.paimon.data.InternalRow;
+import org.apache.paimon.disk.IOManager;
+import org.apache.paimon.schema.Schema;
+import org.apache.paimon.table.FileStoreTable;
+import org.apache.paimon.table.TableTestBase;
+import org.apache.paimon.table.source.DataSplit;
+import org.apache.paimon.table.source.Split;
+import org.apache.paimon.table.source.StreamTableScan;
+import org.apache.paimon.types.DataTypes;
+import org.apache.paimon.types.RowKind;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.List;
+
+import static org.apache.paimon.io.DataFileTestUtils.row;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/** Test for {@link LocalTableQuery}. */
+public class LocalTableQueryTest extends TableTestBase {
+
+    @Test
+    public void testLookup() throws Exception {
+        FileStoreTable table = createTable(CoreOptions.MergeEngine.DEDUPLICATE);
+        write(table, GenericRow.of(1, 1, 11), GenericRow.of(1, 2, 22), GenericRow.of(2, 1, 111));
+
+        StreamTableScan scan =
+                table.copy(
+                                Collections.singletonMap(
+                                        CoreOptions.STREAM_SCAN_MODE.key(),
+                                        CoreOptions.StreamScanMode.FILE_MONITOR.getValue()))
+                        .newReadBuilder()
+                        .newStreamScan();
+        try (IOManager ioManager = IOManager.create(tempPath.toString());
+                LocalTableQuery query =
+                        new LocalTableQuery(table)
+                                .withValueProjection(new int[][] {{2}})
+                                .withIOManager(ioManager)) {
+            refresh(query, scan);
+            assertThat(lookup(query, 1, 1)).isEqualTo(11);
+            assertThat(lookup(query, 1, 2)).isEqualTo(22);
+            assertThat(lookup(query, 2, 1)).isEqualTo(111);
+            assertThat(lookup(query, 2, 2)).isNull();
+            assertThat(lookup(query, 3, 1)).isNull();
+
+            // update and delete
+            write(
+                    table,
+                    GenericRow.of(1, 1, 12),
+                    GenericRow.ofKind(RowKind.DELETE, 1, 2, 22),
+                    GenericRow.of(2, 2, 222));
+            refresh(query, scan);
+            assertThat(lookup(query, 1, 1)).isEqualTo(12);
+            assertThat(lookup(query, 1, 2)).isNull();
+            assertThat(lookup(query, 2, 2)).isEqualTo(222);
+
+            // compacted files replace the old files
+            compact(table, row(1), 0);
+            refresh(query, scan);
+            assertThat(lookup(query, 1, 1)).isEqualTo(12);
+            assertThat(lookup(query, 1, 2)).isNull();
+            assertThat(lookup(query, 2, 1)).isEqualTo(111);
+        }
+    }
+
+    @Test
+    public void testUnsupportedMergeEngine() throws Exception {
+        FileStoreTable table = createTable(CoreOptions.MergeEngine.PARTIAL_UPDATE);
+        assertThatThrownBy(() -> new LocalTableQuery(table))
+                .hasMessageContaining("only supports deduplicate merge engine");
+    }
+
+    private FileStoreTable createTable(CoreOptions.MergeEngine mergeEngine) throws Exception {
+        Identifier identifier = identifier("T");
+        Schema schema =
+                Schema.newBuilder()
+                        .column("pt", DataTypes.INT())
+                        .column("k", DataTypes.INT())
+                        .column("v", DataTypes.INT())
+                        .primaryKey("pt", "k")
+                        .partitionKeys("pt")
+                        .option(CoreOptions.BUCKET.key(), "1")
+                        .option(CoreOptions.MERGE_ENGINE.key(), mergeEngine.toString())
+                        .build();
+        catalog.createTable(identifier, schema, true);
+        return (FileStoreTable) catalog.getTable(identifier);
+    }
+
+    private void refresh(LocalTableQuery query, StreamTableScan scan) {
+        while (true) {
+            List<Split> splits = scan.plan().splits();
+            if (splits.isEmpty()) {
+                return;
+            }
+            for (Split split : splits) {
+                DataSplit dataSplit = (DataSplit) split;
+                query.refreshFiles(
+                        dataSplit.partition(),
+                        dataSplit.bucket(),
+                        dataSplit.beforeFiles(),
+                        dataSplit.dataFiles());
+            }
+        }
+    }
+
+    private Integer lookup(LocalTableQuery query, int partition, int key) throws IOException {
+        InternalRow value = query.lookup(row(partition), 0, GenericRow.of(key));
+        return value == null ? null : value.getInt(0);
+    }
+}
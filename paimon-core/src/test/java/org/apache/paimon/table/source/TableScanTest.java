@@ -18,15 +18,26 @@
 
 package org.apache.paimon.table.source;
 
+import org.apache.paimon.CoreOptions;
+import org.apache.paimon.fs.FileIOFinder;
+import org.apache.paimon.fs.Path;
+import org.apache.paimon.options.Options;
+import org.apache.paimon.predicate.PredicateBuilder;
+import org.apache.paimon.table.FileStoreTable;
 import org.apache.paimon.table.sink.StreamTableCommit;
 import org.apache.paimon.table.sink.StreamTableWrite;
 import org.apache.paimon.table.source.snapshot.ScannerTestBase;
 import org.apache.paimon.types.RowKind;
 import org.apache.paimon.utils.SnapshotManager;
+import org.apache.paimon.utils.TraceableFileIO;
 
 import org.junit.jupiter.api.Test;
 
+import java.nio.file.Files;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -67,6 +78,68 @@ public class TableScanTest extends ScannerTestBase {
         commit.close();
     }
 
+    @Test
+    public void testPlanCacheWithFilters() throws Exception {
+        tempDir = Files.createTempDirectory("junit");
+        tablePath = new Path(TraceableFileIO.SCHEME + "://" + tempDir.toString());
+        fileIO = FileIOFinder.find(tablePath);
+        Options conf = new Options();
+        conf.set(CoreOptions.BUCKET, 2);
+        table = createFileStoreTable(conf);
+        FileStoreTable cachedTable =
+                table.copy(
+                        Collections.singletonMap(
+                                CoreOptions.SCAN_PLAN_CACHE_ENABLED.key(), "true"));
+
+        StreamTableWrite write = table.newWrite(commitUser);
+        StreamTableCommit commit = table.newCommit(commitUser);
+        for (int i = 0; i < 5; i++) {
+            for (int pt = 1; pt <= 3; pt++) {
+                for (int a = 0; a < 10; a++) {
+                    write.write(rowData(pt, a, (long) i * 100 + a));
+                }
+                write.write(rowDataWithKind(RowKind.DELETE, pt, i, (long) i * 100 + i));
+            }
+            commit.commit(i, write.prepareCommit(true, i));
+
+            // the first plan reads all manifests, then the cache is updated incrementally
+            assertThat(cachedTable.newScan().plan().splits())
+                    .containsExactlyInAnyOrderElementsOf(table.newScan().plan().splits());
+        }
+
+        Map<String, String> partitionSpec = Collections.singletonMap("pt", "2");
+        List<DataSplit> expected =
+                table.newSnapshotReader()
+                        .withPartitionFilter(partitionSpec)
+                        .withBucketFilter(bucket -> bucket == 1)
+                        .read()
+                        .dataSplits();
+        List<DataSplit> cached =
+                cachedTable
+                        .newSnapshotReader()
+                        .withPartitionFilter(partitionSpec)
+                        .withBucketFilter(bucket -> bucket == 1)
+                        .read()
+                        .dataSplits();
+        assertThat(expected).isNotEmpty();
+        assertThat(expected)
+                .allMatch(split -> split.partition().equals(binaryRow(2)) && split.bucket() == 1);
+        assertThat(cached).containsExactlyInAnyOrderElementsOf(expected);
+
+        // a filter on the partition is applied to the cached files as well
+        PredicateBuilder builder = new PredicateBuilder(table.rowType());
+        TableScan.Plan plan = table.newScan().withFilter(builder.greaterOrEqual(0, 2)).plan();
+        TableScan.Plan cachedPlan =
+                cachedTable.newScan().withFilter(builder.greaterOrEqual(0, 2)).plan();
+        assertThat(plan.splits()).hasSize(4);
+        assertThat(cachedPlan.splits()).containsExactlyInAnyOrderElementsOf(plan.splits());
+        assertThat(getResult(cachedTable.newRead(), cachedPlan.splits()))
+                .hasSameElementsAs(getResult(table.newRead(), plan.splits()));
+
+        write.close();
+        commit.close();
+    }
+
     @Test
     public void testPushDownLimit() throws Exception {
         createAppenOnlyTable();
@@ -26,6 +26,8 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 
@@ -159,4 +161,32 @@ public class ParallellyExecuteUtilsTest {
             Assertions.assertThat(re).hasSameElementsAs(Arrays.asList(result));
         }
     }
+
+    @Test
+    public void testPipelinedBatches() throws Exception {
+        List<Integer> nums = Arrays.asList(1, 2, 3, 4, 5, 6);
+        CountDownLatch secondBatchProcessed = new CountDownLatch(1);
+        Iterable<Integer> re =
+                ParallellyExecuteUtils.parallelismBatchIterable(
+                        l -> {
+                            if (l.contains(3)) {
+                                secondBatchProcessed.countDown();
+                            }
+                            return l;
+                        },
+                        nums,
+                        2);
+
+        Iterator<Integer> iterator = re.iterator();
+        Assertions.assertThat(iterator.next()).isEqualTo(1);
+        // the second batch is processed before the first batch is consumed
+        Assertions.assertThat(secondBatchProcessed.await(1, TimeUnit.MINUTES)).isTrue();
+
+        List<Integer> result = new ArrayList<>();
+        iterator.forEachRemaining(result::add);
+        Assertions.assertThat(result).containsExactly(2, 3, 4, 5, 6);
+
+        // the iterable can be iterated again
+        Assertions.assertThat(re).containsExactly(1, 2, 3, 4, 5, 6);
+    }
 }
@@ -28,8 +28,8 @@ import org.apache.paimon.flink.sink.StateUtils;
 import org.apache.paimon.flink.sink.StoreSinkWrite;
 import org.apache.paimon.flink.sink.StoreSinkWriteImpl;
 import org.apache.paimon.flink.sink.StoreSinkWriteState;
-import org.apache.paimon.memory.HeapMemorySegmentPool;
 import org.apache.paimon.memory.MemoryPoolFactory;
+import org.apache.paimon.memory.MemorySegmentPool;
 import org.apache.paimon.options.Options;
 import org.apache.paimon.table.BucketMode;
 import org.apache.paimon.table.FileStoreTable;
@@ -39,6 +39,9 @@ import org.apache.flink.runtime.state.StateInitializationContext;
 import org.apache.flink.runtime.state.StateSnapshotContext;
 import org.apache.flink.streaming.runtime.streamrecord.StreamRecord;
 
+import javax.annotation.Nullable;
+
+import java.io.Closeable;
 import java.io.IOException;
 import java.util.HashMap;
 import java.util.LinkedList;
@@ -66,6 +69,8 @@ public class CdcRecordStoreMultiWriteOperator
     private final Catalog.Loader catalogLoader;
 
     private MemoryPoolFactory memoryPoolFactory;
+    // the default pool created by this operator, released when the operator is closed
+    @Nullable private MemorySegmentPool defaultMemoryPool;
     private Catalog catalog;
     private Map<Identifier, FileStoreTable> tables;
     private StoreSinkWriteState state;
@@ -123,14 +128,16 @@ public class CdcRecordStoreMultiWriteOperator
         // all table write should share one write buffer so that writers can preempt memory
         // from those of other tables
         if (memoryPoolFactory == null) {
+            if (memoryPool == null) {
+                // currently, the options of all tables are the same in CDC
+                defaultMemoryPool =
+                        MemorySegmentPool.createPool(
+                                table.coreOptions().writeBufferSize(),
+                                table.coreOptions().pageSize(),
+                                table.coreOptions().writeBufferOffHeap());
+            }
             memoryPoolFactory =
-                    new MemoryPoolFactory(
-                            memoryPool != null
-                                    ? memoryPool
-                                    // currently, the options of all tables are the same in CDC
-                                    : new HeapMemorySegmentPool(
-                                            table.coreOptions().writeBufferSize(),
-                                            table.coreOptions().pageSize()));
+                    new MemoryPoolFactory(memoryPool != null ? memoryPool : defaultMemoryPool);
         }
 
         StoreSinkWrite write =
@@ -215,6 +222,9 @@ public class CdcRecordStoreMultiWriteOperator
         for (StoreSinkWrite write : writes.values()) {
             write.close();
         }
+        if (defaultMemoryPool instanceof Closeable) {
+            ((Closeable) defaultMemoryPool).close();
+        }
         if (compactExecutor != null) {
             compactExecutor.shutdownNow();
         }
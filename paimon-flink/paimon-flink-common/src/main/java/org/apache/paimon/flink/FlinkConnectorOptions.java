@@ -280,6 +280,23 @@ public class FlinkConnectorOptions {
                     .defaultValue(16)
                     .withDescription("The thread number for lookup async.");
 
+    public static final ConfigOption<Integer> LOOKUP_ASYNC_BATCH_SIZE =
+            ConfigOptions.key("lookup.async-batch-size")
+                    .intType()
+                    .defaultValue(1)
+                    .withDescription(
+                            "The max number of probe keys coalesced into one batch lookup in async lookup join. "
+                                    + "When it is larger than 1, the waiting keys are looked up together, for "
+                                    + "example with one multi-get of RocksDB.");
+
+    public static final ConfigOption<Duration> LOOKUP_ASYNC_BATCH_LATENCY =
+            ConfigOptions.key("lookup.async-batch-latency")
+                    .durationType()
+                    .defaultValue(Duration.ZERO)
+                    .withDescription(
+                            "The max time to wait for more probe keys to fill a batch in async lookup join. "
+                                    + "By default, only the keys already waiting are coalesced without waiting.");
+
     public static final ConfigOption<Boolean> SINK_AUTO_TAG_FOR_SAVEPOINT =
             ConfigOptions.key("sink.savepoint.auto-tag")
                     .booleanType()
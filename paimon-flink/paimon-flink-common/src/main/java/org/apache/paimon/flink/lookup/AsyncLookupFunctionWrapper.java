@@ -26,22 +26,38 @@ import org.apache.flink.table.functions.FunctionContext;
 
 import java.io.IOException;
 import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
 
-/** A {@link AsyncLookupFunction} to wrap sync function. */
+/**
+ * A {@link AsyncLookupFunction} to wrap sync function. When the batch size is larger than 1, the
+ * probe keys are queued and coalesced into batches looked up by one thread, a batch is dispatched
+ * when it is full, or when no more keys come within the batch latency.
+ */
 public class AsyncLookupFunctionWrapper extends AsyncLookupFunction {
 
     private final NewLookupFunction function;
     private final int threadNumber;
+    private final int batchSize;
+    private final Duration batchLatency;
 
     private transient ExecutorService lazyExecutor;
+    private transient BlockingQueue<Probe> probes;
 
-    public AsyncLookupFunctionWrapper(NewLookupFunction function, int threadNumber) {
+    public AsyncLookupFunctionWrapper(
+            NewLookupFunction function, int threadNumber, int batchSize, Duration batchLatency) {
         this.function = function;
         this.threadNumber = threadNumber;
+        this.batchSize = batchSize;
+        this.batchLatency = batchLatency;
     }
 
     @Override
@@ -61,16 +77,23 @@ public class AsyncLookupFunctionWrapper extends AsyncLookupFunction {
 
     @Override
     public CompletableFuture<Collection<RowData>> asyncLookup(RowData keyRow) {
-        return CompletableFuture.supplyAsync(() -> lookup(keyRow), executor());
+        if (batchSize <= 1) {
+            return CompletableFuture.supplyAsync(() -> lookup(keyRow), executor());
+        }
+
+        CompletableFuture<Collection<RowData>> future = new CompletableFuture<>();
+        probes().add(new Probe(keyRow, future));
+        return future;
     }
 
     @Override
     public void close() throws Exception {
-        function.close();
         if (lazyExecutor != null) {
             lazyExecutor.shutdownNow();
+            lazyExecutor.awaitTermination(1, TimeUnit.MINUTES);
             lazyExecutor = null;
         }
+        function.close();
     }
 
     private ExecutorService executor() {
@@ -82,4 +105,79 @@ public class AsyncLookupFunctionWrapper extends AsyncLookupFunction {
         }
         return lazyExecutor;
     }
+
+    private BlockingQueue<Probe> probes() {
+        if (probes == null) {
+            probes = new LinkedBlockingQueue<>();
+            lazyExecutor =
+                    Executors.newSingleThreadExecutor(
+                            new ExecutorThreadFactory(
+                                    Thread.currentThread().getName() + "-async-batch"));
+            lazyExecutor.execute(this::lookupBatches);
+        }
+        return probes;
+    }
+
+    private void lookupBatches() {
+        List<Probe> batch = new ArrayList<>(batchSize);
+        try {
+            while (!Thread.currentThread().isInterrupted()) {
+                batch.add(probes.take());
+                long deadline = System.nanoTime() + batchLatency.toNanos();
+                while (batch.size() < batchSize) {
+                    // take the waiting keys first, then wait for more within the latency
+                    if (probes.drainTo(batch, batchSize - batch.size()) > 0) {
+                        continue;
+                    }
+                    long remaining = deadline - System.nanoTime();
+                    if (remaining <= 0) {
+                        break;
+                    }
+                    Probe probe = probes.poll(remaining, TimeUnit.NANOSECONDS);
+                    if (probe == null) {
+                        break;
+                    }
+                    batch.add(probe);
+                }
+
+                lookupBatch(batch);
+                batch.clear();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void lookupBatch(List<Probe> batch) {
+        List<RowData> keyRows = new ArrayList<>(batch.size());
+        for (Probe probe : batch) {
+            keyRows.add(probe.keyRow);
+        }
+
+        try {
+            List<Collection<RowData>> results;
+            synchronized (function) {
+                results = function.lookupAll(keyRows);
+            }
+            for (int i = 0; i < batch.size(); i++) {
+                batch.get(i).future.complete(results.get(i));
+            }
+        } catch (Throwable t) {
+            for (Probe probe : batch) {
+                probe.future.completeExceptionally(t);
+            }
+        }
+    }
+
+    /** A probe key waiting to be looked up. */
+    private static class Probe {
+
+        private final RowData keyRow;
+        private final CompletableFuture<Collection<RowData>> future;
+
+        private Probe(RowData keyRow, CompletableFuture<Collection<RowData>> future) {
+            this.keyRow = keyRow;
+            this.future = future;
+        }
+    }
 }
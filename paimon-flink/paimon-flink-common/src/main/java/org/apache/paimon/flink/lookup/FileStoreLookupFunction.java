@@ -18,7 +18,9 @@
 
 package org.apache.paimon.flink.lookup;
 
+import org.apache.paimon.Snapshot;
 import org.apache.paimon.data.InternalRow;
+import org.apache.paimon.data.serializer.InternalRowSerializer;
 import org.apache.paimon.flink.FlinkRowData;
 import org.apache.paimon.flink.FlinkRowWrapper;
 import org.apache.paimon.flink.utils.TableScanUtils;
@@ -27,9 +29,12 @@ import org.apache.paimon.options.Options;
 import org.apache.paimon.predicate.Predicate;
 import org.apache.paimon.predicate.PredicateFilter;
 import org.apache.paimon.reader.RecordReaderIterator;
+import org.apache.paimon.table.FileStoreTable;
 import org.apache.paimon.table.Table;
 import org.apache.paimon.table.source.OutOfRangeException;
 import org.apache.paimon.types.RowType;
+import org.apache.paimon.utils.ExceptionUtils;
+import org.apache.paimon.utils.ExecutorThreadFactory;
 import org.apache.paimon.utils.FileIOUtils;
 import org.apache.paimon.utils.TypeUtils;
 
@@ -53,15 +58,25 @@ import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
 import static org.apache.paimon.CoreOptions.CONTINUOUS_DISCOVERY_INTERVAL;
 import static org.apache.paimon.lookup.RocksDBOptions.LOOKUP_CACHE_ROWS;
 import static org.apache.paimon.lookup.RocksDBOptions.LOOKUP_CONTINUOUS_DISCOVERY_INTERVAL;
+import static org.apache.paimon.lookup.RocksDBOptions.LOOKUP_IN_MEMORY_MAX_ROWS;
+import static org.apache.paimon.lookup.RocksDBOptions.LOOKUP_REFRESH_ASYNC;
+import static org.apache.paimon.lookup.RocksDBOptions.LOOKUP_REMOTE_FILE_ENABLED;
 import static org.apache.paimon.predicate.PredicateBuilder.transformFieldMapping;
 
 /** A lookup {@link TableFunction} for file store. */
@@ -71,6 +86,9 @@ public class FileStoreLookupFunction implements Serializable, Closeable {
 
     private static final Logger LOG = LoggerFactory.getLogger(FileStoreLookupFunction.class);
 
+    // number of rows applied to the lookup table at a time when refreshing in background
+    private static final int ASYNC_REFRESH_BATCH_SIZE = 1000;
+
     private final Table table;
     private final List<String> projectFields;
     private final List<String> joinKeys;
@@ -80,11 +98,22 @@ public class FileStoreLookupFunction implements Serializable, Closeable {
     private transient File path;
     private transient RocksDBStateFactory stateFactory;
     private transient LookupTable lookupTable;
+    private transient long inMemoryMaxRows;
+    // only set when the keys are looked up from the data files directly
+    @Nullable private transient RemoteFileLookupTable remoteLookupTable;
 
     // timestamp when cache expires
     private transient long nextLoadTime;
     private transient TableStreamingReader streamingReader;
 
+    // guards the lookup table between lookups and the refreshing in background
+    private transient Object lock;
+    // only set when the lookup table is refreshed in background
+    @Nullable private transient ExecutorService refreshExecutor;
+    @Nullable private transient Future<?> pendingRefresh;
+    private transient InternalRowSerializer refreshSerializer;
+    @Nullable private transient LookupRefreshMetrics refreshMetrics;
+
     public FileStoreLookupFunction(
             Table table, int[] projection, int[] joinKeyIndex, @Nullable Predicate predicate) {
         TableScanUtils.streamingReadingValidate(table);
@@ -113,13 +142,14 @@ public class FileStoreLookupFunction implements Serializable, Closeable {
     }
 
     public void open(FunctionContext context) throws Exception {
-        String tmpDirectory = getTmpDirectory(context);
-        open(tmpDirectory);
+        this.refreshMetrics = new LookupRefreshMetrics(context.getMetricGroup());
+        open(getTmpDirectory(context));
     }
 
     // we tag this method friendly for testing
     void open(String tmpDirectory) throws Exception {
         this.path = new File(tmpDirectory, "lookup-" + UUID.randomUUID());
+        this.lock = new Object();
         open();
     }
 
@@ -128,26 +158,74 @@ public class FileStoreLookupFunction implements Serializable, Closeable {
         this.refreshInterval =
                 options.getOptional(LOOKUP_CONTINUOUS_DISCOVERY_INTERVAL)
                         .orElse(options.get(CONTINUOUS_DISCOVERY_INTERVAL));
-        this.stateFactory = new RocksDBStateFactory(path.toString(), options, null);
 
         List<String> fieldNames = table.rowType().getFieldNames();
         int[] projection = projectFields.stream().mapToInt(fieldNames::indexOf).toArray();
         RowType rowType = TypeUtils.project(table.rowType(), projection);
 
         PredicateFilter recordFilter = createRecordFilter(projection);
-        this.lookupTable =
-                LookupTable.create(
-                        stateFactory,
-                        rowType,
-                        table.primaryKeys(),
-                        joinKeys,
-                        recordFilter,
-                        options.get(LOOKUP_CACHE_ROWS));
         this.nextLoadTime = -1;
-        this.streamingReader = new TableStreamingReader(table, projection, this.predicate);
+
+        if (options.get(LOOKUP_REMOTE_FILE_ENABLED)
+                && RemoteFileLookupTable.supports(table, joinKeys)) {
+            this.remoteLookupTable =
+                    new RemoteFileLookupTable(
+                            (FileStoreTable) table, projection, joinKeys, recordFilter, path);
+        } else {
+            if (options.get(LOOKUP_REMOTE_FILE_ENABLED)) {
+                LOG.warn(
+                        "Lookup table {} can not be looked up from the data files, "
+                                + "loading the whole table into local instead.",
+                        table.name());
+            }
+            this.inMemoryMaxRows = options.get(LOOKUP_IN_MEMORY_MAX_ROWS);
+            if (useInMemoryTable()) {
+                this.lookupTable = new InMemoryLookupTable(rowType, joinKeys, recordFilter);
+            } else {
+                this.stateFactory = new RocksDBStateFactory(path.toString(), options, null);
+                this.lookupTable =
+                        LookupTable.create(
+                                stateFactory,
+                                rowType,
+                                table.primaryKeys(),
+                                joinKeys,
+                                recordFilter,
+                                options.get(LOOKUP_CACHE_ROWS));
+            }
+            this.streamingReader = new TableStreamingReader(table, projection, this.predicate);
+            this.refreshSerializer = new InternalRowSerializer(rowType);
+        }
 
         // do first load
         refresh();
+
+        if (options.get(LOOKUP_REFRESH_ASYNC)) {
+            this.refreshExecutor =
+                    Executors.newSingleThreadExecutor(
+                            new ExecutorThreadFactory("paimon-lookup-refresh-" + table.name()));
+        }
+    }
+
+    private boolean useInMemoryTable() {
+        if (inMemoryMaxRows <= 0
+                || !(table instanceof FileStoreTable)
+                || table.primaryKeys().isEmpty()
+                || !new HashSet<>(table.primaryKeys()).equals(new HashSet<>(joinKeys))) {
+            return false;
+        }
+
+        Snapshot snapshot = ((FileStoreTable) table).snapshotManager().latestSnapshot();
+        if (snapshot == null) {
+            return true;
+        }
+        Long totalRecordCount = snapshot.totalRecordCount();
+        return totalRecordCount != null && totalRecordCount <= inMemoryMaxRows;
+    }
+
+    /** The in-memory lookup table has grown too large, reload the table into RocksDB. */
+    private boolean inMemoryTableExceeded() {
+        return lookupTable instanceof InMemoryLookupTable
+                && ((InMemoryLookupTable) lookupTable).size() > inMemoryMaxRows;
     }
 
     private PredicateFilter createRecordFilter(int[] projection) {
@@ -168,13 +246,14 @@ public class FileStoreLookupFunction implements Serializable, Closeable {
 
     public Collection<RowData> lookup(RowData keyRow) {
         try {
-            checkRefresh();
-            List<InternalRow> results = lookupTable.get(new FlinkRowWrapper(keyRow));
-            List<RowData> rows = new ArrayList<>(results.size());
-            for (InternalRow matchedRow : results) {
-                rows.add(new FlinkRowData(matchedRow));
+            prepareLookup();
+            InternalRow key = toLookupKey(keyRow);
+            synchronized (lock) {
+                return toRowData(
+                        remoteLookupTable != null
+                                ? remoteLookupTable.get(key)
+                                : lookupTable.get(key));
             }
-            return rows;
         } catch (OutOfRangeException e) {
             reopen();
             return lookup(keyRow);
@@ -183,6 +262,56 @@ public class FileStoreLookupFunction implements Serializable, Closeable {
         }
     }
 
+    /** Looks up the keys in one batch, the results are in the same order as the keys. */
+    public List<Collection<RowData>> lookupAll(List<RowData> keyRows) {
+        try {
+            prepareLookup();
+            List<InternalRow> keys = new ArrayList<>(keyRows.size());
+            for (RowData keyRow : keyRows) {
+                keys.add(toLookupKey(keyRow));
+            }
+            synchronized (lock) {
+                List<List<InternalRow>> results =
+                        remoteLookupTable != null
+                                ? remoteLookupTable.getAll(keys)
+                                : lookupTable.getAll(keys);
+                List<Collection<RowData>> rows = new ArrayList<>(results.size());
+                for (List<InternalRow> result : results) {
+                    rows.add(toRowData(result));
+                }
+                return rows;
+            }
+        } catch (OutOfRangeException e) {
+            reopen();
+            return lookupAll(keyRows);
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    private void prepareLookup() throws Exception {
+        checkRefresh();
+        if (inMemoryTableExceeded()) {
+            LOG.info(
+                    "Lookup table {} has more than {} rows, reloading it into RocksDB.",
+                    table.name(),
+                    inMemoryMaxRows);
+            reopen();
+        }
+    }
+
+    private InternalRow toLookupKey(RowData keyRow) {
+        return new FlinkRowWrapper(keyRow);
+    }
+
+    private static List<RowData> toRowData(List<InternalRow> results) {
+        List<RowData> rows = new ArrayList<>(results.size());
+        for (InternalRow matchedRow : results) {
+            rows.add(new FlinkRowData(matchedRow));
+        }
+        return rows;
+    }
+
     private void reopen() {
         try {
             close();
@@ -193,6 +322,11 @@ public class FileStoreLookupFunction implements Serializable, Closeable {
     }
 
     private void checkRefresh() throws Exception {
+        if (refreshExecutor != null) {
+            checkAsyncRefresh();
+            return;
+        }
+
         if (nextLoadTime > System.currentTimeMillis()) {
             return;
         }
@@ -208,20 +342,105 @@ public class FileStoreLookupFunction implements Serializable, Closeable {
         nextLoadTime = System.currentTimeMillis() + refreshInterval.toMillis();
     }
 
+    private void checkAsyncRefresh() throws Exception {
+        if (pendingRefresh != null) {
+            if (!pendingRefresh.isDone()) {
+                return;
+            }
+
+            Future<?> refresh = pendingRefresh;
+            pendingRefresh = null;
+            try {
+                refresh.get();
+            } catch (ExecutionException e) {
+                ExceptionUtils.rethrowException(e.getCause());
+            }
+        }
+
+        if (nextLoadTime > System.currentTimeMillis()) {
+            return;
+        }
+
+        pendingRefresh =
+                refreshExecutor.submit(
+                        () -> {
+                            refresh();
+                            return null;
+                        });
+        nextLoadTime = System.currentTimeMillis() + refreshInterval.toMillis();
+    }
+
     private void refresh() throws Exception {
-        while (true) {
-            try (RecordReaderIterator<InternalRow> batch =
-                    new RecordReaderIterator<>(streamingReader.nextBatch())) {
-                if (!batch.hasNext()) {
-                    return;
+        long startMillis = System.currentTimeMillis();
+        if (remoteLookupTable != null) {
+            remoteLookupTable.refresh();
+        } else {
+            while (true) {
+                try (RecordReaderIterator<InternalRow> batch =
+                        new RecordReaderIterator<>(streamingReader.nextBatch())) {
+                    if (!batch.hasNext()) {
+                        break;
+                    }
+                    if (refreshExecutor == null) {
+                        this.lookupTable.refresh(batch);
+                    } else {
+                        refreshInSmallBatches(batch);
+                    }
                 }
-                this.lookupTable.refresh(batch);
             }
         }
+
+        if (refreshMetrics != null) {
+            refreshMetrics.recordRefresh(startMillis);
+        }
+    }
+
+    /**
+     * Serializes the changes outside the lock and applies them in small batches, so that lookups
+     * wait for at most one small batch.
+     */
+    private void refreshInSmallBatches(Iterator<InternalRow> incremental) throws Exception {
+        List<InternalRow> rows = new ArrayList<>(ASYNC_REFRESH_BATCH_SIZE);
+        while (incremental.hasNext()) {
+            rows.add(refreshSerializer.toBinaryRow(incremental.next()).copy());
+            if (rows.size() >= ASYNC_REFRESH_BATCH_SIZE) {
+                applyRefresh(rows);
+                rows.clear();
+            }
+        }
+        applyRefresh(rows);
+    }
+
+    private void applyRefresh(List<InternalRow> rows) throws Exception {
+        if (Thread.interrupted()) {
+            throw new InterruptedException("Refreshing of lookup table is interrupted.");
+        }
+
+        synchronized (lock) {
+            lookupTable.refresh(rows.iterator());
+        }
     }
 
     @Override
     public void close() throws IOException {
+        if (refreshExecutor != null) {
+            refreshExecutor.shutdownNow();
+            try {
+                if (!refreshExecutor.awaitTermination(1, TimeUnit.MINUTES)) {
+                    LOG.warn("Refreshing of lookup table {} is not stopped in time.", table.name());
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            refreshExecutor = null;
+            pendingRefresh = null;
+        }
+
+        if (remoteLookupTable != null) {
+            remoteLookupTable.close();
+            remoteLookupTable = null;
+        }
+
         if (stateFactory != null) {
             stateFactory.close();
             stateFactory = null;
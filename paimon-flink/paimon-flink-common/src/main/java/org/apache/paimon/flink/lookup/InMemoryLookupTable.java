@@ -0,0 +1,77 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.flink.lookup;
+
+import org.apache.paimon.data.BinaryRow;
+import org.apache.paimon.data.InternalRow;
+import org.apache.paimon.lookup.InMemoryRowMap;
+import org.apache.paimon.types.RowKind;
+import org.apache.paimon.types.RowType;
+import org.apache.paimon.utils.KeyProjectedRow;
+import org.apache.paimon.utils.TypeUtils;
+
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.Predicate;
+
+/** A {@link LookupTable} for small primary key table, which holds the rows in memory. */
+public class InMemoryLookupTable implements LookupTable {
+
+    private final InMemoryRowMap tableMap;
+
+    private final Predicate<InternalRow> recordFilter;
+
+    private final KeyProjectedRow primaryKey;
+
+    public InMemoryLookupTable(
+            RowType rowType, List<String> primaryKey, Predicate<InternalRow> recordFilter) {
+        List<String> fieldNames = rowType.getFieldNames();
+        int[] primaryKeyMapping = primaryKey.stream().mapToInt(fieldNames::indexOf).toArray();
+        this.primaryKey = new KeyProjectedRow(primaryKeyMapping);
+        this.tableMap =
+                InMemoryRowMap.create(TypeUtils.project(rowType, primaryKeyMapping), rowType);
+        this.recordFilter = recordFilter;
+    }
+
+    @Override
+    public List<InternalRow> get(InternalRow key) {
+        BinaryRow value = tableMap.get(key);
+        return value == null ? Collections.emptyList() : Collections.singletonList(value);
+    }
+
+    @Override
+    public void refresh(Iterator<InternalRow> incremental) {
+        while (incremental.hasNext()) {
+            InternalRow row = incremental.next();
+            primaryKey.replaceRow(row);
+            if ((row.getRowKind() == RowKind.INSERT || row.getRowKind() == RowKind.UPDATE_AFTER)
+                    && recordFilter.test(row)) {
+                tableMap.put(primaryKey, row);
+            } else {
+                // retracted or filtered, the primary key no longer exists
+                tableMap.delete(primaryKey);
+            }
+        }
+    }
+
+    public int size() {
+        return tableMap.size();
+    }
+}
@@ -0,0 +1,61 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.flink.lookup;
+
+import org.apache.flink.annotation.VisibleForTesting;
+import org.apache.flink.metrics.MetricGroup;
+
+/** Metrics of the refreshing of a lookup table. */
+public class LookupRefreshMetrics {
+
+    public static final long UNDEFINED = -1L;
+
+    public static final String LAST_REFRESH_DURATION = "lastRefreshDuration";
+    public static final String REFRESH_LAG = "refreshLag";
+
+    private volatile long lastRefreshDuration = UNDEFINED;
+    private volatile long lastRefreshTime = UNDEFINED;
+
+    public LookupRefreshMetrics(MetricGroup metricGroup) {
+        metricGroup.gauge(LAST_REFRESH_DURATION, this::getLastRefreshDuration);
+        metricGroup.gauge(REFRESH_LAG, this::getRefreshLag);
+    }
+
+    /** Called when a refresh has applied all the changes up to the latest snapshot. */
+    public void recordRefresh(long startMillis) {
+        long now = System.currentTimeMillis();
+        this.lastRefreshDuration = now - startMillis;
+        this.lastRefreshTime = now;
+    }
+
+    @VisibleForTesting
+    long getLastRefreshDuration() {
+        return lastRefreshDuration;
+    }
+
+    /** Milliseconds since the lookup table last caught up with the latest snapshot. */
+    @VisibleForTesting
+    long getRefreshLag() {
+        long refreshTime = lastRefreshTime;
+        if (refreshTime != UNDEFINED) {
+            return System.currentTimeMillis() - refreshTime;
+        }
+        return UNDEFINED;
+    }
+}
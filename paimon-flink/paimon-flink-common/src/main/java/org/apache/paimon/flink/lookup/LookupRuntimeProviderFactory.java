@@ -22,15 +22,22 @@ import org.apache.flink.table.connector.source.LookupTableSource.LookupRuntimePr
 import org.apache.flink.table.connector.source.lookup.AsyncLookupFunctionProvider;
 import org.apache.flink.table.connector.source.lookup.LookupFunctionProvider;
 
+import java.time.Duration;
+
 /** Factory to create {@link LookupRuntimeProvider}. */
 public class LookupRuntimeProviderFactory {
 
     public static LookupRuntimeProvider create(
-            FileStoreLookupFunction function, boolean enableAsync, int asyncThreadNumber) {
+            FileStoreLookupFunction function,
+            boolean enableAsync,
+            int asyncThreadNumber,
+            int asyncBatchSize,
+            Duration asyncBatchLatency) {
         NewLookupFunction lookup = new NewLookupFunction(function);
         return enableAsync
                 ? AsyncLookupFunctionProvider.of(
-                        new AsyncLookupFunctionWrapper(lookup, asyncThreadNumber))
+                        new AsyncLookupFunctionWrapper(
+                                lookup, asyncThreadNumber, asyncBatchSize, asyncBatchLatency))
                 : LookupFunctionProvider.of(lookup);
     }
 }
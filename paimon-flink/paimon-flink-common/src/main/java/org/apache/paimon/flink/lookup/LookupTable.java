@@ -23,6 +23,7 @@ import org.apache.paimon.lookup.RocksDBStateFactory;
 import org.apache.paimon.types.RowType;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
@@ -33,6 +34,15 @@ public interface LookupTable {
 
     List<InternalRow> get(InternalRow key) throws IOException;
 
+    /** Returns the rows of the keys in the same order, implementations may read them in batch. */
+    default List<List<InternalRow>> getAll(List<InternalRow> keys) throws IOException {
+        List<List<InternalRow>> results = new ArrayList<>(keys.size());
+        for (InternalRow key : keys) {
+            results.add(get(key));
+        }
+        return results;
+    }
+
     void refresh(Iterator<InternalRow> incremental) throws IOException;
 
     static LookupTable create(
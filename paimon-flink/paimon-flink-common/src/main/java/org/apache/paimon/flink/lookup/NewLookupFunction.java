@@ -24,6 +24,7 @@ import org.apache.flink.table.functions.LookupFunction;
 
 import java.io.IOException;
 import java.util.Collection;
+import java.util.List;
 
 /** New {@link LookupFunction} for 1.16+, it supports Flink retry join. */
 public class NewLookupFunction extends LookupFunction {
@@ -46,6 +47,11 @@ public class NewLookupFunction extends LookupFunction {
         return function.lookup(keyRow);
     }
 
+    /** Looks up the keys in one batch, the results are in the same order as the keys. */
+    public List<Collection<RowData>> lookupAll(List<RowData> keyRows) {
+        return function.lookupAll(keyRows);
+    }
+
     @Override
     public void close() throws Exception {
         function.close();
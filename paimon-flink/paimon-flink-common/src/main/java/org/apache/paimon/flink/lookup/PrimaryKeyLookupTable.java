@@ -28,6 +28,7 @@ import org.apache.paimon.utils.KeyProjectedRow;
 import org.apache.paimon.utils.TypeUtils;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
@@ -69,6 +70,16 @@ public class PrimaryKeyLookupTable implements LookupTable {
         return value == null ? Collections.emptyList() : Collections.singletonList(value);
     }
 
+    @Override
+    public List<List<InternalRow>> getAll(List<InternalRow> keys) throws IOException {
+        List<InternalRow> values = tableState.getAll(keys);
+        List<List<InternalRow>> results = new ArrayList<>(values.size());
+        for (InternalRow value : values) {
+            results.add(value == null ? Collections.emptyList() : Collections.singletonList(value));
+        }
+        return results;
+    }
+
     @Override
     public void refresh(Iterator<InternalRow> incremental) throws IOException {
         while (incremental.hasNext()) {
@@ -0,0 +1,237 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.flink.lookup;
+
+import org.apache.paimon.CoreOptions;
+import org.apache.paimon.codegen.CodeGenUtils;
+import org.apache.paimon.codegen.Projection;
+import org.apache.paimon.codegen.RecordComparator;
+import org.apache.paimon.data.BinaryRow;
+import org.apache.paimon.data.InternalRow;
+import org.apache.paimon.data.serializer.InternalRowSerializer;
+import org.apache.paimon.disk.IOManager;
+import org.apache.paimon.schema.TableSchema;
+import org.apache.paimon.table.BucketMode;
+import org.apache.paimon.table.FileStoreTable;
+import org.apache.paimon.table.Table;
+import org.apache.paimon.table.query.LocalTableQuery;
+import org.apache.paimon.table.sink.KeyAndBucketExtractor;
+import org.apache.paimon.table.source.DataSplit;
+import org.apache.paimon.table.source.Split;
+import org.apache.paimon.table.source.StreamTableScan;
+import org.apache.paimon.types.RowType;
+import org.apache.paimon.utils.TypeUtils;
+
+import javax.annotation.Nullable;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.function.Predicate;
+
+/**
+ * A lookup table of primary key table, which looks up the keys directly from the data files of the
+ * buckets by {@link LocalTableQuery} instead of loading the whole table into local. The files of
+ * the buckets are refreshed by a streaming scan in {@link CoreOptions.StreamScanMode#FILE_MONITOR}
+ * mode.
+ */
+public class RemoteFileLookupTable implements Closeable {
+
+    private final LocalTableQuery tableQuery;
+    private final IOManager ioManager;
+    private final StreamTableScan scan;
+    private final int numBuckets;
+    @Nullable private final Projection partitionProjection;
+    private final Projection bucketKeyProjection;
+    private final Projection trimmedKeyProjection;
+    private final RecordComparator trimmedKeyComparator;
+    private final InternalRowSerializer valueSerializer;
+    private final Predicate<InternalRow> recordFilter;
+
+    public RemoteFileLookupTable(
+            FileStoreTable table,
+            int[] projection,
+            List<String> joinKeys,
+            Predicate<InternalRow> recordFilter,
+            File path) {
+        this.ioManager = IOManager.create(path.toString());
+        this.tableQuery =
+                new LocalTableQuery(table)
+                        .withValueProjection(
+                                Arrays.stream(projection)
+                                        .mapToObj(i -> new int[] {i})
+                                        .toArray(int[][]::new))
+                        .withIOManager(ioManager);
+
+        this.scan =
+                table.copy(
+                                Collections.singletonMap(
+                                        CoreOptions.STREAM_SCAN_MODE.key(),
+                                        CoreOptions.StreamScanMode.FILE_MONITOR.getValue()))
+                        .newReadBuilder()
+                        .newStreamScan();
+
+        TableSchema schema = table.schema();
+        this.numBuckets = table.coreOptions().bucket();
+        List<String> fieldNames = table.rowType().getFieldNames();
+        RowType joinKeyType =
+                TypeUtils.project(
+                        table.rowType(), joinKeys.stream().mapToInt(fieldNames::indexOf).toArray());
+        this.partitionProjection =
+                schema.partitionKeys().isEmpty()
+                        ? null
+                        : CodeGenUtils.newProjection(
+                                joinKeyType, keyMapping(joinKeys, schema.partitionKeys()));
+        this.bucketKeyProjection =
+                CodeGenUtils.newProjection(joinKeyType, keyMapping(joinKeys, schema.bucketKeys()));
+        int[] trimmedKeyMapping = keyMapping(joinKeys, schema.trimmedPrimaryKeys());
+        this.trimmedKeyProjection = CodeGenUtils.newProjection(joinKeyType, trimmedKeyMapping);
+        this.trimmedKeyComparator =
+                CodeGenUtils.newRecordComparator(
+                        TypeUtils.project(joinKeyType, trimmedKeyMapping).getFieldTypes(),
+                        "TrimmedKeyComparator");
+        this.valueSerializer =
+                new InternalRowSerializer(TypeUtils.project(table.rowType(), projection));
+        this.recordFilter = recordFilter;
+    }
+
+    /**
+     * Whether the table can be looked up from the data files, the table should be a fixed bucket
+     * primary key table with deduplicate merge engine, and the join keys should be the primary
+     * keys.
+     */
+    public static boolean supports(Table table, List<String> joinKeys) {
+        if (!(table instanceof FileStoreTable)) {
+            return false;
+        }
+
+        FileStoreTable fileStoreTable = (FileStoreTable) table;
+        CoreOptions options = fileStoreTable.coreOptions();
+        return !table.primaryKeys().isEmpty()
+                && new HashSet<>(table.primaryKeys()).equals(new HashSet<>(joinKeys))
+                && fileStoreTable.bucketMode() == BucketMode.FIXED
+                && options.mergeEngine() == CoreOptions.MergeEngine.DEDUPLICATE
+                && !options.sequenceField().isPresent();
+    }
+
+    private static int[] keyMapping(List<String> joinKeys, List<String> keys) {
+        return keys.stream().mapToInt(joinKeys::indexOf).toArray();
+    }
+
+    public synchronized List<InternalRow> get(InternalRow key) throws IOException {
+        return get(partition(key), bucket(key), trimmedKeyProjection.apply(key));
+    }
+
+    /**
+     * Returns the rows of the keys in the same order. The keys are probed grouped by bucket and
+     * sorted by key, so that the lookup files of a bucket are read in order.
+     */
+    public synchronized List<List<InternalRow>> getAll(List<InternalRow> keys) throws IOException {
+        int size = keys.size();
+        BinaryRow[] partitions = new BinaryRow[size];
+        int[] buckets = new int[size];
+        BinaryRow[] trimmedKeys = new BinaryRow[size];
+        Integer[] order = new Integer[size];
+        for (int i = 0; i < size; i++) {
+            InternalRow key = keys.get(i);
+            partitions[i] = partition(key).copy();
+            buckets[i] = bucket(key);
+            trimmedKeys[i] = trimmedKeyProjection.apply(key).copy();
+            order[i] = i;
+        }
+        Arrays.sort(
+                order,
+                Comparator.<Integer>comparingInt(i -> partitions[i].hashCode())
+                        .thenComparingInt(i -> buckets[i])
+                        .thenComparing(
+                                (i1, i2) ->
+                                        trimmedKeyComparator.compare(
+                                                trimmedKeys[i1], trimmedKeys[i2])));
+
+        List<List<InternalRow>> results = new ArrayList<>(Collections.nCopies(size, null));
+        for (int i : order) {
+            List<InternalRow> rows = get(partitions[i], buckets[i], trimmedKeys[i]);
+            if (!rows.isEmpty()) {
+                // the looked up rows may be reused by the following probes
+                rows = Collections.singletonList(valueSerializer.copy(rows.get(0)));
+            }
+            results.set(i, rows);
+        }
+        return results;
+    }
+
+    private BinaryRow partition(InternalRow key) {
+        return partitionProjection == null ? BinaryRow.EMPTY_ROW : partitionProjection.apply(key);
+    }
+
+    private int bucket(InternalRow key) {
+        return KeyAndBucketExtractor.bucket(
+                KeyAndBucketExtractor.bucketKeyHashCode(bucketKeyProjection.apply(key)),
+                numBuckets);
+    }
+
+    private List<InternalRow> get(BinaryRow partition, int bucket, InternalRow trimmedKey)
+            throws IOException {
+        InternalRow value = tableQuery.lookup(partition, bucket, trimmedKey);
+        if (value == null || !recordFilter.test(value)) {
+            return Collections.emptyList();
+        }
+        return Collections.singletonList(value);
+    }
+
+    /**
+     * Apply the file changes of all new snapshots. The snapshots are planned without holding the
+     * lock of this table, so it can be called from another thread than the lookups.
+     */
+    public void refresh() {
+        while (true) {
+            List<Split> splits = scan.plan().splits();
+            if (splits.isEmpty()) {
+                return;
+            }
+
+            for (Split split : splits) {
+                DataSplit dataSplit = (DataSplit) split;
+                synchronized (this) {
+                    tableQuery.refreshFiles(
+                            dataSplit.partition(),
+                            dataSplit.bucket(),
+                            dataSplit.beforeFiles(),
+                            dataSplit.dataFiles());
+                }
+            }
+        }
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        tableQuery.close();
+        try {
+            ioManager.close();
+        } catch (Exception e) {
+            throw new IOException(e);
+        }
+    }
+}
@@ -73,6 +73,34 @@ public class SecondaryIndexLookupTable extends PrimaryKeyLookupTable {
         return values;
     }
 
+    @Override
+    public List<List<InternalRow>> getAll(List<InternalRow> keys) throws IOException {
+        // read the rows of the primary keys of all the secondary keys in one batch
+        List<List<InternalRow>> pksOfKeys = new ArrayList<>(keys.size());
+        List<InternalRow> allPks = new ArrayList<>();
+        for (InternalRow key : keys) {
+            List<InternalRow> pks = indexState.get(key);
+            pksOfKeys.add(pks);
+            allPks.addAll(pks);
+        }
+
+        List<InternalRow> allValues = tableState.getAll(allPks);
+        List<List<InternalRow>> results = new ArrayList<>(keys.size());
+        int offset = 0;
+        for (List<InternalRow> pks : pksOfKeys) {
+            List<InternalRow> values = new ArrayList<>(pks.size());
+            for (int i = 0; i < pks.size(); i++) {
+                InternalRow value = allValues.get(offset + i);
+                if (value != null) {
+                    values.add(value);
+                }
+            }
+            offset += pks.size();
+            results.add(values);
+        }
+        return results;
+    }
+
     @Override
     public void refresh(Iterator<InternalRow> incremental) throws IOException {
         while (incremental.hasNext()) {
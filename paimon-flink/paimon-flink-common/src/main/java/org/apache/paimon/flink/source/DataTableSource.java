@@ -62,6 +62,8 @@ import static org.apache.paimon.CoreOptions.CHANGELOG_PRODUCER;
 import static org.apache.paimon.CoreOptions.LOG_CHANGELOG_MODE;
 import static org.apache.paimon.CoreOptions.LOG_CONSISTENCY;
 import static org.apache.paimon.flink.FlinkConnectorOptions.LOOKUP_ASYNC;
+import static org.apache.paimon.flink.FlinkConnectorOptions.LOOKUP_ASYNC_BATCH_LATENCY;
+import static org.apache.paimon.flink.FlinkConnectorOptions.LOOKUP_ASYNC_BATCH_SIZE;
 import static org.apache.paimon.flink.FlinkConnectorOptions.LOOKUP_ASYNC_THREAD_NUMBER;
 import static org.apache.paimon.flink.FlinkConnectorOptions.SCAN_REMOVE_NORMALIZE;
 import static org.apache.paimon.flink.FlinkConnectorOptions.SCAN_WATERMARK_ALIGNMENT_GROUP;
@@ -305,7 +307,9 @@ public class DataTableSource extends FlinkTableSource {
         return LookupRuntimeProviderFactory.create(
                 new FileStoreLookupFunction(table, projection, joinKey, predicate),
                 enableAsync,
-                asyncThreadNumber);
+                asyncThreadNumber,
+                options.get(LOOKUP_ASYNC_BATCH_SIZE),
+                options.get(LOOKUP_ASYNC_BATCH_LATENCY));
     }
 
     @Override
@@ -35,9 +35,11 @@ import org.apache.paimon.table.sink.StreamTableWrite;
 import org.apache.paimon.table.sink.TableCommitImpl;
 import org.apache.paimon.types.DataType;
 import org.apache.paimon.types.DataTypes;
+import org.apache.paimon.types.RowKind;
 import org.apache.paimon.types.RowType;
 import org.apache.paimon.utils.TraceableFileIO;
 
+import org.apache.flink.table.data.RowData;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -47,6 +49,7 @@ import java.nio.file.Path;
 import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import java.util.Random;
@@ -137,6 +140,127 @@ public class FileStoreLookupFunctionTest {
         fileStoreLookupFunction.lookup(new FlinkRowData(GenericRow.of(1, 1, 10L)));
     }
 
+    @Test
+    public void testLookupRemoteFile() throws Exception {
+        StreamTableWrite writer = fileStoreTable.newStreamWriteBuilder().newWrite();
+        for (int k = 0; k < 10; k++) {
+            writer.write(GenericRow.of(1, k, (long) k));
+        }
+        commit(writer.prepareCommit(true, 0));
+
+        FileStoreTable table =
+                fileStoreTable.copy(
+                        Collections.singletonMap(
+                                RocksDBOptions.LOOKUP_REMOTE_FILE_ENABLED.key(), "true"));
+        FileStoreLookupFunction function =
+                new FileStoreLookupFunction(table, new int[] {0, 1, 2}, new int[] {0, 1}, null);
+        function.open(tempDir.toString());
+        try {
+            for (int k = 0; k < 10; k++) {
+                Collection<RowData> result = function.lookup(new FlinkRowData(GenericRow.of(1, k)));
+                assertThat(result).hasSize(1);
+                assertThat(result.iterator().next().getLong(2)).isEqualTo(k);
+            }
+            assertThat(function.lookup(new FlinkRowData(GenericRow.of(2, 1)))).isEmpty();
+
+            // new snapshots are refreshed into the file view
+            writer.write(GenericRow.of(1, 1, 100L));
+            writer.write(GenericRow.ofKind(RowKind.DELETE, 1, 2, 2L));
+            commit(writer.prepareCommit(true, 1));
+            Thread.sleep(2000);
+            Collection<RowData> result = function.lookup(new FlinkRowData(GenericRow.of(1, 1)));
+            assertThat(result).hasSize(1);
+            assertThat(result.iterator().next().getLong(2)).isEqualTo(100L);
+            assertThat(function.lookup(new FlinkRowData(GenericRow.of(1, 2)))).isEmpty();
+        } finally {
+            writer.close();
+            function.close();
+        }
+    }
+
+    @Test
+    public void testLookupAll() throws Exception {
+        StreamTableWrite writer = fileStoreTable.newStreamWriteBuilder().newWrite();
+        for (int k = 0; k < 10; k++) {
+            writer.write(GenericRow.of(k % 2, k, (long) k));
+        }
+        commit(writer.prepareCommit(true, 0));
+        writer.close();
+
+        for (String remoteFile : Arrays.asList("false", "true")) {
+            FileStoreTable table =
+                    fileStoreTable.copy(
+                            Collections.singletonMap(
+                                    RocksDBOptions.LOOKUP_REMOTE_FILE_ENABLED.key(), remoteFile));
+            FileStoreLookupFunction function =
+                    new FileStoreLookupFunction(table, new int[] {0, 1, 2}, new int[] {0, 1}, null);
+            function.open(tempDir.toString());
+            try {
+                List<RowData> keys = new ArrayList<>();
+                for (int k = 11; k >= 0; k--) {
+                    keys.add(new FlinkRowData(GenericRow.of(k % 2, k)));
+                }
+                keys.add(new FlinkRowData(GenericRow.of(0, 1)));
+                List<Collection<RowData>> results = function.lookupAll(keys);
+                assertThat(results).hasSize(keys.size());
+                for (int i = 0; i < 12; i++) {
+                    int k = 11 - i;
+                    if (k < 10) {
+                        assertThat(results.get(i)).hasSize(1);
+                        assertThat(results.get(i).iterator().next().getLong(2)).isEqualTo(k);
+                    } else {
+                        assertThat(results.get(i)).isEmpty();
+                    }
+                }
+                assertThat(results.get(12)).isEmpty();
+            } finally {
+                function.close();
+            }
+        }
+    }
+
+    @Test
+    public void testLookupRefreshAsync() throws Exception {
+        StreamTableWrite writer = fileStoreTable.newStreamWriteBuilder().newWrite();
+        writer.write(GenericRow.of(1, 1, 1L));
+        commit(writer.prepareCommit(true, 0));
+
+        FileStoreTable table =
+                fileStoreTable.copy(
+                        Collections.singletonMap(
+                                RocksDBOptions.LOOKUP_REFRESH_ASYNC.key(), "true"));
+        FileStoreLookupFunction function =
+                new FileStoreLookupFunction(table, new int[] {0, 1, 2}, new int[] {0, 1}, null);
+        function.open(tempDir.toString());
+        try {
+            Collection<RowData> result = function.lookup(new FlinkRowData(GenericRow.of(1, 1)));
+            assertThat(result).hasSize(1);
+            assertThat(result.iterator().next().getLong(2)).isEqualTo(1L);
+
+            // the changes are applied in background, lookups see them eventually
+            for (int k = 2; k < 3000; k++) {
+                writer.write(GenericRow.of(1, k, (long) k));
+            }
+            writer.write(GenericRow.of(1, 1, 100L));
+            commit(writer.prepareCommit(true, 1));
+            long deadline = System.currentTimeMillis() + 60_000;
+            for (int k = 1; k < 3000; k++) {
+                long expected = k == 1 ? 100L : k;
+                while (true) {
+                    result = function.lookup(new FlinkRowData(GenericRow.of(1, k)));
+                    if (!result.isEmpty() && result.iterator().next().getLong(2) == expected) {
+                        break;
+                    }
+                    assertThat(System.currentTimeMillis()).isLessThan(deadline);
+                    Thread.sleep(100);
+                }
+            }
+        } finally {
+            writer.close();
+            function.close();
+        }
+    }
+
     private void commit(List<CommitMessage> messages) throws Exception {
         TableCommitImpl commit = fileStoreTable.newCommit(commitUser);
         commit.commit(messages);
@@ -33,6 +33,7 @@ import org.junit.jupiter.api.io.TempDir;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.concurrent.ThreadLocalRandom;
@@ -111,6 +112,95 @@ public class LookupTableTest {
         assertThat(result).hasSize(0);
     }
 
+    @Test
+    public void testPkTableGetAll() throws IOException {
+        LookupTable pkTable =
+                LookupTable.create(
+                        stateFactory,
+                        rowType,
+                        singletonList("f0"),
+                        singletonList("f0"),
+                        r -> r.getInt(0) < 3,
+                        ThreadLocalRandom.current().nextInt(2) * 10);
+        pkTable.refresh(
+                Arrays.asList(row(1, 11, 111), row(2, 11, 222), row(3, 22, 333)).iterator());
+
+        // looked up once, the key is cached in the second batch
+        assertThat(pkTable.get(row(2))).hasSize(1);
+        List<List<InternalRow>> results =
+                pkTable.getAll(Arrays.asList(row(3), row(2), row(4), row(1), row(2)));
+        assertThat(results).hasSize(5);
+        assertThat(results.get(0)).isEmpty();
+        assertRow(results.get(1).get(0), 2, 11, 222);
+        assertThat(results.get(2)).isEmpty();
+        assertRow(results.get(3).get(0), 1, 11, 111);
+        assertRow(results.get(4).get(0), 2, 11, 222);
+    }
+
+    @Test
+    public void testSecKeyTableGetAll() throws IOException {
+        LookupTable secKeyTable =
+                LookupTable.create(
+                        stateFactory,
+                        rowType,
+                        singletonList("f0"),
+                        singletonList("f1"),
+                        r -> r.getInt(0) < 3,
+                        ThreadLocalRandom.current().nextInt(2) * 10);
+        secKeyTable.refresh(
+                Arrays.asList(row(1, 11, 111), row(2, 11, 222), row(3, 22, 333)).iterator());
+
+        List<List<InternalRow>> results =
+                secKeyTable.getAll(Arrays.asList(row(22), row(11), row(33)));
+        assertThat(results).hasSize(3);
+        assertThat(results.get(0)).isEmpty();
+        assertThat(results.get(1)).hasSize(2);
+        assertRow(results.get(1).get(0), 1, 11, 111);
+        assertRow(results.get(1).get(1), 2, 11, 222);
+        assertThat(results.get(2)).isEmpty();
+    }
+
+    @Test
+    public void testInMemoryPkTable() {
+        InMemoryLookupTable table =
+                new InMemoryLookupTable(rowType, singletonList("f0"), r -> r.getInt(1) < 30);
+
+        table.refresh(singletonList(row(1, 11, 111)).iterator());
+        List<InternalRow> result = table.get(row(1));
+        assertThat(result).hasSize(1);
+        assertRow(result.get(0), 1, 11, 111);
+
+        table.refresh(singletonList(row(RowKind.UPDATE_AFTER, 1, 22, 222)).iterator());
+        result = table.get(row(1));
+        assertThat(result).hasSize(1);
+        assertRow(result.get(0), 1, 22, 222);
+
+        // filtered
+        table.refresh(singletonList(row(1, 33, 333)).iterator());
+        assertThat(table.get(row(1))).hasSize(0);
+
+        table.refresh(singletonList(row(2, 22, 222)).iterator());
+        table.refresh(singletonList(row(RowKind.DELETE, 2, 22, 222)).iterator());
+        assertThat(table.get(row(2))).hasSize(0);
+        assertThat(table.size()).isEqualTo(0);
+    }
+
+    @Test
+    public void testInMemoryPkTableWithMultipleKeys() {
+        InMemoryLookupTable table =
+                new InMemoryLookupTable(rowType, Arrays.asList("f1", "f0"), r -> true);
+
+        table.refresh(Arrays.asList(row(1, 11, 111), row(2, 11, 222)).iterator());
+        List<InternalRow> result = table.get(row(11, 2));
+        assertThat(result).hasSize(1);
+        assertRow(result.get(0), 2, 11, 222);
+        assertThat(table.get(row(2, 11))).hasSize(0);
+
+        table.refresh(singletonList(row(RowKind.DELETE, 1, 11, 111)).iterator());
+        assertThat(table.get(row(11, 1))).hasSize(0);
+        assertThat(table.size()).isEqualTo(1);
+    }
+
     @Test
     public void testSecKeyTable() throws IOException {
         LookupTable table =
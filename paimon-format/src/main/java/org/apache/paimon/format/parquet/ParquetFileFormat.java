@@ -56,7 +56,8 @@ public class ParquetFileFormat extends FileFormat {
         return new ParquetReaderFactory(
                 getParquetConfiguration(formatContext.formatOptions()),
                 projectedRowType,
-                formatContext.readBatchSize());
+                formatContext.readBatchSize(),
+                ParquetFilters.convert(filters));
     }
 
     @Override
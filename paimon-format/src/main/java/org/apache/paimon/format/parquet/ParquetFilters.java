@@ -0,0 +1,371 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.format.parquet;
+
+import org.apache.paimon.data.BinaryString;
+import org.apache.paimon.data.Decimal;
+import org.apache.paimon.data.Timestamp;
+import org.apache.paimon.predicate.FieldRef;
+import org.apache.paimon.predicate.FunctionVisitor;
+import org.apache.paimon.predicate.Predicate;
+import org.apache.paimon.types.DataType;
+import org.apache.paimon.types.DataTypeRoot;
+import org.apache.paimon.types.DecimalType;
+import org.apache.paimon.types.LocalZonedTimestampType;
+import org.apache.paimon.types.TimestampType;
+
+import org.apache.parquet.filter2.predicate.FilterApi;
+import org.apache.parquet.filter2.predicate.FilterPredicate;
+import org.apache.parquet.filter2.predicate.Operators;
+import org.apache.parquet.io.api.Binary;
+
+import javax.annotation.Nullable;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Function;
+
+import static org.apache.paimon.format.parquet.ParquetSchemaConverter.is32BitDecimal;
+import static org.apache.paimon.format.parquet.ParquetSchemaConverter.is64BitDecimal;
+
+/**
+ * Utility to convert Paimon {@link Predicate}s to Parquet {@link FilterPredicate}s, so that Parquet
+ * can skip row groups by statistics, dictionaries and bloom filters.
+ *
+ * <p>The converted filter is only used to skip data, rows are still filtered by Paimon after
+ * reading. So a predicate which can not be converted is simply ignored, and for an AND only the
+ * convertible children are kept.
+ */
+public class ParquetFilters {
+
+    private static final ConvertFilterToParquet CONVERTER = new ConvertFilterToParquet();
+
+    private ParquetFilters() {}
+
+    /** Converts the conjunction of the given predicates, returns null if nothing is convertible. */
+    @Nullable
+    public static FilterPredicate convert(@Nullable List<Predicate> predicates) {
+        if (predicates == null) {
+            return null;
+        }
+
+        FilterPredicate result = null;
+        for (Predicate predicate : predicates) {
+            FilterPredicate converted = predicate.visit(CONVERTER);
+            if (converted != null) {
+                result = result == null ? converted : FilterApi.and(result, converted);
+            }
+        }
+        return result;
+    }
+
+    /** Operators of leaf predicates. */
+    private enum Op {
+        IS_NULL,
+        IS_NOT_NULL,
+        EQ,
+        NOT_EQ,
+        LT,
+        LT_EQ,
+        GT,
+        GT_EQ,
+        IN,
+        NOT_IN
+    }
+
+    /** A {@link FunctionVisitor} returns null for unsupported predicates. */
+    private static class ConvertFilterToParquet implements FunctionVisitor<FilterPredicate> {
+
+        @Override
+        public FilterPredicate visitIsNotNull(FieldRef fieldRef) {
+            return convert(fieldRef, Op.IS_NOT_NULL, Collections.emptyList());
+        }
+
+        @Override
+        public FilterPredicate visitIsNull(FieldRef fieldRef) {
+            return convert(fieldRef, Op.IS_NULL, Collections.emptyList());
+        }
+
+        @Override
+        public FilterPredicate visitStartsWith(FieldRef fieldRef, Object literal) {
+            DataTypeRoot root = fieldRef.type().getTypeRoot();
+            if (literal == null || (root != DataTypeRoot.CHAR && root != DataTypeRoot.VARCHAR)) {
+                return null;
+            }
+            // value starts with prefix means prefix <= value < successor(prefix)
+            byte[] prefix = ((BinaryString) literal).toBytes();
+            FilterPredicate lowerBound =
+                    convert(fieldRef, Op.GT_EQ, Collections.singletonList(literal));
+            byte[] successor = successor(prefix);
+            if (lowerBound == null || successor == null) {
+                return lowerBound;
+            }
+            FilterPredicate upperBound =
+                    convert(
+                            fieldRef,
+                            Op.LT,
+                            Collections.singletonList(BinaryString.fromBytes(successor)));
+            return upperBound == null ? lowerBound : FilterApi.and(lowerBound, upperBound);
+        }
+
+        @Override
+        public FilterPredicate visitLessThan(FieldRef fieldRef, Object literal) {
+            return convertBinary(fieldRef, Op.LT, literal);
+        }
+
+        @Override
+        public FilterPredicate visitGreaterOrEqual(FieldRef fieldRef, Object literal) {
+            return convertBinary(fieldRef, Op.GT_EQ, literal);
+        }
+
+        @Override
+        public FilterPredicate visitNotEqual(FieldRef fieldRef, Object literal) {
+            return convertBinary(fieldRef, Op.NOT_EQ, literal);
+        }
+
+        @Override
+        public FilterPredicate visitLessOrEqual(FieldRef fieldRef, Object literal) {
+            return convertBinary(fieldRef, Op.LT_EQ, literal);
+        }
+
+        @Override
+        public FilterPredicate visitEqual(FieldRef fieldRef, Object literal) {
+            return convertBinary(fieldRef, Op.EQ, literal);
+        }
+
+        @Override
+        public FilterPredicate visitGreaterThan(FieldRef fieldRef, Object literal) {
+            return convertBinary(fieldRef, Op.GT, literal);
+        }
+
+        @Override
+        public FilterPredicate visitIn(FieldRef fieldRef, List<Object> literals) {
+            // null never matches, just ignore it
+            List<Object> nonNulls = new ArrayList<>(literals.size());
+            for (Object literal : literals) {
+                if (literal != null) {
+                    nonNulls.add(literal);
+                }
+            }
+            return nonNulls.isEmpty() ? null : convert(fieldRef, Op.IN, nonNulls);
+        }
+
+        @Override
+        public FilterPredicate visitNotIn(FieldRef fieldRef, List<Object> literals) {
+            if (literals.isEmpty() || literals.stream().anyMatch(Objects::isNull)) {
+                return null;
+            }
+            return convert(fieldRef, Op.NOT_IN, literals);
+        }
+
+        @Override
+        public FilterPredicate visitAnd(List<FilterPredicate> children) {
+            if (children.size() != 2) {
+                throw new RuntimeException("Illegal and children: " + children.size());
+            }
+
+            FilterPredicate c1 = children.get(0);
+            FilterPredicate c2 = children.get(1);
+            if (c1 == null) {
+                return c2;
+            }
+            return c2 == null ? c1 : FilterApi.and(c1, c2);
+        }
+
+        @Override
+        public FilterPredicate visitOr(List<FilterPredicate> children) {
+            if (children.size() != 2) {
+                throw new RuntimeException("Illegal or children: " + children.size());
+            }
+
+            FilterPredicate c1 = children.get(0);
+            FilterPredicate c2 = children.get(1);
+            return c1 == null || c2 == null ? null : FilterApi.or(c1, c2);
+        }
+
+        @Nullable
+        private static FilterPredicate convertBinary(FieldRef fieldRef, Op op, Object literal) {
+            // comparing with null is always false in Paimon, do not push it down
+            return literal == null
+                    ? null
+                    : convert(fieldRef, op, Collections.singletonList(literal));
+        }
+    }
+
+    /**
+     * Converts a leaf predicate, the physical types must be consistent with {@link
+     * ParquetSchemaConverter}.
+     */
+    @Nullable
+    private static FilterPredicate convert(FieldRef fieldRef, Op op, List<Object> literals) {
+        String name = fieldRef.name();
+        DataType type = fieldRef.type();
+        switch (type.getTypeRoot()) {
+            case BOOLEAN:
+                return equality(
+                        FilterApi.booleanColumn(name),
+                        op,
+                        convertLiterals(literals, v -> (Boolean) v));
+            case TINYINT:
+            case SMALLINT:
+            case INTEGER:
+            case DATE:
+            case TIME_WITHOUT_TIME_ZONE:
+                return ordered(
+                        FilterApi.intColumn(name),
+                        op,
+                        convertLiterals(literals, v -> ((Number) v).intValue()));
+            case BIGINT:
+                return ordered(
+                        FilterApi.longColumn(name),
+                        op,
+                        convertLiterals(literals, v -> ((Number) v).longValue()));
+            case FLOAT:
+                return ordered(
+                        FilterApi.floatColumn(name),
+                        op,
+                        convertLiterals(literals, v -> ((Number) v).floatValue()));
+            case DOUBLE:
+                return ordered(
+                        FilterApi.doubleColumn(name),
+                        op,
+                        convertLiterals(literals, v -> ((Number) v).doubleValue()));
+            case CHAR:
+            case VARCHAR:
+                return ordered(
+                        FilterApi.binaryColumn(name),
+                        op,
+                        convertLiterals(
+                                literals,
+                                v -> Binary.fromConstantByteArray(((BinaryString) v).toBytes())));
+            case BINARY:
+            case VARBINARY:
+                return ordered(
+                        FilterApi.binaryColumn(name),
+                        op,
+                        convertLiterals(literals, v -> Binary.fromConstantByteArray((byte[]) v)));
+            case DECIMAL:
+                int precision = ((DecimalType) type).getPrecision();
+                if (is32BitDecimal(precision)) {
+                    return ordered(
+                            FilterApi.intColumn(name),
+                            op,
+                            convertLiterals(literals, v -> (int) ((Decimal) v).toUnscaledLong()));
+                } else if (is64BitDecimal(precision)) {
+                    return ordered(
+                            FilterApi.longColumn(name),
+                            op,
+                            convertLiterals(literals, v -> ((Decimal) v).toUnscaledLong()));
+                }
+                // fixed length decimals are compared as signed numbers, which binary filter can
+                // not express
+                return null;
+            case TIMESTAMP_WITHOUT_TIME_ZONE:
+                return convertTimestamp(name, ((TimestampType) type).getPrecision(), op, literals);
+            case TIMESTAMP_WITH_LOCAL_TIME_ZONE:
+                return convertTimestamp(
+                        name, ((LocalZonedTimestampType) type).getPrecision(), op, literals);
+            default:
+                return null;
+        }
+    }
+
+    @Nullable
+    private static FilterPredicate convertTimestamp(
+            String name, int precision, Op op, List<Object> literals) {
+        if (precision <= 3) {
+            return ordered(
+                    FilterApi.longColumn(name),
+                    op,
+                    convertLiterals(literals, v -> ((Timestamp) v).getMillisecond()));
+        } else if (precision <= 6) {
+            return ordered(
+                    FilterApi.longColumn(name),
+                    op,
+                    convertLiterals(literals, v -> ((Timestamp) v).toMicros()));
+        }
+        // INT96 timestamps have no meaningful statistics
+        return null;
+    }
+
+    private static <T> List<T> convertLiterals(List<Object> literals, Function<Object, T> func) {
+        List<T> result = new ArrayList<>(literals.size());
+        for (Object literal : literals) {
+            result.add(func.apply(literal));
+        }
+        return result;
+    }
+
+    @Nullable
+    private static <T extends Comparable<T>, C extends Operators.Column<T> & Operators.SupportsLtGt>
+            FilterPredicate ordered(C column, Op op, List<T> values) {
+        switch (op) {
+            case LT:
+                return FilterApi.lt(column, values.get(0));
+            case LT_EQ:
+                return FilterApi.ltEq(column, values.get(0));
+            case GT:
+                return FilterApi.gt(column, values.get(0));
+            case GT_EQ:
+                return FilterApi.gtEq(column, values.get(0));
+            default:
+                return equality(column, op, values);
+        }
+    }
+
+    @Nullable
+    private static <
+                    T extends Comparable<T>,
+                    C extends Operators.Column<T> & Operators.SupportsEqNotEq>
+            FilterPredicate equality(C column, Op op, List<T> values) {
+        switch (op) {
+            case IS_NULL:
+                return FilterApi.eq(column, null);
+            case IS_NOT_NULL:
+                return FilterApi.notEq(column, null);
+            case EQ:
+                return FilterApi.eq(column, values.get(0));
+            case NOT_EQ:
+                return FilterApi.notEq(column, values.get(0));
+            case IN:
+                return FilterApi.in(column, new HashSet<>(values));
+            case NOT_IN:
+                return FilterApi.notIn(column, new HashSet<>(values));
+            default:
+                return null;
+        }
+    }
+
+    /** Returns the smallest byte array greater than all arrays starting with the prefix. */
+    @Nullable
+    private static byte[] successor(byte[] prefix) {
+        for (int i = prefix.length - 1; i >= 0; i--) {
+            if (prefix[i] != (byte) 0xFF) {
+                byte[] successor = Arrays.copyOf(prefix, i + 1);
+                successor[i]++;
+                return successor;
+            }
+        }
+        return null;
+    }
+}
@@ -40,6 +40,8 @@ import org.apache.paimon.utils.Pool;
 import org.apache.parquet.ParquetReadOptions;
 import org.apache.parquet.column.ColumnDescriptor;
 import org.apache.parquet.column.page.PageReadStore;
+import org.apache.parquet.filter2.compat.FilterCompat;
+import org.apache.parquet.filter2.predicate.FilterPredicate;
 import org.apache.parquet.hadoop.ParquetFileReader;
 import org.apache.parquet.hadoop.ParquetInputFormat;
 import org.apache.parquet.schema.GroupType;
@@ -78,12 +80,15 @@ public class ParquetReaderFactory implements FormatReaderFactory {
     private final DataType[] projectedTypes;
     private final int batchSize;
     private final Set<Integer> unknownFieldsIndices = new HashSet<>();
+    @Nullable private final FilterPredicate filter;
 
-    public ParquetReaderFactory(Options conf, RowType projectedType, int batchSize) {
+    public ParquetReaderFactory(
+            Options conf, RowType projectedType, int batchSize, @Nullable FilterPredicate filter) {
         this.conf = conf;
         this.projectedFields = projectedType.getFieldNames().toArray(new String[0]);
         this.projectedTypes = projectedType.getFieldTypes().toArray(new DataType[0]);
         this.batchSize = batchSize;
+        this.filter = filter;
     }
 
     @Override
@@ -127,6 +132,11 @@ public class ParquetReaderFactory implements FormatReaderFactory {
                 conf.getBoolean(ParquetInputFormat.PAGE_VERIFY_CHECKSUM_ENABLED, false));
         builder.useBloomFilter(conf.getBoolean(ParquetInputFormat.BLOOM_FILTERING_ENABLED, true));
         builder.withMaxAllocationInBytes(conf.getInteger(ALLOCATION_SIZE, 8388608));
+        // row groups are filtered when opening the file, pages are not filtered because the
+        // vectorized column readers always read whole row groups
+        if (filter != null) {
+            builder.withRecordFilter(FilterCompat.get(filter));
+        }
         String badRecordThresh = conf.getString(BAD_RECORD_THRESHOLD_CONF_KEY, null);
         if (badRecordThresh != null) {
             builder.set(BAD_RECORD_THRESHOLD_CONF_KEY, badRecordThresh);
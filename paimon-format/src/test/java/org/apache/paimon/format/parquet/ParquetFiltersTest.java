@@ -0,0 +1,158 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.format.parquet;
+
+import org.apache.paimon.data.BinaryString;
+import org.apache.paimon.data.Decimal;
+import org.apache.paimon.data.Timestamp;
+import org.apache.paimon.predicate.Predicate;
+import org.apache.paimon.predicate.PredicateBuilder;
+import org.apache.paimon.types.ArrayType;
+import org.apache.paimon.types.BigIntType;
+import org.apache.paimon.types.BooleanType;
+import org.apache.paimon.types.DecimalType;
+import org.apache.paimon.types.DoubleType;
+import org.apache.paimon.types.IntType;
+import org.apache.paimon.types.RowType;
+import org.apache.paimon.types.TimestampType;
+import org.apache.paimon.types.VarCharType;
+
+import org.apache.parquet.filter2.predicate.FilterApi;
+import org.apache.parquet.filter2.predicate.FilterPredicate;
+import org.apache.parquet.io.api.Binary;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/** Test for {@link ParquetFilters}. */
+public class ParquetFiltersTest {
+
+    private static final RowType ROW_TYPE =
+            RowType.builder()
+                    .field("i", new IntType())
+                    .field("l", new BigIntType())
+                    .field("d", new DoubleType())
+                    .field("s", new VarCharType(VarCharType.MAX_LENGTH))
+                    .field("b", new BooleanType())
+                    .field("dec", new DecimalType(15, 2))
+                    .field("big_dec", new DecimalType(20, 0))
+                    .field("ts", new TimestampType(3))
+                    .field("ts_nano", new TimestampType(9))
+                    .field("arr", new ArrayType(new IntType()))
+                    .build();
+
+    private static final PredicateBuilder BUILDER = new PredicateBuilder(ROW_TYPE);
+
+    @Test
+    public void testLeafPredicates() {
+        test(BUILDER.equal(0, 5), FilterApi.eq(FilterApi.intColumn("i"), 5));
+        test(BUILDER.notEqual(1, 5L), FilterApi.notEq(FilterApi.longColumn("l"), 5L));
+        test(BUILDER.lessThan(2, 1.5), FilterApi.lt(FilterApi.doubleColumn("d"), 1.5));
+        test(BUILDER.lessOrEqual(0, 5), FilterApi.ltEq(FilterApi.intColumn("i"), 5));
+        test(BUILDER.greaterThan(1, 5L), FilterApi.gt(FilterApi.longColumn("l"), 5L));
+        test(BUILDER.greaterOrEqual(0, 5), FilterApi.gtEq(FilterApi.intColumn("i"), 5));
+        test(BUILDER.isNull(0), FilterApi.eq(FilterApi.intColumn("i"), null));
+        test(BUILDER.isNotNull(0), FilterApi.notEq(FilterApi.intColumn("i"), null));
+        test(
+                BUILDER.equal(3, BinaryString.fromString("abc")),
+                FilterApi.eq(FilterApi.binaryColumn("s"), Binary.fromString("abc")));
+        test(BUILDER.equal(4, true), FilterApi.eq(FilterApi.booleanColumn("b"), true));
+        test(
+                BUILDER.equal(5, Decimal.fromBigDecimal(new BigDecimal("1.23"), 15, 2)),
+                FilterApi.eq(FilterApi.longColumn("dec"), 123L));
+        test(
+                BUILDER.equal(7, Timestamp.fromEpochMillis(1000L)),
+                FilterApi.eq(FilterApi.longColumn("ts"), 1000L));
+        test(
+                BUILDER.startsWith(3, BinaryString.fromString("ab")),
+                FilterApi.and(
+                        FilterApi.gtEq(FilterApi.binaryColumn("s"), Binary.fromString("ab")),
+                        FilterApi.lt(FilterApi.binaryColumn("s"), Binary.fromString("ac"))));
+    }
+
+    @Test
+    public void testUnsupportedPredicates() {
+        test(BUILDER.lessThan(4, true), null);
+        test(BUILDER.equal(6, Decimal.fromBigDecimal(new BigDecimal("1"), 20, 0)), null);
+        test(BUILDER.equal(8, Timestamp.fromEpochMillis(1000L)), null);
+        test(BUILDER.isNull(9), null);
+        test(BUILDER.equal(0, null), null);
+    }
+
+    @Test
+    public void testCompoundPredicates() {
+        test(
+                BUILDER.in(1, LongStream.range(1L, 30L).boxed().collect(Collectors.toList())),
+                FilterApi.in(
+                        FilterApi.longColumn("l"),
+                        LongStream.range(1L, 30L).boxed().collect(Collectors.toSet())));
+        test(
+                BUILDER.notIn(
+                        0,
+                        Arrays.asList(
+                                1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12, 13, 14, 15, 16, 17, 18, 19,
+                                20, 21)),
+                FilterApi.notIn(
+                        FilterApi.intColumn("i"),
+                        new HashSet<>(
+                                Arrays.asList(
+                                        1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12, 13, 14, 15, 16, 17,
+                                        18, 19, 20, 21))));
+        test(
+                BUILDER.between(0, 1, 3),
+                FilterApi.and(
+                        FilterApi.gtEq(FilterApi.intColumn("i"), 1),
+                        FilterApi.ltEq(FilterApi.intColumn("i"), 3)));
+        test(
+                PredicateBuilder.or(BUILDER.equal(0, 1), BUILDER.equal(1, 2L)),
+                FilterApi.or(
+                        FilterApi.eq(FilterApi.intColumn("i"), 1),
+                        FilterApi.eq(FilterApi.longColumn("l"), 2L)));
+
+        // the unsupported child of AND is ignored
+        test(
+                PredicateBuilder.and(BUILDER.equal(0, 1), BUILDER.isNull(9)),
+                FilterApi.eq(FilterApi.intColumn("i"), 1));
+        // OR with an unsupported child can not be pushed down
+        test(PredicateBuilder.or(BUILDER.equal(0, 1), BUILDER.isNull(9)), null);
+
+        assertThat(
+                        ParquetFilters.convert(
+                                Arrays.asList(
+                                        BUILDER.equal(0, 1),
+                                        BUILDER.isNull(9),
+                                        BUILDER.equal(1, 2L))))
+                .isEqualTo(
+                        FilterApi.and(
+                                FilterApi.eq(FilterApi.intColumn("i"), 1),
+                                FilterApi.eq(FilterApi.longColumn("l"), 2L)));
+    }
+
+    private void test(Predicate predicate, FilterPredicate expected) {
+        assertThat(ParquetFilters.convert(Collections.singletonList(predicate)))
+                .isEqualTo(expected);
+    }
+}
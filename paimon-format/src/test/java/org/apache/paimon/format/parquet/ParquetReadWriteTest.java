@@ -30,6 +30,7 @@ import org.apache.paimon.format.parquet.writer.RowDataParquetBuilder;
 import org.apache.paimon.fs.Path;
 import org.apache.paimon.fs.local.LocalFileIO;
 import org.apache.paimon.options.Options;
+import org.apache.paimon.predicate.PredicateBuilder;
 import org.apache.paimon.reader.RecordReader;
 import org.apache.paimon.types.ArrayType;
 import org.apache.paimon.types.BigIntType;
@@ -48,6 +49,7 @@ import org.apache.paimon.types.TinyIntType;
 import org.apache.paimon.types.VarCharType;
 import org.apache.paimon.utils.InstantiationUtil;
 
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.MethodSource;
@@ -59,6 +61,7 @@ import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -67,6 +70,7 @@ import java.util.UUID;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -228,7 +232,8 @@ public class ParquetReadWriteTest {
                         RowType.builder()
                                 .fields(fieldTypes, new String[] {"f7", "f2", "f4"})
                                 .build(),
-                        500);
+                        500,
+                        null);
 
         AtomicInteger cnt = new AtomicInteger(0);
         RecordReader<InternalRow> reader = format.createReader(new LocalFileIO(), testPath);
@@ -266,7 +271,8 @@ public class ParquetReadWriteTest {
                         RowType.builder()
                                 .fields(fieldTypes, new String[] {"f7", "f2", "f4", "f99"})
                                 .build(),
-                        500);
+                        500,
+                        null);
 
         AtomicInteger cnt = new AtomicInteger(0);
         RecordReader<InternalRow> reader = format.createReader(new LocalFileIO(), testPath);
@@ -281,6 +287,42 @@ public class ParquetReadWriteTest {
                 });
     }
 
+    @Test
+    void testFilterPushDown() throws IOException {
+        int number = 10000;
+        List<InternalRow> records = new ArrayList<>(number);
+        for (int i = 0; i < number; i++) {
+            records.add(newRow(i));
+        }
+
+        // use a small row group size to generate multiple row groups
+        Path testPath = createTempParquetFile(folder, records, 10);
+        PredicateBuilder builder = new PredicateBuilder(ROW_TYPE);
+        ParquetReaderFactory format =
+                new ParquetReaderFactory(
+                        new Options(),
+                        ROW_TYPE,
+                        500,
+                        ParquetFilters.convert(
+                                Collections.singletonList(builder.greaterOrEqual(4, 9900))));
+
+        // validate java serialization
+        try {
+            InstantiationUtil.clone(format);
+        } catch (ClassNotFoundException e) {
+            throw new IOException(e);
+        }
+
+        List<Integer> result = new ArrayList<>();
+        RecordReader<InternalRow> reader = format.createReader(new LocalFileIO(), testPath);
+        reader.forEachRemaining(row -> result.add(row.getInt(4)));
+
+        // row groups are skipped, but the remaining rows are not filtered
+        assertThat(result.size()).isLessThan(number);
+        assertThat(result)
+                .containsAll(IntStream.range(9900, number).boxed().collect(Collectors.toList()));
+    }
+
     private void innerTestTypes(File folder, List<Integer> records, int rowGroupSize)
             throws IOException {
         List<InternalRow> rows = records.stream().map(this::newRow).collect(Collectors.toList());
@@ -311,7 +353,7 @@ public class ParquetReadWriteTest {
     }
 
     private int testReadingFile(List<Integer> expected, Path path) throws IOException {
-        ParquetReaderFactory format = new ParquetReaderFactory(new Options(), ROW_TYPE, 500);
+        ParquetReaderFactory format = new ParquetReaderFactory(new Options(), ROW_TYPE, 500, null);
 
         // validate java serialization
         try {